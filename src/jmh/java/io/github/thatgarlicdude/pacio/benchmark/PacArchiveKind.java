@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.benchmark;
+
+/**
+ * An enum that represents the kinds of original ROM set ZIP files that
+ * the benchmarks are run against.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public enum PacArchiveKind {
+	
+	/**
+	 * Every ROM is saved as a STORED entry under its own filename.
+	 */
+	STORED,
+	
+	/**
+	 * Every ROM is saved as a DEFLATED entry under its own filename.
+	 */
+	DEFLATED,
+	
+	/**
+	 * Every ROM is saved as a DEFLATED entry under a different filename,
+	 * so the catalog can only be found by the checksums of the ROMs.
+	 */
+	MISNAMED,
+	
+	/**
+	 * Every ROM but the last one is saved as a DEFLATED entry, so the
+	 * ROM set can't be imported at all.
+	 */
+	MISSING;
+}
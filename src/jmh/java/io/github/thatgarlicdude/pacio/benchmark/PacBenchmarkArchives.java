@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.benchmark;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalog;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogManager;
+import io.github.thatgarlicdude.pacio.catalog.PacROMChip;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A class used to create the original ROM set ZIP files that the
+ * benchmarks are run against.
+ * 
+ * <p>The real ROMs can't be shipped, so each ROM is made out of random
+ * bytes of the size in its catalog. When the catalog has the checksum of
+ * a ROM, the last 4 bytes are picked so that the random bytes end up with
+ * that checksum, which lets the misnamed ROM sets be matched by their
+ * checksums just like real ones.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacBenchmarkArchives {
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacBenchmarkArchives can't be instantiated";
+	
+	/**
+	 * Error message used when no catalog has the given name.
+	 */
+	private static final String CATALOG_MESSAGE = "Unknown catalog: %s";
+	
+	/**
+	 * The size used for ROMs that don't have a known size.
+	 */
+	private static final int DEFAULT_SIZE = 0x1000;
+	
+	/**
+	 * The prefix added to the filenames of misnamed ROMs.
+	 */
+	private static final String MISNAMED_PREFIX = "renamed_";
+	
+	/**
+	 * The CRC32 lookup table, in the reflected bit order used by ZIP
+	 * files.
+	 */
+	private static final int[] CRC_TABLE = new int[256];
+	
+	/**
+	 * The index of each entry in the CRC32 lookup table, by the top byte
+	 * of the entry, which is unique.
+	 */
+	private static final int[] CRC_INDEX = new int[256];
+	
+	static {
+		for (int index = 0; index < CRC_TABLE.length; index++) {
+			int value = index;
+			for (int bit = 0; bit < 8; bit++) {
+				value = (value & 1) != 0
+						? (value >>> 1) ^ 0xEDB88320 : value >>> 1;
+			}
+			CRC_TABLE[index] = value;
+			CRC_INDEX[value >>> 24] = index;
+		}
+	}
+	
+	/**
+	 * Gets a PacCatalog from the PacCatalogManager by its class name.
+	 * 
+	 * @param name The simple name of the class of the catalog.
+	 * @return The PacCatalog.
+	 * @throws IllegalArgumentException When no catalog has the name.
+	 */
+	public static final PacCatalog getPacCatalog(final String name) {
+		for (PacCatalog pacCatalog : PacCatalogManager.getPacCatalogs()) {
+			if (pacCatalog.getClass().getSimpleName().equals(name))
+				return pacCatalog;
+		}
+		throw new IllegalArgumentException(
+				String.format(CATALOG_MESSAGE, name));
+	}
+	
+	/**
+	 * Creates an original ROM set ZIP file for a catalog in a temporary
+	 * file.
+	 * 
+	 * @param pacCatalog The catalog of the ROM set.
+	 * @param kind The kind of ZIP file to create.
+	 * @return The path to the temporary file.
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	public static final Path createROMSet(
+			final PacCatalog pacCatalog,
+			final PacArchiveKind kind) throws IOException {
+		List<PacROMChip> romChips = new ArrayList<>();
+		for (PacRegion pacRegion : PacRegion.values()) {
+			for (PacROMChip romChip : pacCatalog.getROMChips(pacRegion)) {
+				romChips.add(romChip);
+			}
+		}
+		// Leave the last ROM out of an incomplete ROM set.
+		if (kind == PacArchiveKind.MISSING)
+			romChips.remove(romChips.size() - 1);
+		Path path = Files.createTempFile("pacio", ".zip");
+		try (OutputStream outputStream = Files.newOutputStream(path);
+				ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+			for (PacROMChip romChip : romChips) {
+				byte[] data = createROM(romChip);
+				String name = kind == PacArchiveKind.MISNAMED
+						? MISNAMED_PREFIX + romChip.getName()
+						: romChip.getName();
+				ZipEntry zipEntry = new ZipEntry(name);
+				if (kind == PacArchiveKind.STORED) {
+					CRC32 crc = new CRC32();
+					crc.update(data);
+					zipEntry.setMethod(ZipEntry.STORED);
+					zipEntry.setSize(data.length);
+					zipEntry.setCrc(crc.getValue());
+				}
+				zos.putNextEntry(zipEntry);
+				zos.write(data);
+				zos.closeEntry();
+			}
+		}
+		return path;
+	}
+	
+	/**
+	 * Creates the bytes of a ROM, which are random but always the same for
+	 * the same ROM, and have the checksum of the ROM if it's known.
+	 * 
+	 * @param romChip The ROM chip.
+	 * @return The bytes of the ROM.
+	 */
+	static final byte[] createROM(final PacROMChip romChip) {
+		long size = romChip.getSize();
+		byte[] data = new byte[size == PacROMChip.UNKNOWN
+				? DEFAULT_SIZE : (int) size];
+		new Random(romChip.getName().hashCode()).nextBytes(data);
+		if (romChip.getCRC() != PacROMChip.UNKNOWN && data.length >= 4)
+			forceCRC(data, romChip.getCRC());
+		return data;
+	}
+	
+	/**
+	 * Changes the last 4 bytes of an array so that the whole array has the
+	 * given CRC32 checksum.
+	 * 
+	 * <p>The states of the checksum are first walked back from the wanted
+	 * checksum to find which entries of the lookup table the last 4 bytes
+	 * have to hit, and then the bytes that hit them are worked out going
+	 * forward from the checksum of the bytes in front of them.</p>
+	 * 
+	 * @param data The array, which must have at least 4 bytes.
+	 * @param crc The wanted CRC32 checksum.
+	 */
+	private static final void forceCRC(final byte[] data, final long crc) {
+		int start = data.length - 4;
+		CRC32 prefixCRC = new CRC32();
+		prefixCRC.update(data, 0, start);
+		int[] indexes = new int[4];
+		int state = ~(int) crc;
+		for (int index = 3; index >= 0; index--) {
+			indexes[index] = CRC_INDEX[state >>> 24];
+			state = (state ^ CRC_TABLE[indexes[index]]) << 8;
+		}
+		state = ~(int) prefixCRC.getValue();
+		for (int index = 0; index < 4; index++) {
+			data[start + index] = (byte) (state ^ indexes[index]);
+			state = (state >>> 8) ^ CRC_TABLE[indexes[index]];
+		}
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacBenchmarkArchives() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
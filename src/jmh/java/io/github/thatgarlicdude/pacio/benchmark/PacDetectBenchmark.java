@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalog;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogManager;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.io.PacROMSetImporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of detecting which catalog an original ROM set ZIP file
+ * belongs to, without importing it.
+ * 
+ * <p>The {@link PacROMSetImporter#detectPacCatalog detectPacCatalog} and
+ * {@link PacROMSetImporter#identifyPacCatalog identifyPacCatalog} methods
+ * include opening the ZIP file, while the matchROMNames benchmark only
+ * measures the lookup in the {@link PacCatalogManager}.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacDetectBenchmark {
+	
+	/**
+	 * The simple name of the class of the catalog to detect.
+	 */
+	@Param({"PacManCatalog", "PuckManCatalog", "TestCatalog"})
+	public String catalog;
+	
+	/**
+	 * The kind of ZIP file to detect the catalog of.
+	 */
+	@Param({"DEFLATED", "MISNAMED", "MISSING"})
+	public PacArchiveKind kind;
+	
+	/**
+	 * The path to the ZIP file.
+	 */
+	private Path path;
+	
+	/**
+	 * The filenames of the ROMs of the catalog.
+	 */
+	private List<String> romNames;
+	
+	/**
+	 * Creates the ZIP file.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Setup(Level.Trial)
+	public final void setUp() throws IOException {
+		PacCatalog pacCatalog = PacBenchmarkArchives.getPacCatalog(catalog);
+		path = PacBenchmarkArchives.createROMSet(pacCatalog, kind);
+		romNames = new ArrayList<>();
+		for (PacRegion pacRegion : PacRegion.values()) {
+			romNames.addAll(Arrays.asList(pacCatalog.getROMNames(pacRegion)));
+		}
+	}
+	
+	/**
+	 * Deletes the ZIP file.
+	 * 
+	 * @throws IOException When deleting the ZIP file fails.
+	 */
+	@TearDown(Level.Trial)
+	public final void tearDown() throws IOException {
+		Files.deleteIfExists(path);
+	}
+	
+	/**
+	 * Detects the catalog by the filenames in the ZIP file.
+	 * 
+	 * @return The result of the match.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	@Benchmark
+	public final PacCatalogMatch detectPacCatalog() throws IOException {
+		return new PacROMSetImporter(path).detectPacCatalog();
+	}
+	
+	/**
+	 * Identifies the catalog by the checksums in the ZIP file.
+	 * 
+	 * @return The result of the match.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	@Benchmark
+	public final PacCatalogMatch identifyPacCatalog() throws IOException {
+		return new PacROMSetImporter(path).identifyPacCatalog();
+	}
+	
+	/**
+	 * Matches the filenames of the ROMs of the catalog.
+	 * 
+	 * @return The result of the match.
+	 */
+	@Benchmark
+	public final PacCatalogMatch matchROMNames() {
+		return PacCatalogManager.matchROMNames(romNames);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.thatgarlicdude.pacio.PacIO;
+import io.github.thatgarlicdude.pacio.io.PacArchiveType;
+import io.github.thatgarlicdude.pacio.io.PacROMSetOptions;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of importing original ROM set ZIP files with the
+ * {@link PacIO#importROMSet(java.nio.file.Path, PacROMSetOptions)
+ * importROMSet} method.
+ * 
+ * <p>Every catalog is imported from every kind of ZIP file, with both
+ * types of archive. A ROM set with a missing ROM can't be imported, so
+ * its benchmark measures how long it takes to fail.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacImportBenchmark {
+	
+	/**
+	 * The simple name of the class of the catalog to import.
+	 */
+	@Param({"PacManCatalog", "PuckManCatalog", "TestCatalog"})
+	public String catalog;
+	
+	/**
+	 * The kind of ZIP file to import.
+	 */
+	@Param({"STORED", "DEFLATED", "MISNAMED", "MISSING"})
+	public PacArchiveKind kind;
+	
+	/**
+	 * The type of archive used to read the ZIP file.
+	 */
+	@Param({"ZIP_FILE", "MAPPED"})
+	public PacArchiveType archiveType;
+	
+	/**
+	 * The path to the ZIP file.
+	 */
+	private Path path;
+	
+	/**
+	 * The options used when importing the ROM set.
+	 */
+	private PacROMSetOptions options;
+	
+	/**
+	 * Creates the ZIP file.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Setup(Level.Trial)
+	public final void setUp() throws IOException {
+		path = PacBenchmarkArchives.createROMSet(
+				PacBenchmarkArchives.getPacCatalog(catalog), kind);
+		options = PacROMSetOptions.DEFAULT.withArchiveType(archiveType);
+	}
+	
+	/**
+	 * Deletes the ZIP file.
+	 * 
+	 * @throws IOException When deleting the ZIP file fails.
+	 */
+	@TearDown(Level.Trial)
+	public final void tearDown() throws IOException {
+		Files.deleteIfExists(path);
+	}
+	
+	/**
+	 * Imports the ROM set.
+	 * 
+	 * @return The imported ROM set, or the error thrown when a ROM is
+	 * missing.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	@Benchmark
+	public final Object importROMSet() throws IOException {
+		try {
+			return PacIO.importROMSet(path, options);
+		} catch (final FileNotFoundException exception) {
+			return exception;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.thatgarlicdude.pacio.PacIO;
+import io.github.thatgarlicdude.pacio.io.PacROMSet;
+import io.github.thatgarlicdude.pacio.io.PacROMSetOptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of saving unified ROM sets with the
+ * {@link PacIO#saveROMSet(java.nio.file.Path, PacROMSet,
+ * PacROMSetOptions) saveROMSet} method.
+ * 
+ * <p>Every catalog is saved as a DEFLATED ZIP file, a STORED ZIP file and
+ * a {@code .pacrom} file, over the same file each time.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacSaveBenchmark {
+	
+	/**
+	 * The simple name of the class of the catalog to save.
+	 */
+	@Param({"PacManCatalog", "PuckManCatalog", "TestCatalog"})
+	public String catalog;
+	
+	/**
+	 * How the unified ROM set is saved, which is DEFLATED, STORED or
+	 * PACROM.
+	 */
+	@Param({"DEFLATED", "STORED", "PACROM"})
+	public String storage;
+	
+	/**
+	 * The ROM set to save.
+	 */
+	private PacROMSet pacROMSet;
+	
+	/**
+	 * The path that the ROM set is saved to.
+	 */
+	private Path path;
+	
+	/**
+	 * The options used when saving the ROM set.
+	 */
+	private PacROMSetOptions options;
+	
+	/**
+	 * Imports the ROM set of the catalog.
+	 * 
+	 * @throws IOException When accessing the files fails.
+	 */
+	@Setup(Level.Trial)
+	public final void setUp() throws IOException {
+		Path source = PacBenchmarkArchives.createROMSet(
+				PacBenchmarkArchives.getPacCatalog(catalog),
+				PacArchiveKind.STORED);
+		try {
+			pacROMSet = PacIO.importROMSet(source);
+		} finally {
+			Files.delete(source);
+		}
+		path = Files.createTempFile("pacio", ".bin");
+		options = PacOpenBenchmark.getSaveOptions(storage);
+	}
+	
+	/**
+	 * Deletes the saved ROM set.
+	 * 
+	 * @throws IOException When deleting the file fails.
+	 */
+	@TearDown(Level.Trial)
+	public final void tearDown() throws IOException {
+		Files.deleteIfExists(path);
+	}
+	
+	/**
+	 * Saves the ROM set.
+	 * 
+	 * @throws IOException When writing the file fails.
+	 */
+	@Benchmark
+	public final void saveROMSet() throws IOException {
+		PacIO.saveROMSet(path, pacROMSet, options);
+	}
+}
@@ -16,12 +16,29 @@
 
 package io.github.thatgarlicdude.pacio;
 
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
 import io.github.thatgarlicdude.pacio.io.PacROMSet;
 import io.github.thatgarlicdude.pacio.io.PacROMSetImporter;
 import io.github.thatgarlicdude.pacio.io.PacROMSetOpener;
+import io.github.thatgarlicdude.pacio.io.PacROMSetOptions;
 import io.github.thatgarlicdude.pacio.io.PacROMSetSaver;
+import io.github.thatgarlicdude.pacio.io.PacROMSetScanListener;
+import io.github.thatgarlicdude.pacio.io.PacROMSetScanStats;
+import io.github.thatgarlicdude.pacio.io.PacROMSetScanner;
+import io.github.thatgarlicdude.pacio.patch.PacPatcher;
+import io.github.thatgarlicdude.pacio.patch.PacROMSetVariant;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The main class of the PacIO library.
@@ -35,13 +52,18 @@ import java.io.IOException;
  * into memory with the {@link #openROMSet openROMSet} method. It is the
  * go-to class for accessing and managing <i>Pac-Man</i> ROM sets.</p>
  * 
+ * <p>Each of these also has an asynchronous version, such as
+ * {@link #importROMSetAsync importROMSetAsync}, which returns a
+ * {@link CompletableFuture} right away, and keeps the blocking file I/O
+ * and the decompression on separate executors.</p>
+ * 
  * <p>Because this is a main class for a library, it cannot be
  * instantiated by any means via its private constructor,
  * {@link #PacIO()}. All methods in this class are static, and can easily
  * be accessed. No need to worry about creating an instance of this
  * class.</p>
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class PacIO {
@@ -77,6 +99,248 @@ public final class PacIO {
 		return new PacROMSetImporter(path).importROMSet();
 	}
 	
+	/**
+	 * Imports an existing <i>Pac-Man</i> ROM set into a
+	 * {@link io.github.thatgarlicdude.pacio.io.PacROMSet PacROMSet}
+	 * instance with the given options.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSet(String)
+	 * importROMSet} method, except that the options can change how the
+	 * ZIP file is read, such as by mapping it into memory with
+	 * {@link io.github.thatgarlicdude.pacio.io.PacArchiveType#MAPPED
+	 * PacArchiveType.MAPPED}.</p>
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the ZIP file from disk fails.
+	 */
+	public static final PacROMSet importROMSet(
+			final String path,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetImporter(path, options).importROMSet();
+	}
+	
+	/**
+	 * Imports only some of the regions of an existing <i>Pac-Man</i> ROM
+	 * set into a {@link io.github.thatgarlicdude.pacio.io.PacROMSet
+	 * PacROMSet} instance.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSet(String)
+	 * importROMSet} method, except that the ROMs of the other regions
+	 * aren't read at all, and don't even have to be in the ZIP file. A
+	 * renderer could import {@code EnumSet.of(PacRegion.GRAPHIC,
+	 * PacRegion.COLOR, PacRegion.PALETTE)}, for example. The getters of
+	 * the regions that weren't imported return null.</p>
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @param pacRegions The regions to import.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the ZIP file from disk fails.
+	 */
+	public static final PacROMSet importROMSet(
+			final String path,
+			final Set<PacRegion> pacRegions) throws IOException {
+		return importROMSet(path,
+				PacROMSetOptions.DEFAULT.withRegions(pacRegions));
+	}
+	
+	/**
+	 * Imports an existing <i>Pac-Man</i> ROM set from a stream into a
+	 * {@link io.github.thatgarlicdude.pacio.io.PacROMSet PacROMSet}
+	 * instance.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSet(String)
+	 * importROMSet} method, except that the ROM set ZIP file is read from
+	 * a stream, such as an upload or a pipe, in a single forward pass.
+	 * Nothing is written to disk, and only the ROMs that belong to a
+	 * PacCatalog are kept in memory. The stream is read until its end, but
+	 * it isn't closed.</p>
+	 * 
+	 * @param inputStream The stream of the original ROM set ZIP file.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When reading the stream fails.
+	 */
+	public static final PacROMSet importROMSet(
+			final InputStream inputStream) throws IOException {
+		return new PacROMSetImporter(inputStream).importROMSet();
+	}
+	
+	/**
+	 * Imports an existing <i>Pac-Man</i> ROM set from a stream into a
+	 * {@link io.github.thatgarlicdude.pacio.io.PacROMSet PacROMSet}
+	 * instance with the given options.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSet(InputStream)
+	 * importROMSet} method, except that the options can change how the
+	 * ROM set is built, such as which regions are imported.</p>
+	 * 
+	 * @param inputStream The stream of the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When reading the stream fails.
+	 */
+	public static final PacROMSet importROMSet(
+			final InputStream inputStream,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetImporter(inputStream, options).importROMSet();
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file from a {@link Path}, which can be on
+	 * any file system.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSet(String)
+	 * importROMSet} method.</p>
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the file fails.
+	 */
+	public static final PacROMSet importROMSet(final Path path)
+			throws IOException {
+		return new PacROMSetImporter(path).importROMSet();
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file from a {@link Path} with the given
+	 * options.
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the file fails.
+	 */
+	public static final PacROMSet importROMSet(
+			final Path path,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetImporter(path, options).importROMSet();
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file from a channel that's already open,
+	 * with the given options.
+	 * 
+	 * <p>The channel is read from its start, but it isn't closed.</p>
+	 * 
+	 * @param channel The channel of the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When reading the channel fails.
+	 */
+	public static final PacROMSet importROMSet(
+			final SeekableByteChannel channel,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetImporter(channel, options).importROMSet();
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file from a buffer that holds the whole
+	 * file, with the given options.
+	 * 
+	 * <p>The file is read from the position of the buffer to its limit,
+	 * in place, without going through the file system or copying the
+	 * buffer first.</p>
+	 * 
+	 * @param buffer The bytes of the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When the file is invalid.
+	 */
+	public static final PacROMSet importROMSet(
+			final ByteBuffer buffer,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetImporter(buffer, options).importROMSet();
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file from a byte array that holds the
+	 * whole file, with the given options.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSet(ByteBuffer,
+	 * PacROMSetOptions) importROMSet} method.</p>
+	 * 
+	 * @param data The bytes of the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When the file is invalid.
+	 */
+	public static final PacROMSet importROMSet(
+			final byte[] data,
+			final PacROMSetOptions options) throws IOException {
+		return importROMSet(ByteBuffer.wrap(data), options);
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file asynchronously, reading the
+	 * file on the given executor and decompressing its ROMs on the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSetAsync(Path,
+	 * PacROMSetOptions, Executor, Executor) importROMSetAsync} method.</p>
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @param ioExecutor The executor that reads the file.
+	 * @return The future of the unified <i>Pac-Man</i> ROM set.
+	 */
+	public static final CompletableFuture<PacROMSet> importROMSetAsync(
+			final Path path,
+			final PacROMSetOptions options,
+			final Executor ioExecutor) {
+		return new PacROMSetImporter(path, options)
+				.importROMSetAsync(ioExecutor);
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file asynchronously, so that the
+	 * calling thread, such as the thread of an event loop, never blocks
+	 * on the disk.
+	 * 
+	 * <p>The file is read on the I/O executor, and its ROMs are
+	 * decompressed on the CPU executor. Cancelling the returned future
+	 * skips whatever hasn't started yet. See the {@link
+	 * io.github.thatgarlicdude.pacio.io.PacROMSetImporter PacROMSetImporter}
+	 * class for more details.</p>
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @param ioExecutor The executor that reads the file.
+	 * @param cpuExecutor The executor that decompresses the ROMs.
+	 * @return The future of the unified <i>Pac-Man</i> ROM set.
+	 */
+	public static final CompletableFuture<PacROMSet> importROMSetAsync(
+			final Path path,
+			final PacROMSetOptions options,
+			final Executor ioExecutor,
+			final Executor cpuExecutor) {
+		return new PacROMSetImporter(path, options)
+				.importROMSetAsync(ioExecutor, cpuExecutor);
+	}
+	
+	/**
+	 * Imports an original ROM set ZIP file asynchronously from a stream.
+	 * 
+	 * <p>This works the same way as the {@link #importROMSetAsync(Path,
+	 * PacROMSetOptions, Executor, Executor) importROMSetAsync} method,
+	 * except that the stream is read until its end on the I/O executor.
+	 * It isn't closed.</p>
+	 * 
+	 * @param inputStream The stream of the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set.
+	 * @param ioExecutor The executor that reads the stream.
+	 * @param cpuExecutor The executor that decompresses the ROMs.
+	 * @return The future of the unified <i>Pac-Man</i> ROM set.
+	 */
+	public static final CompletableFuture<PacROMSet> importROMSetAsync(
+			final InputStream inputStream,
+			final PacROMSetOptions options,
+			final Executor ioExecutor,
+			final Executor cpuExecutor) {
+		return new PacROMSetImporter(inputStream, options)
+				.importROMSetAsync(ioExecutor, cpuExecutor);
+	}
+	
 	/**
 	 * Opens an existing unified <i>Pac-Man</i> ROM set ZIP file to
 	 * memory.
@@ -88,6 +352,10 @@ public final class PacIO {
 	 * They should be imported via the {@link #importROMSet importROMSet}
 	 * method instead.</p>
 	 * 
+	 * <p>Unified ROM sets saved as {@code .pacrom} files are opened by
+	 * this method too, since the format of the file is detected from its
+	 * first bytes.</p>
+	 * 
 	 * @param path The file path to the universal ROM set ZIP file.
 	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
 	 * @throws IOException When accessing the ZIP file from disk fails.
@@ -97,6 +365,213 @@ public final class PacIO {
 		return new PacROMSetOpener(path).openROMSet();
 	}
 	
+	/**
+	 * Opens an existing unified <i>Pac-Man</i> ROM set ZIP file to
+	 * memory with the given options.
+	 * 
+	 * <p>This works the same way as the {@link #openROMSet(String)
+	 * openROMSet} method, except that the options can change how the
+	 * ZIP file is read.</p>
+	 * 
+	 * @param path The file path to the universal ROM set ZIP file.
+	 * @param options The options used when opening the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the ZIP file from disk fails.
+	 */
+	public static final PacROMSet openROMSet(
+			final String path,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetOpener(path, options).openROMSet();
+	}
+	
+	/**
+	 * Opens only some of the regions of an existing unified
+	 * <i>Pac-Man</i> ROM set to memory.
+	 * 
+	 * <p>This works the same way as the {@link #openROMSet(String)
+	 * openROMSet} method, except that the entries of the other regions
+	 * aren't read at all, and don't even have to be in the ZIP file. The
+	 * getters of the regions that weren't opened return null.</p>
+	 * 
+	 * @param path The file path to the universal ROM set ZIP file.
+	 * @param pacRegions The regions to open.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the ZIP file from disk fails.
+	 */
+	public static final PacROMSet openROMSet(
+			final String path,
+			final Set<PacRegion> pacRegions) throws IOException {
+		return openROMSet(path,
+				PacROMSetOptions.DEFAULT.withRegions(pacRegions));
+	}
+	
+	/**
+	 * Opens a unified ROM set from a {@link Path}, which can be on any file
+	 * system.
+	 * 
+	 * <p>This works the same way as the {@link #openROMSet(String)
+	 * openROMSet} method.</p>
+	 * 
+	 * @param path The file path to the unified ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the file fails.
+	 */
+	public static final PacROMSet openROMSet(final Path path)
+			throws IOException {
+		return new PacROMSetOpener(path).openROMSet();
+	}
+	
+	/**
+	 * Opens a unified ROM set from a {@link Path} with the given options.
+	 * 
+	 * @param path The file path to the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When accessing the file fails.
+	 */
+	public static final PacROMSet openROMSet(
+			final Path path,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetOpener(path, options).openROMSet();
+	}
+	
+	/**
+	 * Opens a unified ROM set from a channel that's already open, with the
+	 * given options.
+	 * 
+	 * <p>The channel is read from its start, but it isn't closed.</p>
+	 * 
+	 * @param channel The channel of the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When reading the channel fails.
+	 */
+	public static final PacROMSet openROMSet(
+			final SeekableByteChannel channel,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetOpener(channel, options).openROMSet();
+	}
+	
+	/**
+	 * Opens a unified ROM set from a buffer that holds the whole file, with
+	 * the given options.
+	 * 
+	 * <p>The file is read from the position of the buffer to its limit,
+	 * in place, without going through the file system or copying the
+	 * buffer first.</p>
+	 * 
+	 * @param buffer The bytes of the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When the file is invalid.
+	 */
+	public static final PacROMSet openROMSet(
+			final ByteBuffer buffer,
+			final PacROMSetOptions options) throws IOException {
+		return new PacROMSetOpener(buffer, options).openROMSet();
+	}
+	
+	/**
+	 * Opens a unified ROM set from a byte array that holds the whole file,
+	 * with the given options.
+	 * 
+	 * <p>This works the same way as the {@link #openROMSet(ByteBuffer,
+	 * PacROMSetOptions) openROMSet} method.</p>
+	 * 
+	 * @param data The bytes of the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 * @return An instance of the unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When the file is invalid.
+	 */
+	public static final PacROMSet openROMSet(
+			final byte[] data,
+			final PacROMSetOptions options) throws IOException {
+		return openROMSet(ByteBuffer.wrap(data), options);
+	}
+	
+	/**
+	 * Opens a unified ROM set asynchronously, reading the file on the
+	 * given executor and decompressing its regions on the common
+	 * {@link ForkJoinPool}.
+	 * 
+	 * <p>This works the same way as the {@link #openROMSetAsync(Path,
+	 * PacROMSetOptions, Executor, Executor) openROMSetAsync} method.</p>
+	 * 
+	 * @param path The file path to the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 * @param ioExecutor The executor that reads the file.
+	 * @return The future of the unified <i>Pac-Man</i> ROM set.
+	 */
+	public static final CompletableFuture<PacROMSet> openROMSetAsync(
+			final Path path,
+			final PacROMSetOptions options,
+			final Executor ioExecutor) {
+		return new PacROMSetOpener(path, options).openROMSetAsync(ioExecutor);
+	}
+	
+	/**
+	 * Opens a unified ROM set asynchronously, so that the calling thread
+	 * never blocks on the disk.
+	 * 
+	 * <p>The file is read on the I/O executor, and its regions are
+	 * decompressed on the CPU executor. Cancelling the returned future
+	 * skips whatever hasn't started yet.</p>
+	 * 
+	 * @param path The file path to the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 * @param ioExecutor The executor that reads the file.
+	 * @param cpuExecutor The executor that decompresses the regions.
+	 * @return The future of the unified <i>Pac-Man</i> ROM set.
+	 */
+	public static final CompletableFuture<PacROMSet> openROMSetAsync(
+			final Path path,
+			final PacROMSetOptions options,
+			final Executor ioExecutor,
+			final Executor cpuExecutor) {
+		return new PacROMSetOpener(path, options)
+				.openROMSetAsync(ioExecutor, cpuExecutor);
+	}
+	
+	/**
+	 * Imports every <i>Pac-Man</i> ROM set ZIP file in a directory tree,
+	 * as many at the same time as there are processors, or ten thousand
+	 * at the same time when virtual threads are available.
+	 * 
+	 * <p>Each result is handed to the listener as soon as it's ready,
+	 * whether the ROM set has been imported or not. See the {@link
+	 * io.github.thatgarlicdude.pacio.io.PacROMSetScanner PacROMSetScanner}
+	 * class for more control over the scan.</p>
+	 * 
+	 * @param path The file path to the root of the directory tree.
+	 * @param listener The listener that receives each result.
+	 * @return The statistics of the scan.
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	public static final PacROMSetScanStats scanROMSets(
+			final String path,
+			final PacROMSetScanListener listener) throws IOException {
+		return new PacROMSetScanner(path).scan(listener);
+	}
+	
+	/**
+	 * Opens every unified <i>Pac-Man</i> ROM set ZIP file in a directory
+	 * tree, as many at the same time as the {@link #scanROMSets
+	 * scanROMSets} method imports.
+	 * 
+	 * <p>Each result is handed to the listener as soon as it's ready,
+	 * whether the ROM set has been opened or not.</p>
+	 * 
+	 * @param path The file path to the root of the directory tree.
+	 * @param listener The listener that receives each result.
+	 * @return The statistics of the scan.
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	public static final PacROMSetScanStats scanUnifiedROMSets(
+			final String path,
+			final PacROMSetScanListener listener) throws IOException {
+		return new PacROMSetScanner(path).scanUnified(listener);
+	}
+	
 	/**
 	 * Saves the unified <i>Pac-Man</i> ROM set to disk as a ZIP file.
 	 * 
@@ -113,6 +588,158 @@ public final class PacIO {
 		new PacROMSetSaver(pacROMSet, path).saveROMSet();
 	}
 	
+	/**
+	 * Saves the unified <i>Pac-Man</i> ROM set to disk as a ZIP file with
+	 * the given options.
+	 * 
+	 * <p>This works the same way as the {@link #saveROMSet(String,
+	 * PacROMSet) saveROMSet} method, except that the options can change
+	 * how the ZIP file is written, such as saving the ROMs as aligned
+	 * STORED entries with {@link
+	 * io.github.thatgarlicdude.pacio.io.PacROMSetOptions#withStored
+	 * withStored}, so they can be opened without decompressing them. The
+	 * {@link
+	 * io.github.thatgarlicdude.pacio.io.PacROMSetOptions#withFormat
+	 * withFormat} option saves the ROM set as a {@code .pacrom} file
+	 * instead, which the {@link #openROMSet openROMSet} methods can open
+	 * with a single read of its header.</p>
+	 * 
+	 * @param path The destination file path to the ZIP file.
+	 * @param pacROMSet The unified <i>Pac-Man</i> ROM set.
+	 * @param options The options used when saving the ROM set.
+	 * @throws IOException When saving the ZIP file from disk fails.
+	 */
+	public static final void saveROMSet(
+			final String path,
+			final PacROMSet pacROMSet,
+			final PacROMSetOptions options) throws IOException {
+		new PacROMSetSaver(pacROMSet, path, options).saveROMSet();
+	}
+	
+	/**
+	 * Saves the unified <i>Pac-Man</i> ROM set to a {@link Path}, which
+	 * can be on any file system.
+	 * 
+	 * @param path The destination file path.
+	 * @param pacROMSet The unified <i>Pac-Man</i> ROM set.
+	 * @throws IOException When saving the file fails.
+	 */
+	public static final void saveROMSet(
+			final Path path,
+			final PacROMSet pacROMSet) throws IOException {
+		new PacROMSetSaver(pacROMSet, path).saveROMSet();
+	}
+	
+	/**
+	 * Saves the unified <i>Pac-Man</i> ROM set to a {@link Path} with the
+	 * given options.
+	 * 
+	 * @param path The destination file path.
+	 * @param pacROMSet The unified <i>Pac-Man</i> ROM set.
+	 * @param options The options used when saving the ROM set.
+	 * @throws IOException When saving the file fails.
+	 */
+	public static final void saveROMSet(
+			final Path path,
+			final PacROMSet pacROMSet,
+			final PacROMSetOptions options) throws IOException {
+		new PacROMSetSaver(pacROMSet, path, options).saveROMSet();
+	}
+	
+	/**
+	 * Saves the unified <i>Pac-Man</i> ROM set to a channel that's
+	 * already open, with the given options.
+	 * 
+	 * <p>The ROM set is written from the current position of the channel,
+	 * which is left open, so it can be written to memory or to a socket
+	 * as well as to a file.</p>
+	 * 
+	 * @param channel The destination channel.
+	 * @param pacROMSet The unified <i>Pac-Man</i> ROM set.
+	 * @param options The options used when saving the ROM set.
+	 * @throws IOException When writing the channel fails.
+	 */
+	public static final void saveROMSet(
+			final WritableByteChannel channel,
+			final PacROMSet pacROMSet,
+			final PacROMSetOptions options) throws IOException {
+		new PacROMSetSaver(pacROMSet, channel, options).saveROMSet();
+	}
+	
+	/**
+	 * Saves the unified <i>Pac-Man</i> ROM set asynchronously, compressing
+	 * its ROMs on the common {@link ForkJoinPool} and writing the file on
+	 * the given executor.
+	 * 
+	 * <p>This works the same way as the {@link #saveROMSetAsync(Path,
+	 * PacROMSet, PacROMSetOptions, Executor, Executor) saveROMSetAsync}
+	 * method.</p>
+	 * 
+	 * @param path The destination file path.
+	 * @param pacROMSet The unified <i>Pac-Man</i> ROM set.
+	 * @param options The options used when saving the ROM set.
+	 * @param ioExecutor The executor that writes the file.
+	 * @return The future of the save.
+	 */
+	public static final CompletableFuture<Void> saveROMSetAsync(
+			final Path path,
+			final PacROMSet pacROMSet,
+			final PacROMSetOptions options,
+			final Executor ioExecutor) {
+		return new PacROMSetSaver(pacROMSet, path, options)
+				.saveROMSetAsync(ioExecutor);
+	}
+	
+	/**
+	 * Saves the unified <i>Pac-Man</i> ROM set asynchronously, so that the
+	 * calling thread never blocks on the disk.
+	 * 
+	 * <p>The ROMs are compressed on the CPU executor, and the file is
+	 * written on the I/O executor. Cancelling the returned future skips
+	 * whatever hasn't started yet.</p>
+	 * 
+	 * @param path The destination file path.
+	 * @param pacROMSet The unified <i>Pac-Man</i> ROM set.
+	 * @param options The options used when saving the ROM set.
+	 * @param ioExecutor The executor that writes the file.
+	 * @param cpuExecutor The executor that compresses the ROMs.
+	 * @return The future of the save.
+	 */
+	public static final CompletableFuture<Void> saveROMSetAsync(
+			final Path path,
+			final PacROMSet pacROMSet,
+			final PacROMSetOptions options,
+			final Executor ioExecutor,
+			final Executor cpuExecutor) {
+		return new PacROMSetSaver(pacROMSet, path, options)
+				.saveROMSetAsync(ioExecutor, cpuExecutor);
+	}
+	
+	/**
+	 * Applies an IPS or BPS patch file to a region of the unified
+	 * <i>Pac-Man</i> ROM set, producing a variant of it.
+	 * 
+	 * <p>The variant only holds the pages of the region that the patch
+	 * changes, and shares everything else with the ROM set, which isn't
+	 * changed. See the {@link
+	 * io.github.thatgarlicdude.pacio.patch.PacPatcher PacPatcher} class
+	 * for applying patches that are already in memory.</p>
+	 * 
+	 * @param pacROMSet The unified <i>Pac-Man</i> ROM set.
+	 * @param pacRegion The region that the patch is for.
+	 * @param path The file path to the patch.
+	 * @return The patched variant of the ROM set.
+	 * @throws IOException When reading the patch fails, or when the patch
+	 * is invalid or doesn't match the region.
+	 */
+	public static final PacROMSetVariant patchROMSet(
+			final PacROMSet pacROMSet,
+			final PacRegion pacRegion,
+			final Path path) throws IOException {
+		return PacPatcher.applyPatch(pacROMSet, pacRegion,
+				ByteBuffer.wrap(Files.readAllBytes(path)));
+	}
+	
 	/**
 	 * Private constructor; class cannot be instantiated by any means.
 	 * 
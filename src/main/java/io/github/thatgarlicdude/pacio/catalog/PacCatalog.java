@@ -16,44 +16,40 @@
 
 package io.github.thatgarlicdude.pacio.catalog;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * An abstract class that represents as a categorized list of ROM file
  * names.
  * 
- * @version 1.0.0-alpha
+ * <p>Each ROM in the list can also carry its expected size and CRC32
+ * checksum as a {@link PacROMChip}, which are used to identify ROM set
+ * ZIP files without decompressing them.</p>
+ * 
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public abstract class PacCatalog {
 	
 	/**
-	 * The list of program ROM filenames in the ROM set.
-	 */
-	private final String[] programROMNames;
-	
-	/**
-	 * The list of graphic ROM filenames in the ROM set.
-	 */
-	private final String[] graphicROMNames;
-	
-	/**
-	 * The list of color ROM filenames in the ROM set.
+	 * The list of ROM chips in the ROM set, indexed by {@link PacRegion}.
 	 */
-	private final String[] colorROMNames;
+	private final PacROMChip[][] romChips;
 	
 	/**
-	 * The list of palette ROM filenames in the ROM set.
+	 * The list of ROM filenames in the ROM set, indexed by
+	 * {@link PacRegion}.
 	 */
-	private final String[] paletteROMNames;
+	private final String[][] romNames;
 	
 	/**
-	 * The list of sound ROM filenames in the ROM set.
+	 * The unmodifiable lists of ROM filenames in the ROM set, indexed by
+	 * {@link PacRegion}, which are shared rather than copied.
 	 */
-	private final String[] soundROMNames;
-	
-	/**
-	 * The list of mystery ROM filenames in the ROM set.
-	 */
-	private final String[] mysteryROMNames;
+	private final List<List<String>> romNameLists;
 	
 	/**
 	 * Gets a copied list of the program ROM filenames in the catalog.
@@ -61,7 +57,7 @@ public abstract class PacCatalog {
 	 * @return The string array consisting of program ROM filenames.
 	 */
 	public final String[] getProgramROMNames() {
-		return programROMNames.clone();
+		return getROMNames(PacRegion.PROGRAM);
 	}
 	
 	/**
@@ -70,7 +66,7 @@ public abstract class PacCatalog {
 	 * @return The string array consisting of graphic ROM filenames.
 	 */
 	public final String[] getGraphicROMNames() {
-		return graphicROMNames.clone();
+		return getROMNames(PacRegion.GRAPHIC);
 	}
 	
 	/**
@@ -79,7 +75,7 @@ public abstract class PacCatalog {
 	 * @return The string array consisting of color ROM filenames.
 	 */
 	public final String[] getColorROMNames() {
-		return colorROMNames.clone();
+		return getROMNames(PacRegion.COLOR);
 	}
 	
 	/**
@@ -88,7 +84,7 @@ public abstract class PacCatalog {
 	 * @return The string array consisting of palette ROM filenames.
 	 */
 	public final String[] getPaletteROMNames() {
-		return paletteROMNames.clone();
+		return getROMNames(PacRegion.PALETTE);
 	}
 	
 	/**
@@ -97,7 +93,7 @@ public abstract class PacCatalog {
 	 * @return The string array consisting of sound ROM filenames.
 	 */
 	public final String[] getSoundROMNames() {
-		return soundROMNames.clone();
+		return getROMNames(PacRegion.SOUND);
 	}
 	
 	/**
@@ -106,12 +102,153 @@ public abstract class PacCatalog {
 	 * @return The string array consisting of mystery ROM filenames.
 	 */
 	public final String[] getMysteryROMNames() {
-		return mysteryROMNames.clone();
+		return getROMNames(PacRegion.MYSTERY);
+	}
+	
+	/**
+	 * Gets a copied list of the ROM filenames of a region in the catalog.
+	 * 
+	 * @param pacRegion The region of the ROMs.
+	 * @return The string array consisting of the region's ROM filenames.
+	 */
+	public final String[] getROMNames(final PacRegion pacRegion) {
+		return romNames[pacRegion.ordinal()].clone();
+	}
+	
+	/**
+	 * Gets the ROM filenames of a region in the catalog, without copying
+	 * them.
+	 * 
+	 * <p>Unlike the {@link #getROMNames(PacRegion) getROMNames} method,
+	 * this returns the same list every time, which can't be modified.</p>
+	 * 
+	 * @param pacRegion The region of the ROMs.
+	 * @return The unmodifiable list of the region's ROM filenames.
+	 */
+	public final List<String> getROMNameList(final PacRegion pacRegion) {
+		return romNameLists.get(pacRegion.ordinal());
+	}
+	
+	/**
+	 * Gets a copied list of the ROM chips of a region in the catalog.
+	 * 
+	 * @param pacRegion The region of the ROMs.
+	 * @return The array consisting of the region's ROM chips.
+	 */
+	public final PacROMChip[] getROMChips(final PacRegion pacRegion) {
+		return romChips[pacRegion.ordinal()].clone();
+	}
+	
+	/**
+	 * Gets a list of every ROM filename in the catalog, going from the
+	 * program ROMs to the mystery ROMs.
+	 * 
+	 * @return The string array consisting of all the ROM filenames.
+	 */
+	final String[] getROMNames() {
+		int length = 0;
+		for (String[] list : romNames) length += list.length;
+		String[] allROMNames = new String[length];
+		int offset = 0;
+		for (String[] list : romNames) {
+			System.arraycopy(list, 0, allROMNames, offset, list.length);
+			offset += list.length;
+		}
+		return allROMNames;
+	}
+	
+	/**
+	 * Gets the ROM chip at a specific slot of the catalog, without
+	 * copying the list.
+	 * 
+	 * @param regionIndex The index of the region.
+	 * @param romIndex The index of the ROM in the region.
+	 * @return The ROM chip at the slot.
+	 */
+	final PacROMChip getROMChip(final int regionIndex, final int romIndex) {
+		return romChips[regionIndex][romIndex];
+	}
+	
+	/**
+	 * Gets the amount of ROMs in a region of the catalog.
+	 * 
+	 * @param regionIndex The index of the region.
+	 * @return The amount of ROMs in the region.
+	 */
+	final int getROMCount(final int regionIndex) {
+		return romChips[regionIndex].length;
+	}
+	
+	/**
+	 * Gets the amount of ROMs in the whole catalog.
+	 * 
+	 * @return The amount of ROMs in the catalog.
+	 */
+	final int getROMCount() {
+		int romCount = 0;
+		for (PacROMChip[] list : romChips) romCount += list.length;
+		return romCount;
+	}
+	
+	/**
+	 * Turns a list of ROM filenames into ROM chips with an unknown size
+	 * and checksum.
+	 * 
+	 * @param names The list of ROM filenames.
+	 * @return The list of ROM chips.
+	 */
+	private static final PacROMChip[] toROMChips(final String[] names) {
+		PacROMChip[] chips = new PacROMChip[names.length];
+		for (int index = 0; index < names.length; index++) {
+			chips[index] = new PacROMChip(names[index]);
+		}
+		return chips;
 	}
 	
 	/**
 	 * Constructs an instance of the PacCatalog.
 	 * 
+	 * @param programROMChips The list of program ROM chips in the ROM set.
+	 * @param graphicROMChips The list of graphic ROM chips in the ROM set.
+	 * @param colorROMChips The list of color ROM chips in the ROM set.
+	 * @param paletteROMChips The list of palette ROM chips in the ROM set.
+	 * @param soundROMChips The list of sound ROM chips in the ROM set.
+	 * @param mysteryROMChips The list of mystery ROM chips in the ROM set.
+	 */
+	protected PacCatalog(
+			final PacROMChip[] programROMChips,
+			final PacROMChip[] graphicROMChips,
+			final PacROMChip[] colorROMChips,
+			final PacROMChip[] paletteROMChips,
+			final PacROMChip[] soundROMChips,
+			final PacROMChip[] mysteryROMChips) {
+		this.romChips = new PacROMChip[][] {
+				programROMChips.clone(),
+				graphicROMChips.clone(),
+				colorROMChips.clone(),
+				paletteROMChips.clone(),
+				soundROMChips.clone(),
+				mysteryROMChips.clone()
+		};
+		this.romNames = new String[romChips.length][];
+		List<List<String>> romNameLists = new ArrayList<>();
+		for (int region = 0; region < romChips.length; region++) {
+			romNames[region] = new String[romChips[region].length];
+			for (int index = 0; index < romChips[region].length; index++) {
+				romNames[region][index] = romChips[region][index].getName();
+			}
+			romNameLists.add(Collections.unmodifiableList(
+					Arrays.asList(romNames[region].clone())));
+		}
+		this.romNameLists = Collections.unmodifiableList(romNameLists);
+	}
+	
+	/**
+	 * Constructs an instance of the PacCatalog.
+	 * 
+	 * <p>The ROMs in this catalog have an unknown size and checksum, so
+	 * they can only be found by their filenames.</p>
+	 * 
 	 * @param programROMNames The list of program ROM filenames in the
 	 * ROM set.
 	 * @param graphicROMNames The list of graphic ROM filenames in the
@@ -132,11 +269,12 @@ public abstract class PacCatalog {
 			final String[] paletteROMNames,
 			final String[] soundROMNames,
 			final String[] mysteryROMNames) {
-		this.programROMNames = programROMNames;
-		this.graphicROMNames = graphicROMNames;
-		this.colorROMNames = colorROMNames;
-		this.paletteROMNames = paletteROMNames;
-		this.soundROMNames = soundROMNames;
-		this.mysteryROMNames = mysteryROMNames;
+		this(
+				toROMChips(programROMNames),
+				toROMChips(graphicROMNames),
+				toROMChips(colorROMNames),
+				toROMChips(paletteROMNames),
+				toROMChips(soundROMNames),
+				toROMChips(mysteryROMNames));
 	}
 }
@@ -16,10 +16,24 @@
 
 package io.github.thatgarlicdude.pacio.catalog;
 
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+
 /**
  * The a class used for managing PacCatalog objects.
  * 
- * @version 1.0.0-alpha
+ * <p>The PacCatalog objects are held in a {@link PacCatalogRegistry},
+ * which is an immutable snapshot with two reverse indexes of their ROMs:
+ * one by filename, and one by CRC32 checksum. They are used to match the
+ * entries of a ROM set ZIP file against every catalog at once.</p>
+ * 
+ * <p>Besides the built-in catalogs, every catalog provided through the
+ * {@link java.util.ServiceLoader ServiceLoader} is loaded the first time
+ * this class is used, and catalogs can also be registered at runtime.
+ * Registering swaps in a new snapshot atomically, so matching never
+ * takes a lock and always sees a consistent set of catalogs.</p>
+ * 
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class PacCatalogManager {
@@ -31,13 +45,58 @@ public final class PacCatalogManager {
 			"PacCatalogManager can't be instantiated";
 	
 	/**
-	 * The list of PacCatalog objects.
+	 * The current snapshot of the registered PacCatalog objects.
+	 */
+	private static final AtomicReference<PacCatalogRegistry> registry =
+			new AtomicReference<>(PacCatalogRegistry.load(
+					PacCatalogManager.class.getClassLoader()));
+	
+	/**
+	 * Gets the current snapshot of the registered PacCatalog objects.
+	 * 
+	 * @return The snapshot, which doesn't change when catalogs are
+	 * registered later on.
+	 */
+	public static final PacCatalogRegistry getRegistry() {
+		return registry.get();
+	}
+	
+	/**
+	 * Registers a PacCatalog after every other one, so that ROM set ZIP
+	 * files are matched against it from then on.
+	 * 
+	 * @param pacCatalog The PacCatalog to register.
+	 * @throws IllegalArgumentException When a region of the catalog has
+	 * too many ROMs.
+	 */
+	public static final void register(final PacCatalog pacCatalog) {
+		registry.updateAndGet(snapshot -> snapshot.with(pacCatalog));
+	}
+	
+	/**
+	 * Registers every PacCatalog provided through the
+	 * {@link java.util.ServiceLoader ServiceLoader} of a class loader, such
+	 * as the one of a plugin that's loaded at runtime.
+	 * 
+	 * <p>A provider of the same class as a registered catalog is
+	 * skipped.</p>
+	 * 
+	 * @param classLoader The class loader that the providers are looked up
+	 * with.
+	 */
+	public static final void register(final ClassLoader classLoader) {
+		registry.updateAndGet(snapshot -> snapshot.withProviders(classLoader));
+	}
+	
+	/**
+	 * Unregisters a PacCatalog, so that ROM set ZIP files are no longer
+	 * matched against it.
+	 * 
+	 * @param pacCatalog The PacCatalog to unregister.
 	 */
-	private static final PacCatalog[] pacCatalogs = {
-			new PacManCatalog(),
-			new PuckManCatalog(),
-			new TestCatalog()
-	};
+	public static final void unregister(final PacCatalog pacCatalog) {
+		registry.updateAndGet(snapshot -> snapshot.without(pacCatalog));
+	}
 	
 	/**
 	 * Returns a copied list of PacCatalog objects.
@@ -45,7 +104,7 @@ public final class PacCatalogManager {
 	 * @return A list of PacCatalog objects.
 	 */
 	public static final PacCatalog[] getPacCatalogs() {
-		return pacCatalogs.clone();
+		return registry.get().getPacCatalogs().toArray(new PacCatalog[0]);
 	}
 	
 	/**
@@ -55,7 +114,77 @@ public final class PacCatalogManager {
 	 * @return A specific PacCatalog object from the list.
 	 */
 	public static final PacCatalog getPacCatalog(final int index) {
-		return pacCatalogs[index];
+		return registry.get().getPacCatalogs().get(index);
+	}
+	
+	/**
+	 * Checks whether a ZIP file entry could fill a slot of any of the
+	 * PacCatalog objects, either by its filename or by its CRC32 checksum
+	 * and size.
+	 * 
+	 * <p>This is what lets a ZIP file be read as a stream, keeping only
+	 * the entries that can end up in a ROM set.</p>
+	 * 
+	 * @param romName The filename of the entry.
+	 * @param size The size of the entry, or {@link PacROMChip#UNKNOWN} if
+	 * it isn't known yet.
+	 * @param crc The CRC32 checksum of the entry, or
+	 * {@link PacROMChip#UNKNOWN} if it isn't known yet.
+	 * @return Whether the entry is a ROM of any PacCatalog.
+	 */
+	public static final boolean containsROM(
+			final String romName,
+			final long size,
+			final long crc) {
+		return registry.get().containsROM(romName, size, crc);
+	}
+	
+	/**
+	 * Gets the size of the largest ROM with a known size in any of the
+	 * PacCatalog objects.
+	 * 
+	 * <p>An entry that is larger than this can only fill a slot by its
+	 * filename.</p>
+	 * 
+	 * @return The size of the largest known ROM.
+	 */
+	public static final long getMaxROMSize() {
+		return registry.get().getMaxROMSize();
+	}
+	
+	/**
+	 * Matches a list of ROM filenames against the PacCatalog objects.
+	 * 
+	 * <p>Each filename is looked up once in a reverse index, so the cost
+	 * only depends on the amount of filenames, not on the amount of
+	 * catalogs. The first catalog in the list that has all of its ROMs
+	 * found is picked. If there's none, the catalog with the most ROMs
+	 * found is picked as a partial match instead.</p>
+	 * 
+	 * @param romNames The filenames of the entries in a ROM set ZIP file.
+	 * @return The result of the match.
+	 */
+	public static final PacCatalogMatch matchROMNames(
+			final Iterable<String> romNames) {
+		return registry.get().matchROMNames(romNames);
+	}
+	
+	/**
+	 * Matches a list of ZIP file entries against the PacCatalog objects
+	 * by their CRC32 checksums and sizes.
+	 * 
+	 * <p>The checksums and sizes are the ones stored in the central
+	 * directory of the ZIP file, so nothing has to be decompressed. Each
+	 * checksum is looked up once in a reverse index, which means renamed
+	 * ROMs are still found in their right slots. The catalog is picked the
+	 * same way as in the {@link #matchROMNames matchROMNames} method.</p>
+	 * 
+	 * @param zipEntries The entries of a ROM set ZIP file.
+	 * @return The result of the match.
+	 */
+	public static final PacCatalogMatch matchROMCRCs(
+			final Iterable<? extends ZipEntry> zipEntries) {
+		return registry.get().matchROMCRCs(zipEntries);
 	}
 	
 	/**
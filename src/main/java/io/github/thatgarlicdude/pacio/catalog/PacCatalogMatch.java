@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class that represents the result of matching the entries of a ROM
+ * set ZIP file against the PacCatalog objects.
+ * 
+ * <p>A match can either be <b>complete</b>, where every ROM in the
+ * catalog has been found, <b>partial</b>, where only some of them have
+ * been found, or <b>none</b>, where no catalog has any of its ROMs in the
+ * ROM set ZIP file.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacCatalogMatch {
+	
+	/**
+	 * A match that has no catalog.
+	 */
+	static final PacCatalogMatch NONE =
+			new PacCatalogMatch(null, new String[0][]);
+	
+	/**
+	 * The matched catalog, or null if nothing matched.
+	 */
+	private final PacCatalog pacCatalog;
+	
+	/**
+	 * The amount of ROMs in the catalog that have been found.
+	 */
+	private final int matchedCount;
+	
+	/**
+	 * The total amount of ROMs in the catalog.
+	 */
+	private final int romCount;
+	
+	/**
+	 * The list of ROM filenames in the catalog that have not been found.
+	 */
+	private final String[] missingROMNames;
+	
+	/**
+	 * The names of the ZIP file entries found for each ROM in the
+	 * catalog, indexed by {@link PacRegion}.
+	 */
+	private final String[][] entryNames;
+	
+	/**
+	 * Gets the matched catalog.
+	 * 
+	 * @return The matched catalog, or null if nothing matched.
+	 */
+	public final PacCatalog getPacCatalog() {
+		return pacCatalog;
+	}
+	
+	/**
+	 * Checks if every ROM in the catalog has been found.
+	 * 
+	 * @return True if the match is complete.
+	 */
+	public final boolean isComplete() {
+		return pacCatalog != null && matchedCount == romCount;
+	}
+	
+	/**
+	 * Checks if only some of the ROMs in the catalog have been found.
+	 * 
+	 * @return True if the match is partial.
+	 */
+	public final boolean isPartial() {
+		return pacCatalog != null && matchedCount < romCount;
+	}
+	
+	/**
+	 * Gets the amount of ROMs in the catalog that have been found.
+	 * 
+	 * @return The amount of ROMs found.
+	 */
+	public final int getMatchedCount() {
+		return matchedCount;
+	}
+	
+	/**
+	 * Gets the total amount of ROMs in the catalog.
+	 * 
+	 * @return The amount of ROMs in the catalog, or 0 if nothing
+	 * matched.
+	 */
+	public final int getROMCount() {
+		return romCount;
+	}
+	
+	/**
+	 * Gets a copied list of the ROM filenames in the catalog that have
+	 * not been found.
+	 * 
+	 * @return The string array consisting of missing ROM filenames.
+	 */
+	public final String[] getMissingROMNames() {
+		return missingROMNames.clone();
+	}
+	
+	/**
+	 * Gets a copied list of the ZIP file entry names that were found for
+	 * the ROMs of a region in the catalog.
+	 * 
+	 * <p>The entry names are in the same order as the ROMs in the
+	 * catalog. They are usually the same as the ROM filenames, but can be
+	 * different when the ROMs have been identified by their checksums. A
+	 * ROM that has not been found has a null entry name.</p>
+	 * 
+	 * @param pacRegion The region of the ROMs.
+	 * @return The string array consisting of the region's entry names.
+	 */
+	public final String[] getEntryNames(final PacRegion pacRegion) {
+		return entryNames[pacRegion.ordinal()].clone();
+	}
+	
+	/**
+	 * Returns a short description of the match.
+	 * 
+	 * @return The description of the match.
+	 */
+	@Override
+	public final String toString() {
+		if (pacCatalog == null) return "No matching PacCatalog";
+		String name = pacCatalog.getClass().getSimpleName();
+		if (isComplete()) return name;
+		return name + " is missing " + String.join(", ", missingROMNames);
+	}
+	
+	/**
+	 * Constructs an instance of the catalog match.
+	 * 
+	 * @param pacCatalog The matched catalog, or null if nothing matched.
+	 * @param entryNames The names of the ZIP file entries found for each
+	 * ROM in the catalog, with null for the ROMs that have not been found.
+	 */
+	PacCatalogMatch(
+			final PacCatalog pacCatalog,
+			final String[][] entryNames) {
+		List<String> missingROMNames = new ArrayList<>();
+		int matchedCount = 0;
+		int romCount = 0;
+		for (int region = 0; region < entryNames.length; region++) {
+			for (int index = 0; index < entryNames[region].length; index++) {
+				romCount++;
+				if (entryNames[region][index] != null) {
+					matchedCount++;
+				} else {
+					missingROMNames.add(
+							pacCatalog.getROMChip(region, index).getName());
+				}
+			}
+		}
+		this.pacCatalog = pacCatalog;
+		this.matchedCount = matchedCount;
+		this.romCount = romCount;
+		this.missingROMNames = missingROMNames.toArray(new String[0]);
+		this.entryNames = entryNames;
+	}
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+
+/**
+ * A class that represents an immutable snapshot of the registered
+ * PacCatalog objects, along with the lookup structures used to match ROM
+ * set ZIP files against them.
+ * 
+ * <p>Two reverse indexes of the ROMs are built once for each snapshot:
+ * one by filename, and one by CRC32 checksum. Matching only looks up
+ * the entries of the ZIP file in them and only goes through the catalogs
+ * that have had a ROM found, so its cost depends on the amount of
+ * entries and not on the amount of registered catalogs.</p>
+ * 
+ * <p>A snapshot never changes. Registering or unregistering a catalog
+ * with the {@link #with} and {@link #without} methods builds a new
+ * snapshot, so a snapshot can be shared between threads without any
+ * locking. See {@link PacCatalogManager} for the registry that the
+ * importers use.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacCatalogRegistry {
+	
+	/**
+	 * Error message used when a slot doesn't fit in the indexes.
+	 */
+	private static final String TOO_MANY_MESSAGE =
+			"Too many ROMs in a region of %s";
+	
+	/**
+	 * The largest amount of ROMs in a region of a catalog.
+	 */
+	private static final int MAX_ROM_COUNT = 0xFFFF;
+	
+	/**
+	 * The list of PacCatalog objects, in the order they're picked in.
+	 */
+	private final PacCatalog[] pacCatalogs;
+	
+	/**
+	 * The unmodifiable list of PacCatalog objects.
+	 */
+	private final List<PacCatalog> pacCatalogList;
+	
+	/**
+	 * The total amount of ROMs in each PacCatalog.
+	 */
+	private final int[] romCounts;
+	
+	/**
+	 * A reverse index from each ROM filename to the slots of the
+	 * PacCatalog objects that contain it.
+	 */
+	private final Map<String, long[]> romNameIndex = new HashMap<>();
+	
+	/**
+	 * A reverse index from each CRC32 checksum to the slots of the
+	 * PacCatalog objects that contain a ROM with it.
+	 */
+	private final Map<Long, long[]> romCRCIndex = new HashMap<>();
+	
+	/**
+	 * The size of the largest ROM with a known size in any of the
+	 * PacCatalog objects.
+	 */
+	private final long maxROMSize;
+	
+	/**
+	 * Creates a snapshot of the built-in catalogs, followed by every
+	 * catalog provided through the {@link ServiceLoader} of a class
+	 * loader.
+	 * 
+	 * <p>A provider is listed by its class name in a file under
+	 * {@code META-INF/services} named after the full name of the
+	 * {@link PacCatalog} class, and must have a public constructor with no
+	 * parameters. A provider of the same class as a built-in catalog is
+	 * skipped.</p>
+	 * 
+	 * @param classLoader The class loader that the providers are looked up
+	 * with.
+	 * @return The snapshot.
+	 */
+	public static final PacCatalogRegistry load(
+			final ClassLoader classLoader) {
+		return new PacCatalogRegistry(
+				new PacManCatalog(),
+				new PuckManCatalog(),
+				new TestCatalog()).withProviders(classLoader);
+	}
+	
+	/**
+	 * Creates a snapshot of a list of PacCatalog objects.
+	 * 
+	 * @param pacCatalogs The PacCatalog objects, in the order they're
+	 * picked in.
+	 * @return The snapshot.
+	 * @throws IllegalArgumentException When a region of a catalog has too
+	 * many ROMs.
+	 */
+	public static final PacCatalogRegistry of(
+			final PacCatalog... pacCatalogs) {
+		return new PacCatalogRegistry(pacCatalogs.clone());
+	}
+	
+	/**
+	 * Returns a snapshot with a PacCatalog added after every other one.
+	 * 
+	 * @param pacCatalog The PacCatalog to add.
+	 * @return The new snapshot, or this one if the catalog is already in
+	 * it.
+	 * @throws IllegalArgumentException When a region of the catalog has
+	 * too many ROMs.
+	 */
+	public final PacCatalogRegistry with(final PacCatalog pacCatalog) {
+		if (pacCatalogList.contains(pacCatalog)) return this;
+		PacCatalog[] added =
+				Arrays.copyOf(pacCatalogs, pacCatalogs.length + 1);
+		added[pacCatalogs.length] = pacCatalog;
+		return new PacCatalogRegistry(added);
+	}
+	
+	/**
+	 * Returns a snapshot without a PacCatalog.
+	 * 
+	 * @param pacCatalog The PacCatalog to remove.
+	 * @return The new snapshot, or this one if the catalog isn't in it.
+	 */
+	public final PacCatalogRegistry without(final PacCatalog pacCatalog) {
+		List<PacCatalog> removed = new ArrayList<>(pacCatalogList);
+		if (!removed.remove(pacCatalog)) return this;
+		return new PacCatalogRegistry(removed.toArray(new PacCatalog[0]));
+	}
+	
+	/**
+	 * Returns a snapshot with every catalog provided through the
+	 * {@link ServiceLoader} of a class loader added after the other ones.
+	 * 
+	 * @param classLoader The class loader that the providers are looked up
+	 * with.
+	 * @return The new snapshot, or this one if there's no new provider.
+	 */
+	public final PacCatalogRegistry withProviders(
+			final ClassLoader classLoader) {
+		Set<Class<?>> classes = new HashSet<>();
+		for (PacCatalog pacCatalog : pacCatalogs) {
+			classes.add(pacCatalog.getClass());
+		}
+		List<PacCatalog> added = new ArrayList<>(pacCatalogList);
+		for (PacCatalog pacCatalog
+				: ServiceLoader.load(PacCatalog.class, classLoader)) {
+			// Skip the catalogs that are already in the snapshot.
+			if (classes.add(pacCatalog.getClass())) added.add(pacCatalog);
+		}
+		if (added.size() == pacCatalogs.length) return this;
+		return new PacCatalogRegistry(added.toArray(new PacCatalog[0]));
+	}
+	
+	/**
+	 * Gets the list of PacCatalog objects, in the order they're picked in.
+	 * 
+	 * @return The unmodifiable list of PacCatalog objects.
+	 */
+	public final List<PacCatalog> getPacCatalogs() {
+		return pacCatalogList;
+	}
+	
+	/**
+	 * Checks whether a ZIP file entry could fill a slot of any of the
+	 * PacCatalog objects, either by its filename or by its CRC32 checksum
+	 * and size.
+	 * 
+	 * @param romName The filename of the entry.
+	 * @param size The size of the entry, or {@link PacROMChip#UNKNOWN} if
+	 * it isn't known yet.
+	 * @param crc The CRC32 checksum of the entry, or
+	 * {@link PacROMChip#UNKNOWN} if it isn't known yet.
+	 * @return Whether the entry is a ROM of any PacCatalog.
+	 */
+	public final boolean containsROM(
+			final String romName,
+			final long size,
+			final long crc) {
+		if (romNameIndex.containsKey(romName)) return true;
+		long[] slots = crc == PacROMChip.UNKNOWN ? null : romCRCIndex.get(crc);
+		if (slots == null) return false;
+		for (long slot : slots) {
+			if (getROMChip(slot).matches(size, crc)) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Gets the size of the largest ROM with a known size in any of the
+	 * PacCatalog objects.
+	 * 
+	 * @return The size of the largest known ROM.
+	 */
+	public final long getMaxROMSize() {
+		return maxROMSize;
+	}
+	
+	/**
+	 * Gets the size of the largest ROM with a known size and a filename in
+	 * any of the PacCatalog objects.
+	 * 
+	 * @param romName The filename of the ROM.
+	 * @return The size of the largest known ROM with the filename, or
+	 * {@link PacROMChip#UNKNOWN} if none of the ROMs with the filename
+	 * has a known size.
+	 */
+	public final long getMaxROMSize(final String romName) {
+		long[] slots = romNameIndex.get(romName);
+		long largestSize = PacROMChip.UNKNOWN;
+		if (slots == null) return largestSize;
+		for (long slot : slots) {
+			largestSize = Math.max(largestSize, getROMChip(slot).getSize());
+		}
+		return largestSize;
+	}
+	
+	/**
+	 * Matches a list of ROM filenames against the PacCatalog objects.
+	 * 
+	 * <p>Each filename is looked up once in a reverse index. The first
+	 * catalog in the list that has all of its ROMs found is picked. If
+	 * there's none, the catalog with the most ROMs found is picked as a
+	 * partial match instead.</p>
+	 * 
+	 * @param romNames The filenames of the entries in a ROM set ZIP file.
+	 * @return The result of the match.
+	 */
+	public final PacCatalogMatch matchROMNames(
+			final Iterable<String> romNames) {
+		Set<String> foundROMNames = new HashSet<>();
+		Map<Integer, CatalogFill> fills = new HashMap<>();
+		for (String romName : romNames) {
+			long[] slots = romNameIndex.get(romName);
+			// Skip filenames that aren't in any catalog, or repeated ones.
+			if (slots == null || !foundROMNames.add(romName)) continue;
+			for (long slot : slots) {
+				fillSlot(fills, slot, romName);
+			}
+		}
+		return createMatch(fills);
+	}
+	
+	/**
+	 * Matches a list of ZIP file entries against the PacCatalog objects
+	 * by their CRC32 checksums and sizes.
+	 * 
+	 * <p>Each checksum is looked up once in a reverse index, which means
+	 * renamed ROMs are still found in their right slots. The catalog is
+	 * picked the same way as in the {@link #matchROMNames matchROMNames}
+	 * method.</p>
+	 * 
+	 * @param zipEntries The entries of a ROM set ZIP file.
+	 * @return The result of the match.
+	 */
+	public final PacCatalogMatch matchROMCRCs(
+			final Iterable<? extends ZipEntry> zipEntries) {
+		Map<Integer, CatalogFill> fills = new HashMap<>();
+		for (ZipEntry zipEntry : zipEntries) {
+			long crc = zipEntry.getCrc();
+			long[] slots = crc == -1 ? null : romCRCIndex.get(crc);
+			// Skip entries that don't have a known checksum in any catalog.
+			if (slots == null) continue;
+			for (long slot : slots) {
+				PacROMChip romChip = getROMChip(slot);
+				if (romChip.matches(zipEntry.getSize(), crc))
+					fillSlot(fills, slot, zipEntry.getName());
+			}
+		}
+		return createMatch(fills);
+	}
+	
+	/**
+	 * Fills a slot of a PacCatalog with the name of the ZIP file entry
+	 * that has been found for it, unless it's already filled.
+	 * 
+	 * @param fills The slots filled so far, for each catalog that has had
+	 * a ROM found.
+	 * @param slot The slot to fill.
+	 * @param entryName The name of the ZIP file entry.
+	 */
+	private final void fillSlot(
+			final Map<Integer, CatalogFill> fills,
+			final long slot,
+			final String entryName) {
+		int position = (int) (slot >>> 32);
+		int region = (int) (slot >>> 16) & 0xFFFF;
+		int index = (int) slot & 0xFFFF;
+		CatalogFill fill = fills.get(position);
+		if (fill == null) {
+			fill = new CatalogFill(pacCatalogs[position]);
+			fills.put(position, fill);
+		}
+		if (fill.entryNames[region][index] != null) return;
+		fill.entryNames[region][index] = entryName;
+		fill.matchedCount++;
+	}
+	
+	/**
+	 * Picks the best PacCatalog out of the filled slots.
+	 * 
+	 * <p>Only the catalogs that have had a ROM found are gone through.
+	 * The first of them in the list that has all of its slots filled is
+	 * picked. If there's none, the one with the most slots filled is
+	 * picked instead, and the first of them in the list when they're
+	 * tied.</p>
+	 * 
+	 * @param fills The slots filled for each catalog that has had a ROM
+	 * found.
+	 * @return The result of the match.
+	 */
+	private final PacCatalogMatch createMatch(
+			final Map<Integer, CatalogFill> fills) {
+		int bestPosition = -1;
+		int bestCount = 0;
+		boolean bestComplete = false;
+		for (Map.Entry<Integer, CatalogFill> entry : fills.entrySet()) {
+			int position = entry.getKey();
+			int matchedCount = entry.getValue().matchedCount;
+			boolean complete = matchedCount == romCounts[position];
+			if (bestPosition != -1) {
+				// A complete catalog beats a partial one, then the one
+				// with the most ROMs found, then the first in the list.
+				if (complete != bestComplete) {
+					if (!complete) continue;
+				} else if (!complete && matchedCount != bestCount) {
+					if (matchedCount < bestCount) continue;
+				} else if (position > bestPosition) {
+					continue;
+				}
+			}
+			bestPosition = position;
+			bestCount = matchedCount;
+			bestComplete = complete;
+		}
+		// Return an empty match when no ROM has been found at all.
+		if (bestPosition == -1) return PacCatalogMatch.NONE;
+		return new PacCatalogMatch(pacCatalogs[bestPosition],
+				fills.get(bestPosition).entryNames);
+	}
+	
+	/**
+	 * Gets the ROM chip at a slot.
+	 * 
+	 * @param slot The slot of the ROM chip.
+	 * @return The ROM chip at the slot.
+	 */
+	private final PacROMChip getROMChip(final long slot) {
+		return pacCatalogs[(int) (slot >>> 32)].getROMChip(
+				(int) (slot >>> 16) & 0xFFFF, (int) slot & 0xFFFF);
+	}
+	
+	/**
+	 * Packs the position of a PacCatalog, a region, and the index of a
+	 * ROM in that region into a single slot.
+	 * 
+	 * @param position The position of the PacCatalog in the list.
+	 * @param region The index of the region.
+	 * @param index The index of the ROM in the region.
+	 * @return The slot of the ROM.
+	 */
+	private static final long toSlot(
+			final int position,
+			final int region,
+			final int index) {
+		return ((long) position << 32) | ((long) region << 16) | index;
+	}
+	
+	/**
+	 * Adds a slot to a reverse index.
+	 * 
+	 * @param <K> The type of the key.
+	 * @param index The reverse index.
+	 * @param key The key the slot is added under.
+	 * @param slot The slot to add.
+	 */
+	private static final <K> void addSlot(
+			final Map<K, long[]> index,
+			final K key,
+			final long slot) {
+		long[] slots = index.get(key);
+		if (slots == null) {
+			slots = new long[] {slot};
+		} else {
+			slots = Arrays.copyOf(slots, slots.length + 1);
+			slots[slots.length - 1] = slot;
+		}
+		index.put(key, slots);
+	}
+	
+	/**
+	 * The slots of a PacCatalog that have been filled while matching.
+	 */
+	private static final class CatalogFill {
+		
+		/**
+		 * The names of the ZIP file entries found for each ROM, indexed by
+		 * region, with null for the ROMs that haven't been found.
+		 */
+		private final String[][] entryNames;
+		
+		/**
+		 * The amount of slots filled.
+		 */
+		private int matchedCount;
+		
+		/**
+		 * Constructs an instance of the catalog fill, with every slot
+		 * empty.
+		 * 
+		 * @param pacCatalog The PacCatalog whose slots are filled.
+		 */
+		private CatalogFill(final PacCatalog pacCatalog) {
+			this.entryNames = new String[PacRegion.values().length][];
+			for (int region = 0; region < entryNames.length; region++) {
+				entryNames[region] =
+						new String[pacCatalog.getROMCount(region)];
+			}
+		}
+	}
+	
+	/**
+	 * Constructs an instance of the registry, and builds its indexes.
+	 * 
+	 * @param pacCatalogs The PacCatalog objects, which are owned by the
+	 * registry from then on.
+	 * @throws IllegalArgumentException When a region of a catalog has too
+	 * many ROMs.
+	 */
+	private PacCatalogRegistry(final PacCatalog... pacCatalogs) {
+		this.pacCatalogs = pacCatalogs;
+		this.pacCatalogList =
+				Collections.unmodifiableList(Arrays.asList(pacCatalogs));
+		this.romCounts = new int[pacCatalogs.length];
+		long largestSize = 0;
+		// Go through each ROM of each PacCatalog to fill the indexes.
+		for (int position = 0; position < pacCatalogs.length; position++) {
+			PacCatalog pacCatalog = pacCatalogs[position];
+			romCounts[position] = pacCatalog.getROMCount();
+			for (int region = 0; region < PacRegion.values().length;
+					region++) {
+				int romCount = pacCatalog.getROMCount(region);
+				// Throw an error when the index doesn't fit in a slot.
+				if (romCount > MAX_ROM_COUNT)
+					throw new IllegalArgumentException(String.format(
+							TOO_MANY_MESSAGE,
+							pacCatalog.getClass().getSimpleName()));
+				for (int index = 0; index < romCount; index++) {
+					PacROMChip romChip = pacCatalog.getROMChip(region, index);
+					long slot = toSlot(position, region, index);
+					addSlot(romNameIndex, romChip.getName(), slot);
+					if (romChip.getCRC() != PacROMChip.UNKNOWN)
+						addSlot(romCRCIndex, romChip.getCRC(), slot);
+					largestSize = Math.max(largestSize, romChip.getSize());
+				}
+			}
+		}
+		this.maxROMSize = largestSize;
+	}
+}
@@ -20,57 +20,61 @@ package io.github.thatgarlicdude.pacio.catalog;
  * A class that represents a categorized list of the ROM file names in
  * the <i>Pac-Man</i> ROM set.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class PacManCatalog extends PacCatalog {
 	
 	/**
-	 * A static list of the program ROM filenames in the <i>Pac-Man</i>
+	 * A static list of the program ROM chips in the <i>Pac-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] PROGRAM_ROMS = {
-			"pacman.6e", "pacman.6f", "pacman.6h", "pacman.6j"
+	private static final PacROMChip[] PROGRAM_ROMS = {
+			new PacROMChip("pacman.6e", 0x1000, 0xc1e6ab10L),
+			new PacROMChip("pacman.6f", 0x1000, 0x1a6fb2d4L),
+			new PacROMChip("pacman.6h", 0x1000, 0xbcdd1bebL),
+			new PacROMChip("pacman.6j", 0x1000, 0x817d94e3L)
 	};
 	
 	/**
-	 * A static list of the graphic ROM filenames in the <i>Pac-Man</i>
+	 * A static list of the graphic ROM chips in the <i>Pac-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] GRAPHIC_ROMS = {
-			"pacman.5e", "pacman.5f"
+	private static final PacROMChip[] GRAPHIC_ROMS = {
+			new PacROMChip("pacman.5e", 0x1000, 0x0c944964L),
+			new PacROMChip("pacman.5f", 0x1000, 0x958fedf9L)
 	};
 	
 	/**
-	 * A static list of the color ROM filenames in the <i>Pac-Man</i>
+	 * A static list of the color ROM chips in the <i>Pac-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] COLOR_ROMS = {
-			"82s123.7f"
+	private static final PacROMChip[] COLOR_ROMS = {
+			new PacROMChip("82s123.7f", 0x0020, 0x2fc650bdL)
 	};
 	
 	/**
-	 * A static list of the palette ROM filenames in the <i>Pac-Man</i>
+	 * A static list of the palette ROM chips in the <i>Pac-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] PALETTE_ROMS = {
-			"82s126.4a"
+	private static final PacROMChip[] PALETTE_ROMS = {
+			new PacROMChip("82s126.4a", 0x0100, 0x3eb3a8e4L)
 	};
 	
 	/**
-	 * A static list of the sound ROM filenames in the <i>Pac-Man</i>
+	 * A static list of the sound ROM chips in the <i>Pac-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] SOUND_ROMS = {
-			"82s126.1m"
+	private static final PacROMChip[] SOUND_ROMS = {
+			new PacROMChip("82s126.1m", 0x0100, 0xa9cc86bfL)
 	};
 	
 	/**
-	 * A static list of the mystery ROM filenames in the <i>Pac-Man</i>
+	 * A static list of the mystery ROM chips in the <i>Pac-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] MYSTERY_ROMS = {
-			"82s126.3m"
+	private static final PacROMChip[] MYSTERY_ROMS = {
+			new PacROMChip("82s126.3m", 0x0100, 0x77245b66L)
 	};
 	
 	/**
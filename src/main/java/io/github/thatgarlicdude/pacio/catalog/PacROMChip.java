@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.catalog;
+
+/**
+ * A class that represents a single ROM chip in a PacCatalog, which has a
+ * filename, an expected size, and an expected CRC32 checksum.
+ * 
+ * <p>The size and the checksum are compared against the ones stored in
+ * the central directory of a ROM set ZIP file, which means a ROM can be
+ * identified without being decompressed, even when its file has been
+ * renamed.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacROMChip {
+	
+	/**
+	 * The value used when the size or the checksum isn't known.
+	 */
+	public static final long UNKNOWN = -1;
+	
+	/**
+	 * The filename of the ROM.
+	 */
+	private final String name;
+	
+	/**
+	 * The expected size of the ROM in bytes.
+	 */
+	private final long size;
+	
+	/**
+	 * The expected CRC32 checksum of the ROM.
+	 */
+	private final long crc;
+	
+	/**
+	 * Gets the filename of the ROM.
+	 * 
+	 * @return The filename of the ROM.
+	 */
+	public final String getName() {
+		return name;
+	}
+	
+	/**
+	 * Gets the expected size of the ROM in bytes.
+	 * 
+	 * @return The size of the ROM, or {@link #UNKNOWN} if it isn't known.
+	 */
+	public final long getSize() {
+		return size;
+	}
+	
+	/**
+	 * Gets the expected CRC32 checksum of the ROM.
+	 * 
+	 * @return The checksum of the ROM, or {@link #UNKNOWN} if it isn't
+	 * known.
+	 */
+	public final long getCRC() {
+		return crc;
+	}
+	
+	/**
+	 * Checks if the ROM has the given size and checksum.
+	 * 
+	 * <p>A size that isn't known on either side is treated as a match,
+	 * while a checksum that isn't known never matches.</p>
+	 * 
+	 * @param size The size to compare against.
+	 * @param crc The CRC32 checksum to compare against.
+	 * @return True if both the size and the checksum match.
+	 */
+	public final boolean matches(final long size, final long crc) {
+		if (this.crc == UNKNOWN || this.crc != crc) return false;
+		return this.size == UNKNOWN || size == UNKNOWN || this.size == size;
+	}
+	
+	/**
+	 * Constructs an instance of the ROM chip.
+	 * 
+	 * @param name The filename of the ROM.
+	 * @param size The expected size of the ROM in bytes.
+	 * @param crc The expected CRC32 checksum of the ROM.
+	 */
+	public PacROMChip(final String name, final long size, final long crc) {
+		this.name = name;
+		this.size = size;
+		this.crc = crc;
+	}
+	
+	/**
+	 * Constructs an instance of the ROM chip with an unknown size and
+	 * checksum.
+	 * 
+	 * @param name The filename of the ROM.
+	 */
+	public PacROMChip(final String name) {
+		this(name, UNKNOWN, UNKNOWN);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.catalog;
+
+/**
+ * An enum that represents the regions of a unified <i>Pac-Man</i> ROM
+ * set.
+ * 
+ * <p>Each region is a group of ROMs from the <i>Pac-Man</i> PCB, such as
+ * the program ROMs or the graphic ROMs. The regions are declared in the
+ * same order as the entries of a unified ROM set ZIP file.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public enum PacRegion {
+	
+	/**
+	 * The region of the program ROMs.
+	 * 
+	 * <p>This is the data loaded from multiple program ROMs in the
+	 * <i>Pac-Man</i> and <i>Puck-Man</i> PCBs. They contain instructions
+	 * for the Zilog Z80, and some static data like music, sound effects,
+	 * mazes, and text.</p>
+	 */
+	PROGRAM,
+	
+	/**
+	 * The region of the graphic ROMs.
+	 * 
+	 * <p>This is the data loaded from multiple graphic ROMs. The
+	 * <i>Pac-Man</i> ROM set has two of these ROMs being <b>5e</b> and
+	 * <b>5f</b>, while <i>Puck-Man</i> has four being <b>5e</b>,
+	 * <b>5h</b>, <b>5f</b>, and <b>5j</b>. The first half should be the
+	 * tile data while the second is the sprite data. Tiles are 8x8 in
+	 * size, while sprites are 16x16. Each pixel should be 2 bits in
+	 * length, therefore creating four possible colors in a palette to
+	 * choose from.</p>
+	 */
+	GRAPHIC,
+	
+	/**
+	 * The region of the color ROM.
+	 * 
+	 * <p>This is the data loaded from the <b>7f</b> ROM, which is the
+	 * <i>Pac-Man</i> PCB's one and only color ROM. The colors are
+	 * encoded into a single byte, with the first three bits being the
+	 * red bits, other three being green, and the last two being blue.</p>
+	 */
+	COLOR,
+	
+	/**
+	 * The region of the palette ROM.
+	 * 
+	 * <p>This is the data loaded from the <b>4a</b> ROM, which is the
+	 * <i>Pac-Man</i> PCB's sole palette ROM. Each palette contains four
+	 * colors that are represented from the {@link #COLOR} region,
+	 * loaded from the <b>7f</b> ROM.</p>
+	 */
+	PALETTE,
+	
+	/**
+	 * The region of the sound ROM.
+	 * 
+	 * <p>This is the data loaded from the <b>1m</b> ROM, which is the
+	 * sound chip of the <i>Pac-Man</i> PCB. The sound chip contains
+	 * multiple waveforms that are 32 bytes long, and each byte in a
+	 * waveform ranges from 0 (0x0) to 15 (0xF), which is the amplitude.
+	 * Each byte powers the speakers depending on its strength.</p>
+	 */
+	SOUND,
+	
+	/**
+	 * The region of the mystery ROM.
+	 * 
+	 * <p>This is the data that is usually loaded from the <b>3m</b> ROM
+	 * of the <i>Pac-Man</i> PCB. Nobody knows what this data is used for,
+	 * aside from the fact that it's slightly associated with the {@link
+	 * #SOUND} region, loaded from the <b>1m</b> ROM of the PCB. That is
+	 * why it is called the mystery region.</p>
+	 */
+	MYSTERY;
+}
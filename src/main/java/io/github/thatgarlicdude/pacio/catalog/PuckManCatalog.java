@@ -20,58 +20,67 @@ package io.github.thatgarlicdude.pacio.catalog;
  * A class that represents a categorized list of the ROM file names in
  * the <i>Puck-Man</i> ROM set.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class PuckManCatalog extends PacCatalog {
 	
 	/**
-	 * A static list of the program ROM filenames in the <i>Puck-Man</i>
+	 * A static list of the program ROM chips in the <i>Puck-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] PROGRAM_ROMS = {
-			"pm1_prg1.6e", "pm1_prg2.6k", "pm1_prg3.6f", "pm1_prg4.6m",
-			"pm1_prg5.6h", "pm1_prg6.6n", "pm1_prg7.6j", "pm1_prg8.6p"
+	private static final PacROMChip[] PROGRAM_ROMS = {
+			new PacROMChip("pm1_prg1.6e", 0x0800, 0xf36e88abL),
+			new PacROMChip("pm1_prg2.6k", 0x0800, 0x618bd9b3L),
+			new PacROMChip("pm1_prg3.6f", 0x0800, 0x7d177853L),
+			new PacROMChip("pm1_prg4.6m", 0x0800, 0xd3e8914cL),
+			new PacROMChip("pm1_prg5.6h", 0x0800, 0x6bf4f625L),
+			new PacROMChip("pm1_prg6.6n", 0x0800, 0xa948ce83L),
+			new PacROMChip("pm1_prg7.6j", 0x0800, 0xb6289b26L),
+			new PacROMChip("pm1_prg8.6p", 0x0800, 0x17a88c13L)
 	};
 	
 	/**
-	 * A static list of the graphic ROM filenames in the <i>Puck-Man</i>
+	 * A static list of the graphic ROM chips in the <i>Puck-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] GRAPHIC_ROMS = {
-			"pm1_chg1.5e", "pm1_chg2.5h", "pm1_chg3.5f", "pm1_chg4.5j",
+	private static final PacROMChip[] GRAPHIC_ROMS = {
+			new PacROMChip("pm1_chg1.5e", 0x0800, 0x2066a0b7L),
+			new PacROMChip("pm1_chg2.5h", 0x0800, 0x3591b89dL),
+			new PacROMChip("pm1_chg3.5f", 0x0800, 0x9e39323aL),
+			new PacROMChip("pm1_chg4.5j", 0x0800, 0x1b1d9096L)
 	};
 	
 	/**
-	 * A static list of the color ROM filenames in the <i>Puck-Man</i>
+	 * A static list of the color ROM chips in the <i>Puck-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] COLOR_ROMS = {
-			"pm1-1.7f"
+	private static final PacROMChip[] COLOR_ROMS = {
+			new PacROMChip("pm1-1.7f", 0x0020, 0x2fc650bdL)
 	};
 	
 	/**
-	 * A static list of the palette ROM filenames in the <i>Puck-Man</i>
+	 * A static list of the palette ROM chips in the <i>Puck-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] PALETTE_ROMS = {
-			"pm1-4.4a"
+	private static final PacROMChip[] PALETTE_ROMS = {
+			new PacROMChip("pm1-4.4a", 0x0100, 0x3eb3a8e4L)
 	};
 	
 	/**
-	 * A static list of the sound ROM filenames in the <i>Puck-Man</i>
+	 * A static list of the sound ROM chips in the <i>Puck-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] SOUND_ROMS = {
-			"pm1-3.1m"
+	private static final PacROMChip[] SOUND_ROMS = {
+			new PacROMChip("pm1-3.1m", 0x0100, 0xa9cc86bfL)
 	};
 	
 	/**
-	 * A static list of the mystery ROM filenames in the <i>Puck-Man</i>
+	 * A static list of the mystery ROM chips in the <i>Puck-Man</i>
 	 * ROM set.
 	 */
-	private static final String[] MYSTERY_ROMS = {
-			"pm1-2.3m"
+	private static final PacROMChip[] MYSTERY_ROMS = {
+			new PacROMChip("pm1-2.3m", 0x0100, 0x77245b66L)
 	};
 	
 	/**
@@ -20,51 +20,57 @@ package io.github.thatgarlicdude.pacio.catalog;
  * A class that represents a categorized list of the ROM file names in
  * the test ROM set.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestCatalog extends PacCatalog {
 	
 	/**
-	 * A static list of the program ROM filenames in the test ROM set.
+	 * A static list of the program ROM chips in the test ROM set.
 	 */
-	private static final String[] PROGRAM_ROMS = {
-			"test_prog1", "test_prog2"
+	private static final PacROMChip[] PROGRAM_ROMS = {
+			new PacROMChip("test_prog1", 12, 0x20d5c9e2L),
+			new PacROMChip("test_prog2", 12, 0xb9dc9858L)
 	};
 	
 	/**
-	 * A static list of the graphic ROM filenames in the test ROM set.
+	 * A static list of the graphic ROM chips in the test ROM set.
 	 */
-	private static final String[] GRAPHIC_ROMS = {
-			"test_gfx1", "test_gfx2"
+	private static final PacROMChip[] GRAPHIC_ROMS = {
+			new PacROMChip("test_gfx1", 12, 0x115510ffL),
+			new PacROMChip("test_gfx2", 12, 0x885c4145L)
 	};
 	
 	/**
-	 * A static list of the color ROM filenames in the test ROM set.
+	 * A static list of the color ROM chips in the test ROM set.
 	 */
-	private static final String[] COLOR_ROMS = {
-			"test_clr1", "test_clr2"
+	private static final PacROMChip[] COLOR_ROMS = {
+			new PacROMChip("test_clr1", 10, 0x937baf52L),
+			new PacROMChip("test_clr2", 10, 0x0a72fee8L)
 	};
 	
 	/**
-	 * A static list of the palette ROM filenames in the test ROM set.
+	 * A static list of the palette ROM chips in the test ROM set.
 	 */
-	private static final String[] PALETTE_ROMS = {
-			"test_pal1", "test_pal2"
+	private static final PacROMChip[] PALETTE_ROMS = {
+			new PacROMChip("test_pal1", 12, 0x7de8da30L),
+			new PacROMChip("test_pal2", 12, 0xe4e18b8aL)
 	};
 	
 	/**
-	 * A static list of the sound ROM filenames in the test ROM set.
+	 * A static list of the sound ROM chips in the test ROM set.
 	 */
-	private static final String[] SOUND_ROMS = {
-			"test_sfx1", "test_sfx2"
+	private static final PacROMChip[] SOUND_ROMS = {
+			new PacROMChip("test_sfx1", 10, 0xa0e66a3cL),
+			new PacROMChip("test_sfx2", 10, 0x39ef3b86L)
 	};
 	
 	/**
-	 * A static list of the mystery ROM filenames in the test ROM set.
+	 * A static list of the mystery ROM chips in the test ROM set.
 	 */
-	private static final String[] MYSTERY_ROMS = {
-			"test_mys1", "test_mys2"
+	private static final PacROMChip[] MYSTERY_ROMS = {
+			new PacROMChip("test_mys1", 12, 0x6b38330aL),
+			new PacROMChip("test_mys2", 12, 0xf23162b0L)
 	};
 	
 	/**
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+/**
+ * An interface that represents an opened ZIP file, which the ROM set
+ * importer and opener read their entries from.
+ * 
+ * <p>An archive holds on to resources like file handles until it's
+ * closed, so it should always be used in a try-with-resources
+ * statement.</p>
+ * 
+ * <p>Entries of an archive can be read from many threads at once, which
+ * is what lets the regions of a ROM set be read in parallel.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+interface PacArchive extends Closeable {
+	
+	/**
+	 * Gets every entry in the archive, in the order of its central
+	 * directory.
+	 * 
+	 * @return The list of entries.
+	 */
+	List<ZipEntry> getEntries();
+	
+	/**
+	 * Gets an entry in the archive by its name.
+	 * 
+	 * @param name The name of the entry.
+	 * @return The entry, or null if it isn't found.
+	 */
+	ZipEntry getEntry(String name);
+	
+	/**
+	 * Opens a stream of the decompressed bytes of an entry.
+	 * 
+	 * @param zipEntry The entry to read.
+	 * @return The stream of the entry's bytes.
+	 * @throws IOException When reading the archive fails.
+	 */
+	InputStream getInputStream(ZipEntry zipEntry) throws IOException;
+	
+	/**
+	 * Reads the decompressed bytes of an entry straight into an offset of
+	 * a byte array.
+	 * 
+	 * @param zipEntry The entry to read, which must have a known size.
+	 * @param data The destination array.
+	 * @param offset The offset in the destination array.
+	 * @throws IOException When reading the archive fails, or when the
+	 * entry doesn't match its recorded size.
+	 */
+	default void readEntry(
+			final ZipEntry zipEntry,
+			final byte[] data,
+			final int offset) throws IOException {
+		try (InputStream inputStream = getInputStream(zipEntry)) {
+			PacROMReader.readFully(inputStream, zipEntry.getName(), data,
+					offset, (int) zipEntry.getSize());
+		}
+	}
+	
+	/**
+	 * Gets the decompressed bytes of an entry as a buffer.
+	 * 
+	 * <p>Archives that can reach the stored bytes directly may return a
+	 * view of them instead of a copy, which must not be modified.</p>
+	 * 
+	 * @param zipEntry The entry to read.
+	 * @return The buffer of the entry's bytes.
+	 * @throws IOException When reading the archive fails.
+	 */
+	default ByteBuffer getBuffer(final ZipEntry zipEntry)
+			throws IOException {
+		return ByteBuffer.wrap(PacROMReader.readEntries(this, zipEntry));
+	}
+	
+	/**
+	 * Opens an archive from disk.
+	 * 
+	 * @param path The file path to the ZIP file.
+	 * @param pacArchiveType The type of archive used to read the ZIP
+	 * file.
+	 * @return The opened archive.
+	 * @throws IOException When opening the ZIP file fails.
+	 */
+	static PacArchive open(
+			final String path,
+			final PacArchiveType pacArchiveType) throws IOException {
+		switch (pacArchiveType) {
+		case MAPPED:
+			return new PacMappedArchive(path);
+		default:
+			return new PacZipFileArchive(path);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+/**
+ * An enum that represents the ways a ROM set ZIP file can be read from
+ * disk.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public enum PacArchiveType {
+	
+	/**
+	 * Reads the ZIP file through {@link java.util.zip.ZipFile}.
+	 * 
+	 * <p>This is the default type, and works with every ZIP file that
+	 * Java can read.</p>
+	 */
+	ZIP_FILE,
+	
+	/**
+	 * Maps the ZIP file into memory and parses its central directory
+	 * directly.
+	 * 
+	 * <p>Stored entries are handed back as views of the mapped file
+	 * without being copied, and deflated entries are inflated from the
+	 * mapped file straight into their destination. This type doesn't
+	 * support ZIP64 files, multi-disk files, or encrypted entries.</p>
+	 */
+	MAPPED;
+}
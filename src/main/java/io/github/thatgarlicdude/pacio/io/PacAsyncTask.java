@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A class used to run an import, open, or save in two stages on two
+ * executors, so that the blocking file I/O and the CPU-bound work, such
+ * as inflating and deflating the ROMs, never share a thread.
+ * 
+ * <p>Neither stage runs on the calling thread. Cancelling the returned
+ * future skips the stages that haven't started yet. A stage that is
+ * already running finishes, but its result is dropped.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacAsyncTask {
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacAsyncTask can't be instantiated";
+	
+	/**
+	 * Runs the first stage on its executor, and then the second stage on
+	 * its own executor with the result of the first one.
+	 * 
+	 * <p>An error thrown by either stage, or by an executor that rejects
+	 * it, completes the returned future with that error, and is reported
+	 * to the trace.</p>
+	 * 
+	 * @param <T> The type of the result of the first stage.
+	 * @param <R> The type of the result of the second stage.
+	 * @param trace The trace that a failure is reported to.
+	 * @param firstExecutor The executor that runs the first stage.
+	 * @param first The first stage.
+	 * @param secondExecutor The executor that runs the second stage.
+	 * @param second The second stage.
+	 * @return The future of the result of the second stage.
+	 */
+	static final <T, R> CompletableFuture<R> run(
+			final PacIOTrace trace,
+			final Executor firstExecutor,
+			final Task<T> first,
+			final Executor secondExecutor,
+			final Stage<T, R> second) {
+		CompletableFuture<R> result = new CompletableFuture<>();
+		execute(firstExecutor, trace, result, () -> {
+			T input = first.call();
+			execute(secondExecutor, trace, result,
+					() -> result.complete(second.apply(input)));
+		});
+		return result;
+	}
+	
+	/**
+	 * Runs a step of a task on an executor, unless the result of the
+	 * task has already been completed or cancelled by then.
+	 * 
+	 * @param executor The executor.
+	 * @param trace The trace that a failure is reported to.
+	 * @param result The future of the result of the task.
+	 * @param step The step.
+	 */
+	private static final void execute(
+			final Executor executor,
+			final PacIOTrace trace,
+			final CompletableFuture<?> result,
+			final Step step) {
+		try {
+			executor.execute(() -> {
+				// Skip the step when the task has been cancelled.
+				if (result.isDone()) return;
+				try {
+					step.run();
+				} catch (IOException | RuntimeException | Error exception) {
+					trace.failed(exception);
+					result.completeExceptionally(exception);
+				}
+			});
+		} catch (RejectedExecutionException exception) {
+			trace.failed(exception);
+			result.completeExceptionally(exception);
+		}
+	}
+	
+	/**
+	 * The first stage of a task, which starts it off.
+	 * 
+	 * @param <T> The type of the result.
+	 */
+	@FunctionalInterface
+	interface Task<T> {
+		
+		/**
+		 * Runs the stage.
+		 * 
+		 * @return The result of the stage.
+		 * @throws IOException When reading or writing the file fails.
+		 */
+		T call() throws IOException;
+	}
+	
+	/**
+	 * The second stage of a task, which finishes it off with the result
+	 * of the first stage.
+	 * 
+	 * @param <T> The type of the result of the first stage.
+	 * @param <R> The type of the result.
+	 */
+	@FunctionalInterface
+	interface Stage<T, R> {
+		
+		/**
+		 * Runs the stage.
+		 * 
+		 * @param input The result of the first stage.
+		 * @return The result of the task.
+		 * @throws IOException When reading or writing the file fails.
+		 */
+		R apply(T input) throws IOException;
+	}
+	
+	/**
+	 * A step of a task, which is run on an executor.
+	 */
+	@FunctionalInterface
+	private interface Step {
+		
+		/**
+		 * Runs the step.
+		 * 
+		 * @throws IOException When reading or writing the file fails.
+		 */
+		void run() throws IOException;
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacAsyncTask() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
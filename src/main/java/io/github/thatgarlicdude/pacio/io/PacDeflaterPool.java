@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * A class that keeps raw {@link Deflater} instances around, so that
+ * saving a lot of ROM sets doesn't create and free the native state of a
+ * new one for every chunk it compresses.
+ * 
+ * <p>A deflater is borrowed with {@link #acquire acquire}, and must be
+ * handed back with {@link #release release} once its output has been
+ * read, even when compressing fails. The pool only keeps a couple of
+ * deflaters for each processor; the ones handed back beyond that are
+ * ended right away.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacDeflaterPool {
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacDeflaterPool can't be instantiated";
+	
+	/**
+	 * The largest amount of idle deflaters kept in the pool.
+	 */
+	private static final int CAPACITY =
+			Runtime.getRuntime().availableProcessors() * 2;
+	
+	/**
+	 * The output of the call that applies the parameters of a deflater.
+	 */
+	private static final byte[] EMPTY_OUTPUT = new byte[0];
+	
+	/**
+	 * The idle deflaters of the pool.
+	 */
+	private static final BlockingQueue<Deflater> deflaters =
+			new ArrayBlockingQueue<>(CAPACITY);
+	
+	/**
+	 * Borrows a raw deflater from the pool, or creates one when the pool
+	 * is empty.
+	 * 
+	 * @param level The compression level of the deflater.
+	 * @param strategy The compression strategy of the deflater.
+	 * @return The deflater, ready for new input.
+	 */
+	static final Deflater acquire(final int level, final int strategy) {
+		Deflater deflater = deflaters.poll();
+		if (deflater == null) deflater = new Deflater(level, true);
+		deflater.setLevel(level);
+		deflater.setStrategy(strategy);
+		// Apply the parameters before a dictionary can be set, since they
+		// would otherwise only take effect in the middle of the stream.
+		deflater.deflate(EMPTY_OUTPUT);
+		return deflater;
+	}
+	
+	/**
+	 * Hands a deflater back to the pool, or ends it when the pool is full.
+	 * 
+	 * @param deflater The deflater that was borrowed from the pool.
+	 */
+	static final void release(final Deflater deflater) {
+		deflater.reset();
+		if (!deflaters.offer(deflater)) deflater.end();
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacDeflaterPool() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
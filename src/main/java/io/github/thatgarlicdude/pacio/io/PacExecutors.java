@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A class used to create the executors that load many ROM sets at once,
+ * one archive per task.
+ * 
+ * <p>An archive executor can be handed to the asynchronous methods of the
+ * {@link io.github.thatgarlicdude.pacio.PacIO PacIO} class as their I/O
+ * executor, so that thousands of ROM sets are imported or opened at the
+ * same time, and it's what the {@link PacROMSetScanner} uses.</p>
+ * 
+ * <p>On Java 8, the archives are loaded on a fixed amount of platform
+ * threads. On Java 21 and above, the multi-release JAR replaces this
+ * class with one that gives each archive its own virtual thread, so that
+ * waiting on the disk doesn't hold on to a platform thread.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacExecutors {
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacExecutors can't be instantiated";
+	
+	/**
+	 * Error message used when the parallelism isn't positive.
+	 */
+	private static final String PARALLELISM_MESSAGE =
+			"Parallelism must be positive: %d";
+	
+	/**
+	 * Checks if the archive executors run each archive on its own virtual
+	 * thread.
+	 * 
+	 * @return True on Java 21 and above.
+	 */
+	public static final boolean isVirtualThreadAvailable() {
+		return false;
+	}
+	
+	/**
+	 * Creates an executor that loads as many archives at the same time as
+	 * there are processors, or each archive on its own virtual thread
+	 * when they're available.
+	 * 
+	 * @return The executor, which has to be shut down once it's done.
+	 */
+	public static final ExecutorService newArchiveExecutor() {
+		return newArchiveExecutor(Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Creates an executor that loads a given amount of archives at the
+	 * same time, or each archive on its own virtual thread when they're
+	 * available.
+	 * 
+	 * <p>With virtual threads, the parallelism doesn't limit the amount of
+	 * archives loaded at the same time, which is up to the caller.</p>
+	 * 
+	 * @param parallelism The amount of platform threads.
+	 * @return The executor, which has to be shut down once it's done.
+	 * @throws IllegalArgumentException When the parallelism isn't
+	 * positive.
+	 */
+	public static final ExecutorService newArchiveExecutor(
+			final int parallelism) {
+		if (parallelism < 1) throw new IllegalArgumentException(
+				String.format(PARALLELISM_MESSAGE, parallelism));
+		return Executors.newFixedThreadPool(parallelism);
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacExecutors() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
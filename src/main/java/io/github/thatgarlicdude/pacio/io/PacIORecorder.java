@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
+/**
+ * A helper class that records a single import, open, save, or catalog
+ * detection as a JDK Flight Recorder event.
+ * 
+ * <p>Java 8 has no Flight Recorder API, so this version never records
+ * anything. The multi-release JAR has another version of this class for
+ * Java 11 and above, in {@code src/main/java11}, which records the
+ * events of the {@code PacIO} category while a recording is
+ * running.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacIORecorder {
+	
+	/**
+	 * Begins recording an operation, if its event is enabled.
+	 * 
+	 * @param phase The operation, which is {@link PacIOPhase#IMPORT},
+	 * {@link PacIOPhase#OPEN}, {@link PacIOPhase#SAVE}, or
+	 * {@link PacIOPhase#CATALOG_DETECTION}.
+	 * @param source The name of the source or destination.
+	 * @return The recorder, or null when nothing is recorded, which is
+	 * always the case on Java 8.
+	 */
+	static final PacIORecorder begin(
+			final PacIOPhase phase,
+			final String source) {
+		return null;
+	}
+	
+	/**
+	 * Records the time taken to open the archive.
+	 * 
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	final void archiveOpened(final long nanos) {
+	}
+	
+	/**
+	 * Records the catalog that has been matched, and the time taken to
+	 * match it.
+	 * 
+	 * @param pacCatalogMatch The result of the match.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	final void catalogDetected(
+			final PacCatalogMatch pacCatalogMatch,
+			final long nanos) {
+	}
+	
+	/**
+	 * Records the sizes of a region that has been read.
+	 * 
+	 * @param pacRegion The region.
+	 * @param compressedSize The amount of bytes stored in the archive, or
+	 * -1 if it isn't known.
+	 * @param size The amount of bytes in the region.
+	 */
+	final void regionRead(
+			final PacRegion pacRegion,
+			final long compressedSize,
+			final long size) {
+	}
+	
+	/**
+	 * Records the time taken to read and assemble the regions.
+	 * 
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	final void assembled(final long nanos) {
+	}
+	
+	/**
+	 * Records the amount of bytes written by a save.
+	 * 
+	 * @param size The amount of bytes.
+	 */
+	final void saved(final long size) {
+	}
+	
+	/**
+	 * Ends the event and commits it to the recording.
+	 */
+	final void end() {
+	}
+	
+	/**
+	 * Ends the event with the error that the operation has failed with,
+	 * and commits it to the recording.
+	 * 
+	 * @param exception The error.
+	 */
+	final void failed(final Throwable exception) {
+	}
+	
+	/**
+	 * Private constructor; nothing is recorded on Java 8.
+	 */
+	private PacIORecorder() {
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOListener;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.ZipEntry;
+
+/**
+ * A helper class that times the phases of a single import, open, or save,
+ * and reports them to the listener of the options and to the
+ * {@link PacIORecorder Flight Recorder}.
+ * 
+ * <p>When there's no listener and no event is being recorded, the
+ * {@link #DISABLED} trace is used, which never reads the clock, so
+ * measuring costs nothing unless it's asked for.</p>
+ * 
+ * <p>The ROMs of a region may be read in parallel, so the time taken by
+ * each of them is added up per region, and the regions are only reported
+ * once every ROM has been read.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacIOTrace {
+	
+	/**
+	 * The trace that measures nothing.
+	 */
+	static final PacIOTrace DISABLED = new PacIOTrace(null, null, null);
+	
+	/**
+	 * The listener that the timings are reported to, or null.
+	 */
+	private final PacIOListener listener;
+	
+	/**
+	 * The recorder of the Flight Recorder event, or null.
+	 */
+	private final PacIORecorder recorder;
+	
+	/**
+	 * Whether anything is measured.
+	 */
+	private final boolean enabled;
+	
+	/**
+	 * The name of the source or destination.
+	 */
+	private final String source;
+	
+	/**
+	 * The time taken to read each region so far, indexed by
+	 * {@link PacRegion}.
+	 */
+	private final AtomicLongArray regionNanos;
+	
+	/**
+	 * Creates a trace that reports to a listener, and begins recording the
+	 * operation if its Flight Recorder event is enabled.
+	 * 
+	 * @param listener The listener, or null.
+	 * @param phase The operation, which is {@link PacIOPhase#IMPORT},
+	 * {@link PacIOPhase#OPEN}, {@link PacIOPhase#SAVE}, or
+	 * {@link PacIOPhase#CATALOG_DETECTION}.
+	 * @param source The name of the source or destination.
+	 * @return The trace.
+	 */
+	static final PacIOTrace of(
+			final PacIOListener listener,
+			final PacIOPhase phase,
+			final String source) {
+		PacIORecorder recorder = PacIORecorder.begin(phase, source);
+		if (listener == null && recorder == null) return DISABLED;
+		return new PacIOTrace(listener, recorder, source);
+	}
+	
+	/**
+	 * Checks if anything is measured.
+	 * 
+	 * @return True if there's a listener or a recorded event.
+	 */
+	final boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Starts timing a phase.
+	 * 
+	 * @return The current time in nanoseconds, or 0 if nothing is
+	 * measured.
+	 */
+	final long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+	
+	/**
+	 * Reports that an archive has been opened.
+	 * 
+	 * @param start The time that opening the archive started at.
+	 */
+	final void archiveOpened(final long start) {
+		if (!enabled) return;
+		long nanos = System.nanoTime() - start;
+		if (recorder != null) recorder.archiveOpened(nanos);
+		if (listener != null) listener.onArchiveOpened(source, nanos);
+	}
+	
+	/**
+	 * Reports that an original ROM set has been matched against the
+	 * catalogs.
+	 * 
+	 * @param pacCatalogMatch The result of the match.
+	 * @param start The time that the match started at.
+	 */
+	final void catalogDetected(
+			final PacCatalogMatch pacCatalogMatch,
+			final long start) {
+		if (!enabled) return;
+		long nanos = System.nanoTime() - start;
+		if (recorder != null) recorder.catalogDetected(pacCatalogMatch, nanos);
+		if (listener != null)
+			listener.onCatalogDetected(source, pacCatalogMatch, nanos);
+	}
+	
+	/**
+	 * Reports that an original ROM set has been matched against the
+	 * catalogs on its own, which ends the detection.
+	 * 
+	 * @param pacCatalogMatch The result of the match.
+	 * @param start The time that the match started at.
+	 */
+	final void detected(
+			final PacCatalogMatch pacCatalogMatch,
+			final long start) {
+		catalogDetected(pacCatalogMatch, start);
+		if (recorder != null) recorder.end();
+	}
+	
+	/**
+	 * Adds the time taken to read part of a region, without reporting it
+	 * yet.
+	 * 
+	 * @param region The index of the region.
+	 * @param start The time that the read started at.
+	 */
+	final void regionTime(final int region, final long start) {
+		if (!enabled) return;
+		regionNanos.addAndGet(region, System.nanoTime() - start);
+	}
+	
+	/**
+	 * Reports every region that has been read into a ROM set, with the
+	 * time added up for each of them.
+	 * 
+	 * @param regionEntries The entries of each region, or null for the
+	 * regions that haven't been read.
+	 * @param pacROMSet The ROM set that the regions have been read into.
+	 */
+	final void regionsRead(
+			final ZipEntry[][] regionEntries,
+			final PacROMSet pacROMSet) {
+		if (!enabled) return;
+		for (PacRegion pacRegion : PacRegion.values()) {
+			int region = pacRegion.ordinal();
+			if (regionEntries[region] == null) continue;
+			long compressedSize = getCompressedSize(regionEntries[region]);
+			long size = pacROMSet.getLength(pacRegion);
+			long nanos = regionNanos.getAndSet(region, 0);
+			if (recorder != null)
+				recorder.regionRead(pacRegion, compressedSize, size);
+			if (listener != null)
+				listener.onRegionRead(source, pacRegion, compressedSize,
+						size, nanos);
+		}
+	}
+	
+	/**
+	 * Reports a single region that has been read on its own, such as by a
+	 * lazy ROM set.
+	 * 
+	 * <p>The region is only reported to the listener, since the event of
+	 * the open has already been recorded by then.</p>
+	 * 
+	 * @param pacRegion The region.
+	 * @param zipEntries The entries of the region.
+	 * @param buffer The bytes of the region.
+	 * @param start The time that the read started at.
+	 */
+	final void regionLoaded(
+			final PacRegion pacRegion,
+			final ZipEntry[] zipEntries,
+			final ByteBuffer buffer,
+			final long start) {
+		if (listener == null) return;
+		listener.onRegionRead(source, pacRegion,
+				getCompressedSize(zipEntries),
+				buffer == null ? 0 : buffer.remaining(),
+				System.nanoTime() - start);
+	}
+	
+	/**
+	 * Reports that every region has been read and assembled into a ROM
+	 * set.
+	 * 
+	 * @param start The time that the first read started at.
+	 */
+	final void assembled(final long start) {
+		if (!enabled) return;
+		long nanos = System.nanoTime() - start;
+		if (recorder != null) recorder.assembled(nanos);
+		if (listener != null) listener.onROMSetAssembled(source, nanos);
+	}
+	
+	/**
+	 * Reports that an original ROM set has been imported.
+	 * 
+	 * @param pacCatalogMatch The result of the match.
+	 * @param start The time that the import started at.
+	 */
+	final void imported(
+			final PacCatalogMatch pacCatalogMatch,
+			final long start) {
+		if (!enabled) return;
+		long nanos = System.nanoTime() - start;
+		if (recorder != null) recorder.end();
+		if (listener != null)
+			listener.onROMSetImported(source, pacCatalogMatch, nanos);
+	}
+	
+	/**
+	 * Reports that a unified ROM set has been opened.
+	 * 
+	 * @param start The time that the open started at.
+	 */
+	final void opened(final long start) {
+		if (!enabled) return;
+		long nanos = System.nanoTime() - start;
+		if (recorder != null) recorder.end();
+		if (listener != null) listener.onROMSetOpened(source, nanos);
+	}
+	
+	/**
+	 * Reports that a unified ROM set has been saved.
+	 * 
+	 * @param size The amount of bytes written.
+	 * @param start The time that the save started at.
+	 */
+	final void saved(final long size, final long start) {
+		if (!enabled) return;
+		long nanos = System.nanoTime() - start;
+		if (recorder != null) {
+			recorder.saved(size);
+			recorder.end();
+		}
+		if (listener != null) listener.onROMSetSaved(source, size, nanos);
+	}
+	
+	/**
+	 * Reports that an import, open, save, or catalog detection has failed.
+	 * 
+	 * @param exception The error.
+	 */
+	final void failed(final Throwable exception) {
+		if (recorder != null) recorder.failed(exception);
+		if (listener != null) listener.onFailure(source, exception);
+	}
+	
+	/**
+	 * Sums up the compressed sizes of the entries of a region.
+	 * 
+	 * @param zipEntries The entries of the region.
+	 * @return The total compressed size, or -1 if any size is unknown.
+	 */
+	private static final long getCompressedSize(
+			final ZipEntry[] zipEntries) {
+		long compressedSize = 0;
+		for (ZipEntry zipEntry : zipEntries) {
+			// The compressed size isn't known for every archive.
+			if (zipEntry.getCompressedSize() < 0) return -1;
+			compressedSize += zipEntry.getCompressedSize();
+		}
+		return compressedSize;
+	}
+	
+	/**
+	 * Constructs an instance of the trace.
+	 * 
+	 * @param listener The listener, or null.
+	 * @param recorder The recorder of the Flight Recorder event, or null.
+	 * @param source The name of the source or destination.
+	 */
+	private PacIOTrace(
+			final PacIOListener listener,
+			final PacIORecorder recorder,
+			final String source) {
+		this.listener = listener;
+		this.recorder = recorder;
+		this.source = source;
+		this.enabled = listener != null || recorder != null;
+		this.regionNanos = enabled
+				? new AtomicLongArray(PacRegion.values().length) : null;
+	}
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * An archive that maps a ZIP file into memory and parses its central
+ * directory directly, without going through {@link java.util.zip.ZipFile}.
+ * 
+ * <p>Stored entries are handed back as read-only views of the mapped
+ * file, and deflated entries are inflated from the mapped file straight
+ * into their destination arrays. The file itself is closed as soon as it
+ * has been mapped, so the archive doesn't hold on to a file handle. Reads
+ * only work on duplicates of the mapped buffer, which means an archive can
+ * be read from several threads at once.</p>
+ * 
+ * <p>Closing the archive only stops it from being read. Java has no way
+ * to unmap a file, so the mapping stays in memory until the mapped buffer,
+ * and every view of it handed back by the archive, has been garbage
+ * collected. On some systems, the ZIP file can't be deleted or replaced
+ * until then.</p>
+ * 
+ * <p>ZIP64 files and multi-disk files aren't supported. Encrypted
+ * entries, and entries compressed with anything other than DEFLATE, are
+ * listed without a method and can't be read.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacMappedArchive implements PacArchive {
+	
+	/**
+	 * The signature of the end of central directory record.
+	 */
+	private static final int END_SIGNATURE = 0x06054b50;
+	
+	/**
+	 * The signature of a central directory file header.
+	 */
+	private static final int CENTRAL_SIGNATURE = 0x02014b50;
+	
+	/**
+	 * The signature of a local file header.
+	 */
+	private static final int LOCAL_SIGNATURE = 0x04034b50;
+	
+	/**
+	 * The size of the end of central directory record, without its
+	 * comment.
+	 */
+	private static final int END_SIZE = 22;
+	
+	/**
+	 * The size of a central directory file header, without its name,
+	 * extra field and comment.
+	 */
+	private static final int CENTRAL_SIZE = 46;
+	
+	/**
+	 * The size of a local file header, without its name and extra field.
+	 */
+	private static final int LOCAL_SIZE = 30;
+	
+	/**
+	 * The largest size of a ZIP file comment.
+	 */
+	private static final int MAX_COMMENT_SIZE = 0xFFFF;
+	
+	/**
+	 * The general purpose flag that marks an entry as encrypted.
+	 */
+	private static final int ENCRYPTED_FLAG = 0x1;
+	
+	/**
+	 * The size of a buffer used to feed compressed bytes to an inflater.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	
+	/**
+	 * Error message used when an entry is encrypted or uses an
+	 * unsupported compression method.
+	 */
+	private static final String UNSUPPORTED_MESSAGE =
+			"Unsupported entry: %s";
+	
+	/**
+	 * Error message used when the archive has already been closed.
+	 */
+	private static final String CLOSED_MESSAGE = "Archive is closed";
+	
+	/**
+	 * The whole ZIP file, usually mapped into memory.
+	 */
+	private final ByteBuffer buffer;
+	
+	/**
+	 * Every entry in the ZIP file, in the order of its central directory.
+	 */
+	private final List<ZipEntry> entries;
+	
+	/**
+	 * The entries in the ZIP file, by name.
+	 */
+	private final Map<String, ZipEntry> entriesByName;
+	
+	/**
+	 * The offsets of the local file headers of the entries, by name.
+	 */
+	private final Map<String, Long> localOffsets;
+	
+	/**
+	 * Whether the archive has been closed.
+	 */
+	private volatile boolean closed;
+	
+	@Override
+	public final List<ZipEntry> getEntries() {
+		return entries;
+	}
+	
+	@Override
+	public final ZipEntry getEntry(final String name) {
+		return entriesByName.get(name);
+	}
+	
+	@Override
+	public final InputStream getInputStream(final ZipEntry zipEntry)
+			throws IOException {
+		InputStream inputStream = new BufferInputStream(
+				getStoredBuffer(zipEntry));
+		if (zipEntry.getMethod() == ZipEntry.STORED) return inputStream;
+		Inflater inflater = new Inflater(true);
+		return new InflaterInputStream(inputStream, inflater) {
+			@Override
+			public void close() throws IOException {
+				super.close();
+				inflater.end();
+			}
+		};
+	}
+	
+	@Override
+	public final void readEntry(
+			final ZipEntry zipEntry,
+			final byte[] data,
+			final int offset) throws IOException {
+		ByteBuffer source = getStoredBuffer(zipEntry);
+		int size = (int) zipEntry.getSize();
+		// Stored entries are copied as they are.
+		if (zipEntry.getMethod() == ZipEntry.STORED) {
+			if (source.remaining() != size)
+				throw new ZipException(zipEntry.getName());
+			source.get(data, offset, size);
+			return;
+		}
+		inflate(zipEntry.getName(), source, data, offset, size);
+	}
+	
+	@Override
+	public final ByteBuffer getBuffer(final ZipEntry zipEntry)
+			throws IOException {
+		// Only stored entries can be handed back without a copy.
+		if (zipEntry.getMethod() != ZipEntry.STORED
+				|| zipEntry.getCompressedSize() != zipEntry.getSize())
+			return PacArchive.super.getBuffer(zipEntry);
+		return getStoredBuffer(zipEntry).slice().asReadOnlyBuffer();
+	}
+	
+	@Override
+	public final void close() {
+		// The mapping is released once the buffer is garbage collected.
+		closed = true;
+	}
+	
+	/**
+	 * Gets a view of the stored, possibly compressed, bytes of an entry.
+	 * 
+	 * @param zipEntry The entry to read.
+	 * @return The view of the entry's stored bytes.
+	 * @throws IOException When the archive is closed, or when the local
+	 * file header of the entry is broken.
+	 */
+	private final ByteBuffer getStoredBuffer(final ZipEntry zipEntry)
+			throws IOException {
+		if (closed) throw new IOException(CLOSED_MESSAGE);
+		Long localOffset = localOffsets.get(zipEntry.getName());
+		if (localOffset == null)
+			throw new ZipException(zipEntry.getName());
+		if (zipEntry.getMethod() == -1)
+			throw new ZipException(String.format(
+					UNSUPPORTED_MESSAGE, zipEntry.getName()));
+		ByteBuffer source = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		int position = checkOffset(localOffset, LOCAL_SIZE);
+		if (source.getInt(position) != LOCAL_SIGNATURE)
+			throw new ZipException(zipEntry.getName());
+		int nameLength = source.getShort(position + 26) & 0xFFFF;
+		int extraLength = source.getShort(position + 28) & 0xFFFF;
+		int start = checkOffset(
+				(long) position + LOCAL_SIZE + nameLength + extraLength,
+				zipEntry.getCompressedSize());
+		source.limit(start + (int) zipEntry.getCompressedSize());
+		source.position(start);
+		return source;
+	}
+	
+	/**
+	 * Inflates the bytes of a deflated entry straight into an offset of a
+	 * byte array.
+	 * 
+	 * @param name The name of the entry, used for error messages.
+	 * @param source The compressed bytes of the entry.
+	 * @param data The destination array.
+	 * @param offset The offset in the destination array.
+	 * @param size The decompressed size of the entry.
+	 * @throws IOException When the entry can't be inflated, or when the
+	 * entry doesn't match its recorded size.
+	 */
+	private static final void inflate(
+			final String name,
+			final ByteBuffer source,
+			final byte[] data,
+			final int offset,
+			final int size) throws IOException {
+		Inflater inflater = new Inflater(true);
+		byte[] input = new byte[Math.max(1,
+				Math.min(source.remaining(), BUFFER_SIZE))];
+		int written = 0;
+		try {
+			while (!inflater.finished()) {
+				if (inflater.needsInput()) {
+					// Throw an error when the entry ends too early.
+					if (!source.hasRemaining()) throw new EOFException(name);
+					int length = Math.min(input.length, source.remaining());
+					source.get(input, 0, length);
+					inflater.setInput(input, 0, length);
+				}
+				if (inflater.needsDictionary())
+					throw new ZipException(name);
+				if (written < size) {
+					written += inflater.inflate(
+							data, offset + written, size - written);
+				} else if (inflater.inflate(new byte[1]) > 0) {
+					// Throw an error when there's more than recorded.
+					throw new ZipException(name);
+				}
+			}
+		} catch (final DataFormatException exception) {
+			throw new ZipException(name + ": " + exception.getMessage());
+		} finally {
+			inflater.end();
+		}
+		if (written != size) throw new EOFException(name);
+	}
+	
+	/**
+	 * Makes sure a range of bytes is inside of the ZIP file.
+	 * 
+	 * @param offset The offset of the range.
+	 * @param length The length of the range.
+	 * @return The offset as an integer.
+	 * @throws ZipException When the range goes outside of the ZIP file.
+	 */
+	private final int checkOffset(final long offset, final long length)
+			throws ZipException {
+		if (offset < 0 || length < 0 || offset + length > buffer.limit())
+			throw new ZipException("Invalid ZIP file offset: " + offset);
+		return (int) offset;
+	}
+	
+	/**
+	 * Converts an MS-DOS date and time into a Java time.
+	 * 
+	 * @param dosTime The MS-DOS date and time.
+	 * @return The Java time in milliseconds.
+	 */
+	private static final long toJavaTime(final long dosTime) {
+		try {
+			LocalDateTime dateTime = LocalDateTime.of(
+					(int) ((dosTime >> 25) & 0x7F) + 1980,
+					(int) ((dosTime >> 21) & 0x0F),
+					(int) ((dosTime >> 16) & 0x1F),
+					(int) ((dosTime >> 11) & 0x1F),
+					(int) ((dosTime >> 5) & 0x3F),
+					(int) ((dosTime << 1) & 0x3E));
+			return dateTime.atZone(ZoneId.systemDefault()).toInstant()
+					.toEpochMilli();
+		} catch (final DateTimeException exception) {
+			return -1;
+		}
+	}
+	
+	/**
+	 * Maps a file into memory.
+	 * 
+	 * @param path The file path to the ZIP file.
+	 * @return The mapped file.
+	 * @throws IOException When mapping the file fails.
+	 */
+	private static final ByteBuffer map(final String path)
+			throws IOException {
+		try (FileChannel channel = FileChannel.open(
+				Paths.get(path), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE)
+				throw new ZipException("ZIP file is too large: " + path);
+			return channel.map(
+					FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+	
+	/**
+	 * An input stream that reads the remaining bytes of a buffer.
+	 */
+	private static final class BufferInputStream extends InputStream {
+		
+		/**
+		 * The buffer to read.
+		 */
+		private final ByteBuffer source;
+		
+		@Override
+		public final int read() {
+			return source.hasRemaining() ? source.get() & 0xFF : -1;
+		}
+		
+		@Override
+		public final int read(
+				final byte[] data,
+				final int offset,
+				final int length) {
+			if (length == 0) return 0;
+			if (!source.hasRemaining()) return -1;
+			int count = Math.min(length, source.remaining());
+			source.get(data, offset, count);
+			return count;
+		}
+		
+		@Override
+		public final int available() {
+			return source.remaining();
+		}
+		
+		/**
+		 * Constructs an instance of the input stream.
+		 * 
+		 * @param source The buffer to read.
+		 */
+		private BufferInputStream(final ByteBuffer source) {
+			this.source = source;
+		}
+	}
+	
+	/**
+	 * Constructs an instance of the archive by mapping a ZIP file into
+	 * memory.
+	 * 
+	 * @param path The file path to the ZIP file.
+	 * @throws IOException When mapping or parsing the ZIP file fails.
+	 */
+	PacMappedArchive(final String path) throws IOException {
+		this(map(path));
+	}
+	
+	/**
+	 * Constructs an instance of the archive from a whole ZIP file in a
+	 * buffer.
+	 * 
+	 * @param buffer The whole ZIP file, from its position to its limit.
+	 * @throws IOException When parsing the ZIP file fails.
+	 */
+	PacMappedArchive(final ByteBuffer buffer) throws IOException {
+		this.buffer = buffer.slice();
+		ByteBuffer source = this.buffer.duplicate()
+				.order(ByteOrder.LITTLE_ENDIAN);
+		int limit = source.limit();
+		int end = limit - END_SIZE;
+		int lowest = Math.max(0, end - MAX_COMMENT_SIZE);
+		// Look for the end of central directory record from the back.
+		while (end >= lowest && source.getInt(end) != END_SIGNATURE) end--;
+		if (end < lowest)
+			throw new ZipException("End of central directory not found");
+		int entryCount = source.getShort(end + 10) & 0xFFFF;
+		long centralSize = source.getInt(end + 12) & 0xFFFFFFFFL;
+		long centralOffset = source.getInt(end + 16) & 0xFFFFFFFFL;
+		if (source.getShort(end + 4) != 0 || source.getShort(end + 6) != 0)
+			throw new ZipException("Multi-disk ZIP files aren't supported");
+		if (entryCount == 0xFFFF || centralOffset == 0xFFFFFFFFL)
+			throw new ZipException("ZIP64 files aren't supported");
+		// Allow for bytes in front of the ZIP file, like ZipFile does.
+		long base = end - centralSize - centralOffset;
+		int position = checkOffset(base + centralOffset, centralSize);
+		List<ZipEntry> entries = new ArrayList<>(entryCount);
+		Map<String, ZipEntry> entriesByName = new HashMap<>();
+		Map<String, Long> localOffsets = new HashMap<>();
+		for (int index = 0; index < entryCount; index++) {
+			checkOffset(position, CENTRAL_SIZE);
+			if (source.getInt(position) != CENTRAL_SIGNATURE)
+				throw new ZipException("Invalid central directory");
+			int flags = source.getShort(position + 8) & 0xFFFF;
+			int method = source.getShort(position + 10) & 0xFFFF;
+			int nameLength = source.getShort(position + 28) & 0xFFFF;
+			int extraLength = source.getShort(position + 30) & 0xFFFF;
+			int commentLength = source.getShort(position + 32) & 0xFFFF;
+			byte[] name = new byte[nameLength];
+			checkOffset(position + CENTRAL_SIZE, nameLength);
+			source.position(position + CENTRAL_SIZE);
+			source.get(name);
+			ZipEntry zipEntry =
+					new ZipEntry(new String(name, StandardCharsets.UTF_8));
+			// Unsupported entries are left without a method.
+			if ((flags & ENCRYPTED_FLAG) == 0
+					&& (method == ZipEntry.STORED
+							|| method == ZipEntry.DEFLATED))
+				zipEntry.setMethod(method);
+			long time = toJavaTime(source.getInt(position + 12) & 0xFFFFFFFFL);
+			if (time != -1) zipEntry.setTime(time);
+			zipEntry.setCrc(source.getInt(position + 16) & 0xFFFFFFFFL);
+			zipEntry.setCompressedSize(
+					source.getInt(position + 20) & 0xFFFFFFFFL);
+			zipEntry.setSize(source.getInt(position + 24) & 0xFFFFFFFFL);
+			entries.add(zipEntry);
+			// The first entry wins when there are duplicate names.
+			if (!entriesByName.containsKey(zipEntry.getName())) {
+				entriesByName.put(zipEntry.getName(), zipEntry);
+				localOffsets.put(zipEntry.getName(), base
+						+ (source.getInt(position + 42) & 0xFFFFFFFFL));
+			}
+			position += CENTRAL_SIZE + nameLength + extraLength
+					+ commentLength;
+		}
+		this.entries = Collections.unmodifiableList(entries);
+		this.entriesByName = entriesByName;
+		this.localOffsets = localOffsets;
+	}
+}
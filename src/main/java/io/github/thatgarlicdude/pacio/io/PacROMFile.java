@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * A class used to read and write unified ROM sets in the {@code .pacrom}
+ * format.
+ * 
+ * <p>A {@code .pacrom} file starts with a header, in little-endian byte
+ * order:</p>
+ * 
+ * <ul>
+ * <li>The 8 bytes of the {@link #MAGIC magic number}.</li>
+ * <li>The version of the format, as 2 bytes.</li>
+ * <li>The amount of regions, as 2 bytes.</li>
+ * <li>The offset of the bytes of the first region, as 4 bytes.</li>
+ * <li>For each region in the order of {@link PacRegion}, its offset,
+ * length, and CRC32 checksum, as 4 bytes each. A region that the ROM
+ * set doesn't have has an offset and length of 0.</li>
+ * </ul>
+ * 
+ * <p>The header is padded to a multiple of {@link #DATA_ALIGNMENT}, and
+ * is followed by the raw bytes of every region back to back, so the
+ * regions make up a slab as they are in the file.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacROMFile {
+	
+	/**
+	 * The magic number at the start of every {@code .pacrom} file.
+	 */
+	static final byte[] MAGIC =
+			"PACROM\u001A\n".getBytes(StandardCharsets.US_ASCII);
+	
+	/**
+	 * The version of the format that is read and written.
+	 */
+	static final int VERSION = 1;
+	
+	/**
+	 * The size of the fixed part of the header, before the region table.
+	 */
+	private static final int FIXED_SIZE = 16;
+	
+	/**
+	 * The size of each entry in the region table.
+	 */
+	private static final int REGION_SIZE = 12;
+	
+	/**
+	 * The alignment of the bytes of the first region.
+	 */
+	static final int DATA_ALIGNMENT = 64;
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacROMFile can't be instantiated";
+	
+	/**
+	 * Error message used when a file isn't a {@code .pacrom} file.
+	 */
+	private static final String MAGIC_MESSAGE = "Not a .pacrom file: %s";
+	
+	/**
+	 * Error message used when the version of a file isn't supported.
+	 */
+	private static final String VERSION_MESSAGE =
+			"Unsupported .pacrom version %d: %s";
+	
+	/**
+	 * Error message used when the header of a file is invalid.
+	 */
+	private static final String HEADER_MESSAGE =
+			"Invalid .pacrom header: %s";
+	
+	/**
+	 * Error message used when a region doesn't match its checksum.
+	 */
+	private static final String CRC_MESSAGE =
+			"CRC mismatch in the %s region: %s";
+	
+	/**
+	 * Error message used when a file is too large to be read.
+	 */
+	private static final String TOO_LARGE_MESSAGE =
+			".pacrom file is too large: %s";
+	
+	/**
+	 * Checks if a file starts with the magic number of the format.
+	 * 
+	 * @param pacSource The source of the file.
+	 * @return True if the file is a {@code .pacrom} file.
+	 * @throws IOException When reading the file fails.
+	 */
+	static final boolean isPacROMFile(final PacSource pacSource)
+			throws IOException {
+		return pacSource.startsWith(MAGIC);
+	}
+	
+	/**
+	 * Reads a {@code .pacrom} file from its source.
+	 * 
+	 * <p>With {@link PacArchiveType#MAPPED}, the file is mapped into
+	 * memory, and the regions are slices of the mapped file. Their
+	 * checksums aren't checked, so that none of their pages are read
+	 * until they're used. Otherwise, the whole file is read into one heap
+	 * array with a single read, and the checksum of every region is
+	 * checked.</p>
+	 * 
+	 * <p>Only the regions requested by the options are part of the ROM
+	 * set, and only their checksums are checked.</p>
+	 * 
+	 * @param pacSource The source of the file.
+	 * @param options The options used when opening the ROM set.
+	 * @return The ROM set backed by the bytes of the file.
+	 * @throws IOException When reading the file fails, or when the file
+	 * is invalid.
+	 */
+	static final PacROMSet read(
+			final PacSource pacSource,
+			final PacROMSetOptions options) throws IOException {
+		boolean mapped = options.getArchiveType() == PacArchiveType.MAPPED;
+		return read(pacSource.read(mapped), pacSource.getName(),
+				options.getRegions(), !mapped, options.isSlabLayout());
+	}
+	
+	/**
+	 * Reads a {@code .pacrom} file out of a buffer, without copying any of
+	 * its regions.
+	 * 
+	 * @param file The bytes of the file, from its position to its limit.
+	 * @param name The name of the file, used in error messages.
+	 * @param pacRegions The regions that are part of the ROM set.
+	 * @param verify True if the checksum of every region is checked.
+	 * @param slabLayout True if the ROM set should have a slab layout.
+	 * @return The ROM set backed by the buffer.
+	 * @throws IOException When the file is invalid.
+	 */
+	static final PacROMSet read(
+			final ByteBuffer file,
+			final String name,
+			final Set<PacRegion> pacRegions,
+			final boolean verify,
+			final boolean slabLayout) throws IOException {
+		ByteBuffer header = file.slice().order(ByteOrder.LITTLE_ENDIAN);
+		int regionCount = PacRegion.values().length;
+		// Throw an error when the file doesn't start with the magic number.
+		if (header.remaining() < FIXED_SIZE)
+			throw new IOException(String.format(MAGIC_MESSAGE, name));
+		byte[] magic = new byte[MAGIC.length];
+		header.get(magic);
+		if (!ByteBuffer.wrap(MAGIC).equals(ByteBuffer.wrap(magic)))
+			throw new IOException(String.format(MAGIC_MESSAGE, name));
+		int version = header.getShort() & 0xFFFF;
+		if (version != VERSION)
+			throw new IOException(String.format(
+					VERSION_MESSAGE, version, name));
+		int dataOffset = header.getInt(12);
+		// Throw an error when the region table doesn't fit in the header.
+		if ((header.getShort(10) & 0xFFFF) != regionCount
+				|| dataOffset < FIXED_SIZE + regionCount * REGION_SIZE
+				|| dataOffset > header.capacity())
+			throw new IOException(String.format(HEADER_MESSAGE, name));
+		int[] offsets = new int[regionCount];
+		int[] lengths = new int[regionCount];
+		ByteBuffer[] buffers = new ByteBuffer[regionCount];
+		boolean contiguous = true;
+		header.position(FIXED_SIZE);
+		for (int region = 0; region < regionCount; region++) {
+			long offset = header.getInt() & 0xFFFFFFFFL;
+			long length = header.getInt() & 0xFFFFFFFFL;
+			long crc = header.getInt() & 0xFFFFFFFFL;
+			// Skip the regions that the ROM set doesn't have, or that
+			// aren't requested, which also means the file can't be used as
+			// the slab as it is.
+			if ((offset == 0 && length == 0)
+					|| !pacRegions.contains(PacRegion.values()[region])) {
+				contiguous = false;
+				continue;
+			}
+			// Throw an error when the region isn't in the file.
+			if (offset < dataOffset
+					|| offset + length > header.capacity())
+				throw new IOException(String.format(HEADER_MESSAGE, name));
+			offsets[region] = (int) offset;
+			lengths[region] = (int) length;
+			buffers[region] = slice(file, offsets[region], lengths[region]);
+			if (verify && crc32(buffers[region]) != crc)
+				throw new IOException(String.format(CRC_MESSAGE,
+						PacRegion.values()[region], name));
+			if (region > 0 && offset
+					!= offsets[region - 1] + lengths[region - 1])
+				contiguous = false;
+		}
+		if (!slabLayout)
+			return new PacROMSet(buffers[0], buffers[1], buffers[2],
+					buffers[3], buffers[4], buffers[5]);
+		// The regions are already a slab when they're back to back.
+		if (!contiguous)
+			return new PacROMSet(buffers[0], buffers[1], buffers[2],
+					buffers[3], buffers[4], buffers[5]).toSlab();
+		ByteBuffer slab = file.duplicate();
+		slab.position(file.position() + offsets[0]);
+		return new PacROMSet(slab.slice(), lengths);
+	}
+	
+	/**
+	 * Writes a ROM set to a channel as a {@code .pacrom} file, with one
+	 * gathering write of the header and every region when the channel
+	 * supports it.
+	 * 
+	 * @param pacROMSet The unified ROM set.
+	 * @param channel The channel that the file is written to.
+	 * @return The amount of bytes written.
+	 * @throws IOException When writing the file fails, or when the ROM
+	 * set is too large for the format.
+	 */
+	static final long write(
+			final PacROMSet pacROMSet,
+			final WritableByteChannel channel) throws IOException {
+		PacRegion[] regions = PacRegion.values();
+		int tableEnd = FIXED_SIZE + regions.length * REGION_SIZE;
+		int dataOffset = (tableEnd + DATA_ALIGNMENT - 1)
+				/ DATA_ALIGNMENT * DATA_ALIGNMENT;
+		ByteBuffer header = ByteBuffer.allocate(dataOffset)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		header.put(MAGIC);
+		header.putShort((short) VERSION);
+		header.putShort((short) regions.length);
+		header.putInt(dataOffset);
+		ByteBuffer[] buffers = new ByteBuffer[regions.length + 1];
+		buffers[0] = header;
+		long offset = dataOffset;
+		for (PacRegion region : regions) {
+			ByteBuffer buffer = pacROMSet.getBuffer(region);
+			if (buffer == null) {
+				header.putInt(0).putInt(0).putInt(0);
+				buffers[region.ordinal() + 1] = ByteBuffer.allocate(0);
+				continue;
+			}
+			header.putInt((int) offset);
+			header.putInt(buffer.remaining());
+			header.putInt((int) crc32(buffer));
+			buffers[region.ordinal() + 1] = buffer;
+			offset += buffer.remaining();
+		}
+		// Throw an error when the file couldn't be read back.
+		if (offset > Integer.MAX_VALUE)
+			throw new IOException(String.format(
+					TOO_LARGE_MESSAGE, "ROM set"));
+		header.clear();
+		if (channel instanceof GatheringByteChannel) {
+			long remaining = offset;
+			while (remaining > 0) {
+				remaining -= ((GatheringByteChannel) channel).write(buffers);
+			}
+			return offset;
+		}
+		for (ByteBuffer buffer : buffers) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+		return offset;
+	}
+	
+	/**
+	 * Slices part of a buffer, relative to its position.
+	 * 
+	 * @param buffer The buffer.
+	 * @param offset The offset of the slice.
+	 * @param length The length of the slice.
+	 * @return The slice.
+	 */
+	private static final ByteBuffer slice(
+			final ByteBuffer buffer,
+			final int offset,
+			final int length) {
+		ByteBuffer slice = buffer.duplicate();
+		slice.position(buffer.position() + offset);
+		slice.limit(buffer.position() + offset + length);
+		return slice.slice();
+	}
+	
+	/**
+	 * Computes the CRC32 checksum of a buffer, from its position to its
+	 * limit.
+	 * 
+	 * @param data The buffer.
+	 * @return The CRC32 checksum.
+	 */
+	private static final long crc32(final ByteBuffer data) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(data.duplicate());
+		return crc32.getValue();
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacROMFile() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
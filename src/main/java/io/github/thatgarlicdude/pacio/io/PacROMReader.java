@@ -0,0 +1,541 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacROMChip;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * A helper class used to read archive entries into byte arrays.
+ * 
+ * <p>The sizes of the entries are summed up before anything is read, so
+ * that the destination array can be allocated once at its final size and
+ * each entry can be read straight into its offset. When a size isn't
+ * known, it falls back to reading the entries through a growing
+ * buffer.</p>
+ * 
+ * <p>Since every entry has its own place in the destination array, the
+ * entries can also be read in parallel on an executor, and they still end
+ * up in the order of the catalog.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacROMReader {
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacROMReader can't be instantiated";
+	
+	/**
+	 * Error message used when an entry doesn't match its recorded size.
+	 */
+	private static final String SIZE_MISMATCH_MESSAGE =
+			"Entry size mismatch: %s";
+	
+	/**
+	 * The size of a buffer used when the entry sizes aren't known.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	
+	/**
+	 * The largest array size that can be safely allocated.
+	 */
+	private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	
+	/**
+	 * The most that DEFLATE can compress any data, as the ratio of the
+	 * decompressed size to the compressed size.
+	 */
+	private static final long MAX_DEFLATE_RATIO = 1032;
+	
+	/**
+	 * Looks up a list of entries in the ZIP file.
+	 * 
+	 * @param pacArchive The archive that will be used to access the
+	 * entries.
+	 * @param names The names of the entries.
+	 * @return The entries, in the same order as the names.
+	 * @throws FileNotFoundException When an entry isn't found.
+	 */
+	static final ZipEntry[] getEntries(
+			final PacArchive pacArchive,
+			final String... names) throws FileNotFoundException {
+		ZipEntry[] zipEntries = new ZipEntry[names.length];
+		for (int index = 0; index < names.length; index++) {
+			zipEntries[index] = pacArchive.getEntry(names[index]);
+			// Throw an error when an entry isn't found.
+			if (zipEntries[index] == null)
+				throw new FileNotFoundException(names[index]);
+		}
+		return zipEntries;
+	}
+	
+	/**
+	 * Checks the recorded sizes of a list of entries against the sizes of
+	 * the ROM chips they were matched to, so that a ZIP file can't make
+	 * the reader allocate more than the ROM set needs.
+	 * 
+	 * <p>The sizes come from the central directory, and are checked before
+	 * any array is allocated for them. ROM chips and entries without a
+	 * known size aren't checked.</p>
+	 * 
+	 * @param zipEntries The entries to check.
+	 * @param pacROMChips The ROM chips of the entries, in the same order.
+	 * @throws ZipException When an entry doesn't have the size of its ROM
+	 * chip.
+	 */
+	static final void checkSizes(
+			final ZipEntry[] zipEntries,
+			final PacROMChip[] pacROMChips) throws ZipException {
+		for (int index = 0; index < zipEntries.length; index++) {
+			long expectedSize = pacROMChips[index].getSize();
+			long size = zipEntries[index].getSize();
+			if (expectedSize != PacROMChip.UNKNOWN && size >= 0
+					&& size != expectedSize)
+				throw new ZipException(String.format(
+						SIZE_MISMATCH_MESSAGE, zipEntries[index].getName()));
+		}
+	}
+	
+	/**
+	 * Checks if the recorded size of an entry can be trusted enough to
+	 * allocate an array of that size before reading the entry.
+	 * 
+	 * <p>The size comes from the central directory, so a broken or
+	 * crafted ZIP file can record any size at all. It's only trusted when
+	 * the compressed size allows it: a STORED entry must have the same
+	 * size as it's stored with, and a DEFLATED entry can't be more than
+	 * 1032 times larger, which is the most that DEFLATE can compress
+	 * anything.</p>
+	 * 
+	 * @param zipEntry The entry to check.
+	 * @return True if the size is known and possible.
+	 */
+	static final boolean isSizeTrusted(final ZipEntry zipEntry) {
+		long size = zipEntry.getSize();
+		long compressedSize = zipEntry.getCompressedSize();
+		if (size < 0 || compressedSize < 0) return false;
+		switch (zipEntry.getMethod()) {
+		case ZipEntry.STORED:
+			return size == compressedSize;
+		case ZipEntry.DEFLATED:
+			return size <= compressedSize * MAX_DEFLATE_RATIO;
+		default:
+			return false;
+		}
+	}
+	
+	/**
+	 * Sums up the uncompressed sizes of a list of entries.
+	 * 
+	 * @param zipEntries The entries to sum up.
+	 * @return The total size, or -1 if any size is unknown or can't be
+	 * {@link #isSizeTrusted trusted}, or the total is too large for a
+	 * single array.
+	 */
+	static final long getTotalSize(final ZipEntry... zipEntries) {
+		long totalSize = 0;
+		for (ZipEntry zipEntry : zipEntries) {
+			// Read the entries into a growing buffer instead when a size
+			// can't be trusted.
+			if (!isSizeTrusted(zipEntry)) return -1;
+			long size = zipEntry.getSize();
+			totalSize += size;
+			if (totalSize > MAX_ARRAY_SIZE) return -1;
+		}
+		return totalSize;
+	}
+	
+	/**
+	 * Reads a list of entries into a single byte array, in order.
+	 * 
+	 * @param pacArchive The archive that will be used to access the
+	 * entries.
+	 * @param zipEntries The entries to read.
+	 * @return A single byte array that has all the byte data from the
+	 * entries.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	static final byte[] readEntries(
+			final PacArchive pacArchive,
+			final ZipEntry... zipEntries) throws IOException {
+		long totalSize = getTotalSize(zipEntries);
+		// Fall back to a growing buffer when a size isn't known.
+		if (totalSize < 0) return streamEntries(pacArchive, zipEntries);
+		byte[] data = new byte[(int) totalSize];
+		readEntries(pacArchive, data, 0, zipEntries);
+		return data;
+	}
+	
+	/**
+	 * Reads the entries of every region into their own arrays, on an
+	 * executor if there is one.
+	 * 
+	 * @param pacArchive The archive that will be used to access the
+	 * entries.
+	 * @param executor The executor that reads the entries in parallel, or
+	 * null to read them one after another on the calling thread.
+	 * @param trace The trace that the time taken by each region is added
+	 * to.
+	 * @param regionEntries The entries of each region, indexed by
+	 * {@link io.github.thatgarlicdude.pacio.catalog.PacRegion PacRegion},
+	 * or null for the regions that aren't read.
+	 * @return The ROM set made of the regions.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	static final PacROMSet readROMSet(
+			final PacArchive pacArchive,
+			final Executor executor,
+			final PacIOTrace trace,
+			final ZipEntry[]... regionEntries) throws IOException {
+		byte[][] regionData = new byte[regionEntries.length][];
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		AtomicBoolean cancelled = new AtomicBoolean();
+		for (int region = 0; region < regionEntries.length; region++) {
+			ZipEntry[] zipEntries = regionEntries[region];
+			if (zipEntries == null) continue;
+			long size = getTotalSize(zipEntries);
+			int index = region;
+			// Stream the whole region in one task when a size isn't known.
+			if (size < 0) {
+				futures.add(submit(executor, cancelled, trace, region, () ->
+						regionData[index] =
+								streamEntries(pacArchive, zipEntries)));
+				continue;
+			}
+			regionData[region] = new byte[(int) size];
+			submitEntries(futures, executor, cancelled, trace, region,
+					pacArchive, regionData[region], 0, zipEntries);
+		}
+		await(futures, cancelled);
+		return new PacROMSet(regionData[0], regionData[1], regionData[2],
+				regionData[3], regionData[4], regionData[5]);
+	}
+	
+	/**
+	 * Reads the entries of every region into a single slab, so that the
+	 * whole ROM set takes one allocation.
+	 * 
+	 * @param pacArchive The archive that will be used to access the
+	 * entries.
+	 * @param executor The executor that reads the entries in parallel, or
+	 * null to read them one after another on the calling thread.
+	 * @param trace The trace that the time taken by each region is added
+	 * to.
+	 * @param regionEntries The entries of each region, indexed by
+	 * {@link io.github.thatgarlicdude.pacio.catalog.PacRegion PacRegion},
+	 * or null for the regions that aren't read.
+	 * @return The ROM set backed by the slab.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	static final PacROMSet readSlab(
+			final PacArchive pacArchive,
+			final Executor executor,
+			final PacIOTrace trace,
+			final ZipEntry[]... regionEntries) throws IOException {
+		int[] lengths = new int[regionEntries.length];
+		long totalSize = 0;
+		for (int region = 0; region < regionEntries.length; region++) {
+			// Leave the regions that aren't read out of the slab.
+			if (regionEntries[region] == null) {
+				lengths[region] = -1;
+				continue;
+			}
+			long size = getTotalSize(regionEntries[region]);
+			if (size < 0 || totalSize + size > MAX_ARRAY_SIZE) {
+				totalSize = -1;
+				break;
+			}
+			lengths[region] = (int) size;
+			totalSize += size;
+		}
+		// Fall back to reading each region on its own when a size isn't
+		// known.
+		if (totalSize < 0)
+			return readROMSet(pacArchive, executor, trace, regionEntries)
+					.toSlab();
+		byte[] data = new byte[(int) totalSize];
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		AtomicBoolean cancelled = new AtomicBoolean();
+		int offset = 0;
+		for (int region = 0; region < regionEntries.length; region++) {
+			if (regionEntries[region] == null) continue;
+			submitEntries(futures, executor, cancelled, trace, region,
+					pacArchive, data, offset, regionEntries[region]);
+			offset += lengths[region];
+		}
+		await(futures, cancelled);
+		return new PacROMSet(ByteBuffer.wrap(data), lengths);
+	}
+	
+	/**
+	 * Submits a task for each entry in a list, which reads the entry into
+	 * a byte array at its offset.
+	 * 
+	 * @param futures The list that the tasks are added to.
+	 * @param executor The executor that runs the tasks, or null to run
+	 * them on the calling thread.
+	 * @param cancelled The flag that stops the tasks that haven't started
+	 * yet.
+	 * @param trace The trace that the time taken by each task is added
+	 * to.
+	 * @param region The index of the region that the entries belong to.
+	 * @param pacArchive The archive that will be used to access the
+	 * entries.
+	 * @param data The destination array, which must be large enough for
+	 * every entry.
+	 * @param offset The offset of the first entry in the destination
+	 * array.
+	 * @param zipEntries The entries to read.
+	 */
+	private static final void submitEntries(
+			final List<CompletableFuture<Void>> futures,
+			final Executor executor,
+			final AtomicBoolean cancelled,
+			final PacIOTrace trace,
+			final int region,
+			final PacArchive pacArchive,
+			final byte[] data,
+			final int offset,
+			final ZipEntry... zipEntries) {
+		int position = offset;
+		for (ZipEntry zipEntry : zipEntries) {
+			int entryOffset = position;
+			futures.add(submit(executor, cancelled, trace, region, () ->
+					pacArchive.readEntry(zipEntry, data, entryOffset)));
+			position += (int) zipEntry.getSize();
+		}
+	}
+	
+	/**
+	 * Submits a task that reads the ZIP file.
+	 * 
+	 * @param executor The executor that runs the task, or null to run it
+	 * on the calling thread.
+	 * @param cancelled The flag that stops the task if it hasn't started
+	 * yet.
+	 * @param trace The trace that the time taken by the task is added to.
+	 * @param region The index of the region that the task reads.
+	 * @param task The task to run.
+	 * @return The future of the task.
+	 */
+	private static final CompletableFuture<Void> submit(
+			final Executor executor,
+			final AtomicBoolean cancelled,
+			final PacIOTrace trace,
+			final int region,
+			final ReadTask task) {
+		Runnable runnable = () -> {
+			// Skip the task when the caller stopped waiting before it
+			// started.
+			if (cancelled.get()) throw new CancellationException();
+			try {
+				long start = trace.start();
+				task.run();
+				trace.regionTime(region, start);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		// Run the task right away when there's no executor.
+		if (executor == null) {
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			try {
+				runnable.run();
+				future.complete(null);
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			return future;
+		}
+		return CompletableFuture.runAsync(runnable, executor);
+	}
+	
+	/**
+	 * Waits for every task to finish, even when some of them fail, so
+	 * that nothing is still reading the archive once it's closed.
+	 * 
+	 * <p>When the calling thread is interrupted, the tasks that haven't
+	 * started are cancelled, and the ones that are running are waited
+	 * for without being interrupted, before the interrupt is rethrown.</p>
+	 * 
+	 * @param futures The futures of the tasks.
+	 * @param cancelled The flag that stops the tasks that haven't started
+	 * yet.
+	 * @throws IOException When one of the tasks fails to read the ZIP
+	 * file, or when the calling thread is interrupted.
+	 */
+	private static final void await(
+			final List<CompletableFuture<Void>> futures,
+			final AtomicBoolean cancelled) throws IOException {
+		CompletableFuture<Void> all = CompletableFuture.allOf(
+				futures.toArray(new CompletableFuture<?>[0]));
+		try {
+			all.get();
+		} catch (InterruptedException e) {
+			cancelled.set(true);
+			// Let the running tasks finish, since joining can't be
+			// interrupted.
+			try {
+				all.join();
+			} catch (CompletionException | CancellationException ignored) {
+				// The interrupt is reported instead of the failure.
+			}
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof UncheckedIOException)
+				throw ((UncheckedIOException) cause).getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw new IOException(cause);
+		}
+	}
+	
+	/**
+	 * Reads a list of entries into a byte array at an offset, in order.
+	 * 
+	 * @param pacArchive The archive that will be used to access the
+	 * entries.
+	 * @param data The destination array, which must be large enough for
+	 * every entry.
+	 * @param offset The offset in the destination array.
+	 * @param zipEntries The entries to read.
+	 * @return The offset right after the last entry.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	private static final int readEntries(
+			final PacArchive pacArchive,
+			final byte[] data,
+			final int offset,
+			final ZipEntry... zipEntries) throws IOException {
+		int position = offset;
+		for (ZipEntry zipEntry : zipEntries) {
+			pacArchive.readEntry(zipEntry, data, position);
+			position += (int) zipEntry.getSize();
+		}
+		return position;
+	}
+	
+	/**
+	 * Reads exactly the given amount of bytes from a stream, making sure
+	 * there's nothing left in it afterwards.
+	 * 
+	 * @param inputStream The stream to read.
+	 * @param name The name of the entry, used for error messages.
+	 * @param data The destination array.
+	 * @param offset The offset in the destination array.
+	 * @param length The amount of bytes to read.
+	 * @throws IOException When reading the stream fails, or when the
+	 * stream is shorter or longer than expected.
+	 */
+	static final void readFully(
+			final InputStream inputStream,
+			final String name,
+			final byte[] data,
+			final int offset,
+			final int length) throws IOException {
+		int position = offset;
+		int remaining = length;
+		while (remaining > 0) {
+			int bytesRead = inputStream.read(data, position, remaining);
+			// Throw an error when the entry ends too early.
+			if (bytesRead == -1) throw new EOFException(name);
+			position += bytesRead;
+			remaining -= bytesRead;
+		}
+		// Throw an error when the entry has more bytes than recorded.
+		if (inputStream.read() != -1)
+			throw new ZipException(String.format(
+					SIZE_MISMATCH_MESSAGE, name));
+	}
+	
+	/**
+	 * Reads a list of entries through a growing buffer, which is used
+	 * when the sizes of the entries aren't known.
+	 * 
+	 * @param pacArchive The archive that will be used to access the
+	 * entries.
+	 * @param zipEntries The entries to read.
+	 * @return A single byte array that has all the byte data from the
+	 * entries.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	private static final byte[] streamEntries(
+			final PacArchive pacArchive,
+			final ZipEntry... zipEntries) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int bytesRead = 0;
+		for (ZipEntry zipEntry : zipEntries) {
+			try (InputStream inputStream =
+					pacArchive.getInputStream(zipEntry)) {
+				while ((bytesRead = inputStream.read(buffer)) != -1) {
+					stream.write(buffer, 0, bytesRead);
+				}
+			}
+		}
+		return stream.toByteArray();
+	}
+	
+	/**
+	 * A task that reads the ZIP file.
+	 */
+	@FunctionalInterface
+	private interface ReadTask {
+		
+		/**
+		 * Runs the task.
+		 * 
+		 * @throws IOException When reading the ZIP file fails.
+		 */
+		void run() throws IOException;
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacROMReader() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
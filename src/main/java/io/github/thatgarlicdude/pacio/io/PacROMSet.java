@@ -16,6 +16,15 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * A class that represents a unified <i>Pac-Man</i> ROM set.
  * 
@@ -27,182 +36,674 @@ package io.github.thatgarlicdude.pacio.io;
  * io.github.thatgarlicdude.pacio.io.PacROMSetImporter PacROMSetImporter}
  * or {@link io.github.thatgarlicdude.pacio.io.PacROMSetOpener
  * PacROMSetOpener} classes. Those bytes are stored and concatenated
- * together into categorized arrays, such as {@link #programData} from the
+ * together into categorized arrays, such as the program data from the
  * <i>Pac-Man</i> PCB's multiple program ROMs. In other words, it's
  * basically a digital, editable ROM set that has everything it needs to
  * represent <i>Pac-Man</i> as a game.</p>
  * 
- * @version 1.0.0-alpha
+ * <p>Each region can also be read through a read-only {@link ByteBuffer}
+ * view, using methods like {@link #getProgramBuffer}. Views don't copy
+ * anything, so many threads can read the same ROM set without defensive
+ * copies. A ROM set can also be backed by buffers instead of arrays,
+ * which lets it live in direct or mapped memory outside of the heap. In
+ * that case, a region is only copied into a byte array the first time
+ * one of the {@code getXxxData} methods asks for it.</p>
+ * 
+ * <p>A ROM set can also have a <b>slab</b> layout, where every region is
+ * held back to back in one buffer with a table of offsets, instead of
+ * being allocated separately. This takes one allocation per ROM set and
+ * keeps all of its bytes close together, which helps when holding many
+ * ROM sets in memory. Its regions should be read through their buffer
+ * views, since the {@code getXxxData} methods copy each region out of
+ * the slab. See the {@link #fromSlab} and {@link #toSlab} methods.</p>
+ * 
+ * <p>A ROM set opened with the {@link PacROMSetOptions#withLazyLoading
+ * withLazyLoading} option is <b>lazy</b>: it keeps its archive open, and
+ * only loads each region the first time one of its getters is called.
+ * Each region is loaded once, even when many threads ask for it at the
+ * same time, and the archive is closed as soon as every region has been
+ * loaded. A lazy ROM set should be {@link #close closed} when it's no
+ * longer used, in case some of its regions never are. Failing to load a
+ * region throws an {@link UncheckedIOException}, and the region is
+ * loaded again the next time it's asked for. Methods that look at every
+ * region, such as {@link #toSlab}, load all of them.</p>
+ * 
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
-public final class PacROMSet {
+public final class PacROMSet implements Closeable {
 	
 	/**
-	 * The unified byte data of the program ROMs.
-	 * 
-	 * <p>This is the data loaded from multiple program ROMs in the
-	 * <i>Pac-Man</i> and <i>Puck-Man</i> PCBs. They contain instructions
-	 * for the Zilog Z80, and some static data like music, sound effects,
-	 * mazes, and text.</p>
+	 * Error message used when the lengths of a slab are invalid.
 	 */
-	private final byte[] programData;
+	private static final String SLAB_LENGTHS_MESSAGE =
+			"Invalid slab lengths for %d regions";
 	
 	/**
-	 * The unified byte data of the graphic ROMs.
-	 * 
-	 * <p>This is the data loaded from multiple graphic ROMs. The
-	 * <i>Pac-Man</i> ROM set has two of these ROMs being <b>5e</b> and
-	 * <b>5f</b>, while <i>Puck-Man</i> has four being <b>5e</b>,
-	 * <b>5h</b>, <b>5f</b>, and <b>5j</b>. The first half should be the
-	 * tile data while the second is the sprite data. Tiles are 8x8 in
-	 * size, while sprites are 16x16. Each pixel should be 2 bits in
-	 * length, therefore creating four possible colors in a palette to
-	 * choose from.</p>
+	 * Error message used when the regions don't fit in a slab.
 	 */
-	private final byte[] graphicData;
+	private static final String SLAB_TOO_LARGE_MESSAGE =
+			"Regions don't fit in the slab: %d bytes";
 	
 	/**
-	 * The byte data of the color ROM.
-	 * 
-	 * <p>This is the data loaded from the <b>7f</b> ROM, which is the
-	 * <i>Pac-Man</i> PCB's one and only color ROM. The colors are
-	 * encoded into a single byte, with the first three bits being the
-	 * red bits, other three being green, and the last two being blue.</p>
+	 * Error message used when a region is used after the lazy ROM set
+	 * has been closed.
+	 */
+	private static final String CLOSED_MESSAGE =
+			"ROM set was closed before its %s region was loaded";
+	
+	/**
+	 * The buffer that marks the regions of a lazy ROM set that haven't
+	 * been loaded yet.
 	 */
-	private final byte[] colorData;
+	private static final ByteBuffer UNLOADED = ByteBuffer.allocate(0);
 	
 	/**
-	 * The byte data of the palette ROM.
+	 * The byte data of each region as a buffer, indexed by
+	 * {@link PacRegion}.
 	 * 
-	 * <p>This is the data loaded from the <b>4a</b> ROM, which is the
-	 * <i>Pac-Man</i> PCB's sole palette ROM. Each palette contains four
-	 * colors that are represented from the {@link #colorData}, loaded
-	 * from the <b>7f</b> ROM.</p>
+	 * <p>Each buffer goes from position 0 to the end of the region, and
+	 * is never handed out directly.</p>
+	 */
+	private final AtomicReferenceArray<ByteBuffer> regionBuffers;
+	
+	/**
+	 * The byte data of each region as an array, indexed by
+	 * {@link PacRegion}, or null for the regions that haven't been copied
+	 * out of their buffers yet.
+	 */
+	private final AtomicReferenceArray<byte[]> regionData;
+	
+	/**
+	 * The single buffer that holds every region back to back, or null if
+	 * the regions were allocated separately.
+	 */
+	private final ByteBuffer slab;
+	
+	/**
+	 * The offset of each region in the slab, indexed by {@link PacRegion},
+	 * or null if the regions were allocated separately.
 	 */
-	private final byte[] paletteData;
+	private final int[] slabOffsets;
 	
 	/**
-	 * The byte data of the sound ROM.
+	 * The loader of the regions that haven't been loaded yet, or null
+	 * once every region has been loaded, or the ROM set has been closed.
 	 * 
-	 * <p>This is the data loaded from the <b>1m</b> ROM, which is the
-	 * sound chip of the <i>Pac-Man</i> PCB. The sound chip contains
-	 * multiple waveforms that are 32 bytes long, and each byte in a
-	 * waveform ranges from 0 (0x0) to 15 (0xF), which is the amplitude.
-	 * Each byte powers the speakers depending on its strength.</p>
+	 * <p>It's only used while holding the load lock.</p>
 	 */
-	private final byte[] soundData;
+	private PacRegionLoader regionLoader;
 	
 	/**
-	 * The byte data of the mystery ROM.
+	 * The lock held while a region of a lazy ROM set is loaded, or while
+	 * a region is copied into its byte array.
 	 * 
-	 * <p>This is the data that is usually loaded from the <b>3m</b> ROM
-	 * of the <i>Pac-Man</i> PCB. Nobody knows what this data is used for,
-	 * aside from the fact that it's slightly associated with the {@link
-	 * #soundData}, loaded from the <b>1m</b> ROM of the PCB. That is why
-	 * it is called the mysteryData.</p>
+	 * <p>A lock is used rather than a {@code synchronized} block so that a
+	 * virtual thread waiting on the read of a region doesn't pin its
+	 * carrier thread.</p>
+	 */
+	private final ReentrantLock loadLock = new ReentrantLock();
+	
+	/**
+	 * The length of each region of a lazy ROM set, as known before it's
+	 * loaded, or null if the ROM set isn't lazy.
 	 */
-	private final byte[] mysteryData;
+	private final int[] loaderLengths;
 	
 	/**
-	 * Gets the {@link #programData}, a byte array that has all the byte
+	 * Gets the program data, a byte array that has all the byte
 	 * data from the PCB's program ROMs.
 	 * 
 	 * <p>This does not return a cloned array of the byte data, meaning it
 	 * can be modified when obtained by other programs. This is useful for
 	 * ROM-hacking <i>Pac-Man</i> as a game.</p>
 	 * 
+	 * <p>On a {@link #isSlab slab} ROM set, the region is copied out of
+	 * the slab the first time, so it takes memory of its own, and changes
+	 * made to it aren't visible through {@link #getSlab}. Use {@link
+	 * #getProgramBuffer} to read it without copying it.</p>
+	 * 
 	 * <p>For more information about this data, see {@link
-	 * #programData} to learn more.</p>
+	 * PacRegion#PROGRAM} to learn more.</p>
 	 * 
 	 * @return The unified byte array of program ROM data.
+	 * @see #getData(PacRegion)
 	 */
 	public final byte[] getProgramData() {
-		return programData;
+		return getData(PacRegion.PROGRAM);
 	}
 	
 	/**
-	 * Gets the {@link #graphicData}, a byte array that has all the byte
+	 * Gets the graphic data, a byte array that has all the byte
 	 * data from the PCB's graphic ROMs.
 	 * 
 	 * <p>This does not return a cloned array of the byte data, meaning it
 	 * can be modified when obtained by other programs. This is useful for
 	 * ROM-hacking <i>Pac-Man</i> as a game.</p>
 	 * 
+	 * <p>On a {@link #isSlab slab} ROM set, the region is copied out of
+	 * the slab the first time, so it takes memory of its own, and changes
+	 * made to it aren't visible through {@link #getSlab}. Use {@link
+	 * #getGraphicBuffer} to read it without copying it.</p>
+	 * 
 	 * <p>For more information about this data, see {@link
-	 * #graphicData} to learn more.</p>
+	 * PacRegion#GRAPHIC} to learn more.</p>
 	 * 
 	 * @return The unified byte array of graphic ROM data.
+	 * @see #getData(PacRegion)
 	 */
 	public final byte[] getGraphicData() {
-		return graphicData;
+		return getData(PacRegion.GRAPHIC);
 	}
 	
 	/**
-	 * Gets the {@link #colorData}, a byte array that has the byte data
+	 * Gets the color data, a byte array that has the byte data
 	 * from the PCB's color ROM.
 	 * 
 	 * <p>This does not return a cloned array of the byte data, meaning it
 	 * can be modified when obtained by other programs. This is useful for
 	 * ROM-hacking <i>Pac-Man</i> as a game.</p>
 	 * 
+	 * <p>On a {@link #isSlab slab} ROM set, the region is copied out of
+	 * the slab the first time, so it takes memory of its own, and changes
+	 * made to it aren't visible through {@link #getSlab}. Use {@link
+	 * #getColorBuffer} to read it without copying it.</p>
+	 * 
 	 * <p>For more information about this data, see {@link
-	 * #colorData} to learn more.</p>
+	 * PacRegion#COLOR} to learn more.</p>
 	 * 
 	 * @return The byte array of color ROM data.
+	 * @see #getData(PacRegion)
 	 */
 	public final byte[] getColorData() {
-		return colorData;
+		return getData(PacRegion.COLOR);
 	}
 	
 	/**
-	 * Gets the {@link #paletteData}, a byte array that has the byte data
+	 * Gets the palette data, a byte array that has the byte data
 	 * from the PCB's palette ROM.
 	 * 
 	 * <p>This does not return a cloned array of the byte data, meaning it
 	 * can be modified when obtained by other programs. This is useful for
 	 * ROM-hacking <i>Pac-Man</i> as a game.</p>
 	 * 
+	 * <p>On a {@link #isSlab slab} ROM set, the region is copied out of
+	 * the slab the first time, so it takes memory of its own, and changes
+	 * made to it aren't visible through {@link #getSlab}. Use {@link
+	 * #getPaletteBuffer} to read it without copying it.</p>
+	 * 
 	 * <p>For more information about this data, see {@link
-	 * #paletteData} to learn more.</p>
+	 * PacRegion#PALETTE} to learn more.</p>
 	 * 
 	 * @return The byte array of palette ROM data.
+	 * @see #getData(PacRegion)
 	 */
 	public final byte[] getPaletteData() {
-		return paletteData;
+		return getData(PacRegion.PALETTE);
 	}
 	
 	/**
-	 * Gets the {@link #soundData}, a byte array that has the byte data
+	 * Gets the sound data, a byte array that has the byte data
 	 * from the PCB's sound ROM.
 	 * 
 	 * <p>This does not return a cloned array of the byte data, meaning it
 	 * can be modified when obtained by other programs. This is useful for
 	 * ROM-hacking <i>Pac-Man</i> as a game.</p>
 	 * 
+	 * <p>On a {@link #isSlab slab} ROM set, the region is copied out of
+	 * the slab the first time, so it takes memory of its own, and changes
+	 * made to it aren't visible through {@link #getSlab}. Use {@link
+	 * #getSoundBuffer} to read it without copying it.</p>
+	 * 
 	 * <p>For more information about this data, see {@link
-	 * #soundData} to learn more.</p>
+	 * PacRegion#SOUND} to learn more.</p>
 	 * 
 	 * @return The byte array of sound ROM data.
+	 * @see #getData(PacRegion)
 	 */
 	public final byte[] getSoundData() {
-		return soundData;
+		return getData(PacRegion.SOUND);
 	}
 	
 	/**
-	 * Gets the {@link #mysteryData}, a byte array that has the byte
+	 * Gets the mystery data, a byte array that has the byte
 	 * data from the PCB's mystery ROM.
 	 * 
 	 * <p>This does not return a cloned array of the byte data, meaning it
 	 * can be modified when obtained by other programs. This is useful for
 	 * ROM-hacking <i>Pac-Man</i> as a game.</p>
 	 * 
+	 * <p>On a {@link #isSlab slab} ROM set, the region is copied out of
+	 * the slab the first time, so it takes memory of its own, and changes
+	 * made to it aren't visible through {@link #getSlab}. Use {@link
+	 * #getMysteryBuffer} to read it without copying it.</p>
+	 * 
 	 * <p>For more information about this data, see {@link
-	 * #mysteryData} to learn more.</p>
+	 * PacRegion#MYSTERY} to learn more.</p>
 	 * 
 	 * @return The byte array of mystery ROM data.
+	 * @see #getData(PacRegion)
 	 */
 	public final byte[] getMysteryData() {
-		return mysteryData;
+		return getData(PacRegion.MYSTERY);
+	}
+	
+	/**
+	 * Gets a read-only view of the program data.
+	 * 
+	 * @return The read-only buffer of program ROM data.
+	 * @see #getBuffer(PacRegion)
+	 */
+	public final ByteBuffer getProgramBuffer() {
+		return getBuffer(PacRegion.PROGRAM);
+	}
+	
+	/**
+	 * Gets a read-only view of the graphic data.
+	 * 
+	 * @return The read-only buffer of graphic ROM data.
+	 * @see #getBuffer(PacRegion)
+	 */
+	public final ByteBuffer getGraphicBuffer() {
+		return getBuffer(PacRegion.GRAPHIC);
+	}
+	
+	/**
+	 * Gets a read-only view of the color data.
+	 * 
+	 * @return The read-only buffer of color ROM data.
+	 * @see #getBuffer(PacRegion)
+	 */
+	public final ByteBuffer getColorBuffer() {
+		return getBuffer(PacRegion.COLOR);
+	}
+	
+	/**
+	 * Gets a read-only view of the palette data.
+	 * 
+	 * @return The read-only buffer of palette ROM data.
+	 * @see #getBuffer(PacRegion)
+	 */
+	public final ByteBuffer getPaletteBuffer() {
+		return getBuffer(PacRegion.PALETTE);
+	}
+	
+	/**
+	 * Gets a read-only view of the sound data.
+	 * 
+	 * @return The read-only buffer of sound ROM data.
+	 * @see #getBuffer(PacRegion)
+	 */
+	public final ByteBuffer getSoundBuffer() {
+		return getBuffer(PacRegion.SOUND);
+	}
+	
+	/**
+	 * Gets a read-only view of the mystery data.
+	 * 
+	 * @return The read-only buffer of mystery ROM data.
+	 * @see #getBuffer(PacRegion)
+	 */
+	public final ByteBuffer getMysteryBuffer() {
+		return getBuffer(PacRegion.MYSTERY);
+	}
+	
+	/**
+	 * Gets the byte array of a region.
+	 * 
+	 * <p>This does not return a cloned array of the byte data, meaning it
+	 * can be modified when obtained by other programs. If the region is
+	 * backed by a buffer that isn't a whole heap array, the buffer is
+	 * copied into an array the first time this is called, and that array
+	 * backs the region from then on. This is always the case for the
+	 * regions of a {@link #isSlab slab} ROM set, whose changes then aren't
+	 * visible through {@link #getSlab}, so {@link #getBuffer} should be
+	 * used to read them instead.</p>
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return The byte array of the region, or null if it has none.
+	 * @throws UncheckedIOException When loading the region of a lazy ROM
+	 * set fails.
+	 * @throws IllegalStateException When the region of a lazy ROM set
+	 * hasn't been loaded before the ROM set was closed.
+	 */
+	public final byte[] getData(final PacRegion pacRegion) {
+		int index = pacRegion.ordinal();
+		byte[] data = regionData.get(index);
+		if (data != null) return data;
+		ByteBuffer buffer = getRegionBuffer(index);
+		if (buffer == null) return null;
+		loadLock.lock();
+		try {
+			data = regionData.get(index);
+			if (data != null) return data;
+			data = new byte[buffer.remaining()];
+			buffer.duplicate().get(data);
+			regionBuffers.set(index, ByteBuffer.wrap(data));
+			regionData.set(index, data);
+			return data;
+		} finally {
+			loadLock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets a read-only view of a region.
+	 * 
+	 * <p>The view goes from position 0 to the end of the region, and
+	 * doesn't copy any of its bytes. Changes made to the region through
+	 * its byte array are visible through the view.</p>
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return The read-only buffer of the region, or null if it has none.
+	 * @throws UncheckedIOException When loading the region of a lazy ROM
+	 * set fails.
+	 * @throws IllegalStateException When the region of a lazy ROM set
+	 * hasn't been loaded before the ROM set was closed.
+	 */
+	public final ByteBuffer getBuffer(final PacRegion pacRegion) {
+		ByteBuffer buffer = getRegionBuffer(pacRegion.ordinal());
+		return buffer == null ? null : buffer.asReadOnlyBuffer();
+	}
+	
+	/**
+	 * Gets the length of a region in bytes.
+	 * 
+	 * <p>The region of a lazy ROM set isn't loaded for this when its
+	 * length is already known from the archive.</p>
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return The length of the region, or 0 if it has none.
+	 * @throws UncheckedIOException When loading the region of a lazy ROM
+	 * set fails.
+	 * @throws IllegalStateException When the region of a lazy ROM set
+	 * hasn't been loaded before the ROM set was closed.
+	 */
+	public final int getLength(final PacRegion pacRegion) {
+		int index = pacRegion.ordinal();
+		if (regionBuffers.get(index) == UNLOADED
+				&& loaderLengths[index] >= 0)
+			return loaderLengths[index];
+		ByteBuffer buffer = getRegionBuffer(index);
+		return buffer == null ? 0 : buffer.remaining();
+	}
+	
+	/**
+	 * Checks if a region has been loaded, which is always the case unless
+	 * the ROM set is lazy.
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return True if the region can be used without loading it.
+	 */
+	public final boolean isLoaded(final PacRegion pacRegion) {
+		return regionBuffers.get(pacRegion.ordinal()) != UNLOADED;
+	}
+	
+	/**
+	 * Closes the archive of a lazy ROM set, if some of its regions haven't
+	 * been loaded yet.
+	 * 
+	 * <p>The regions that have been loaded can still be used afterwards,
+	 * but the ones that haven't can't be loaded anymore. This does nothing
+	 * for a ROM set that isn't lazy, or once every region has been
+	 * loaded.</p>
+	 * 
+	 * @throws IOException When closing the archive fails.
+	 */
+	@Override
+	public final void close() throws IOException {
+		loadLock.lock();
+		try {
+			PacRegionLoader loader = regionLoader;
+			regionLoader = null;
+			if (loader != null) loader.close();
+		} finally {
+			loadLock.unlock();
+		}
+	}
+	
+	/**
+	 * Checks if every region of the ROM set is backed by direct memory.
+	 * 
+	 * @return True if the ROM set lives outside of the heap.
+	 */
+	public final boolean isDirect() {
+		for (int index = 0; index < regionBuffers.length(); index++) {
+			ByteBuffer buffer = getRegionBuffer(index);
+			if (buffer != null && !buffer.isDirect()) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Copies the ROM set into a new one that is backed by direct memory
+	 * outside of the heap.
+	 * 
+	 * @return The copied ROM set.
+	 */
+	public final PacROMSet toDirect() {
+		// Keep the slab layout when there is one.
+		if (slab != null) return copySlab(true);
+		ByteBuffer[] buffers = new ByteBuffer[regionBuffers.length()];
+		for (int index = 0; index < buffers.length; index++) {
+			ByteBuffer buffer = getRegionBuffer(index);
+			if (buffer == null) continue;
+			buffers[index] = ByteBuffer.allocateDirect(buffer.remaining());
+			buffers[index].put(buffer.duplicate()).flip();
+		}
+		return new PacROMSet(buffers);
+	}
+	
+	/**
+	 * Copies every region of the ROM set back to back into a new slab.
+	 * 
+	 * @param direct True if the slab should be in direct memory.
+	 * @return The copied ROM set.
+	 * @throws IllegalStateException When the regions don't fit in a
+	 * single buffer.
+	 */
+	private final PacROMSet copySlab(final boolean direct) {
+		int[] lengths = new int[regionBuffers.length()];
+		long totalLength = 0;
+		for (int index = 0; index < lengths.length; index++) {
+			ByteBuffer buffer = getRegionBuffer(index);
+			// Keep the regions that the ROM set doesn't have out of the slab.
+			lengths[index] = buffer == null ? -1 : buffer.remaining();
+			totalLength += Math.max(lengths[index], 0);
+		}
+		// Throw an error when the regions don't fit in a single buffer.
+		if (totalLength > Integer.MAX_VALUE)
+			throw new IllegalStateException(String.format(
+					SLAB_TOO_LARGE_MESSAGE, totalLength));
+		ByteBuffer slab = direct
+				? ByteBuffer.allocateDirect((int) totalLength)
+				: ByteBuffer.allocate((int) totalLength);
+		for (int index = 0; index < lengths.length; index++) {
+			ByteBuffer buffer = getRegionBuffer(index);
+			if (buffer != null) slab.put(buffer.duplicate());
+		}
+		slab.flip();
+		return new PacROMSet(slab, lengths);
+	}
+	
+	/**
+	 * Checks if every region of the ROM set is held in a single slab.
+	 * 
+	 * @return True if the ROM set has a slab layout.
+	 */
+	public final boolean isSlab() {
+		return slab != null;
+	}
+	
+	/**
+	 * Gets a read-only view of the slab, the single buffer that holds
+	 * every region back to back in the order of {@link PacRegion}.
+	 * 
+	 * <p>A region that has been copied out of the slab by one of the
+	 * {@code getXxxData} methods is no longer backed by it, so changes
+	 * made through that array aren't visible through the slab.</p>
+	 * 
+	 * @return The read-only buffer of the slab, or null if the ROM set
+	 * doesn't have a slab layout.
+	 * @see #getOffset(PacRegion)
+	 */
+	public final ByteBuffer getSlab() {
+		return slab == null ? null : slab.asReadOnlyBuffer();
+	}
+	
+	/**
+	 * Gets the offset of a region in the slab.
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return The offset of the region, or -1 if the ROM set doesn't have
+	 * a slab layout.
+	 */
+	public final int getOffset(final PacRegion pacRegion) {
+		return slabOffsets == null ? -1 : slabOffsets[pacRegion.ordinal()];
+	}
+	
+	/**
+	 * Copies the ROM set into a new one that holds every region in a
+	 * single heap array.
+	 * 
+	 * @return The copied ROM set.
+	 */
+	public final PacROMSet toSlab() {
+		return copySlab(false);
+	}
+	
+	/**
+	 * Creates a unified <i>Pac-Man</i> ROM set from a slab, a single
+	 * buffer that holds every region back to back.
+	 * 
+	 * <p>The regions are laid out in the order of {@link PacRegion},
+	 * starting from the position of the slab. None of the bytes are
+	 * copied, and the slab can be a heap, direct, or mapped buffer.</p>
+	 * 
+	 * @param slab The buffer that holds every region.
+	 * @param lengths The length of each region, indexed by
+	 * {@link PacRegion}.
+	 * @return The ROM set backed by the slab.
+	 * @throws IllegalArgumentException When there's a length for more
+	 * regions than there are, or when the regions don't fit in the slab.
+	 */
+	public static final PacROMSet fromSlab(
+			final ByteBuffer slab,
+			final int... lengths) {
+		// Throw an error when the lengths don't match the regions.
+		if (lengths.length != PacRegion.values().length)
+			throw new IllegalArgumentException(String.format(
+					SLAB_LENGTHS_MESSAGE, lengths.length));
+		long totalLength = 0;
+		for (int length : lengths) {
+			if (length < 0) throw new IllegalArgumentException(
+					String.format(SLAB_LENGTHS_MESSAGE, lengths.length));
+			totalLength += length;
+		}
+		// Throw an error when the regions don't fit in the slab.
+		if (totalLength > slab.remaining())
+			throw new IllegalArgumentException(String.format(
+					SLAB_TOO_LARGE_MESSAGE, totalLength));
+		ByteBuffer buffer = slab.slice();
+		buffer.limit((int) totalLength);
+		return new PacROMSet(buffer.slice(), lengths.clone());
+	}
+	
+	/**
+	 * Constructs an instance of the unified <i>Pac-Man</i> ROM set from
+	 * buffers, indexed by {@link PacRegion}.
+	 * 
+	 * @param buffers The buffers of each region.
+	 * @param slab The buffer that holds every region, or null.
+	 * @param slabOffsets The offset of each region in the slab, or null.
+	 */
+	private PacROMSet(
+			final ByteBuffer[] buffers,
+			final ByteBuffer slab,
+			final int[] slabOffsets) {
+		this.regionBuffers = new AtomicReferenceArray<>(buffers.length);
+		this.regionData = new AtomicReferenceArray<>(buffers.length);
+		this.slab = slab;
+		this.slabOffsets = slabOffsets;
+		this.loaderLengths = null;
+		for (int index = 0; index < buffers.length; index++) {
+			setRegionBuffer(index, buffers[index]);
+		}
+	}
+	
+	/**
+	 * Constructs an instance of a lazy unified <i>Pac-Man</i> ROM set,
+	 * whose regions are loaded the first time they're used.
+	 * 
+	 * @param regionLoader The loader of the regions, which is closed once
+	 * every region has been loaded, or the ROM set is closed.
+	 */
+	PacROMSet(final PacRegionLoader regionLoader) {
+		PacRegion[] pacRegions = PacRegion.values();
+		this.regionBuffers = new AtomicReferenceArray<>(pacRegions.length);
+		this.regionData = new AtomicReferenceArray<>(pacRegions.length);
+		this.slab = null;
+		this.slabOffsets = null;
+		this.regionLoader = regionLoader;
+		this.loaderLengths = new int[pacRegions.length];
+		for (PacRegion pacRegion : pacRegions) {
+			regionBuffers.set(pacRegion.ordinal(), UNLOADED);
+			loaderLengths[pacRegion.ordinal()] =
+					regionLoader.getLength(pacRegion);
+		}
+	}
+	
+	/**
+	 * Constructs an instance of the unified <i>Pac-Man</i> ROM set from
+	 * buffers, indexed by {@link PacRegion}.
+	 * 
+	 * @param buffers The buffers of each region.
+	 */
+	private PacROMSet(final ByteBuffer[] buffers) {
+		this(buffers, null, null);
+	}
+	
+	/**
+	 * Constructs an instance of the unified <i>Pac-Man</i> ROM set from
+	 * a slab, a single buffer that holds every region back to back.
+	 * 
+	 * @param slab The buffer that holds every region.
+	 * @param lengths The length of each region, indexed by
+	 * {@link PacRegion}, or -1 for the regions that the ROM set doesn't
+	 * have.
+	 */
+	PacROMSet(final ByteBuffer slab, final int[] lengths) {
+		this(slice(slab, lengths), slab, offsets(lengths));
+	}
+	
+	/**
+	 * Constructs an instance of the unified <i>Pac-Man</i> ROM set from
+	 * buffers.
+	 * 
+	 * <p>Each region goes from the position to the limit of its buffer,
+	 * and its bytes aren't copied. The buffers can be heap, direct, or
+	 * mapped buffers. If a buffer is read-only or doesn't wrap a whole
+	 * array, its region is only copied into an array when one of the
+	 * {@code getXxxData} methods asks for it.</p>
+	 * 
+	 * @param programBuffer The unified buffer of the program ROMs.
+	 * @param graphicBuffer The unified buffer of the graphic ROMs.
+	 * @param colorBuffer The buffer of the color ROM.
+	 * @param paletteBuffer The buffer of the palette ROM.
+	 * @param soundBuffer The buffer of the sound ROM.
+	 * @param mysteryBuffer The buffer of the mystery ROM.
+	 */
+	public PacROMSet(
+			final ByteBuffer programBuffer,
+			final ByteBuffer graphicBuffer,
+			final ByteBuffer colorBuffer,
+			final ByteBuffer paletteBuffer,
+			final ByteBuffer soundBuffer,
+			final ByteBuffer mysteryBuffer) {
+		this(new ByteBuffer[] {
+				programBuffer, graphicBuffer, colorBuffer,
+				paletteBuffer, soundBuffer, mysteryBuffer
+		});
 	}
 	
 	/**
@@ -222,11 +723,120 @@ public final class PacROMSet {
 			final byte[] paletteData,
 			final byte[] soundData,
 			final byte[] mysteryData) {
-		this.programData = programData;
-		this.graphicData = graphicData;
-		this.colorData = colorData;
-		this.paletteData = paletteData;
-		this.soundData = soundData;
-		this.mysteryData = mysteryData;
+		this(wrap(programData), wrap(graphicData), wrap(colorData),
+				wrap(paletteData), wrap(soundData), wrap(mysteryData));
+	}
+	
+	/**
+	 * Gets the buffer of a region, loading it first if the ROM set is
+	 * lazy and the region hasn't been loaded yet.
+	 * 
+	 * @param index The index of the region.
+	 * @return The buffer of the region, or null if it has none.
+	 * @throws UncheckedIOException When loading the region fails.
+	 * @throws IllegalStateException When the region hasn't been loaded
+	 * before the ROM set was closed.
+	 */
+	private final ByteBuffer getRegionBuffer(final int index) {
+		ByteBuffer buffer = regionBuffers.get(index);
+		if (buffer != UNLOADED) return buffer;
+		loadLock.lock();
+		try {
+			buffer = regionBuffers.get(index);
+			if (buffer != UNLOADED) return buffer;
+			PacRegion pacRegion = PacRegion.values()[index];
+			if (regionLoader == null)
+				throw new IllegalStateException(String.format(
+						CLOSED_MESSAGE, pacRegion));
+			try {
+				setRegionBuffer(index, regionLoader.load(pacRegion));
+				// Close the archive once every region has been loaded.
+				if (!hasUnloadedRegions()) close();
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+			return regionBuffers.get(index);
+		} finally {
+			loadLock.unlock();
+		}
+	}
+	
+	/**
+	 * Checks if any region of the ROM set hasn't been loaded yet.
+	 * 
+	 * @return True if a region still has to be loaded.
+	 */
+	private final boolean hasUnloadedRegions() {
+		for (int index = 0; index < regionBuffers.length(); index++) {
+			if (regionBuffers.get(index) == UNLOADED) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Sets the buffer of a region, along with its backing array when the
+	 * buffer wraps a whole array.
+	 * 
+	 * @param index The index of the region.
+	 * @param buffer The buffer of the region, from its position to its
+	 * limit, or null if the ROM set has no such region.
+	 */
+	private final void setRegionBuffer(
+			final int index,
+			final ByteBuffer buffer) {
+		ByteBuffer region = buffer == null ? null : buffer.slice();
+		// Use the backing array as is when it covers the whole region.
+		if (region != null && region.hasArray() && region.arrayOffset() == 0
+				&& region.array().length == region.remaining())
+			regionData.set(index, region.array());
+		regionBuffers.set(index, region);
+	}
+	
+	/**
+	 * Slices a slab into the buffers of each region.
+	 * 
+	 * @param slab The buffer that holds every region.
+	 * @param lengths The length of each region, or -1 for the regions that
+	 * the ROM set doesn't have.
+	 * @return The buffers of each region.
+	 */
+	private static final ByteBuffer[] slice(
+			final ByteBuffer slab,
+			final int[] lengths) {
+		ByteBuffer[] buffers = new ByteBuffer[lengths.length];
+		ByteBuffer buffer = slab.duplicate();
+		for (int index = 0; index < lengths.length; index++) {
+			if (lengths[index] < 0) continue;
+			buffer.limit(buffer.position() + lengths[index]);
+			buffers[index] = buffer.slice();
+			buffer.position(buffer.limit());
+		}
+		return buffers;
+	}
+	
+	/**
+	 * Computes the offset of each region in a slab.
+	 * 
+	 * @param lengths The length of each region, or -1 for the regions that
+	 * the ROM set doesn't have.
+	 * @return The offset of each region.
+	 */
+	private static final int[] offsets(final int[] lengths) {
+		int[] offsets = new int[lengths.length];
+		for (int index = 1; index < lengths.length; index++) {
+			offsets[index] = offsets[index - 1]
+					+ Math.max(lengths[index - 1], 0);
+		}
+		return offsets;
+	}
+	
+	/**
+	 * Wraps a byte array into a buffer.
+	 * 
+	 * @param data The byte array, which can be null.
+	 * @return The buffer wrapping the array, or null.
+	 */
+	private static final ByteBuffer wrap(final byte[] data) {
+		return data == null ? null : ByteBuffer.wrap(data);
 	}
 }
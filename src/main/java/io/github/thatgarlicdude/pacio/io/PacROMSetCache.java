@@ -0,0 +1,519 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A class that keeps imported and opened <i>Pac-Man</i> ROM sets in
+ * memory, so that reading the same ZIP file again doesn't decompress it
+ * again.
+ * 
+ * <p>ROM sets are cached by the path, size, and last modified time of
+ * their ZIP files, so a ZIP file that changes on disk is read again, and
+ * by the options that decide which regions they hold and how those are
+ * laid out in memory, so that different options never share one ROM
+ * set. Lazy ROM sets aren't cached, since closing one would close it for
+ * everyone who shares it. The cache has a budget in bytes, counted as
+ * the bytes held by the regions of its ROM sets, and the least recently
+ * used ROM sets are dropped when the budget is exceeded. A ROM set
+ * larger than the whole budget is returned without being cached.</p>
+ * 
+ * <p>When many threads ask for the same ZIP file at the same time, only
+ * one of them reads it, while the others wait for its ROM set. If the
+ * read fails, all of them get the same error, and nothing is cached.</p>
+ * 
+ * <p>The cached ROM sets are shared by everyone who asks for them. They
+ * should be read through their read-only buffer views, like {@link
+ * PacROMSet#getProgramBuffer}, and copied before being modified.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacROMSetCache {
+	
+	/**
+	 * Error message used when the budget is negative.
+	 */
+	private static final String BUDGET_MESSAGE =
+			"Budget must not be negative: %d";
+	
+	/**
+	 * Error message used when the options load the ROM set lazily.
+	 */
+	private static final String LAZY_MESSAGE =
+			"Lazy ROM sets can't be cached: %s";
+	
+	/**
+	 * The most bytes that the cached ROM sets can hold.
+	 */
+	private final long maxBytes;
+	
+	/**
+	 * The cached ROM sets, from the least to the most recently used.
+	 */
+	private final LinkedHashMap<CacheKey, PacROMSet> entries =
+			new LinkedHashMap<>(16, 0.75f, true);
+	
+	/**
+	 * The reads of ZIP files that are still going on.
+	 */
+	private final ConcurrentHashMap<CacheKey, CompletableFuture<PacROMSet>>
+			loads = new ConcurrentHashMap<>();
+	
+	/**
+	 * The bytes held by the cached ROM sets, guarded by the entries.
+	 */
+	private long byteCount;
+	
+	/**
+	 * The amount of times a ROM set was found in the cache.
+	 */
+	private final LongAdder hitCount = new LongAdder();
+	
+	/**
+	 * The amount of times a ROM set wasn't found in the cache.
+	 */
+	private final LongAdder missCount = new LongAdder();
+	
+	/**
+	 * The amount of times a ZIP file was read.
+	 */
+	private final LongAdder loadCount = new LongAdder();
+	
+	/**
+	 * Imports an existing <i>Pac-Man</i> ROM set ZIP file, or gets it from
+	 * the cache if it has already been imported.
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @param options The options used when importing the ROM set, which
+	 * must not load it lazily.
+	 * @return The shared unified ROM set.
+	 * @throws IOException When accessing the ZIP file fails.
+	 * @throws IllegalArgumentException When the options load the ROM set
+	 * lazily.
+	 */
+	public final PacROMSet importROMSet(
+			final String path,
+			final PacROMSetOptions options) throws IOException {
+		return get(CacheKey.of(CacheKey.IMPORTED, path, options),
+				() -> new PacROMSetImporter(path, options).importROMSet());
+	}
+	
+	/**
+	 * Imports an existing <i>Pac-Man</i> ROM set ZIP file with the default
+	 * options, or gets it from the cache if it has already been imported.
+	 * 
+	 * @param path The file path to the original ROM set ZIP file.
+	 * @return The shared unified ROM set.
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	public final PacROMSet importROMSet(final String path)
+			throws IOException {
+		return importROMSet(path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Opens a unified <i>Pac-Man</i> ROM set ZIP file, or gets it from the
+	 * cache if it has already been opened.
+	 * 
+	 * @param path The file path to the unified ROM set ZIP file.
+	 * @param options The options used when opening the ROM set, which
+	 * must not load it lazily.
+	 * @return The shared unified ROM set.
+	 * @throws IOException When accessing the ZIP file fails.
+	 * @throws IllegalArgumentException When the options load the ROM set
+	 * lazily.
+	 */
+	public final PacROMSet openROMSet(
+			final String path,
+			final PacROMSetOptions options) throws IOException {
+		return get(CacheKey.of(CacheKey.OPENED, path, options),
+				() -> new PacROMSetOpener(path, options).openROMSet());
+	}
+	
+	/**
+	 * Opens a unified <i>Pac-Man</i> ROM set ZIP file with the default
+	 * options, or gets it from the cache if it has already been opened.
+	 * 
+	 * @param path The file path to the unified ROM set ZIP file.
+	 * @return The shared unified ROM set.
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	public final PacROMSet openROMSet(final String path)
+			throws IOException {
+		return openROMSet(path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Drops every cached ROM set.
+	 */
+	public final void clear() {
+		synchronized (entries) {
+			entries.clear();
+			byteCount = 0;
+		}
+	}
+	
+	/**
+	 * Gets the amount of cached ROM sets.
+	 * 
+	 * @return The amount of cached ROM sets.
+	 */
+	public final int getSize() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+	
+	/**
+	 * Gets the bytes held by the cached ROM sets.
+	 * 
+	 * @return The bytes held by the cached ROM sets.
+	 */
+	public final long getByteCount() {
+		synchronized (entries) {
+			return byteCount;
+		}
+	}
+	
+	/**
+	 * Gets the most bytes that the cached ROM sets can hold.
+	 * 
+	 * @return The budget of the cache in bytes.
+	 */
+	public final long getMaxBytes() {
+		return maxBytes;
+	}
+	
+	/**
+	 * Gets the amount of times a ROM set was found in the cache.
+	 * 
+	 * @return The amount of cache hits.
+	 */
+	public final long getHitCount() {
+		return hitCount.sum();
+	}
+	
+	/**
+	 * Gets the amount of times a ROM set wasn't found in the cache.
+	 * 
+	 * @return The amount of cache misses.
+	 */
+	public final long getMissCount() {
+		return missCount.sum();
+	}
+	
+	/**
+	 * Gets the amount of times a ZIP file was read, which can be lower
+	 * than the amount of misses when many threads missed the same ZIP
+	 * file at once.
+	 * 
+	 * @return The amount of ZIP file reads.
+	 */
+	public final long getLoadCount() {
+		return loadCount.sum();
+	}
+	
+	/**
+	 * Gets a ROM set from the cache, or reads it if it isn't there.
+	 * 
+	 * @param cacheKey The key of the ROM set.
+	 * @param loader The loader that reads the ZIP file.
+	 * @return The ROM set.
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	private final PacROMSet get(
+			final CacheKey cacheKey,
+			final Loader loader) throws IOException {
+		PacROMSet pacROMSet = getCached(cacheKey);
+		if (pacROMSet != null) {
+			hitCount.increment();
+			return pacROMSet;
+		}
+		missCount.increment();
+		CompletableFuture<PacROMSet> load = new CompletableFuture<>();
+		CompletableFuture<PacROMSet> otherLoad =
+				loads.putIfAbsent(cacheKey, load);
+		// Wait for the thread that is already reading the ZIP file.
+		if (otherLoad != null) return await(otherLoad);
+		try {
+			// Another read might have finished before this one started.
+			pacROMSet = getCached(cacheKey);
+			if (pacROMSet == null) {
+				loadCount.increment();
+				pacROMSet = loader.load();
+				put(cacheKey, pacROMSet);
+			}
+			load.complete(pacROMSet);
+			return pacROMSet;
+		} catch (IOException | RuntimeException | Error e) {
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			loads.remove(cacheKey, load);
+		}
+	}
+	
+	/**
+	 * Gets a ROM set from the cache, marking it as the most recently
+	 * used.
+	 * 
+	 * @param cacheKey The key of the ROM set.
+	 * @return The ROM set, or null if it isn't cached.
+	 */
+	private final PacROMSet getCached(final CacheKey cacheKey) {
+		synchronized (entries) {
+			return entries.get(cacheKey);
+		}
+	}
+	
+	/**
+	 * Puts a ROM set in the cache, dropping the least recently used ones
+	 * until it fits in the budget.
+	 * 
+	 * @param cacheKey The key of the ROM set.
+	 * @param pacROMSet The ROM set.
+	 */
+	private final void put(
+			final CacheKey cacheKey,
+			final PacROMSet pacROMSet) {
+		long size = getByteCount(pacROMSet);
+		// Don't cache a ROM set that doesn't fit at all.
+		if (size > maxBytes) return;
+		synchronized (entries) {
+			PacROMSet oldROMSet = entries.put(cacheKey, pacROMSet);
+			if (oldROMSet != null) byteCount -= getByteCount(oldROMSet);
+			byteCount += size;
+			Iterator<Map.Entry<CacheKey, PacROMSet>> iterator =
+					entries.entrySet().iterator();
+			while (byteCount > maxBytes && iterator.hasNext()) {
+				byteCount -= getByteCount(iterator.next().getValue());
+				iterator.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Counts the bytes held by the regions of a ROM set.
+	 * 
+	 * @param pacROMSet The ROM set.
+	 * @return The bytes held by the ROM set.
+	 */
+	private static final long getByteCount(final PacROMSet pacROMSet) {
+		long byteCount = 0;
+		for (PacRegion pacRegion : PacRegion.values()) {
+			byteCount += pacROMSet.getLength(pacRegion);
+		}
+		return byteCount;
+	}
+	
+	/**
+	 * Waits for another thread to read a ZIP file.
+	 * 
+	 * @param load The read of the ZIP file.
+	 * @return The ROM set that was read.
+	 * @throws IOException When reading the ZIP file failed.
+	 */
+	private static final PacROMSet await(
+			final CompletableFuture<PacROMSet> load) throws IOException {
+		try {
+			return load.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw new IOException(cause);
+		}
+	}
+	
+	/**
+	 * A loader that reads a ROM set from its ZIP file.
+	 */
+	@FunctionalInterface
+	private interface Loader {
+		
+		/**
+		 * Reads the ROM set.
+		 * 
+		 * @return The ROM set.
+		 * @throws IOException When reading the ZIP file fails.
+		 */
+		PacROMSet load() throws IOException;
+	}
+	
+	/**
+	 * The key of a cached ROM set, made of its ZIP file's path, size, and
+	 * last modified time, and of the options that shape the ROM set.
+	 */
+	private static final class CacheKey {
+		
+		/**
+		 * The kind of the ROM sets that have been imported.
+		 */
+		private static final int IMPORTED = 0;
+		
+		/**
+		 * The kind of the ROM sets that have been opened.
+		 */
+		private static final int OPENED = 1;
+		
+		/**
+		 * Whether the ROM set has been imported or opened.
+		 */
+		private final int kind;
+		
+		/**
+		 * The absolute file path to the ZIP file.
+		 */
+		private final String path;
+		
+		/**
+		 * The size of the ZIP file.
+		 */
+		private final long size;
+		
+		/**
+		 * The last modified time of the ZIP file, in nanoseconds.
+		 */
+		private final long modifiedTime;
+		
+		/**
+		 * The regions that the ROM set holds.
+		 */
+		private final Set<PacRegion> regions;
+		
+		/**
+		 * Whether the regions of the ROM set share a single slab.
+		 */
+		private final boolean slabLayout;
+		
+		/**
+		 * The type of archive that the ZIP file is read with.
+		 */
+		private final PacArchiveType archiveType;
+		
+		/**
+		 * Creates the key of a ZIP file on disk.
+		 * 
+		 * @param kind Whether the ROM set is imported or opened.
+		 * @param path The file path to the ZIP file.
+		 * @param options The options used when reading the ROM set.
+		 * @return The key of the ZIP file.
+		 * @throws IOException When the attributes of the ZIP file can't be
+		 * read.
+		 * @throws IllegalArgumentException When the options load the ROM
+		 * set lazily.
+		 */
+		private static final CacheKey of(
+				final int kind,
+				final String path,
+				final PacROMSetOptions options) throws IOException {
+			// A lazy ROM set can be closed by anyone who shares it.
+			if (options.isLazyLoading())
+				throw new IllegalArgumentException(
+						String.format(LAZY_MESSAGE, path));
+			Path file = Paths.get(path).toAbsolutePath().normalize();
+			BasicFileAttributes attributes =
+					Files.readAttributes(file, BasicFileAttributes.class);
+			return new CacheKey(kind, file.toString(), attributes.size(),
+					attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+					options);
+		}
+		
+		@Override
+		public final boolean equals(final Object object) {
+			if (this == object) return true;
+			if (!(object instanceof CacheKey)) return false;
+			CacheKey cacheKey = (CacheKey) object;
+			return kind == cacheKey.kind && size == cacheKey.size
+					&& modifiedTime == cacheKey.modifiedTime
+					&& slabLayout == cacheKey.slabLayout
+					&& archiveType == cacheKey.archiveType
+					&& path.equals(cacheKey.path)
+					&& regions.equals(cacheKey.regions);
+		}
+		
+		@Override
+		public final int hashCode() {
+			int hash = path.hashCode();
+			hash = 31 * hash + kind;
+			hash = 31 * hash + Long.hashCode(size);
+			hash = 31 * hash + Long.hashCode(modifiedTime);
+			hash = 31 * hash + regions.hashCode();
+			hash = 31 * hash + Boolean.hashCode(slabLayout);
+			return 31 * hash + archiveType.hashCode();
+		}
+		
+		/**
+		 * Constructs an instance of the cache key.
+		 * 
+		 * @param kind Whether the ROM set is imported or opened.
+		 * @param path The absolute file path to the ZIP file.
+		 * @param size The size of the ZIP file.
+		 * @param modifiedTime The last modified time of the ZIP file.
+		 * @param options The options used when reading the ROM set.
+		 */
+		private CacheKey(
+				final int kind,
+				final String path,
+				final long size,
+				final long modifiedTime,
+				final PacROMSetOptions options) {
+			this.kind = kind;
+			this.path = path;
+			this.size = size;
+			this.modifiedTime = modifiedTime;
+			this.regions = options.getRegions();
+			this.slabLayout = options.isSlabLayout();
+			this.archiveType = options.getArchiveType();
+		}
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set cache.
+	 * 
+	 * @param maxBytes The most bytes that the cached ROM sets can hold.
+	 * @throws IllegalArgumentException When the budget is negative.
+	 */
+	public PacROMSetCache(final long maxBytes) {
+		if (maxBytes < 0) throw new IllegalArgumentException(
+				String.format(BUDGET_MESSAGE, maxBytes));
+		this.maxBytes = maxBytes;
+	}
+}
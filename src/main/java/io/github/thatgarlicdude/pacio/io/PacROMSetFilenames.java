@@ -16,6 +16,8 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
 /**
  * An interface containing filenames for a unified <i>Pac-Man</i>
  * ROM-set.
@@ -30,11 +32,12 @@ package io.github.thatgarlicdude.pacio.io;
  * 
  * <p>Methods include {@link #getProgramName}, {@link #getGraphicName},
  * {@link #getColorName}, {@link #getPaletteName}, {@link #getSoundName},
- * and {@link #getMysteryName}. They are all default methods, so the
+ * and {@link #getMysteryName}, along with {@link #getName(PacRegion)},
+ * which picks one of them by region. They are all default methods, so the
  * classes that implement this interface don't need to fill out the
  * methods with their own code.</p>
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public interface PacROMSetFilenames {
@@ -128,4 +131,28 @@ public interface PacROMSetFilenames {
 	public default String getMysteryName() {
 		return mysteryName;
 	}
+	
+	/**
+	 * Gets the filename of the entry that holds a region, using the
+	 * getter of that region.
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return The filename of the region's entry as a string.
+	 */
+	public default String getName(final PacRegion pacRegion) {
+		switch (pacRegion) {
+		case PROGRAM:
+			return getProgramName();
+		case GRAPHIC:
+			return getGraphicName();
+		case COLOR:
+			return getColorName();
+		case PALETTE:
+			return getPaletteName();
+		case SOUND:
+			return getSoundName();
+		default:
+			return getMysteryName();
+		}
+	}
 }
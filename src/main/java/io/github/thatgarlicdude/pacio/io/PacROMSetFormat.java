@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+/**
+ * An enum that represents the formats a unified ROM set can be saved in.
+ * 
+ * <p>The {@link PacROMSetOpener} tells the formats apart by the first
+ * bytes of the file, so a unified ROM set can be opened without knowing
+ * which format it was saved in.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public enum PacROMSetFormat {
+	
+	/**
+	 * Saves the ROM set as a ZIP file, with one entry for each region
+	 * named by {@link PacROMSetFilenames}.
+	 * 
+	 * <p>This is the default format, and can be read by any ZIP tool.</p>
+	 */
+	ZIP,
+	
+	/**
+	 * Saves the ROM set as a {@code .pacrom} file, a small header with
+	 * the offset, length, and CRC32 checksum of each region, followed by
+	 * the raw bytes of every region back to back.
+	 * 
+	 * <p>Opening a {@code .pacrom} file doesn't parse a central directory
+	 * or look up any entries. With {@link PacArchiveType#MAPPED}, it's
+	 * one read of the header out of the mapped file, and the regions are
+	 * slices of that mapped file.</p>
+	 */
+	PACROM;
+}
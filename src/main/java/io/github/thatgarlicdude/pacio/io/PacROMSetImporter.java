@@ -16,15 +16,28 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
-import io.github.thatgarlicdude.pacio.catalog.PacCatalog;
 import io.github.thatgarlicdude.pacio.catalog.PacCatalogManager;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
 
 import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.zip.ZipException;
 
 /**
  * A class used to import the <i>Pac-Man</i> ROM set ZIP files to
@@ -35,202 +48,536 @@ import java.util.zip.ZipFile;
  * importROMSet} method, which is used to turn existing <i>Pac-Man</i>
  * ROM set ZIP files from disk into unified ROM sets to memory.</p>
  * 
- * @version 1.0.0-alpha
+ * <p>Besides a file path, the ROM set ZIP file can be read from a
+ * {@link Path} on any file system, from a channel that's already open, or
+ * from a buffer that holds the whole file in memory, without a round trip
+ * through the file system.</p>
+ * 
+ * <p>A ROM set ZIP file can also be imported straight from a stream, such
+ * as an upload or a pipe, without spooling it to a temporary file first.
+ * The stream is read in a single forward pass, keeping only the entries
+ * that belong to a PacCatalog, so such an importer can only be used
+ * once.</p>
+ * 
+ * <p>The {@link #importROMSetAsync(Executor, Executor) importROMSetAsync}
+ * method imports the ROM set without blocking the calling thread, with
+ * the file read on one executor and its ROMs decompressed on
+ * another.</p>
+ * 
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class PacROMSetImporter {
 	
 	/**
-	 * The size of a buffer used to read the file entries in a ZIP file.
+	 * The name of a ROM set ZIP file that's read from a stream.
+	 */
+	private static final String STREAM_NAME = "<stream>";
+	
+	/**
+	 * The source of the original ROM set ZIP file, or null when it's read
+	 * from a stream.
 	 */
-	private static final int BUFFER_SIZE = 256;
+	private final PacSource pacSource;
 	
 	/**
-	 * The file path to the original source ROM set ZIP file.
+	 * The stream of the original source ROM set ZIP file, or null when
+	 * it's read from a source.
 	 */
-	private final String path;
+	private final InputStream inputStream;
+	
+	/**
+	 * The options used when importing the ROM set.
+	 */
+	private final PacROMSetOptions options;
 	
 	/**
 	 * Imports an existing <i>Pac-Man</i> ROM set ZIP file from disk to a
 	 * {@link io.github.thatgarlicdude.pacio.io.PacROMSet PacROMSet}
 	 * object to memory, which are unified ROM sets.
 	 * 
+	 * <p>The PacCatalog is picked from the entry table of the ZIP file
+	 * before any ROM is read, using the {@link #detectPacCatalog}
+	 * method. If no catalog has all of its ROMs found by their filenames,
+	 * the {@link #identifyPacCatalog} method is tried next, so that
+	 * renamed ROMs can still be imported.</p>
+	 * 
+	 * <p>When the options have a listener, the timings of each phase and
+	 * the matched catalog are reported to it.</p>
+	 * 
 	 * @return A unified ROM set built off of the existing ROM set ZIP
 	 * file.
+	 * @throws FileNotFoundException When no PacCatalog has all of its
+	 * ROMs in the ZIP file.
 	 * @throws IOException When accessing the ZIP file fails.
 	 */
 	public final PacROMSet importROMSet() throws IOException {
-		PacCatalog[] pacCatalogs = PacCatalogManager.getPacCatalogs();
-		ZipFile zipFile = new ZipFile(path);
-		byte[] programData = null;
-		byte[] graphicData = null;
-		byte[] colorData = null;
-		byte[] paletteData = null;
-		byte[] soundData = null;
-		byte[] mysteryData = null;
-		// Go through each of the PacCatalogs to scan through.
-		for (PacCatalog pacCatalog : pacCatalogs) {
-			// Concatenate the ROMs.
-			try {
-				programData = concatProgramROMs(zipFile, pacCatalog);
-				graphicData = concatGraphicROMs(zipFile, pacCatalog);
-				colorData = concatColorROMs(zipFile, pacCatalog);
-				paletteData = concatPaletteROMs(zipFile, pacCatalog);
-				soundData = concatSoundROMs(zipFile, pacCatalog);
-				mysteryData = concatMysteryROMs(zipFile, pacCatalog);
-				break;
-			} catch(final FileNotFoundException exception) {
-				// Just continue when a ROM isn't found.
-				// TODO: Make this print an error instead of continuing.
-				continue;
-			}
+		PacIOTrace trace = getTrace(PacIOPhase.IMPORT);
+		long start = trace.start();
+		try {
+			return importROMSet(trace, start);
+		} catch (IOException | RuntimeException | Error exception) {
+			trace.failed(exception);
+			throw exception;
 		}
-		// Return the PacROMSet.
-		return new PacROMSet(programData, graphicData, colorData,
-				paletteData, soundData, mysteryData);
 	}
 	
 	/**
-	 * Concatenate a specific group of ROMs into a single byte array.
+	 * Imports the ROM set asynchronously, reading the file on one
+	 * executor and decompressing its ROMs on the common
+	 * {@link ForkJoinPool}.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param filenames A list of filenames that the ZIP file will look
-	 * for.
-	 * @return A single byte array that has all the byte data from the ROM
-	 * files.
-	 * @throws IOException When reading the ZIP file fails.
+	 * <p>This works the same way as the {@link #importROMSetAsync(Executor,
+	 * Executor) importROMSetAsync} method.</p>
+	 * 
+	 * @param ioExecutor The executor that reads the file.
+	 * @return The future of the unified ROM set.
+	 */
+	public final CompletableFuture<PacROMSet> importROMSetAsync(
+			final Executor ioExecutor) {
+		return importROMSetAsync(ioExecutor, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Imports the ROM set asynchronously, without blocking the calling
+	 * thread.
+	 * 
+	 * <p>The whole ROM set ZIP file, or the whole stream, is read into
+	 * memory on the I/O executor, whatever the type of archive in the
+	 * options is. Its catalog is then detected and its ROMs are
+	 * decompressed on the CPU executor, which never touches the disk. The
+	 * executor of the options, if there's one, is still used to
+	 * decompress the ROMs in parallel.</p>
+	 * 
+	 * <p>Cancelling the returned future skips the stages that haven't
+	 * started yet. A failure completes the future with the IOException
+	 * that {@link #importROMSet()} would have thrown.</p>
+	 * 
+	 * @param ioExecutor The executor that reads the file.
+	 * @param cpuExecutor The executor that detects the catalog and
+	 * decompresses the ROMs.
+	 * @return The future of the unified ROM set.
 	 */
-	private final byte[] concatROMs(
-			final ZipFile zipFile,
-			final String[] filenames) throws IOException {
-		ByteArrayOutputStream stream = new ByteArrayOutputStream();
-		byte[] buffer = new byte[BUFFER_SIZE];
-		int bytesRead = 0;
-		// Go through each of the filenames in the PacCatalog list.
-		for (String filename : filenames) {
-			ZipEntry zipEntry = zipFile.getEntry(filename);
-			// Throw an error when a ROM file name is not found.
-			if (zipEntry == null)
-				throw new FileNotFoundException(filename);
-			// Create the InputStream for the ZIP entry.
-			try (InputStream inputStream =
-					zipFile.getInputStream(zipEntry)) {
-				/*
-				 * Stop when the buffer is full or it reached the end of
-				 * the ZIP entry.
-				 */
-				while ((bytesRead = inputStream.read(buffer)) != -1) {
-					stream.write(buffer, 0, bytesRead);
-				}
-			}
+	public final CompletableFuture<PacROMSet> importROMSetAsync(
+			final Executor ioExecutor,
+			final Executor cpuExecutor) {
+		PacIOTrace trace = getTrace(PacIOPhase.IMPORT);
+		long start = trace.start();
+		String name = getName();
+		return PacAsyncTask.run(trace, ioExecutor, this::readFile,
+				cpuExecutor, file -> new PacROMSetImporter(
+						PacSource.of(file, name), options)
+						.importROMSet(trace, start));
+	}
+	
+	/**
+	 * Imports the ROM set, reporting its timings to a trace that has
+	 * already been started.
+	 * 
+	 * @param trace The trace that the timings are reported to.
+	 * @param start The time that the import started at.
+	 * @return A unified ROM set built off of the existing ROM set ZIP
+	 * file.
+	 * @throws FileNotFoundException When no PacCatalog has all of its
+	 * ROMs in the ZIP file.
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	private final PacROMSet importROMSet(
+			final PacIOTrace trace,
+			final long start) throws IOException {
+		try (PacArchive pacArchive = openArchive(trace)) {
+			PacCatalogMatch pacCatalogMatch =
+					matchPacCatalog(pacArchive, trace);
+			PacROMSet pacROMSet =
+					importROMSet(pacArchive, pacCatalogMatch, trace);
+			trace.imported(pacCatalogMatch, start);
+			return pacROMSet;
 		}
-		// Return the byte array.
-		return stream.toByteArray();
 	}
 	
 	/**
-	 * Concatenate the program ROMs from the ZIP file into a single byte
-	 * array.
+	 * Reads the whole ROM set ZIP file, or the rest of its stream, into a
+	 * heap buffer.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param pacCatalog The PacCatalog needed to access the list.
-	 * @return A concatenated byte array of program data.
-	 * @throws IOException When reading the ZIP file fails.
+	 * @return The bytes of the file.
+	 * @throws IOException When reading the file fails.
+	 */
+	private final ByteBuffer readFile() throws IOException {
+		if (inputStream == null) return pacSource.read(false);
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int length;
+		while ((length = inputStream.read(buffer)) != -1) {
+			file.write(buffer, 0, length);
+		}
+		return ByteBuffer.wrap(file.toByteArray());
+	}
+	
+	/**
+	 * Matches the ROM set ZIP file against the PacCatalog objects, first
+	 * by the filenames of its entries and then by their checksums.
+	 * 
+	 * @param pacArchive The archive that will be used to list the
+	 * entries.
+	 * @param trace The trace that the time taken is reported to.
+	 * @return The result of matching the entries of the ZIP file against
+	 * the PacCatalog objects.
 	 */
-	private final byte[] concatProgramROMs(
-			final ZipFile zipFile,
-			final PacCatalog pacCatalog) throws IOException {
-		return concatROMs(zipFile, pacCatalog.getProgramROMNames());
+	final PacCatalogMatch matchPacCatalog(
+			final PacArchive pacArchive,
+			final PacIOTrace trace) {
+		long start = trace.start();
+		PacCatalogMatch pacCatalogMatch = detectPacCatalog(pacArchive);
+		// Fall back to the checksums when a ROM set has renamed ROMs.
+		if (!pacCatalogMatch.isComplete()) {
+			PacCatalogMatch crcMatch = identifyPacCatalog(pacArchive);
+			if (crcMatch.isComplete()) pacCatalogMatch = crcMatch;
+		}
+		trace.catalogDetected(pacCatalogMatch, start);
+		return pacCatalogMatch;
 	}
 	
 	/**
-	 * Concatenate the graphic ROMs from the ZIP file into a single byte
-	 * array.
+	 * Imports the ROM set from an opened archive, using the PacCatalog it
+	 * has been matched against.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param pacCatalog The PacCatalog needed to access the list.
-	 * @return A concatenated byte array of graphic data.
+	 * @param pacArchive The archive that will be used to access the ROM
+	 * entries.
+	 * @param pacCatalogMatch The result of matching the archive against
+	 * the PacCatalog objects.
+	 * @param trace The trace that the timings of the regions and of the
+	 * assembly are reported to.
+	 * @return A unified ROM set built off of the existing ROM set ZIP
+	 * file.
+	 * @throws FileNotFoundException When the match isn't complete.
 	 * @throws IOException When reading the ZIP file fails.
 	 */
-	private final byte[] concatGraphicROMs(
-			final ZipFile zipFile,
-			final PacCatalog pacCatalog) throws IOException {
-		return concatROMs(zipFile, pacCatalog.getGraphicROMNames());
+	final PacROMSet importROMSet(
+			final PacArchive pacArchive,
+			final PacCatalogMatch pacCatalogMatch,
+			final PacIOTrace trace) throws IOException {
+		long start = trace.start();
+		PacROMSet pacROMSet =
+				readROMSet(pacArchive, pacCatalogMatch, trace);
+		// Share the identical regions when there's a pool.
+		PacRegionPool regionPool = options.getRegionPool();
+		if (regionPool != null)
+			pacROMSet = regionPool.intern(pacROMSet, true);
+		trace.assembled(start);
+		return pacROMSet;
 	}
 	
 	/**
-	 * Concatenate the color ROMs from the ZIP file into a single byte
-	 * array.
+	 * Reads the ROMs of every requested region in the archive.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param pacCatalog The PacCatalog needed to access the list.
-	 * @return A concatenated byte array of color data.
+	 * <p>The ROMs of each region are concatenated in the order of the
+	 * catalog, on the executor of the options if there is one.</p>
+	 * 
+	 * @param pacArchive The archive that will be used to access the ROM
+	 * entries.
+	 * @param pacCatalogMatch The result of matching the archive against
+	 * the PacCatalog objects.
+	 * @param trace The trace that the timings of the regions are reported
+	 * to.
+	 * @return A unified ROM set built off of the existing ROM set ZIP
+	 * file.
+	 * @throws FileNotFoundException When the match is missing a ROM of a
+	 * requested region.
 	 * @throws IOException When reading the ZIP file fails.
 	 */
-	private final byte[] concatColorROMs(
-			final ZipFile zipFile,
-			final PacCatalog pacCatalog) throws IOException {
-		return concatROMs(zipFile, pacCatalog.getColorROMNames());
+	private final PacROMSet readROMSet(
+			final PacArchive pacArchive,
+			final PacCatalogMatch pacCatalogMatch,
+			final PacIOTrace trace) throws IOException {
+		ZipEntry[][] regionEntries =
+				getRegionEntries(pacArchive, pacCatalogMatch);
+		PacROMSet pacROMSet;
+		// Read every region into a single slab when asked to.
+		if (options.isSlabLayout()) {
+			pacROMSet = PacROMReader.readSlab(pacArchive,
+					options.getExecutor(), trace, regionEntries);
+		} else {
+			pacROMSet = PacROMReader.readROMSet(pacArchive,
+					options.getExecutor(), trace, regionEntries);
+		}
+		trace.regionsRead(regionEntries, pacROMSet);
+		return pacROMSet;
 	}
 	
 	/**
-	 * Concatenate the palette ROMs from the ZIP file into a single byte
-	 * array.
+	 * Detects which PacCatalog the ROM set ZIP file belongs to, without
+	 * reading any of its ROMs.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param pacCatalog The PacCatalog needed to access the list.
-	 * @return A concatenated byte array of palette data.
-	 * @throws IOException When reading the ZIP file fails.
+	 * @return The result of matching the entries of the ZIP file against
+	 * the PacCatalog objects.
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	public final PacCatalogMatch detectPacCatalog() throws IOException {
+		PacIOTrace trace = getTrace(PacIOPhase.CATALOG_DETECTION);
+		try (PacArchive pacArchive = openArchive(trace)) {
+			long start = trace.start();
+			PacCatalogMatch pacCatalogMatch = detectPacCatalog(pacArchive);
+			trace.detected(pacCatalogMatch, start);
+			return pacCatalogMatch;
+		} catch (IOException | RuntimeException | Error exception) {
+			trace.failed(exception);
+			throw exception;
+		}
+	}
+	
+	/**
+	 * Detects which PacCatalog the ROM set ZIP file belongs to by going
+	 * through its entry names once.
+	 * 
+	 * @param pacArchive The archive that will be used to list the
+	 * entries.
+	 * @return The result of matching the entries of the ZIP file against
+	 * the PacCatalog objects.
 	 */
-	private final byte[] concatPaletteROMs(
-			final ZipFile zipFile,
-			final PacCatalog pacCatalog) throws IOException {
-		return concatROMs(zipFile, pacCatalog.getPaletteROMNames());
+	private final PacCatalogMatch detectPacCatalog(
+			final PacArchive pacArchive) {
+		List<ZipEntry> zipEntries = pacArchive.getEntries();
+		List<String> names = new ArrayList<>(zipEntries.size());
+		for (ZipEntry zipEntry : zipEntries) {
+			names.add(zipEntry.getName());
+		}
+		return PacCatalogManager.matchROMNames(names);
 	}
 	
 	/**
-	 * Concatenate the sound ROMs from the ZIP file into a single byte
-	 * array.
+	 * Identifies which PacCatalog the ROM set ZIP file belongs to by the
+	 * CRC32 checksums and sizes of its entries, without decompressing any
+	 * of its ROMs.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param pacCatalog The PacCatalog needed to access the list.
-	 * @return A concatenated byte array of sound data.
-	 * @throws IOException When reading the ZIP file fails.
+	 * <p>Unlike the {@link #detectPacCatalog} method, this still finds
+	 * the ROMs that have been renamed, and it also makes sure the ROMs are
+	 * the expected ones.</p>
+	 * 
+	 * @return The result of matching the entries of the ZIP file against
+	 * the PacCatalog objects.
+	 * @throws IOException When accessing the ZIP file fails.
 	 */
-	private final byte[] concatSoundROMs(
-			final ZipFile zipFile,
-			final PacCatalog pacCatalog) throws IOException {
-		return concatROMs(zipFile, pacCatalog.getSoundROMNames());
+	public final PacCatalogMatch identifyPacCatalog() throws IOException {
+		PacIOTrace trace = getTrace(PacIOPhase.CATALOG_DETECTION);
+		try (PacArchive pacArchive = openArchive(trace)) {
+			long start = trace.start();
+			PacCatalogMatch pacCatalogMatch = identifyPacCatalog(pacArchive);
+			trace.detected(pacCatalogMatch, start);
+			return pacCatalogMatch;
+		} catch (IOException | RuntimeException | Error exception) {
+			trace.failed(exception);
+			throw exception;
+		}
 	}
 	
 	/**
-	 * Concatenate the mystery ROMs from the ZIP file into a single byte
-	 * array.
+	 * Identifies which PacCatalog the ROM set ZIP file belongs to by going
+	 * through the checksums in its central directory once.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param pacCatalog The PacCatalog needed to access the list.
-	 * @return A concatenated byte array of mystery data.
-	 * @throws IOException When reading the ZIP file fails.
+	 * @param pacArchive The archive that will be used to list the
+	 * entries.
+	 * @return The result of matching the entries of the ZIP file against
+	 * the PacCatalog objects.
+	 */
+	private final PacCatalogMatch identifyPacCatalog(
+			final PacArchive pacArchive) {
+		return PacCatalogManager.matchROMCRCs(pacArchive.getEntries());
+	}
+	
+	/**
+	 * Opens the ROM set ZIP file with the type of archive in the
+	 * options, or reads it through from its stream if there's one.
+	 * 
+	 * @param trace The trace that the time taken is reported to.
+	 * @return The opened archive.
+	 * @throws IOException When opening the ZIP file fails.
+	 */
+	final PacArchive openArchive(final PacIOTrace trace) throws IOException {
+		long start = trace.start();
+		PacArchive pacArchive = inputStream != null
+				? new PacStreamArchive(inputStream)
+				: pacSource.openArchive(options.getArchiveType());
+		trace.archiveOpened(start);
+		return pacArchive;
+	}
+	
+	/**
+	 * Creates a trace that reports the timings of importing the ROM set,
+	 * or of detecting its catalog, to the listener of the options and to
+	 * the Flight Recorder.
+	 * 
+	 * @param phase The operation, which is {@link PacIOPhase#IMPORT} or
+	 * {@link PacIOPhase#CATALOG_DETECTION}.
+	 * @return The trace, which measures nothing when there's no listener
+	 * and the event isn't being recorded.
+	 */
+	final PacIOTrace getTrace(final PacIOPhase phase) {
+		return PacIOTrace.of(options.getListener(), phase, getName());
+	}
+	
+	/**
+	 * Gets the name of the ROM set ZIP file, used in error messages.
+	 * 
+	 * @return The name of the source, or the name of a stream.
+	 */
+	private final String getName() {
+		return pacSource != null ? pacSource.getName() : STREAM_NAME;
+	}
+	
+	/**
+	 * Looks up the ROM entries of every requested region in the ZIP file.
+	 * 
+	 * @param pacArchive The archive that will be used to access the ROM
+	 * entries.
+	 * @param pacCatalogMatch The match needed to access the list.
+	 * @return The entries of each region, indexed by {@link PacRegion},
+	 * or null for the regions that aren't requested.
+	 * @throws FileNotFoundException When the match is missing a ROM of a
+	 * requested region, or when an entry isn't found.
+	 * @throws ZipException When an entry doesn't have the size of its ROM
+	 * chip.
 	 */
-	private final byte[] concatMysteryROMs(
-			final ZipFile zipFile,
-			final PacCatalog pacCatalog) throws IOException {
-		return concatROMs(zipFile, pacCatalog.getMysteryROMNames());
+	private final ZipEntry[][] getRegionEntries(
+			final PacArchive pacArchive,
+			final PacCatalogMatch pacCatalogMatch)
+			throws FileNotFoundException, ZipException {
+		PacRegion[] pacRegions = PacRegion.values();
+		ZipEntry[][] regionEntries = new ZipEntry[pacRegions.length][];
+		for (PacRegion pacRegion : options.getRegions()) {
+			String[] entryNames = pacCatalogMatch.getPacCatalog() == null
+					? null : pacCatalogMatch.getEntryNames(pacRegion);
+			// Throw an error when a requested region isn't complete.
+			if (entryNames == null
+					|| Arrays.asList(entryNames).contains(null))
+				throw new FileNotFoundException(pacCatalogMatch.toString());
+			ZipEntry[] zipEntries =
+					PacROMReader.getEntries(pacArchive, entryNames);
+			// Check the sizes before anything is allocated for them.
+			PacROMReader.checkSizes(zipEntries, pacCatalogMatch
+					.getPacCatalog().getROMChips(pacRegion));
+			regionEntries[pacRegion.ordinal()] = zipEntries;
+		}
+		return regionEntries;
 	}
 	
 	/**
 	 * Constructs an instance of the ROM set importer.
 	 * 
-	 * @param path The file path to the unified ROM set.
+	 * @param path The file path to the original ROM set.
+	 * @param options The options used when importing the ROM set.
+	 */
+	public PacROMSetImporter(
+			final String path,
+			final PacROMSetOptions options) {
+		this(Paths.get(path), options);
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer with the default
+	 * options.
+	 * 
+	 * @param path The file path to the original ROM set.
 	 */
 	public PacROMSetImporter(final String path) {
-		this.path = path;
+		this(path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer that reads the ROM set
+	 * from a file path on any file system.
+	 * 
+	 * @param path The file path to the original ROM set.
+	 * @param options The options used when importing the ROM set.
+	 */
+	public PacROMSetImporter(
+			final Path path,
+			final PacROMSetOptions options) {
+		this(PacSource.of(path), options);
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer that reads the ROM set
+	 * from a file path on any file system with the default options.
+	 * 
+	 * @param path The file path to the original ROM set.
+	 */
+	public PacROMSetImporter(final Path path) {
+		this(path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer that reads the ROM set
+	 * from a channel that's already open.
+	 * 
+	 * <p>The channel is read from its start, but it isn't closed. It's
+	 * read into memory unless it's a {@link FileChannel} that can be
+	 * mapped with {@link PacArchiveType#MAPPED}.</p>
+	 * 
+	 * @param channel The channel of the original ROM set.
+	 * @param options The options used when importing the ROM set.
+	 */
+	public PacROMSetImporter(
+			final SeekableByteChannel channel,
+			final PacROMSetOptions options) {
+		this(PacSource.of(channel), options);
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer that reads the ROM set
+	 * from a buffer holding the whole file, from its position to its limit.
+	 * 
+	 * <p>The buffer is read in place, so it must not be modified while
+	 * the ROM set is imported.</p>
+	 * 
+	 * @param buffer The bytes of the original ROM set.
+	 * @param options The options used when importing the ROM set.
+	 */
+	public PacROMSetImporter(
+			final ByteBuffer buffer,
+			final PacROMSetOptions options) {
+		this(PacSource.of(buffer), options);
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer that reads the ROM
+	 * set ZIP file from a stream.
+	 * 
+	 * <p>The stream is read until its end, but it isn't closed. The type
+	 * of archive in the options is ignored.</p>
+	 * 
+	 * @param inputStream The stream of the original ROM set.
+	 * @param options The options used when importing the ROM set.
+	 */
+	public PacROMSetImporter(
+			final InputStream inputStream,
+			final PacROMSetOptions options) {
+		this.pacSource = null;
+		this.inputStream = inputStream;
+		this.options = options;
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer that reads the ROM
+	 * set ZIP file from a stream with the default options.
+	 * 
+	 * @param inputStream The stream of the original ROM set.
+	 */
+	public PacROMSetImporter(final InputStream inputStream) {
+		this(inputStream, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set importer that reads the ROM
+	 * set ZIP file from a source.
+	 * 
+	 * @param pacSource The source of the original ROM set.
+	 * @param options The options used when importing the ROM set.
+	 */
+	private PacROMSetImporter(
+			final PacSource pacSource,
+			final PacROMSetOptions options) {
+		this.pacSource = pacSource;
+		this.inputStream = null;
+		this.options = options;
 	}
 }
@@ -16,170 +16,486 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
-import java.io.ByteArrayOutputStream;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 /**
  * A class used to open unified <i>Pac-Man</i> ROM set ZIP files from
  * disk.
  * 
- * @version 1.0.0-alpha
+ * <p>A unified ROM set saved as a {@code .pacrom} file is opened as well,
+ * which is found by the magic number at the start of the file rather
+ * than by its name. See {@link PacROMSetFormat#PACROM} for more
+ * information.</p>
+ * 
+ * <p>With the {@link PacROMSetOptions#withLazyLoading withLazyLoading}
+ * option, the ZIP file is kept open and each region is only read the
+ * first time it's used.</p>
+ * 
+ * <p>Besides a file path, the unified ROM set can be read from a
+ * {@link Path} on any file system, from a channel that's already open, or
+ * from a buffer that holds the whole file in memory, without a round trip
+ * through the file system.</p>
+ * 
+ * <p>A unified ROM set saved with STORED entries is opened without
+ * decompressing anything. When it's opened with
+ * {@link PacArchiveType#MAPPED}, its regions are slices of the mapped
+ * file, so they aren't copied either until one of the {@code getXxxData}
+ * methods asks for them.</p>
+ * 
+ * <p>The {@link #openROMSetAsync(Executor, Executor) openROMSetAsync}
+ * method opens the ROM set without blocking the calling thread, with the
+ * file read on one executor and its regions decompressed on another.</p>
+ * 
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class PacROMSetOpener implements PacROMSetFilenames {
 	
 	/**
-	 * The size of a buffer used to read the file entries in a ZIP file.
+	 * The source of the unified ROM set file.
 	 */
-	private static final int BUFFER_SIZE = 256;
+	private final PacSource pacSource;
 	
 	/**
-	 * The file path to the unified ROM set ZIP file.
+	 * The options used when opening the ROM set.
 	 */
-	private final String path;
+	private final PacROMSetOptions options;
 	
 	/**
 	 * Opens the unified ROM set from disk.
 	 * 
+	 * <p>When the options have a listener, the timings of each phase are
+	 * reported to it.</p>
+	 * 
 	 * @return A unified Pac-Man ROM set with all the data loaded to
 	 * memory.
 	 * @throws IOException When the opening process fails.
 	 */
 	public final PacROMSet openROMSet() throws IOException {
-		ZipFile zipFile = new ZipFile(path);
-		byte[] programData = openProgramROM(zipFile);
-		byte[] graphicData = openGraphicROM(zipFile);
-		byte[] colorData = openColorROM(zipFile);
-		byte[] paletteData = openPaletteROM(zipFile);
-		byte[] soundData = openSoundROM(zipFile);
-		byte[] mysteryData = openMysteryROM(zipFile);
-		return new PacROMSet(
-				programData, graphicData, colorData, paletteData,
-				soundData, mysteryData);
+		PacIOTrace trace = PacIOTrace.of(options.getListener(),
+				PacIOPhase.OPEN, pacSource.getName());
+		long start = trace.start();
+		try {
+			PacROMSet pacROMSet = openROMSet(trace);
+			trace.opened(start);
+			return pacROMSet;
+		} catch (IOException | RuntimeException | Error exception) {
+			trace.failed(exception);
+			throw exception;
+		}
 	}
 	
 	/**
-	 * Opens a ROM entry in the unified ROM set ZIP file, loading its byte
-	 * data to memory.
+	 * Opens the unified ROM set asynchronously, reading the file on one
+	 * executor and decompressing its regions on the common
+	 * {@link ForkJoinPool}.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @param name The name of the ROM entry in the unified ROM set ZIP
-	 * file.
-	 * @return The loaded byte data from the ROM entry.
+	 * <p>This works the same way as the {@link #openROMSetAsync(Executor,
+	 * Executor) openROMSetAsync} method.</p>
+	 * 
+	 * @param ioExecutor The executor that reads the file.
+	 * @return The future of the unified ROM set.
+	 */
+	public final CompletableFuture<PacROMSet> openROMSetAsync(
+			final Executor ioExecutor) {
+		return openROMSetAsync(ioExecutor, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Opens the unified ROM set asynchronously, without blocking the
+	 * calling thread.
+	 * 
+	 * <p>The whole file is read into memory on the I/O executor, whatever
+	 * the type of archive in the options is. Its format is then detected
+	 * and its regions are decompressed on the CPU executor, which never
+	 * touches the disk, even for a lazy ROM set. The executor of the
+	 * options, if there's one, is still used to decompress the regions in
+	 * parallel.</p>
+	 * 
+	 * <p>Cancelling the returned future skips the stages that haven't
+	 * started yet. A failure completes the future with the IOException
+	 * that {@link #openROMSet()} would have thrown.</p>
+	 * 
+	 * @param ioExecutor The executor that reads the file.
+	 * @param cpuExecutor The executor that decompresses the regions.
+	 * @return The future of the unified ROM set.
+	 */
+	public final CompletableFuture<PacROMSet> openROMSetAsync(
+			final Executor ioExecutor,
+			final Executor cpuExecutor) {
+		PacIOTrace trace = PacIOTrace.of(options.getListener(),
+				PacIOPhase.OPEN, pacSource.getName());
+		long start = trace.start();
+		String name = pacSource.getName();
+		return PacAsyncTask.run(trace, ioExecutor,
+				() -> pacSource.read(false), cpuExecutor, file -> {
+					PacROMSet pacROMSet = new PacROMSetOpener(
+							PacSource.of(file, name), options)
+							.openROMSet(trace);
+					trace.opened(start);
+					return pacROMSet;
+				});
+	}
+	
+	/**
+	 * Opens the unified ROM set in the format of the file.
+	 * 
+	 * @param trace The trace that the timings are reported to.
+	 * @return A unified Pac-Man ROM set.
 	 * @throws IOException When the opening process fails.
 	 */
-	private final byte[] openROM(final ZipFile zipFile, final String name)
+	private final PacROMSet openROMSet(final PacIOTrace trace)
 			throws IOException {
-		ByteArrayOutputStream stream = new ByteArrayOutputStream();
-		ZipEntry zipEntry = zipFile.getEntry(name);
-		byte[] buffer = new byte[BUFFER_SIZE];
-		int bytesRead = 0;
-		// Throw an error when the ROM entry isn't found.
-		if (zipEntry == null) throw new FileNotFoundException(name);
-		// Create the InputStream for the ZIP entry.
-		try (InputStream inputStream =
-				zipFile.getInputStream(zipEntry)) {
-			/*
-			 * Stop when the buffer is full or it reached the end of
-			 * the ZIP entry.
-			 */
-			while ((bytesRead = inputStream.read(buffer)) != -1) {
-				stream.write(buffer, 0, bytesRead);
+		PacROMSet pacROMSet;
+		long start;
+		if (detectFormat() == PacROMSetFormat.PACROM) {
+			start = trace.start();
+			pacROMSet = PacROMFile.read(pacSource, options);
+		} else if (options.isLazyLoading() && !options.isSlabLayout()
+				&& options.getRegionPool() == null) {
+			return openLazyROMSet(trace);
+		} else {
+			try (PacArchive pacArchive = openArchive(trace)) {
+				start = trace.start();
+				pacROMSet = readROMSet(pacArchive, trace);
 			}
 		}
-		// Return the byte array.
-		return stream.toByteArray();
+		// Share the identical regions when there's a pool.
+		PacRegionPool regionPool = options.getRegionPool();
+		if (regionPool != null)
+			pacROMSet = regionPool.intern(pacROMSet, true);
+		trace.assembled(start);
+		return pacROMSet;
 	}
 	
 	/**
-	 * Opens the program.bin file in the unified ROM set.
+	 * Opens the unified ROM set without reading any of its regions, which
+	 * are read from the archive the first time they're used.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @return The full byte data of the program.bin file.
+	 * @param trace The trace that the timings of the regions are reported
+	 * to when they're read.
+	 * @return A lazy unified Pac-Man ROM set, which holds on to the
+	 * archive until every region has been loaded or it's closed.
 	 * @throws IOException When the opening process fails.
 	 */
-	private final byte[] openProgramROM(final ZipFile zipFile)
+	private final PacROMSet openLazyROMSet(final PacIOTrace trace)
 			throws IOException {
-		return openROM(zipFile, getProgramName());
+		PacArchive pacArchive = openArchive(trace);
+		try {
+			return new PacROMSet(new ArchiveRegionLoader(
+					pacArchive, getRegionEntries(pacArchive), trace));
+		} catch (IOException | RuntimeException exception) {
+			// Don't leave the archive open when a ROM entry is missing.
+			pacArchive.close();
+			throw exception;
+		}
 	}
 	
 	/**
-	 * Opens the graphic.bin file in the unified ROM set.
+	 * Opens the unified ROM set ZIP file with the type of archive in the
+	 * options.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @return The full byte data of the graphic.bin file.
-	 * @throws IOException When the opening process fails.
+	 * @param trace The trace that the time taken is reported to.
+	 * @return The opened archive.
+	 * @throws IOException When opening the ZIP file fails.
 	 */
-	private final byte[] openGraphicROM(final ZipFile zipFile)
+	private final PacArchive openArchive(final PacIOTrace trace)
 			throws IOException {
-		return openROM(zipFile, getGraphicName());
+		long start = trace.start();
+		PacArchive pacArchive =
+				pacSource.openArchive(options.getArchiveType());
+		trace.archiveOpened(start);
+		return pacArchive;
 	}
 	
 	/**
-	 * Opens the color.bin file in the unified ROM set.
+	 * Detects the format of the unified ROM set by the first bytes of the
+	 * file.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @return The full byte data of the color.bin file.
-	 * @throws IOException When the opening process fails.
+	 * @return The format of the file, which is
+	 * {@link PacROMSetFormat#ZIP} unless the file starts with the magic
+	 * number of a {@code .pacrom} file.
+	 * @throws IOException When reading the file fails.
 	 */
-	private final byte[] openColorROM(final ZipFile zipFile)
-			throws IOException {
-		return openROM(zipFile, getColorName());
+	public final PacROMSetFormat detectFormat() throws IOException {
+		return PacROMFile.isPacROMFile(pacSource)
+				? PacROMSetFormat.PACROM : PacROMSetFormat.ZIP;
 	}
 	
 	/**
-	 * Opens the palette.bin file in the unified ROM set.
+	 * Reads every requested ROM entry in the unified ROM set ZIP file.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @return The full byte data of the palette.bin file.
+	 * @param pacArchive The archive that will be used to access the ROM
+	 * entries.
+	 * @param trace The trace that the timings of the regions are reported
+	 * to.
+	 * @return A unified Pac-Man ROM set with all the data loaded to
+	 * memory.
 	 * @throws IOException When the opening process fails.
 	 */
-	private final byte[] openPaletteROM(final ZipFile zipFile)
-			throws IOException {
-		return openROM(zipFile, getPaletteName());
+	private final PacROMSet readROMSet(
+			final PacArchive pacArchive,
+			final PacIOTrace trace) throws IOException {
+		ZipEntry[][] regionEntries = getRegionEntries(pacArchive);
+		PacROMSet pacROMSet;
+		if (!options.isSlabLayout() && isStored(regionEntries)) {
+			// Slice the regions out of the archive when they aren't
+			// compressed.
+			pacROMSet = sliceRegions(pacArchive, regionEntries, trace);
+		} else if (options.isSlabLayout()) {
+			// Read every region into a single slab when asked to.
+			pacROMSet = PacROMReader.readSlab(pacArchive,
+					options.getExecutor(), trace, regionEntries);
+		} else {
+			pacROMSet = PacROMReader.readROMSet(pacArchive,
+					options.getExecutor(), trace, regionEntries);
+		}
+		trace.regionsRead(regionEntries, pacROMSet);
+		return pacROMSet;
 	}
 	
 	/**
-	 * Opens the sound.bin file in the unified ROM set.
+	 * Looks up the ROM entry of every requested region in the unified ROM
+	 * set ZIP file.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @return The full byte data of the sound.bin file.
-	 * @throws IOException When the opening process fails.
+	 * @param pacArchive The archive that will be used to access the ROM
+	 * entries.
+	 * @return The entries of each region, indexed by {@link PacRegion},
+	 * or null for the regions that aren't requested.
+	 * @throws FileNotFoundException When a ROM entry isn't found.
 	 */
-	private final byte[] openSoundROM(final ZipFile zipFile)
-			throws IOException {
-		return openROM(zipFile, getSoundName());
+	private final ZipEntry[][] getRegionEntries(final PacArchive pacArchive)
+			throws FileNotFoundException {
+		ZipEntry[][] regionEntries =
+				new ZipEntry[PacRegion.values().length][];
+		for (PacRegion pacRegion : options.getRegions()) {
+			regionEntries[pacRegion.ordinal()] = PacROMReader.getEntries(
+					pacArchive, getName(pacRegion));
+		}
+		return regionEntries;
 	}
 	
 	/**
-	 * Opens the mystery.bin file in the unified ROM set.
+	 * Slices the regions out of the archive without decompressing them,
+	 * which doesn't copy them either when the archive is mapped.
 	 * 
-	 * @param zipFile The ZIP file that will be used to access the ROM
-	 * entry.
-	 * @return The full byte data of the mystery.bin file.
+	 * @param pacArchive The archive that will be used to access the ROM
+	 * entries.
+	 * @param regionEntries The STORED entries of each region, or null for
+	 * the regions that aren't requested.
+	 * @param trace The trace that the time taken by each region is added
+	 * to.
+	 * @return A unified Pac-Man ROM set backed by the archive's buffers.
 	 * @throws IOException When the opening process fails.
 	 */
-	private final byte[] openMysteryROM(final ZipFile zipFile)
-			throws IOException {
-		return openROM(zipFile, getMysteryName());
+	private final PacROMSet sliceRegions(
+			final PacArchive pacArchive,
+			final ZipEntry[][] regionEntries,
+			final PacIOTrace trace) throws IOException {
+		ByteBuffer[] buffers = new ByteBuffer[regionEntries.length];
+		for (int region = 0; region < regionEntries.length; region++) {
+			if (regionEntries[region] == null) continue;
+			long start = trace.start();
+			buffers[region] = pacArchive.getBuffer(regionEntries[region][0]);
+			trace.regionTime(region, start);
+		}
+		return new PacROMSet(buffers[0], buffers[1], buffers[2],
+				buffers[3], buffers[4], buffers[5]);
+	}
+	
+	/**
+	 * Checks if every region is a single STORED entry.
+	 * 
+	 * @param regionEntries The entries of each region, or null for the
+	 * regions that aren't requested.
+	 * @return True if none of the regions are compressed.
+	 */
+	private static final boolean isStored(final ZipEntry[][] regionEntries) {
+		for (ZipEntry[] zipEntries : regionEntries) {
+			if (zipEntries == null) continue;
+			if (zipEntries.length != 1
+					|| zipEntries[0].getMethod() != ZipEntry.STORED)
+				return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * A loader that reads the regions of a lazy ROM set out of an open
+	 * archive.
+	 */
+	private static final class ArchiveRegionLoader
+			implements PacRegionLoader {
+		
+		/**
+		 * The archive that the regions are read from.
+		 */
+		private final PacArchive pacArchive;
+		
+		/**
+		 * The entries of each region, indexed by {@link PacRegion}, or
+		 * null for the regions that aren't requested.
+		 */
+		private final ZipEntry[][] regionEntries;
+		
+		/**
+		 * The trace that the timings of the regions are reported to.
+		 */
+		private final PacIOTrace trace;
+		
+		@Override
+		public final int getLength(final PacRegion pacRegion) {
+			ZipEntry[] zipEntries = regionEntries[pacRegion.ordinal()];
+			if (zipEntries == null) return 0;
+			return (int) PacROMReader.getTotalSize(zipEntries);
+		}
+		
+		@Override
+		public final ByteBuffer load(final PacRegion pacRegion)
+				throws IOException {
+			ZipEntry[] zipEntries = regionEntries[pacRegion.ordinal()];
+			if (zipEntries == null) return null;
+			long start = trace.start();
+			ByteBuffer buffer;
+			// Slice the region out of the archive when it isn't
+			// compressed.
+			if (zipEntries.length == 1
+					&& zipEntries[0].getMethod() == ZipEntry.STORED) {
+				buffer = pacArchive.getBuffer(zipEntries[0]);
+			} else {
+				buffer = ByteBuffer.wrap(
+						PacROMReader.readEntries(pacArchive, zipEntries));
+			}
+			trace.regionLoaded(pacRegion, zipEntries, buffer, start);
+			return buffer;
+		}
+		
+		@Override
+		public final void close() throws IOException {
+			pacArchive.close();
+		}
+		
+		/**
+		 * Constructs an instance of the archive region loader.
+		 * 
+		 * @param pacArchive The archive that the regions are read from.
+		 * @param regionEntries The entries of each region.
+		 * @param trace The trace that the timings of the regions are
+		 * reported to.
+		 */
+		private ArchiveRegionLoader(
+				final PacArchive pacArchive,
+				final ZipEntry[][] regionEntries,
+				final PacIOTrace trace) {
+			this.pacArchive = pacArchive;
+			this.regionEntries = regionEntries;
+			this.trace = trace;
+		}
 	}
 	
 	/**
 	 * Constructs an instance of the unified ROM set opener.
 	 * 
 	 * @param path The file path to the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 */
+	public PacROMSetOpener(
+			final String path,
+			final PacROMSetOptions options) {
+		this(Paths.get(path), options);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set opener with the
+	 * default options.
+	 * 
+	 * @param path The file path to the unified ROM set.
 	 */
 	public PacROMSetOpener(final String path) {
-		this.path = path;
+		this(path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set opener that reads the ROM
+	 * set from a file path on any file system.
+	 * 
+	 * @param path The file path to the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 */
+	public PacROMSetOpener(
+			final Path path,
+			final PacROMSetOptions options) {
+		this(PacSource.of(path), options);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set opener that reads the ROM
+	 * set from a file path on any file system with the default options.
+	 * 
+	 * @param path The file path to the unified ROM set.
+	 */
+	public PacROMSetOpener(final Path path) {
+		this(path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set opener that reads the ROM
+	 * set from a channel that's already open.
+	 * 
+	 * <p>The channel is read from its start, but it isn't closed. It's
+	 * read into memory unless it's a {@link FileChannel} that can be
+	 * mapped with {@link PacArchiveType#MAPPED}.</p>
+	 * 
+	 * @param channel The channel of the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 */
+	public PacROMSetOpener(
+			final SeekableByteChannel channel,
+			final PacROMSetOptions options) {
+		this(PacSource.of(channel), options);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set opener that reads the ROM
+	 * set from a buffer holding the whole file, from its position to its limit.
+	 * 
+	 * <p>The buffer is read in place, so it must not be modified while
+	 * the ROM set is open. Its regions can be slices of the buffer, like
+	 * they are of a mapped file.</p>
+	 * 
+	 * @param buffer The bytes of the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 */
+	public PacROMSetOpener(
+			final ByteBuffer buffer,
+			final PacROMSetOptions options) {
+		this(PacSource.of(buffer), options);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set opener that reads the
+	 * ROM set from a source.
+	 * 
+	 * @param pacSource The source of the unified ROM set.
+	 * @param options The options used when opening the ROM set.
+	 */
+	private PacROMSetOpener(
+			final PacSource pacSource,
+			final PacROMSetOptions options) {
+		this.pacSource = pacSource;
+		this.options = options;
 	}
 }
@@ -0,0 +1,546 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOListener;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+
+/**
+ * A class that holds the options used when importing, opening, or saving
+ * a unified <i>Pac-Man</i> ROM set.
+ * 
+ * <p>Options are immutable. Each of the {@code with} methods returns a
+ * copy of the options with one of them changed, so they can be chained
+ * together starting from {@link #DEFAULT}, and shared between
+ * threads.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacROMSetOptions {
+	
+	/**
+	 * The default alignment of the data of STORED entries, which is the
+	 * size of a memory page on most systems.
+	 */
+	public static final int DEFAULT_ALIGNMENT = 4096;
+	
+	/**
+	 * The default options.
+	 */
+	public static final PacROMSetOptions DEFAULT = new PacROMSetOptions(
+			PacArchiveType.ZIP_FILE, false, null, null, false,
+			DEFAULT_ALIGNMENT, Deflater.DEFAULT_COMPRESSION,
+			Deflater.DEFAULT_STRATEGY, PacROMSetFormat.ZIP, false,
+			Collections.unmodifiableSet(EnumSet.allOf(PacRegion.class)), null);
+	
+	/**
+	 * Error message used when the alignment isn't a power of two.
+	 */
+	private static final String ALIGNMENT_MESSAGE =
+			"Alignment must be a power of two up to 32768: %d";
+	
+	/**
+	 * Error message used when the compression level is out of range.
+	 */
+	private static final String LEVEL_MESSAGE =
+			"Compression level must be from -1 to 9: %d";
+	
+	/**
+	 * Error message used when the compression strategy is unknown.
+	 */
+	private static final String STRATEGY_MESSAGE =
+			"Unknown compression strategy: %d";
+	
+	/**
+	 * The type of archive used to read ZIP files.
+	 */
+	private final PacArchiveType archiveType;
+	
+	/**
+	 * Whether the ROM set is read into a single slab.
+	 */
+	private final boolean slabLayout;
+	
+	/**
+	 * The executor used to read and save the ROMs in parallel, or null.
+	 */
+	private final Executor executor;
+	
+	/**
+	 * The pool that lets ROM sets share their identical regions, or null.
+	 */
+	private final PacRegionPool regionPool;
+	
+	/**
+	 * Whether the ROMs are saved as STORED entries.
+	 */
+	private final boolean stored;
+	
+	/**
+	 * The alignment of the data of STORED entries.
+	 */
+	private final int alignment;
+	
+	/**
+	 * The compression level of DEFLATED entries.
+	 */
+	private final int compressionLevel;
+	
+	/**
+	 * The compression strategy of DEFLATED entries.
+	 */
+	private final int compressionStrategy;
+	
+	/**
+	 * The format that the ROM set is saved in.
+	 */
+	private final PacROMSetFormat format;
+	
+	/**
+	 * Whether the regions of an opened ROM set are loaded lazily.
+	 */
+	private final boolean lazyLoading;
+	
+	/**
+	 * The regions that are read when importing or opening a ROM set.
+	 */
+	private final Set<PacRegion> regions;
+	
+	/**
+	 * The listener that receives the timings of each operation, or null.
+	 */
+	private final PacIOListener listener;
+	
+	/**
+	 * Gets the type of archive used to read ZIP files.
+	 * 
+	 * @return The type of archive.
+	 */
+	public final PacArchiveType getArchiveType() {
+		return archiveType;
+	}
+	
+	/**
+	 * Returns a copy of the options with a different type of archive used
+	 * to read ZIP files.
+	 * 
+	 * @param archiveType The type of archive.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withArchiveType(
+			final PacArchiveType archiveType) {
+		if (archiveType == null) throw new NullPointerException();
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Checks if the ROM set is read into a single slab, where every region
+	 * is held back to back in one array.
+	 * 
+	 * @return True if the ROM set has a slab layout.
+	 * @see PacROMSet#isSlab()
+	 */
+	public final boolean isSlabLayout() {
+		return slabLayout;
+	}
+	
+	/**
+	 * Returns a copy of the options that reads the ROM set into a single
+	 * slab or not.
+	 * 
+	 * @param slabLayout True if the ROM set should have a slab layout.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withSlabLayout(final boolean slabLayout) {
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Gets the executor used to read and save the ROMs in parallel.
+	 * 
+	 * @return The executor, or null if the ROMs are read one after
+	 * another on the calling thread.
+	 */
+	public final Executor getExecutor() {
+		return executor;
+	}
+	
+	/**
+	 * Returns a copy of the options with a different executor used to
+	 * read and save the ROMs in parallel.
+	 * 
+	 * <p>Each ROM of a ROM set is decompressed in its own task on the
+	 * executor, such as a {@link java.util.concurrent.ForkJoinPool
+	 * ForkJoinPool}, and the results are put together in the order of the
+	 * catalog. When saving, the regions are compressed in chunks on the
+	 * executor instead. The calling thread waits for every task to
+	 * finish, so a ROM set shouldn't be read or saved from inside a pool
+	 * whose threads are all busy, such as from one of the tasks of the
+	 * executor itself. Its tasks would never get a thread to run on, and
+	 * the calling thread would wait for them forever.</p>
+	 * 
+	 * @param executor The executor, or null to read the ROMs one after
+	 * another on the calling thread.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withExecutor(final Executor executor) {
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Gets the pool that lets ROM sets share their identical regions.
+	 * 
+	 * @return The pool, or null if every ROM set has its own regions.
+	 */
+	public final PacRegionPool getRegionPool() {
+		return regionPool;
+	}
+	
+	/**
+	 * Returns a copy of the options with a different pool that lets ROM
+	 * sets share their identical regions.
+	 * 
+	 * <p>The regions of each imported or opened ROM set are looked up in
+	 * the pool, and the ones that are already there are shared instead of
+	 * being held in memory again. The same pool should be used for every
+	 * ROM set of a collection. ROM sets with a slab layout aren't pooled.
+	 * See the {@link PacRegionPool} class for more information.</p>
+	 * 
+	 * @param regionPool The pool, or null so that every ROM set has its
+	 * own regions.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withRegionPool(
+			final PacRegionPool regionPool) {
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Checks if the ROMs are saved as STORED entries, without being
+	 * compressed.
+	 * 
+	 * @return True if the ROMs are saved as STORED entries.
+	 */
+	public final boolean isStored() {
+		return stored;
+	}
+	
+	/**
+	 * Returns a copy of the options that saves the ROMs as STORED entries
+	 * or DEFLATED ones.
+	 * 
+	 * <p>STORED entries are larger on disk, but opening them doesn't
+	 * decompress anything. The data of each entry starts on a multiple of
+	 * the {@link #getAlignment alignment}, so that opening the ROM set
+	 * with {@link PacArchiveType#MAPPED} reads its regions straight out of
+	 * the mapped file without copying them.</p>
+	 * 
+	 * @param stored True if the ROMs should be saved as STORED entries.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withStored(final boolean stored) {
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Gets the alignment of the data of STORED entries.
+	 * 
+	 * @return The alignment in bytes.
+	 */
+	public final int getAlignment() {
+		return alignment;
+	}
+	
+	/**
+	 * Returns a copy of the options with a different alignment of the data
+	 * of STORED entries.
+	 * 
+	 * @param alignment The alignment in bytes, as a power of two up to
+	 * 32768. An alignment of 1 doesn't align the data.
+	 * @return The copied options.
+	 * @throws IllegalArgumentException When the alignment isn't a power
+	 * of two up to 32768.
+	 */
+	public final PacROMSetOptions withAlignment(final int alignment) {
+		if (alignment < 1 || alignment > PacZipWriter.MAX_ALIGNMENT
+				|| (alignment & (alignment - 1)) != 0)
+			throw new IllegalArgumentException(String.format(
+					ALIGNMENT_MESSAGE, alignment));
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Gets the compression level of DEFLATED entries.
+	 * 
+	 * @return The compression level, as used by the {@link Deflater}
+	 * class.
+	 */
+	public final int getCompressionLevel() {
+		return compressionLevel;
+	}
+	
+	/**
+	 * Returns a copy of the options with a different compression level of
+	 * DEFLATED entries.
+	 * 
+	 * <p>Lower levels save faster, which matters more than the size of the
+	 * file when converting a lot of ROM sets at once.</p>
+	 * 
+	 * @param compressionLevel The compression level, from
+	 * {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION},
+	 * or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @return The copied options.
+	 * @throws IllegalArgumentException When the compression level is out
+	 * of range.
+	 */
+	public final PacROMSetOptions withCompressionLevel(
+			final int compressionLevel) {
+		if (compressionLevel < Deflater.DEFAULT_COMPRESSION
+				|| compressionLevel > Deflater.BEST_COMPRESSION)
+			throw new IllegalArgumentException(String.format(
+					LEVEL_MESSAGE, compressionLevel));
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Gets the compression strategy of DEFLATED entries.
+	 * 
+	 * @return The compression strategy, as used by the {@link Deflater}
+	 * class.
+	 */
+	public final int getCompressionStrategy() {
+		return compressionStrategy;
+	}
+	
+	/**
+	 * Returns a copy of the options with a different compression strategy
+	 * of DEFLATED entries.
+	 * 
+	 * @param compressionStrategy The compression strategy, which is
+	 * {@link Deflater#DEFAULT_STRATEGY}, {@link Deflater#FILTERED}, or
+	 * {@link Deflater#HUFFMAN_ONLY}.
+	 * @return The copied options.
+	 * @throws IllegalArgumentException When the compression strategy is
+	 * unknown.
+	 */
+	public final PacROMSetOptions withCompressionStrategy(
+			final int compressionStrategy) {
+		if (compressionStrategy != Deflater.DEFAULT_STRATEGY
+				&& compressionStrategy != Deflater.FILTERED
+				&& compressionStrategy != Deflater.HUFFMAN_ONLY)
+			throw new IllegalArgumentException(String.format(
+					STRATEGY_MESSAGE, compressionStrategy));
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Gets the format that the ROM set is saved in.
+	 * 
+	 * @return The format of the saved file.
+	 */
+	public final PacROMSetFormat getFormat() {
+		return format;
+	}
+	
+	/**
+	 * Returns a copy of the options with a different format that the ROM
+	 * set is saved in.
+	 * 
+	 * <p>This only changes how the ROM set is saved. The
+	 * {@link PacROMSetOpener} finds the format of a file on its own.</p>
+	 * 
+	 * @param format The format of the saved file.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withFormat(final PacROMSetFormat format) {
+		if (format == null) throw new NullPointerException();
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Checks if the regions of an opened ROM set are only loaded the
+	 * first time they're used.
+	 * 
+	 * @return True if opened ROM sets are lazy.
+	 */
+	public final boolean isLazyLoading() {
+		return lazyLoading;
+	}
+	
+	/**
+	 * Returns a copy of the options that loads the regions of an opened
+	 * ROM set lazily or not.
+	 * 
+	 * <p>A lazy ROM set keeps its ZIP file open, and only reads each
+	 * region the first time one of its getters is called, which saves
+	 * time and memory when only a few of its regions are used. It should
+	 * be closed when it's no longer used. Lazy loading only applies to
+	 * opening ZIP files, and not to the slab layout, to pooled regions,
+	 * or to {@code .pacrom} files, which are read in one go. See the
+	 * {@link PacROMSet} class for more information.</p>
+	 * 
+	 * @param lazyLoading True if opened ROM sets should be lazy.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withLazyLoading(final boolean lazyLoading) {
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Gets the regions that are read when importing or opening a ROM set.
+	 * 
+	 * @return The unmodifiable set of regions.
+	 */
+	public final Set<PacRegion> getRegions() {
+		return regions;
+	}
+	
+	/**
+	 * Returns a copy of the options that only reads some of the regions
+	 * when importing or opening a ROM set.
+	 * 
+	 * <p>The entries of the other regions aren't looked up, read, or
+	 * decompressed at all, and the ROM set has no data for them, so their
+	 * getters return null. Only the ROMs of the requested regions have to
+	 * be in the ZIP file.</p>
+	 * 
+	 * @param regions The regions to read, such as
+	 * {@code EnumSet.of(PacRegion.GRAPHIC, PacRegion.COLOR)}.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withRegions(final Set<PacRegion> regions) {
+		EnumSet<PacRegion> copy = EnumSet.noneOf(PacRegion.class);
+		copy.addAll(regions);
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, Collections.unmodifiableSet(copy), listener);
+	}
+	
+	/**
+	 * Gets the listener that receives the timings of each operation.
+	 * 
+	 * @return The listener, or null if nothing is measured.
+	 */
+	public final PacIOListener getListener() {
+		return listener;
+	}
+	
+	/**
+	 * Returns a copy of the options that reports the timings and byte
+	 * counts of each import, open, and save to a listener.
+	 * 
+	 * <p>Nothing is measured when there's no listener, which is the
+	 * default. The timings can be added up and published over JMX by a
+	 * {@link io.github.thatgarlicdude.pacio.metrics.PacIOMetrics}.</p>
+	 * 
+	 * @param listener The listener, or null to measure nothing.
+	 * @return The copied options.
+	 */
+	public final PacROMSetOptions withListener(
+			final PacIOListener listener) {
+		return new PacROMSetOptions(
+				archiveType, slabLayout, executor, regionPool, stored,
+				alignment, compressionLevel, compressionStrategy, format,
+				lazyLoading, regions, listener);
+	}
+	
+	/**
+	 * Constructs an instance of the options.
+	 * 
+	 * @param archiveType The type of archive used to read ZIP files.
+	 * @param slabLayout Whether the ROM set is read into a single slab.
+	 * @param executor The executor used to read and save the ROMs in
+	 * parallel, or null.
+	 * @param regionPool The pool that lets ROM sets share their identical
+	 * regions, or null.
+	 * @param stored Whether the ROMs are saved as STORED entries.
+	 * @param alignment The alignment of the data of STORED entries.
+	 * @param compressionLevel The compression level of DEFLATED entries.
+	 * @param compressionStrategy The compression strategy of DEFLATED
+	 * entries.
+	 * @param format The format that the ROM set is saved in.
+	 * @param lazyLoading Whether the regions of an opened ROM set are
+	 * loaded lazily.
+	 * @param regions The unmodifiable set of regions that are read.
+	 * @param listener The listener that receives the timings of each
+	 * operation, or null.
+	 */
+	private PacROMSetOptions(
+			final PacArchiveType archiveType,
+			final boolean slabLayout,
+			final Executor executor,
+			final PacRegionPool regionPool,
+			final boolean stored,
+			final int alignment,
+			final int compressionLevel,
+			final int compressionStrategy,
+			final PacROMSetFormat format,
+			final boolean lazyLoading,
+			final Set<PacRegion> regions,
+			final PacIOListener listener) {
+		this.archiveType = archiveType;
+		this.slabLayout = slabLayout;
+		this.executor = executor;
+		this.regionPool = regionPool;
+		this.stored = stored;
+		this.alignment = alignment;
+		this.compressionLevel = compressionLevel;
+		this.compressionStrategy = compressionStrategy;
+		this.format = format;
+		this.lazyLoading = lazyLoading;
+		this.regions = regions;
+		this.listener = listener;
+	}
+}
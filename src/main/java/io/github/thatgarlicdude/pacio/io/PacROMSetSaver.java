@@ -16,15 +16,54 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
-import java.io.FileOutputStream;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A class used to save unified Pac-Man ROM sets.
  * 
- * @version 1.0.0-alpha
+ * <p>The ROMs are saved as DEFLATED entries by default. With the
+ * {@link PacROMSetOptions#withStored withStored} option, they are saved
+ * as STORED entries instead, whose data is aligned in the ZIP file so
+ * that the {@link PacROMSetOpener} can slice the regions straight out of
+ * a mapped file.</p>
+ * 
+ * <p>With the {@link PacROMSetOptions#withExecutor withExecutor} option,
+ * the regions, and the chunks of the larger ones, are compressed in
+ * parallel on the executor, and then written in order.</p>
+ * 
+ * <p>The ZIP file is written straight to a {@link FileChannel}, one
+ * gathering write per entry. The DEFLATED entries are compressed with
+ * the {@link PacROMSetOptions#withCompressionLevel compression level}
+ * and {@link PacROMSetOptions#withCompressionStrategy strategy} of the
+ * options, by deflaters that are reused from one save to the next.</p>
+ * 
+ * <p>With the {@link PacROMSetOptions#withFormat withFormat} option set
+ * to {@link PacROMSetFormat#PACROM}, the ROM set is saved as a
+ * {@code .pacrom} file instead of a ZIP file.</p>
+ * 
+ * <p>Besides a file path, the ROM set can be saved to a {@link Path} on
+ * any file system, or to a channel that's already open, such as one that
+ * writes to memory.</p>
+ * 
+ * <p>The {@link #saveROMSetAsync(Executor, Executor) saveROMSetAsync}
+ * method saves the ROM set without blocking the calling thread, with its
+ * ROMs compressed on one executor and the file written on another.</p>
+ * 
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class PacROMSetSaver implements PacROMSetFilenames {
@@ -35,111 +74,206 @@ public final class PacROMSetSaver implements PacROMSetFilenames {
 	private final PacROMSet pacROMSet;
 	
 	/**
-	 * The destination file path.
+	 * The destination file path, or null when the ROM set is saved to a
+	 * channel.
+	 */
+	private final Path path;
+	
+	/**
+	 * The destination channel, or null when the ROM set is saved to a
+	 * file path.
 	 */
-	private final String path;
+	private final WritableByteChannel channel;
 	
 	/**
-	 * Saves the unified ROM set to disk.
+	 * The options used when saving the ROM set.
+	 */
+	private final PacROMSetOptions options;
+	
+	/**
+	 * Saves the unified ROM set to disk, or to its channel.
+	 * 
+	 * <p>When the options have a listener, the amount of bytes written
+	 * and the time taken are reported to it.</p>
 	 * 
 	 * @throws IOException When the saving process fails.
 	 */
 	public final void saveROMSet() throws IOException {
-		FileOutputStream fos = new FileOutputStream(path);
-		ZipOutputStream zos = new ZipOutputStream(fos);
-		saveProgramROM(zos);
-		saveGraphicROM(zos);
-		saveColorROM(zos);
-		savePaletteROM(zos);
-		saveSoundROM(zos);
-		saveMysteryROM(zos);
-		zos.close();
-		fos.close();
+		PacIOTrace trace = getTrace();
+		long start = trace.start();
+		try {
+			trace.saved(saveROMSet(path), start);
+		} catch (IOException | RuntimeException | Error exception) {
+			trace.failed(exception);
+			throw exception;
+		}
 	}
 	
 	/**
-	 * Saves a specific ROM entry in the unified ROM set ZIP file.
+	 * Saves the unified ROM set asynchronously, compressing its ROMs on
+	 * the common {@link ForkJoinPool} and writing the file on another
+	 * executor.
 	 * 
-	 * @param zos The ZipOutputStream.
-	 * @param name The name of the ZIP file entry.
-	 * @param data The byte array that will be written on the ZIP file
-	 * entry.
-	 * @throws IOException When the saving process fails.
+	 * <p>This works the same way as the {@link #saveROMSetAsync(Executor,
+	 * Executor) saveROMSetAsync} method.</p>
+	 * 
+	 * @param ioExecutor The executor that writes the file.
+	 * @return The future of the save, which completes once the file has
+	 * been written.
 	 */
-	private final void saveROM(
-			final ZipOutputStream zos,
-			final String name,
-			final byte[] data) throws IOException {
-		ZipEntry zipEntry = new ZipEntry(name);
-		zos.putNextEntry(zipEntry);
-		zos.write(data);
-		zos.closeEntry();
+	public final CompletableFuture<Void> saveROMSetAsync(
+			final Executor ioExecutor) {
+		return saveROMSetAsync(ioExecutor, ForkJoinPool.commonPool());
 	}
 	
 	/**
-	 * Saves the program ROM entry in the unified ROM set ZIP file.
+	 * Saves the unified ROM set asynchronously, without blocking the
+	 * calling thread.
 	 * 
-	 * @param zos The ZipOutputStream.
-	 * @throws IOException When the saving process fails.
+	 * <p>The whole file is put together in memory on the CPU executor,
+	 * which compresses the ROMs without touching the disk. It is then
+	 * written to disk, or to the channel, with one write on the I/O
+	 * executor. The executor of the options, if there's one, is still
+	 * used to compress the regions in parallel.</p>
+	 * 
+	 * <p>Cancelling the returned future skips the stages that haven't
+	 * started yet, so the file might not be written at all. A failure
+	 * completes the future with the IOException that
+	 * {@link #saveROMSet()} would have thrown.</p>
+	 * 
+	 * @param ioExecutor The executor that writes the file.
+	 * @param cpuExecutor The executor that compresses the ROMs.
+	 * @return The future of the save, which completes once the file has
+	 * been written.
 	 */
-	private final void saveProgramROM(final ZipOutputStream zos)
-			throws IOException {
-		saveROM(zos, getProgramName(), pacROMSet.getProgramData());
+	public final CompletableFuture<Void> saveROMSetAsync(
+			final Executor ioExecutor,
+			final Executor cpuExecutor) {
+		PacIOTrace trace = getTrace();
+		long start = trace.start();
+		return PacAsyncTask.run(trace, cpuExecutor, this::encodeROMSet,
+				ioExecutor, file -> {
+					trace.saved(writeFile(file), start);
+					return null;
+				});
 	}
 	
 	/**
-	 * Saves the graphic ROM entry in the unified ROM set ZIP file.
+	 * Creates a trace that reports the timings of saving the ROM set to
+	 * the listener of the options and to the Flight Recorder.
 	 * 
-	 * @param zos The ZipOutputStream.
-	 * @throws IOException When the saving process fails.
+	 * @return The trace, which measures nothing when there's no listener
+	 * and the event isn't being recorded.
 	 */
-	private final void saveGraphicROM(final ZipOutputStream zos)
-			throws IOException {
-		saveROM(zos, getGraphicName(), pacROMSet.getGraphicData());
+	private final PacIOTrace getTrace() {
+		return PacIOTrace.of(options.getListener(), PacIOPhase.SAVE,
+				path != null ? path.toString() : channel.toString());
 	}
 	
 	/**
-	 * Saves the color ROM entry in the unified ROM set ZIP file.
+	 * Puts the whole file of the unified ROM set together in memory.
 	 * 
-	 * @param zos The ZipOutputStream.
+	 * @return The bytes of the file.
 	 * @throws IOException When the saving process fails.
 	 */
-	private final void saveColorROM(final ZipOutputStream zos)
-			throws IOException {
-		saveROM(zos, getColorName(), pacROMSet.getColorData());
+	private final ByteBuffer encodeROMSet() throws IOException {
+		FileOutputBuffer file = new FileOutputBuffer();
+		saveROMSet(Channels.newChannel(file));
+		return file.toByteBuffer();
+	}
+	
+	/**
+	 * Writes the bytes of a whole file to the file path, or to the channel
+	 * when there's no file path.
+	 * 
+	 * @param file The bytes of the file.
+	 * @return The amount of bytes written.
+	 * @throws IOException When writing the file fails.
+	 */
+	private final long writeFile(final ByteBuffer file) throws IOException {
+		if (path == null) return writeFile(channel, file);
+		try (FileChannel fileChannel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return writeFile(fileChannel, file);
+		}
+	}
+	
+	/**
+	 * Writes the bytes of a whole file to a channel, without closing it.
+	 * 
+	 * @param channel The channel that the file is written to.
+	 * @param file The bytes of the file.
+	 * @return The amount of bytes written.
+	 * @throws IOException When writing the file fails.
+	 */
+	private static final long writeFile(
+			final WritableByteChannel channel,
+			final ByteBuffer file) throws IOException {
+		long size = file.remaining();
+		while (file.hasRemaining()) {
+			channel.write(file);
+		}
+		return size;
 	}
 	
 	/**
-	 * Saves the palette ROM entry in the unified ROM set ZIP file.
+	 * Saves the unified ROM set to a file path, or to its channel when
+	 * there's no file path.
 	 * 
-	 * @param zos The ZipOutputStream.
+	 * @param path The file path, or null.
+	 * @return The amount of bytes written.
 	 * @throws IOException When the saving process fails.
 	 */
-	private final void savePaletteROM(final ZipOutputStream zos)
-			throws IOException {
-		saveROM(zos, getPaletteName(), pacROMSet.getPaletteData());
+	private final long saveROMSet(final Path path) throws IOException {
+		if (path == null) return saveROMSet(channel);
+		try (FileChannel fileChannel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return saveROMSet(fileChannel);
+		}
 	}
 	
 	/**
-	 * Saves the sound ROM entry in the unified ROM set ZIP file.
+	 * Saves the unified ROM set to a channel, without closing it.
 	 * 
-	 * @param zos The ZipOutputStream.
+	 * @param channel The channel that the ROM set is written to.
+	 * @return The amount of bytes written.
 	 * @throws IOException When the saving process fails.
 	 */
-	private final void saveSoundROM(final ZipOutputStream zos)
+	private final long saveROMSet(final WritableByteChannel channel)
 			throws IOException {
-		saveROM(zos, getSoundName(), pacROMSet.getSoundData());
+		if (options.getFormat() == PacROMSetFormat.PACROM)
+			return PacROMFile.write(pacROMSet, channel);
+		PacZipWriter writer = new PacZipWriter(channel, options.getExecutor());
+		for (PacRegion pacRegion : PacRegion.values()) {
+			ByteBuffer data = pacROMSet.getBuffer(pacRegion);
+			// Skip the regions that the ROM set doesn't have.
+			if (data == null) continue;
+			saveROM(writer, getName(pacRegion), data);
+		}
+		writer.finish();
+		return writer.getSize();
 	}
 	
 	/**
-	 * Saves the mystery ROM entry in the unified ROM set ZIP file.
+	 * Saves a specific ROM entry in the unified ROM set ZIP file.
 	 * 
-	 * @param zos The ZipOutputStream.
+	 * @param writer The PacZipWriter.
+	 * @param name The name of the ZIP file entry.
+	 * @param data The buffer that will be written on the ZIP file entry.
 	 * @throws IOException When the saving process fails.
 	 */
-	private final void saveMysteryROM(final ZipOutputStream zos)
-			throws IOException {
-		saveROM(zos, getMysteryName(), pacROMSet.getMysteryData());
+	private final void saveROM(
+			final PacZipWriter writer,
+			final String name,
+			final ByteBuffer data) throws IOException {
+		if (options.isStored()) {
+			writer.writeStored(name, data, options.getAlignment());
+		} else {
+			writer.writeDeflated(name, data, options.getCompressionLevel(),
+					options.getCompressionStrategy());
+		}
 	}
 	
 	/**
@@ -148,9 +282,93 @@ public final class PacROMSetSaver implements PacROMSetFilenames {
 	 * @param pacROMSet The unified Pac-Man ROM set as an object.
 	 * @param path The destination file path where the unified ROM Set
 	 * will be saved on.
+	 * @param options The options used when saving the ROM set.
+	 */
+	public PacROMSetSaver(
+			final PacROMSet pacROMSet,
+			final String path,
+			final PacROMSetOptions options) {
+		this(pacROMSet, Paths.get(path), options);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set saver with the default
+	 * options.
+	 * 
+	 * @param pacROMSet The unified Pac-Man ROM set as an object.
+	 * @param path The destination file path where the unified ROM Set
+	 * will be saved on.
 	 */
 	public PacROMSetSaver(final PacROMSet pacROMSet, final String path) {
+		this(pacROMSet, path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set saver that saves to a
+	 * file path on any file system.
+	 * 
+	 * @param pacROMSet The unified Pac-Man ROM set as an object.
+	 * @param path The destination file path where the unified ROM Set
+	 * will be saved on.
+	 * @param options The options used when saving the ROM set.
+	 */
+	public PacROMSetSaver(
+			final PacROMSet pacROMSet,
+			final Path path,
+			final PacROMSetOptions options) {
 		this.pacROMSet = pacROMSet;
 		this.path = path;
+		this.channel = null;
+		this.options = options;
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set saver that saves to a
+	 * file path on any file system with the default options.
+	 * 
+	 * @param pacROMSet The unified Pac-Man ROM set as an object.
+	 * @param path The destination file path where the unified ROM Set
+	 * will be saved on.
+	 */
+	public PacROMSetSaver(final PacROMSet pacROMSet, final Path path) {
+		this(pacROMSet, path, PacROMSetOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs an instance of the unified ROM set saver that saves to a
+	 * channel that's already open.
+	 * 
+	 * <p>The ROM set is written from the current position of the channel,
+	 * which is left open.</p>
+	 * 
+	 * @param pacROMSet The unified Pac-Man ROM set as an object.
+	 * @param channel The destination channel.
+	 * @param options The options used when saving the ROM set.
+	 */
+	public PacROMSetSaver(
+			final PacROMSet pacROMSet,
+			final WritableByteChannel channel,
+			final PacROMSetOptions options) {
+		this.pacROMSet = pacROMSet;
+		this.path = null;
+		this.channel = channel;
+		this.options = options;
+	}
+	
+	/**
+	 * A stream that holds the bytes of a file in memory, which are handed
+	 * out without being copied.
+	 */
+	private static final class FileOutputBuffer
+			extends ByteArrayOutputStream {
+		
+		/**
+		 * Wraps the bytes written so far in a buffer.
+		 * 
+		 * @return The bytes of the file.
+		 */
+		private final ByteBuffer toByteBuffer() {
+			return ByteBuffer.wrap(buf, 0, count);
+		}
 	}
 }
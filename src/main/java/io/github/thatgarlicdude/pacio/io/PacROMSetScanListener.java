@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+/**
+ * An interface that receives the results of a {@link PacROMSetScanner},
+ * one archive at a time, as soon as each of them has been imported.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+@FunctionalInterface
+public interface PacROMSetScanListener {
+	
+	/**
+	 * Receives the result of importing an archive.
+	 * 
+	 * <p>This is called from the threads of the scanner, but never by two
+	 * of them at once, so it doesn't need to be thread-safe. It should
+	 * return quickly, since the other threads wait for it to deliver
+	 * their own results.</p>
+	 * 
+	 * @param result The result of importing the archive.
+	 */
+	void onResult(PacROMSetScanResult result);
+}
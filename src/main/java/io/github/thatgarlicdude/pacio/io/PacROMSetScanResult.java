@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalog;
+
+/**
+ * A class that represents the result of importing or opening a single
+ * archive found by a {@link PacROMSetScanner}.
+ * 
+ * <p>A result either has the imported ROM set, or the error that made
+ * the import fail. The detected PacCatalog is kept in both cases, so an
+ * incomplete ROM set can still be told apart from an unknown one. The
+ * unified ROM sets that have been opened have no detected
+ * PacCatalog.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacROMSetScanResult {
+	
+	/**
+	 * The file path to the archive.
+	 */
+	private final String path;
+	
+	/**
+	 * The detected catalog, or null if nothing matched.
+	 */
+	private final PacCatalog pacCatalog;
+	
+	/**
+	 * The imported ROM set, or null if the import failed.
+	 */
+	private final PacROMSet pacROMSet;
+	
+	/**
+	 * The error that made the import fail, or null if it succeeded.
+	 */
+	private final Exception failure;
+	
+	/**
+	 * Gets the file path to the archive.
+	 * 
+	 * @return The file path to the archive.
+	 */
+	public final String getPath() {
+		return path;
+	}
+	
+	/**
+	 * Gets the catalog that the archive has been detected as.
+	 * 
+	 * @return The detected catalog, or null if nothing matched.
+	 */
+	public final PacCatalog getPacCatalog() {
+		return pacCatalog;
+	}
+	
+	/**
+	 * Gets the imported ROM set.
+	 * 
+	 * @return The imported ROM set, or null if the import failed.
+	 */
+	public final PacROMSet getPacROMSet() {
+		return pacROMSet;
+	}
+	
+	/**
+	 * Gets the error that made the import fail.
+	 * 
+	 * @return The error, or null if the import succeeded.
+	 */
+	public final Exception getFailure() {
+		return failure;
+	}
+	
+	/**
+	 * Checks if the archive has been imported.
+	 * 
+	 * @return True if the import succeeded.
+	 */
+	public final boolean isSuccess() {
+		return failure == null;
+	}
+	
+	/**
+	 * Returns a short description of the result.
+	 * 
+	 * @return The description of the result.
+	 */
+	@Override
+	public final String toString() {
+		if (failure != null) return path + ": " + failure;
+		if (pacCatalog == null) return path;
+		return path + ": " + pacCatalog.getClass().getSimpleName();
+	}
+	
+	/**
+	 * Constructs an instance of the scan result.
+	 * 
+	 * @param path The file path to the archive.
+	 * @param pacCatalog The detected catalog, or null.
+	 * @param pacROMSet The imported ROM set, or null.
+	 * @param failure The error that made the import fail, or null.
+	 */
+	PacROMSetScanResult(
+			final String path,
+			final PacCatalog pacCatalog,
+			final PacROMSet pacROMSet,
+			final Exception failure) {
+		this.path = path;
+		this.pacCatalog = pacCatalog;
+		this.pacROMSet = pacROMSet;
+		this.failure = failure;
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class that holds the statistics of a finished scan by a
+ * {@link PacROMSetScanner}, such as how many archives were imported and
+ * how fast.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacROMSetScanStats {
+	
+	/**
+	 * The amount of archives that were imported or opened.
+	 */
+	private final long importedCount;
+	
+	/**
+	 * The amount of archives that failed to be imported or opened.
+	 */
+	private final long failedCount;
+	
+	/**
+	 * The total size in bytes of the archives on disk.
+	 */
+	private final long byteCount;
+	
+	/**
+	 * The time the scan took, in nanoseconds.
+	 */
+	private final long elapsedNanos;
+	
+	/**
+	 * Gets the amount of archives that were found by the scan.
+	 * 
+	 * @return The amount of archives found.
+	 */
+	public final long getArchiveCount() {
+		return importedCount + failedCount;
+	}
+	
+	/**
+	 * Gets the amount of archives that were imported, or opened by the
+	 * {@link PacROMSetScanner#scanUnified} method.
+	 * 
+	 * @return The amount of archives imported or opened.
+	 */
+	public final long getImportedCount() {
+		return importedCount;
+	}
+	
+	/**
+	 * Gets the amount of archives that failed to be imported or opened.
+	 * 
+	 * @return The amount of archives that failed.
+	 */
+	public final long getFailedCount() {
+		return failedCount;
+	}
+	
+	/**
+	 * Gets the total size in bytes of the archives on disk.
+	 * 
+	 * @return The total size of the archives.
+	 */
+	public final long getByteCount() {
+		return byteCount;
+	}
+	
+	/**
+	 * Gets the time the scan took.
+	 * 
+	 * @param timeUnit The unit of the time.
+	 * @return The time the scan took, in the given unit.
+	 */
+	public final long getElapsedTime(final TimeUnit timeUnit) {
+		return timeUnit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Gets the amount of archives that were scanned per second.
+	 * 
+	 * @return The throughput of the scan in archives per second.
+	 */
+	public final double getArchivesPerSecond() {
+		return perSecond(getArchiveCount());
+	}
+	
+	/**
+	 * Gets the amount of bytes that were scanned per second.
+	 * 
+	 * @return The throughput of the scan in bytes per second.
+	 */
+	public final double getBytesPerSecond() {
+		return perSecond(byteCount);
+	}
+	
+	/**
+	 * Returns a short description of the statistics.
+	 * 
+	 * @return The description of the statistics.
+	 */
+	@Override
+	public final String toString() {
+		return String.format("%d imported, %d failed, %.1f archives/s",
+				importedCount, failedCount, getArchivesPerSecond());
+	}
+	
+	/**
+	 * Divides a count by the time the scan took.
+	 * 
+	 * @param count The count to divide.
+	 * @return The count per second.
+	 */
+	private final double perSecond(final long count) {
+		if (elapsedNanos <= 0) return 0;
+		return count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+	
+	/**
+	 * Constructs an instance of the scan statistics.
+	 * 
+	 * @param importedCount The amount of archives that were imported.
+	 * @param failedCount The amount of archives that failed.
+	 * @param byteCount The total size of the archives on disk.
+	 * @param elapsedNanos The time the scan took, in nanoseconds.
+	 */
+	PacROMSetScanStats(
+			final long importedCount,
+			final long failedCount,
+			final long byteCount,
+			final long elapsedNanos) {
+		this.importedCount = importedCount;
+		this.failedCount = failedCount;
+		this.byteCount = byteCount;
+		this.elapsedNanos = elapsedNanos;
+	}
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalog;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A class used to import every <i>Pac-Man</i> ROM set ZIP file in a
+ * directory tree at once, or to open every unified one.
+ * 
+ * <p>The scanner walks the directory tree and imports each ZIP file it
+ * finds on a fixed amount of threads, so that a tree with thousands of
+ * ROM sets is imported about as many times faster as there are threads.
+ * Only a few archives are waiting for a thread at any time, which keeps
+ * the memory used by a scan from growing with the size of the tree.
+ * Each result is handed to a {@link PacROMSetScanListener} as soon as
+ * it's ready, and the {@link #scan} method returns the statistics of the
+ * whole scan once every archive is done.</p>
+ * 
+ * <p>A ROM set that fails to import doesn't stop the scan. Its error is
+ * put in its result instead.</p>
+ * 
+ * <p>On Java 21 and above, each archive is imported on its own virtual
+ * thread, from an executor of {@link PacExecutors}, and the parallelism
+ * is the amount of archives imported at the same time. It can then be
+ * in the thousands without a platform thread for each archive, as long
+ * as the archives are opened with {@link PacArchiveType#MAPPED}, whose
+ * reads don't go through the locks of a {@link java.util.zip.ZipFile}
+ * that would pin the carrier threads. The scanner uses it by default
+ * there, and loads ten thousand archives at the same time.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacROMSetScanner {
+	
+	/**
+	 * Error message used when the parallelism isn't positive.
+	 */
+	private static final String PARALLELISM_MESSAGE =
+			"Parallelism must be positive: %d";
+	
+	/**
+	 * The file extension of the archives that are imported.
+	 */
+	private static final String ZIP_EXTENSION = ".zip";
+	
+	/**
+	 * The amount of archives that can wait for a thread, for each thread.
+	 */
+	private static final int QUEUED_PER_THREAD = 2;
+	
+	/**
+	 * The default amount of archives loaded at the same time when each of
+	 * them has its own virtual thread.
+	 */
+	private static final int VIRTUAL_PARALLELISM = 10000;
+	
+	/**
+	 * The file path to the root of the directory tree.
+	 */
+	private final String path;
+	
+	/**
+	 * The amount of archives imported at the same time.
+	 */
+	private final int parallelism;
+	
+	/**
+	 * The options used when importing each ROM set.
+	 */
+	private final PacROMSetOptions options;
+	
+	/**
+	 * Imports every ZIP file in the directory tree, handing each result to
+	 * the listener as soon as it's ready.
+	 * 
+	 * <p>If the listener throws an error, no more archives are imported,
+	 * and the error is thrown once the archives being imported are
+	 * done.</p>
+	 * 
+	 * @param listener The listener that receives each result.
+	 * @return The statistics of the scan.
+	 * @throws InterruptedIOException When the thread is interrupted while
+	 * waiting for the archives.
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	public final PacROMSetScanStats scan(
+			final PacROMSetScanListener listener) throws IOException {
+		return scan(listener, this::importArchive);
+	}
+	
+	/**
+	 * Opens every unified ROM set ZIP file in the directory tree, handing
+	 * each result to the listener as soon as it's ready.
+	 * 
+	 * <p>This works like the {@link #scan} method, with the archives
+	 * opened by a {@link PacROMSetOpener} instead. The results have no
+	 * detected catalog, and the original ROM sets found along the way
+	 * fail to open.</p>
+	 * 
+	 * @param listener The listener that receives each result.
+	 * @return The statistics of the scan.
+	 * @throws InterruptedIOException When the thread is interrupted while
+	 * waiting for the archives.
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	public final PacROMSetScanStats scanUnified(
+			final PacROMSetScanListener listener) throws IOException {
+		return scan(listener, this::openArchive);
+	}
+	
+	/**
+	 * Loads every ZIP file in the directory tree, handing each result to
+	 * the listener as soon as it's ready.
+	 * 
+	 * @param listener The listener that receives each result.
+	 * @param loader The function that loads a single archive, and never
+	 * throws an exception.
+	 * @return The statistics of the scan.
+	 * @throws InterruptedIOException When the thread is interrupted while
+	 * waiting for the archives.
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	private final PacROMSetScanStats scan(
+			final PacROMSetScanListener listener,
+			final Function<Path, PacROMSetScanResult> loader)
+			throws IOException {
+		ExecutorService executor =
+				PacExecutors.newArchiveExecutor(parallelism);
+		// Each permit is a running thread when they're virtual threads.
+		Semaphore permits = new Semaphore(
+				PacExecutors.isVirtualThreadAvailable()
+						? parallelism : parallelism * QUEUED_PER_THREAD);
+		LongAdder importedCount = new LongAdder();
+		LongAdder failedCount = new LongAdder();
+		LongAdder byteCount = new LongAdder();
+		AtomicReference<RuntimeException> listenerError =
+				new AtomicReference<>();
+		ReentrantLock listenerLock = new ReentrantLock();
+		// Count and deliver a result, one at a time.
+		PacROMSetScanListener reporter = (result) -> {
+			(result.isSuccess() ? importedCount : failedCount).increment();
+			listenerLock.lock();
+			try {
+				if (listenerError.get() != null) return;
+				listener.onResult(result);
+			} catch (RuntimeException e) {
+				listenerError.compareAndSet(null, e);
+			} finally {
+				listenerLock.unlock();
+			}
+		};
+		long startTime = System.nanoTime();
+		try {
+			Files.walkFileTree(Paths.get(path), new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(
+						final Path file,
+						final BasicFileAttributes attributes)
+						throws IOException {
+					// Stop the scan when the listener failed.
+					if (listenerError.get() != null)
+						return FileVisitResult.TERMINATE;
+					if (!isArchive(file, attributes))
+						return FileVisitResult.CONTINUE;
+					acquire(permits);
+					byteCount.add(attributes.size());
+					executor.execute(() -> {
+						try {
+							reporter.onResult(loader.apply(file));
+						} finally {
+							permits.release();
+						}
+					});
+					return FileVisitResult.CONTINUE;
+				}
+				
+				@Override
+				public FileVisitResult visitFileFailed(
+						final Path file,
+						final IOException e) {
+					// Report the files and directories that can't be read.
+					reporter.onResult(new PacROMSetScanResult(
+							file.toString(), null, null, e));
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} finally {
+			executor.shutdown();
+			awaitTermination(executor);
+		}
+		if (listenerError.get() != null) throw listenerError.get();
+		return new PacROMSetScanStats(importedCount.sum(),
+				failedCount.sum(), byteCount.sum(),
+				System.nanoTime() - startTime);
+	}
+	
+	/**
+	 * Imports a single archive, catching any error it throws.
+	 * 
+	 * @param file The file path to the archive.
+	 * @return The result of importing the archive.
+	 */
+	private final PacROMSetScanResult importArchive(final Path file) {
+		String path = file.toString();
+		PacROMSetImporter importer = new PacROMSetImporter(path, options);
+		PacCatalog pacCatalog = null;
+		PacIOTrace trace = importer.getTrace(PacIOPhase.IMPORT);
+		long start = trace.start();
+		try (PacArchive pacArchive = importer.openArchive(trace)) {
+			PacCatalogMatch pacCatalogMatch =
+					importer.matchPacCatalog(pacArchive, trace);
+			pacCatalog = pacCatalogMatch.getPacCatalog();
+			PacROMSet pacROMSet = importer.importROMSet(
+					pacArchive, pacCatalogMatch, trace);
+			trace.imported(pacCatalogMatch, start);
+			return new PacROMSetScanResult(path, pacCatalog, pacROMSet, null);
+		} catch (IOException | RuntimeException e) {
+			trace.failed(e);
+			return new PacROMSetScanResult(path, pacCatalog, null, e);
+		} catch (Error e) {
+			trace.failed(e);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Opens a single unified archive, catching any error it throws.
+	 * 
+	 * @param file The file path to the archive.
+	 * @return The result of opening the archive.
+	 */
+	private final PacROMSetScanResult openArchive(final Path file) {
+		String path = file.toString();
+		try {
+			PacROMSet pacROMSet =
+					new PacROMSetOpener(path, options).openROMSet();
+			return new PacROMSetScanResult(path, null, pacROMSet, null);
+		} catch (IOException | RuntimeException e) {
+			return new PacROMSetScanResult(path, null, null, e);
+		}
+	}
+	
+	/**
+	 * Checks if a file is an archive that should be loaded.
+	 * 
+	 * @param file The file path.
+	 * @param attributes The attributes of the file.
+	 * @return True if the file is a ZIP file.
+	 */
+	private static final boolean isArchive(
+			final Path file,
+			final BasicFileAttributes attributes) {
+		if (!attributes.isRegularFile()) return false;
+		String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+		return name.endsWith(ZIP_EXTENSION);
+	}
+	
+	/**
+	 * Waits for a permit to queue another archive.
+	 * 
+	 * @param permits The permits of the queue.
+	 * @throws InterruptedIOException When the thread is interrupted.
+	 */
+	private static final void acquire(final Semaphore permits)
+			throws InterruptedIOException {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+	
+	/**
+	 * Waits for every archive to be imported after the executor has been
+	 * shut down.
+	 * 
+	 * @param executor The executor that imports the archives.
+	 * @throws InterruptedIOException When the thread is interrupted, in
+	 * which case the archives still being imported are interrupted too.
+	 */
+	private static final void awaitTermination(
+			final ExecutorService executor) throws InterruptedIOException {
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set scanner.
+	 * 
+	 * @param path The file path to the root of the directory tree.
+	 * @param parallelism The amount of archives imported at the same
+	 * time.
+	 * @param options The options used when importing each ROM set.
+	 * @throws IllegalArgumentException When the parallelism isn't
+	 * positive.
+	 */
+	public PacROMSetScanner(
+			final String path,
+			final int parallelism,
+			final PacROMSetOptions options) {
+		if (parallelism < 1) throw new IllegalArgumentException(
+				String.format(PARALLELISM_MESSAGE, parallelism));
+		this.path = path;
+		this.parallelism = parallelism;
+		this.options = options;
+	}
+	
+	/**
+	 * Constructs an instance of the ROM set scanner with the default
+	 * options, importing as many archives at the same time as there are
+	 * processors.
+	 * 
+	 * <p>When virtual threads are available, ten thousand archives are
+	 * imported at the same time instead, and they're opened with
+	 * {@link PacArchiveType#MAPPED} so that they don't pin the carrier
+	 * threads.</p>
+	 * 
+	 * @param path The file path to the root of the directory tree.
+	 */
+	public PacROMSetScanner(final String path) {
+		this(path, PacExecutors.isVirtualThreadAvailable()
+						? VIRTUAL_PARALLELISM
+						: Runtime.getRuntime().availableProcessors(),
+				PacExecutors.isVirtualThreadAvailable()
+						? PacROMSetOptions.DEFAULT.withArchiveType(
+								PacArchiveType.MAPPED)
+						: PacROMSetOptions.DEFAULT);
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An interface that loads the regions of a lazy ROM set, one at a time,
+ * the first time each of them is used.
+ * 
+ * <p>A loader holds on to resources like an open archive until it's
+ * closed. The lazy {@link PacROMSet} closes its loader once every region
+ * has been loaded, or when the ROM set itself is closed, and never calls
+ * a loader from more than one thread at a time.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+interface PacRegionLoader extends Closeable {
+	
+	/**
+	 * Gets the length of a region without loading it.
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return The length of the region, or -1 if it isn't known until the
+	 * region is loaded.
+	 */
+	int getLength(PacRegion pacRegion);
+	
+	/**
+	 * Loads the bytes of a region.
+	 * 
+	 * @param pacRegion The region of the ROM set.
+	 * @return The buffer of the region, from its position to its limit,
+	 * or null if the ROM set has no such region.
+	 * @throws IOException When loading the region fails.
+	 */
+	ByteBuffer load(PacRegion pacRegion) throws IOException;
+}
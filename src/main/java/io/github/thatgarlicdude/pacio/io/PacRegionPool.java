@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A class that lets ROM sets share the regions that have the same bytes,
+ * so that each of those regions is only held in memory once.
+ * 
+ * <p>Many ROM sets have regions that are byte for byte the same, like the
+ * color and sound PROMs of clones and bootlegs. The pool finds them by a
+ * SHA-256 hash and the length of their bytes, and hands out read-only
+ * buffers of one shared array for all of them. The bytes are compared
+ * too, so two regions are never shared just because their hashes are the
+ * same.</p>
+ * 
+ * <p>A pooled region is read-only, so changing the bytes of one ROM set
+ * can't change another. Its {@code getXxxData} methods copy the region
+ * into an array of its own the first time they're called, and its
+ * {@code getXxxBuffer} methods read the shared array without copying.
+ * The pool only holds on to its arrays weakly, so a region is dropped
+ * from it once no ROM set uses it anymore.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacRegionPool {
+	
+	/**
+	 * The name of the hash algorithm used to find regions.
+	 */
+	private static final String HASH_ALGORITHM = "SHA-256";
+	
+	/**
+	 * The hash algorithm of each thread.
+	 */
+	private static final ThreadLocal<MessageDigest> messageDigests =
+			ThreadLocal.withInitial(PacRegionPool::createMessageDigest);
+	
+	/**
+	 * The shared arrays of the pool, by their hash and length.
+	 */
+	private final Map<RegionKey, RegionReference> regions = new HashMap<>();
+	
+	/**
+	 * The queue of the shared arrays that are no longer used.
+	 */
+	private final ReferenceQueue<byte[]> queue = new ReferenceQueue<>();
+	
+	/**
+	 * The amount of regions that were found in the pool.
+	 */
+	private final LongAdder hitCount = new LongAdder();
+	
+	/**
+	 * The amount of regions that weren't found in the pool.
+	 */
+	private final LongAdder missCount = new LongAdder();
+	
+	/**
+	 * Returns a copy of the ROM set whose regions are shared with the
+	 * other ROM sets in the pool.
+	 * 
+	 * <p>A region that isn't in the pool yet is copied into it, so that
+	 * the array of the given ROM set can still be changed. A ROM set with
+	 * a slab layout is returned as is, since its regions already share
+	 * one array.</p>
+	 * 
+	 * @param pacROMSet The ROM set.
+	 * @return The ROM set with pooled regions.
+	 */
+	public final PacROMSet intern(final PacROMSet pacROMSet) {
+		return intern(pacROMSet, false);
+	}
+	
+	/**
+	 * Returns a read-only buffer of the pooled region that has the same
+	 * bytes as the given buffer, from its position to its limit.
+	 * 
+	 * <p>If there is no such region in the pool yet, the bytes are copied
+	 * into it.</p>
+	 * 
+	 * @param buffer The bytes of the region.
+	 * @return The read-only buffer of the pooled region.
+	 */
+	public final ByteBuffer intern(final ByteBuffer buffer) {
+		return intern(buffer, false);
+	}
+	
+	/**
+	 * Gets the amount of regions in the pool that are still used.
+	 * 
+	 * @return The amount of regions in the pool.
+	 */
+	public final int getSize() {
+		synchronized (regions) {
+			expungeStaleRegions();
+			return regions.size();
+		}
+	}
+	
+	/**
+	 * Gets the amount of regions that were found in the pool.
+	 * 
+	 * @return The amount of pool hits.
+	 */
+	public final long getHitCount() {
+		return hitCount.sum();
+	}
+	
+	/**
+	 * Gets the amount of regions that weren't found in the pool.
+	 * 
+	 * @return The amount of pool misses.
+	 */
+	public final long getMissCount() {
+		return missCount.sum();
+	}
+	
+	/**
+	 * Returns a copy of the ROM set whose regions are shared with the
+	 * other ROM sets in the pool.
+	 * 
+	 * @param pacROMSet The ROM set.
+	 * @param owned True if nothing else uses the arrays of the ROM set,
+	 * in which case they can go into the pool without being copied.
+	 * @return The ROM set with pooled regions.
+	 */
+	final PacROMSet intern(final PacROMSet pacROMSet, final boolean owned) {
+		if (pacROMSet.isSlab()) return pacROMSet;
+		PacRegion[] pacRegions = PacRegion.values();
+		ByteBuffer[] buffers = new ByteBuffer[pacRegions.length];
+		for (PacRegion pacRegion : pacRegions) {
+			ByteBuffer buffer = pacROMSet.getBuffer(pacRegion);
+			if (buffer == null) continue;
+			// Go into the pool through the array of an owned region.
+			if (owned) buffer = ByteBuffer.wrap(pacROMSet.getData(pacRegion));
+			buffers[pacRegion.ordinal()] = intern(buffer, owned);
+		}
+		return new PacROMSet(buffers[0], buffers[1], buffers[2],
+				buffers[3], buffers[4], buffers[5]);
+	}
+	
+	/**
+	 * Returns a read-only buffer of the pooled region that has the same
+	 * bytes as the given buffer.
+	 * 
+	 * @param buffer The bytes of the region.
+	 * @param owned True if nothing else uses the array of the buffer, in
+	 * which case it can go into the pool without being copied.
+	 * @return The read-only buffer of the pooled region.
+	 */
+	private final ByteBuffer intern(
+			final ByteBuffer buffer,
+			final boolean owned) {
+		RegionKey regionKey = new RegionKey(hash(buffer), buffer.remaining());
+		synchronized (regions) {
+			expungeStaleRegions();
+			RegionReference reference = regions.get(regionKey);
+			byte[] data = reference == null ? null : reference.get();
+			if (data != null && ByteBuffer.wrap(data).equals(buffer)) {
+				hitCount.increment();
+				return ByteBuffer.wrap(data).asReadOnlyBuffer();
+			}
+			missCount.increment();
+			data = toArray(buffer, owned);
+			// Keep the region that was pooled first on a hash collision.
+			if (reference == null || reference.get() == null)
+				regions.put(regionKey,
+						new RegionReference(regionKey, data, queue));
+			return ByteBuffer.wrap(data).asReadOnlyBuffer();
+		}
+	}
+	
+	/**
+	 * Drops the shared arrays that are no longer used from the pool.
+	 */
+	private final void expungeStaleRegions() {
+		RegionReference reference;
+		while ((reference = (RegionReference) queue.poll()) != null) {
+			regions.remove(reference.regionKey, reference);
+		}
+	}
+	
+	/**
+	 * Gets the bytes of a buffer as an array, from its position to its
+	 * limit.
+	 * 
+	 * @param buffer The buffer.
+	 * @param owned True if the array of the buffer can be used as is.
+	 * @return The array of the bytes.
+	 */
+	private static final byte[] toArray(
+			final ByteBuffer buffer,
+			final boolean owned) {
+		if (owned && buffer.hasArray() && buffer.arrayOffset() == 0
+				&& buffer.position() == 0
+				&& buffer.remaining() == buffer.array().length)
+			return buffer.array();
+		byte[] data = new byte[buffer.remaining()];
+		buffer.duplicate().get(data);
+		return data;
+	}
+	
+	/**
+	 * Hashes the bytes of a buffer, from its position to its limit.
+	 * 
+	 * @param buffer The buffer.
+	 * @return The hash of the bytes.
+	 */
+	private static final byte[] hash(final ByteBuffer buffer) {
+		MessageDigest messageDigest = messageDigests.get();
+		messageDigest.reset();
+		messageDigest.update(buffer.duplicate());
+		return messageDigest.digest();
+	}
+	
+	/**
+	 * Creates an instance of the hash algorithm.
+	 * 
+	 * @return The hash algorithm.
+	 * @throws IllegalStateException When the hash algorithm isn't
+	 * available, which every Java platform is required to have.
+	 */
+	private static final MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * The key of a pooled region, made of the hash and length of its
+	 * bytes.
+	 */
+	private static final class RegionKey {
+		
+		/**
+		 * The hash of the bytes.
+		 */
+		private final byte[] hash;
+		
+		/**
+		 * The length of the bytes.
+		 */
+		private final int length;
+		
+		@Override
+		public final boolean equals(final Object object) {
+			if (this == object) return true;
+			if (!(object instanceof RegionKey)) return false;
+			RegionKey regionKey = (RegionKey) object;
+			return length == regionKey.length
+					&& Arrays.equals(hash, regionKey.hash);
+		}
+		
+		@Override
+		public final int hashCode() {
+			return 31 * Arrays.hashCode(hash) + length;
+		}
+		
+		/**
+		 * Constructs an instance of the region key.
+		 * 
+		 * @param hash The hash of the bytes.
+		 * @param length The length of the bytes.
+		 */
+		private RegionKey(final byte[] hash, final int length) {
+			this.hash = hash;
+			this.length = length;
+		}
+	}
+	
+	/**
+	 * A weak reference to a shared array, which remembers its key so that
+	 * it can be dropped from the pool.
+	 */
+	private static final class RegionReference
+			extends WeakReference<byte[]> {
+		
+		/**
+		 * The key of the shared array.
+		 */
+		private final RegionKey regionKey;
+		
+		/**
+		 * Constructs an instance of the region reference.
+		 * 
+		 * @param regionKey The key of the shared array.
+		 * @param data The shared array.
+		 * @param queue The queue of the shared arrays no longer used.
+		 */
+		private RegionReference(
+				final RegionKey regionKey,
+				final byte[] data,
+				final ReferenceQueue<byte[]> queue) {
+			super(data, queue);
+			this.regionKey = regionKey;
+		}
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An interface that represents where the bytes of a ROM set file come
+ * from, which the ROM set importer and opener read it through.
+ * 
+ * <p>A ROM set can come from a file path, from a channel that's already
+ * open, or from a buffer that holds the whole file in memory, such as one
+ * that came out of a cache. A buffer is read in place, without being
+ * copied or written to disk first.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+interface PacSource {
+	
+	/**
+	 * Error message used when a file is too large to be read.
+	 */
+	static final String TOO_LARGE_MESSAGE = "File is too large: %s";
+	
+	/**
+	 * The name of a source that reads a channel.
+	 */
+	static final String CHANNEL_NAME = "<channel>";
+	
+	/**
+	 * The name of a source that reads a buffer that wasn't read from a
+	 * file.
+	 */
+	static final String BUFFER_NAME = "<buffer>";
+	
+	/**
+	 * Gets the name of the source, used in error messages.
+	 * 
+	 * @return The name of the source.
+	 */
+	String getName();
+	
+	/**
+	 * Checks if the file starts with the given bytes.
+	 * 
+	 * @param prefix The bytes to look for.
+	 * @return True if the file starts with the bytes.
+	 * @throws IOException When reading the file fails.
+	 */
+	boolean startsWith(byte[] prefix) throws IOException;
+	
+	/**
+	 * Reads the whole file into a buffer.
+	 * 
+	 * @param mapped True if the file should be mapped into memory when
+	 * it can be, rather than read into a heap array.
+	 * @return The bytes of the file, from its position to its limit.
+	 * @throws IOException When reading the file fails.
+	 */
+	ByteBuffer read(boolean mapped) throws IOException;
+	
+	/**
+	 * Opens the file as a ZIP file.
+	 * 
+	 * <p>Anything other than a file path on the default file system is
+	 * parsed out of memory, the same way as {@link PacArchiveType#MAPPED}
+	 * does.</p>
+	 * 
+	 * @param pacArchiveType The type of archive used to read the ZIP
+	 * file.
+	 * @return The opened archive.
+	 * @throws IOException When opening the ZIP file fails.
+	 */
+	default PacArchive openArchive(final PacArchiveType pacArchiveType)
+			throws IOException {
+		return new PacMappedArchive(
+				read(pacArchiveType == PacArchiveType.MAPPED));
+	}
+	
+	/**
+	 * Creates a source that reads a file path.
+	 * 
+	 * @param path The file path.
+	 * @return The source of the file.
+	 */
+	static PacSource of(final Path path) {
+		return new PathSource(path);
+	}
+	
+	/**
+	 * Creates a source that reads an open channel, from its start, which
+	 * is left open.
+	 * 
+	 * @param channel The channel.
+	 * @return The source of the channel.
+	 */
+	static PacSource of(final SeekableByteChannel channel) {
+		return new ChannelSource(channel, CHANNEL_NAME);
+	}
+	
+	/**
+	 * Creates a source that reads a whole file held in a buffer, from its
+	 * position to its limit.
+	 * 
+	 * @param buffer The buffer.
+	 * @return The source of the buffer.
+	 */
+	static PacSource of(final ByteBuffer buffer) {
+		return new BufferSource(buffer, BUFFER_NAME);
+	}
+	
+	/**
+	 * Creates a source that reads a whole file held in a buffer, from its
+	 * position to its limit, under the name of the file it was read from.
+	 * 
+	 * @param buffer The buffer.
+	 * @param name The name of the source, used in error messages.
+	 * @return The source of the buffer.
+	 */
+	static PacSource of(final ByteBuffer buffer, final String name) {
+		return new BufferSource(buffer, name);
+	}
+	
+	/**
+	 * A source that reads a file path.
+	 */
+	static final class PathSource implements PacSource {
+		
+		/**
+		 * The file path.
+		 */
+		private final Path path;
+		
+		@Override
+		public final String getName() {
+			return path.toString();
+		}
+		
+		@Override
+		public final boolean startsWith(final byte[] prefix)
+				throws IOException {
+			try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+				return new ChannelSource(channel, getName())
+						.startsWith(prefix);
+			}
+		}
+		
+		@Override
+		public final ByteBuffer read(final boolean mapped)
+				throws IOException {
+			try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+				return new ChannelSource(channel, getName()).read(mapped);
+			}
+		}
+		
+		@Override
+		public final PacArchive openArchive(
+				final PacArchiveType pacArchiveType) throws IOException {
+			// Only the default file system can be opened as a ZipFile.
+			if (path.getFileSystem() != FileSystems.getDefault())
+				return PacSource.super.openArchive(pacArchiveType);
+			return PacArchive.open(path.toString(), pacArchiveType);
+		}
+		
+		/**
+		 * Constructs an instance of the source.
+		 * 
+		 * @param path The file path.
+		 */
+		private PathSource(final Path path) {
+			this.path = path;
+		}
+	}
+	
+	/**
+	 * A source that reads an open channel from its start.
+	 */
+	static final class ChannelSource implements PacSource {
+		
+		/**
+		 * The channel.
+		 */
+		private final SeekableByteChannel channel;
+		
+		/**
+		 * The name of the channel, used in error messages.
+		 */
+		private final String name;
+		
+		@Override
+		public final String getName() {
+			return name;
+		}
+		
+		@Override
+		public final boolean startsWith(final byte[] prefix)
+				throws IOException {
+			ByteBuffer start = ByteBuffer.allocate(prefix.length);
+			channel.position(0);
+			while (start.hasRemaining()) {
+				if (channel.read(start) == -1) return false;
+			}
+			start.flip();
+			return ByteBuffer.wrap(prefix).equals(start);
+		}
+		
+		@Override
+		public final ByteBuffer read(final boolean mapped)
+				throws IOException {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IOException(String.format(TOO_LARGE_MESSAGE, name));
+			// Only a file channel can be mapped into memory.
+			if (mapped && channel instanceof FileChannel)
+				return ((FileChannel) channel).map(
+						FileChannel.MapMode.READ_ONLY, 0, size);
+			ByteBuffer file = ByteBuffer.allocate((int) size);
+			channel.position(0);
+			while (file.hasRemaining()) {
+				if (channel.read(file) == -1) throw new EOFException(name);
+			}
+			file.flip();
+			return file;
+		}
+		
+		/**
+		 * Constructs an instance of the source.
+		 * 
+		 * @param channel The channel.
+		 * @param name The name of the channel, used in error messages.
+		 */
+		private ChannelSource(
+				final SeekableByteChannel channel,
+				final String name) {
+			this.channel = channel;
+			this.name = name;
+		}
+	}
+	
+	/**
+	 * A source that reads a whole file held in a buffer.
+	 */
+	static final class BufferSource implements PacSource {
+		
+		/**
+		 * The bytes of the file, from its position to its limit.
+		 */
+		private final ByteBuffer buffer;
+		
+		/**
+		 * The name of the source, used in error messages.
+		 */
+		private final String name;
+		
+		@Override
+		public final String getName() {
+			return name;
+		}
+		
+		@Override
+		public final boolean startsWith(final byte[] prefix) {
+			if (buffer.remaining() < prefix.length) return false;
+			ByteBuffer start = buffer.duplicate();
+			start.limit(start.position() + prefix.length);
+			return ByteBuffer.wrap(prefix).equals(start);
+		}
+		
+		@Override
+		public final ByteBuffer read(final boolean mapped) {
+			return buffer.duplicate();
+		}
+		
+		/**
+		 * Constructs an instance of the source.
+		 * 
+		 * @param buffer The bytes of the file, from its position to its
+		 * limit.
+		 * @param name The name of the source, used in error messages.
+		 */
+		private BufferSource(final ByteBuffer buffer, final String name) {
+			this.buffer = buffer.slice();
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogManager;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogRegistry;
+import io.github.thatgarlicdude.pacio.catalog.PacROMChip;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * An archive that reads a ZIP file from a stream in a single forward
+ * pass, without needing random access to it.
+ * 
+ * <p>The local file headers are read one after another through a
+ * {@link ZipInputStream}, and only the entries that could fill a slot of
+ * a PacCatalog are kept in memory, either by their filenames or by their
+ * checksums and sizes. Every other entry is skipped as it goes by, so
+ * the memory used is bounded by the size of the ROM set rather than the
+ * size of the ZIP file. Nothing is ever written to disk.</p>
+ * 
+ * <p>The kept entries are listed as stored, with the sizes and checksums
+ * of their decompressed bytes, in the order they were found in the
+ * stream. The stream itself isn't closed by the archive.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacStreamArchive implements PacArchive {
+	
+	/**
+	 * The size of a buffer used to skip and read entries.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	
+	/**
+	 * Error message used when the archive has already been closed.
+	 */
+	private static final String CLOSED_MESSAGE = "Archive is closed";
+	
+	/**
+	 * The most bytes that are kept for an entry named like a ROM whose
+	 * size isn't known by any PacCatalog.
+	 */
+	private static final long MAX_UNKNOWN_ROM_SIZE = 0x1000000;
+	
+	/**
+	 * Every kept entry in the ZIP file, in the order of the stream.
+	 */
+	private final List<ZipEntry> entries;
+	
+	/**
+	 * The kept entries in the ZIP file, by name.
+	 */
+	private final Map<String, ZipEntry> entriesByName;
+	
+	/**
+	 * The decompressed bytes of the kept entries, by name.
+	 */
+	private final Map<String, byte[]> entryData;
+	
+	/**
+	 * Whether the archive has been closed.
+	 */
+	private volatile boolean closed;
+	
+	@Override
+	public final List<ZipEntry> getEntries() {
+		return entries;
+	}
+	
+	@Override
+	public final ZipEntry getEntry(final String name) {
+		return entriesByName.get(name);
+	}
+	
+	@Override
+	public final InputStream getInputStream(final ZipEntry zipEntry)
+			throws IOException {
+		return new ByteArrayInputStream(getData(zipEntry));
+	}
+	
+	@Override
+	public final void readEntry(
+			final ZipEntry zipEntry,
+			final byte[] data,
+			final int offset) throws IOException {
+		byte[] source = getData(zipEntry);
+		if (source.length != zipEntry.getSize())
+			throw new ZipException(zipEntry.getName());
+		System.arraycopy(source, 0, data, offset, source.length);
+	}
+	
+	@Override
+	public final ByteBuffer getBuffer(final ZipEntry zipEntry)
+			throws IOException {
+		return ByteBuffer.wrap(getData(zipEntry)).asReadOnlyBuffer();
+	}
+	
+	@Override
+	public final void close() {
+		closed = true;
+	}
+	
+	/**
+	 * Gets the decompressed bytes of a kept entry.
+	 * 
+	 * @param zipEntry The entry to read.
+	 * @return The bytes of the entry, which must not be modified.
+	 * @throws IOException When the archive is closed, or when the entry
+	 * hasn't been kept.
+	 */
+	private final byte[] getData(final ZipEntry zipEntry)
+			throws IOException {
+		if (closed) throw new IOException(CLOSED_MESSAGE);
+		byte[] data = entryData.get(zipEntry.getName());
+		if (data == null) throw new ZipException(zipEntry.getName());
+		return data;
+	}
+	
+	/**
+	 * Reads the decompressed bytes of the current entry of a ZIP stream,
+	 * giving up on them once there are more than a limit.
+	 * 
+	 * <p>The rest of the entry is still read past when it's too large, so
+	 * the stream ends up at the next local file header either way.</p>
+	 * 
+	 * @param zipInputStream The stream positioned at an entry.
+	 * @param limit The most bytes that are kept.
+	 * @return The bytes of the entry, or null if it's too large.
+	 * @throws IOException When reading the stream fails.
+	 */
+	private static final byte[] readEntry(
+			final ZipInputStream zipInputStream,
+			final long limit) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		boolean tooLarge = false;
+		int bytesRead = 0;
+		while ((bytesRead = zipInputStream.read(buffer)) != -1) {
+			if (tooLarge) continue;
+			// Stop keeping the bytes once the entry can't be a ROM.
+			if (stream.size() + bytesRead > limit) {
+				tooLarge = true;
+				stream = null;
+				continue;
+			}
+			stream.write(buffer, 0, bytesRead);
+		}
+		return tooLarge ? null : stream.toByteArray();
+	}
+	
+	/**
+	 * Constructs an instance of the archive by reading a ZIP file from a
+	 * stream until its end.
+	 * 
+	 * @param inputStream The stream of the ZIP file.
+	 * @throws IOException When reading the stream fails, or when it isn't
+	 * a valid ZIP file.
+	 */
+	PacStreamArchive(final InputStream inputStream) throws IOException {
+		List<ZipEntry> entries = new ArrayList<>();
+		Map<String, ZipEntry> entriesByName = new HashMap<>();
+		Map<String, byte[]> entryData = new HashMap<>();
+		// Keep the same catalogs for the whole stream.
+		PacCatalogRegistry registry = PacCatalogManager.getRegistry();
+		ZipInputStream zipInputStream = new ZipInputStream(inputStream);
+		ZipEntry zipEntry = null;
+		while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+			String name = zipEntry.getName();
+			// Entries without a known filename can only be ROMs by checksum.
+			boolean named = registry.containsROM(
+					name, PacROMChip.UNKNOWN, PacROMChip.UNKNOWN);
+			// Skip directories, repeated names and checksums of no ROM.
+			if (zipEntry.isDirectory() || entryData.containsKey(name)
+					|| !named && zipEntry.getCrc() != PacROMChip.UNKNOWN
+					&& !registry.containsROM(
+							name, zipEntry.getSize(), zipEntry.getCrc())) {
+				readEntry(zipInputStream, 0);
+				continue;
+			}
+			// Keep no more than the largest ROM that the entry could be.
+			long limit = named
+					? registry.getMaxROMSize(name) : registry.getMaxROMSize();
+			if (limit == PacROMChip.UNKNOWN) limit = MAX_UNKNOWN_ROM_SIZE;
+			byte[] data = readEntry(zipInputStream, limit);
+			// The checksum is only known once the entry has been read.
+			if (data == null || !registry.containsROM(
+					name, data.length, zipEntry.getCrc())) continue;
+			ZipEntry keptEntry = new ZipEntry(name);
+			keptEntry.setMethod(ZipEntry.STORED);
+			keptEntry.setSize(data.length);
+			keptEntry.setCompressedSize(data.length);
+			keptEntry.setCrc(zipEntry.getCrc());
+			entries.add(keptEntry);
+			entriesByName.put(name, keptEntry);
+			entryData.put(name, data);
+		}
+		this.entries = Collections.unmodifiableList(entries);
+		this.entriesByName = entriesByName;
+		this.entryData = entryData;
+	}
+}
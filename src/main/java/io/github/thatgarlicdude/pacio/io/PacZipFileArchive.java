@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An archive that reads a ZIP file through {@link ZipFile}.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacZipFileArchive implements PacArchive {
+	
+	/**
+	 * The opened ZIP file.
+	 */
+	private final ZipFile zipFile;
+	
+	@Override
+	public final List<ZipEntry> getEntries() {
+		return Collections.unmodifiableList(
+				Collections.list(zipFile.entries()));
+	}
+	
+	@Override
+	public final ZipEntry getEntry(final String name) {
+		return zipFile.getEntry(name);
+	}
+	
+	@Override
+	public final InputStream getInputStream(final ZipEntry zipEntry)
+			throws IOException {
+		return zipFile.getInputStream(zipEntry);
+	}
+	
+	@Override
+	public final void close() throws IOException {
+		zipFile.close();
+	}
+	
+	/**
+	 * Constructs an instance of the archive by opening a ZIP file.
+	 * 
+	 * @param path The file path to the ZIP file.
+	 * @throws IOException When opening the ZIP file fails.
+	 */
+	PacZipFileArchive(final String path) throws IOException {
+		this.zipFile = new ZipFile(path);
+	}
+}
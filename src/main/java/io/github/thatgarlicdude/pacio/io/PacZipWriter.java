@@ -0,0 +1,814 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * A class used to write ZIP files whose entries can be laid out exactly.
+ * 
+ * <p>Unlike {@link java.util.zip.ZipOutputStream}, this writes every
+ * size and checksum in the local header before the data, and can pad the
+ * local header of a STORED entry so that its data starts on an aligned
+ * offset in the file, the same way as Android's {@code zipalign} does.
+ * An aligned STORED entry can then be mapped or sliced straight out of
+ * the file without being copied or decompressed.</p>
+ * 
+ * <p>The bytes of the entries can be compressed in parallel on an
+ * executor. The entries are still written in the order they were handed
+ * to the writer, each one as soon as its bytes are ready.</p>
+ * 
+ * <p>The ZIP file is written to a channel. The header, name, and data of
+ * an entry go out in one gathering write when the channel supports it,
+ * such as a {@link java.nio.channels.FileChannel FileChannel}, so the
+ * bytes of the entries are never copied into a stream buffer first.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacZipWriter implements Closeable {
+	
+	/**
+	 * The signature of a local file header.
+	 */
+	private static final int LOCAL_SIGNATURE = 0x04034b50;
+	
+	/**
+	 * The signature of a central directory file header.
+	 */
+	private static final int CENTRAL_SIGNATURE = 0x02014b50;
+	
+	/**
+	 * The signature of the end of central directory record.
+	 */
+	private static final int END_SIGNATURE = 0x06054b50;
+	
+	/**
+	 * The size of a local file header, without its name and extra field.
+	 */
+	private static final int LOCAL_SIZE = 30;
+	
+	/**
+	 * The size of a central directory file header, without its name.
+	 */
+	private static final int CENTRAL_SIZE = 46;
+	
+	/**
+	 * The size of the end of central directory record.
+	 */
+	private static final int END_SIZE = 22;
+	
+	/**
+	 * The ID of the extra field used to pad a local header, which is the
+	 * same one used by {@code zipalign}.
+	 */
+	static final int ALIGNMENT_EXTRA_ID = 0xD935;
+	
+	/**
+	 * The size of the alignment extra field, without its padding.
+	 */
+	private static final int ALIGNMENT_EXTRA_SIZE = 6;
+	
+	/**
+	 * The largest alignment whose padding fits in an extra field.
+	 */
+	static final int MAX_ALIGNMENT = 0x8000;
+	
+	/**
+	 * The version needed to extract a STORED entry.
+	 */
+	private static final int STORED_VERSION = 10;
+	
+	/**
+	 * The version needed to extract a DEFLATED entry.
+	 */
+	private static final int DEFLATED_VERSION = 20;
+	
+	/**
+	 * The flag that marks the name of an entry as UTF-8.
+	 */
+	private static final int UTF8_FLAG = 0x800;
+	
+	/**
+	 * The largest offset or size that fits in a ZIP file without ZIP64.
+	 */
+	private static final long MAX_SIZE = 0xFFFFFFFFL;
+	
+	/**
+	 * The largest amount of entries that fits in a ZIP file without
+	 * ZIP64.
+	 */
+	private static final int MAX_ENTRIES = 0xFFFF;
+	
+	/**
+	 * The size of the buffer that compressed bytes are read into.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	
+	/**
+	 * The size of the chunks that are compressed on their own.
+	 */
+	private static final int CHUNK_SIZE = 128 * 1024;
+	
+	/**
+	 * The size of the dictionary of a DEFLATE stream.
+	 */
+	private static final int DICTIONARY_SIZE = 32 * 1024;
+	
+	/**
+	 * Error message used when the ZIP file needs ZIP64.
+	 */
+	private static final String ZIP64_MESSAGE = "ZIP64 is not supported: %s";
+	
+	/**
+	 * Error message used when the alignment isn't a power of two.
+	 */
+	private static final String ALIGNMENT_MESSAGE =
+			"Alignment must be a power of two up to 32768: %d";
+	
+	/**
+	 * The channel that the ZIP file is written to.
+	 */
+	private final WritableByteChannel channel;
+	
+	/**
+	 * The headers of the written entries, for the central directory.
+	 */
+	private final List<CentralHeader> centralHeaders = new ArrayList<>();
+	
+	/**
+	 * The MS-DOS date and time written for every entry.
+	 */
+	private final int dosTime = toDosTime(LocalDateTime.now());
+	
+	/**
+	 * The amount of bytes written so far.
+	 */
+	private long offset;
+	
+	/**
+	 * Whether the central directory has been written.
+	 */
+	private boolean finished;
+	
+	/**
+	 * Whether the writer has been closed.
+	 */
+	private boolean closed;
+	
+	/**
+	 * The executor that computes the bytes of the entries, or null.
+	 */
+	private final Executor executor;
+	
+	/**
+	 * The entries whose bytes might not be ready yet, in the order they
+	 * are written.
+	 */
+	private final Queue<PendingEntry> pendingEntries = new ArrayDeque<>();
+	
+	/**
+	 * Writes a STORED entry, padding its local header so that its data
+	 * starts on a multiple of the alignment.
+	 * 
+	 * <p>The bytes of the entry must not change until the writer is
+	 * closed, since they might be written after this returns.</p>
+	 * 
+	 * @param name The name of the entry.
+	 * @param data The bytes of the entry, from its position to its limit.
+	 * @param alignment The alignment of the data, as a power of two. An
+	 * alignment of 1 doesn't pad the header.
+	 * @throws IllegalArgumentException When the alignment isn't a power
+	 * of two up to {@link #MAX_ALIGNMENT}.
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	final void writeStored(
+			final String name,
+			final ByteBuffer data,
+			final int alignment) throws IOException {
+		if (alignment < 1 || alignment > MAX_ALIGNMENT
+				|| (alignment & (alignment - 1)) != 0)
+			throw new IllegalArgumentException(String.format(
+					ALIGNMENT_MESSAGE, alignment));
+		ByteBuffer source = data.duplicate();
+		CompletableFuture<Long> crc = supply(() -> crc32(source));
+		pendingEntries.add(new PendingEntry(name, ZipEntry.STORED,
+				alignment, source.remaining(), crc,
+				Collections.singletonList(
+						CompletableFuture.completedFuture(source))));
+		writeFinishedEntries(false);
+	}
+	
+	/**
+	 * Writes a DEFLATED entry.
+	 * 
+	 * <p>The bytes are split into chunks that are compressed on their own
+	 * on the executor, the same way as {@code pigz} does. Each chunk but
+	 * the last ends on a byte boundary without ending the stream, and
+	 * uses the end of the chunk before it as its dictionary, so the chunks
+	 * joined together are one valid DEFLATE stream, and compress almost
+	 * as well as a single one. The bytes of the entry must not change
+	 * until the writer is closed, since they might be written after this
+	 * returns.</p>
+	 * 
+	 * @param name The name of the entry.
+	 * @param data The bytes of the entry, from its position to its limit.
+	 * @param level The compression level of the entry.
+	 * @param strategy The compression strategy of the entry.
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	final void writeDeflated(
+			final String name,
+			final ByteBuffer data,
+			final int level,
+			final int strategy) throws IOException {
+		byte[] input = toArray(data);
+		CompletableFuture<Long> crc =
+				supply(() -> crc32(ByteBuffer.wrap(input)));
+		List<CompletableFuture<ByteBuffer>> chunks = new ArrayList<>();
+		int offset = 0;
+		do {
+			int chunkOffset = offset;
+			int length = Math.min(CHUNK_SIZE, input.length - offset);
+			boolean last = offset + length == input.length;
+			chunks.add(supply(() -> deflate(
+					input, chunkOffset, length, level, strategy, last)));
+			offset += length;
+		} while (offset < input.length);
+		pendingEntries.add(new PendingEntry(name, ZipEntry.DEFLATED, 1,
+				input.length, crc, chunks));
+		writeFinishedEntries(false);
+	}
+	
+	/**
+	 * Writes every entry that's left, then the central directory, without
+	 * closing the channel.
+	 * 
+	 * <p>Nothing can be written after this, which is used when the
+	 * channel belongs to the caller.</p>
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	final void finish() throws IOException {
+		if (finished) return;
+		finished = true;
+		writeFinishedEntries(true);
+		writeCentralDirectory();
+	}
+	
+	/**
+	 * Gets the amount of bytes written so far, which is the size of the
+	 * ZIP file once it's finished.
+	 * 
+	 * @return The amount of bytes.
+	 */
+	final long getSize() {
+		return offset;
+	}
+	
+	/**
+	 * Writes every entry that's left, then the central directory, and
+	 * closes the channel.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Override
+	public final void close() throws IOException {
+		if (closed) return;
+		closed = true;
+		try {
+			finish();
+		} finally {
+			channel.close();
+		}
+	}
+	
+	/**
+	 * Writes the pending entries in order, as long as their bytes are
+	 * ready.
+	 * 
+	 * @param wait True if this should wait for the bytes of every pending
+	 * entry.
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	private final void writeFinishedEntries(final boolean wait)
+			throws IOException {
+		while (!pendingEntries.isEmpty()
+				&& (wait || pendingEntries.peek().isDone())) {
+			PendingEntry pendingEntry = pendingEntries.poll();
+			List<ByteBuffer> chunks = new ArrayList<>();
+			for (CompletableFuture<ByteBuffer> chunk : pendingEntry.chunks) {
+				chunks.add(join(chunk));
+			}
+			writeEntry(pendingEntry.name, pendingEntry.method,
+					pendingEntry.alignment, join(pendingEntry.crc),
+					pendingEntry.size, chunks);
+		}
+	}
+	
+	/**
+	 * Writes the local header and the data of an entry.
+	 * 
+	 * @param name The encoded name of the entry.
+	 * @param method The compression method of the entry.
+	 * @param alignment The alignment of the data of the entry.
+	 * @param crc The CRC32 checksum of the uncompressed bytes.
+	 * @param size The amount of uncompressed bytes.
+	 * @param chunks The bytes written for the entry, as they are stored.
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	private final void writeEntry(
+			final byte[] name,
+			final int method,
+			final int alignment,
+			final long crc,
+			final long size,
+			final List<ByteBuffer> chunks) throws IOException {
+		long compressedSize = 0;
+		for (ByteBuffer chunk : chunks) {
+			compressedSize += chunk.remaining();
+		}
+		// Throw an error when the entry would need ZIP64.
+		if (offset > MAX_SIZE || compressedSize > MAX_SIZE
+				|| centralHeaders.size() >= MAX_ENTRIES)
+			throw new ZipException(String.format(ZIP64_MESSAGE,
+					new String(name, StandardCharsets.UTF_8)));
+		byte[] extra = createAlignmentExtra(name, alignment);
+		int version =
+				method == ZipEntry.STORED ? STORED_VERSION : DEFLATED_VERSION;
+		ByteBuffer header = ByteBuffer.allocate(LOCAL_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(LOCAL_SIGNATURE);
+		header.putShort((short) version);
+		header.putShort((short) UTF8_FLAG);
+		header.putShort((short) method);
+		header.putInt(dosTime);
+		header.putInt((int) crc);
+		header.putInt((int) compressedSize);
+		header.putInt((int) size);
+		header.putShort((short) name.length);
+		header.putShort((short) extra.length);
+		centralHeaders.add(new CentralHeader(name, version, method, crc,
+				compressedSize, size, offset));
+		header.flip();
+		// Write the whole entry at once.
+		ByteBuffer[] buffers = new ByteBuffer[chunks.size() + 3];
+		buffers[0] = header;
+		buffers[1] = ByteBuffer.wrap(name);
+		buffers[2] = ByteBuffer.wrap(extra);
+		for (int i = 0; i < chunks.size(); i++) {
+			buffers[i + 3] = chunks.get(i);
+		}
+		write(buffers);
+	}
+	
+	/**
+	 * Creates the extra field that pads the local header of an entry at
+	 * the current offset, so that its data starts on the alignment.
+	 * 
+	 * @param name The encoded name of the entry.
+	 * @param alignment The alignment of the data.
+	 * @return The extra field, which is empty for an alignment of 1.
+	 */
+	private final byte[] createAlignmentExtra(
+			final byte[] name,
+			final int alignment) {
+		if (alignment == 1) return new byte[0];
+		long dataOffset =
+				offset + LOCAL_SIZE + name.length + ALIGNMENT_EXTRA_SIZE;
+		int padding = (int) ((alignment - dataOffset % alignment)
+				% alignment);
+		ByteBuffer extra = ByteBuffer.allocate(ALIGNMENT_EXTRA_SIZE + padding)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		extra.putShort((short) ALIGNMENT_EXTRA_ID);
+		extra.putShort((short) (extra.capacity() - 4));
+		extra.putShort((short) alignment);
+		return extra.array();
+	}
+	
+	/**
+	 * Runs a task on the executor, or right away when there's no
+	 * executor.
+	 * 
+	 * @param <T> The type of the result.
+	 * @param supplier The task to run.
+	 * @return The future of the result.
+	 */
+	private final <T> CompletableFuture<T> supply(
+			final Supplier<T> supplier) {
+		if (executor != null)
+			return CompletableFuture.supplyAsync(supplier, executor);
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			future.complete(supplier.get());
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+	
+	/**
+	 * Waits for the result of a task.
+	 * 
+	 * @param <T> The type of the result.
+	 * @param future The future of the result.
+	 * @return The result.
+	 */
+	private static final <T> T join(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw e;
+		}
+	}
+	
+	/**
+	 * Computes the CRC32 checksum of a buffer, from its position to its
+	 * limit.
+	 * 
+	 * @param data The buffer.
+	 * @return The CRC32 checksum.
+	 */
+	private static final long crc32(final ByteBuffer data) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(data.duplicate());
+		return crc32.getValue();
+	}
+	
+	/**
+	 * Compresses a chunk of an array into raw DEFLATE bytes, with a
+	 * deflater borrowed from the {@link PacDeflaterPool}.
+	 * 
+	 * @param input The array.
+	 * @param offset The offset of the chunk.
+	 * @param length The length of the chunk.
+	 * @param level The compression level.
+	 * @param strategy The compression strategy.
+	 * @param last True if this is the last chunk, which ends the stream.
+	 * @return The compressed chunk.
+	 */
+	private static final ByteBuffer deflate(
+			final byte[] input,
+			final int offset,
+			final int length,
+			final int level,
+			final int strategy,
+			final boolean last) {
+		Deflater deflater = PacDeflaterPool.acquire(level, strategy);
+		try {
+			// Prime the chunk with the end of the chunk before it.
+			if (offset > 0) {
+				int dictionaryLength = Math.min(offset, DICTIONARY_SIZE);
+				deflater.setDictionary(input, offset - dictionaryLength,
+						dictionaryLength);
+			}
+			deflater.setInput(input, offset, length);
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			if (last) {
+				deflater.finish();
+				while (!deflater.finished()) {
+					int count = deflater.deflate(buffer);
+					compressed.write(buffer, 0, count);
+				}
+			} else {
+				// End the chunk on a byte boundary without ending the stream.
+				int count;
+				do {
+					count = deflater.deflate(buffer, 0, buffer.length,
+							Deflater.SYNC_FLUSH);
+					compressed.write(buffer, 0, count);
+				} while (count == buffer.length);
+			}
+			return ByteBuffer.wrap(compressed.toByteArray());
+		} finally {
+			PacDeflaterPool.release(deflater);
+		}
+	}
+	
+	/**
+	 * Writes the central directory and the end of central directory
+	 * record.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	private final void writeCentralDirectory() throws IOException {
+		long centralOffset = offset;
+		int centralSize = 0;
+		for (CentralHeader centralHeader : centralHeaders) {
+			centralSize += CENTRAL_SIZE + centralHeader.name.length;
+		}
+		// Throw an error when the central directory would need ZIP64.
+		if (centralOffset > MAX_SIZE)
+			throw new ZipException(String.format(
+					ZIP64_MESSAGE, "central directory"));
+		ByteBuffer directory = ByteBuffer.allocate(centralSize + END_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		for (CentralHeader centralHeader : centralHeaders) {
+			directory.putInt(CENTRAL_SIGNATURE);
+			directory.putShort((short) DEFLATED_VERSION);
+			directory.putShort((short) centralHeader.version);
+			directory.putShort((short) UTF8_FLAG);
+			directory.putShort((short) centralHeader.method);
+			directory.putInt(dosTime);
+			directory.putInt((int) centralHeader.crc);
+			directory.putInt((int) centralHeader.compressedSize);
+			directory.putInt((int) centralHeader.size);
+			directory.putShort((short) centralHeader.name.length);
+			// The extra field, comment, disk, and attributes are empty.
+			directory.putShort((short) 0);
+			directory.putShort((short) 0);
+			directory.putShort((short) 0);
+			directory.putShort((short) 0);
+			directory.putInt(0);
+			directory.putInt((int) centralHeader.offset);
+			directory.put(centralHeader.name);
+		}
+		directory.putInt(END_SIGNATURE);
+		directory.putShort((short) 0);
+		directory.putShort((short) 0);
+		directory.putShort((short) centralHeaders.size());
+		directory.putShort((short) centralHeaders.size());
+		directory.putInt(centralSize);
+		directory.putInt((int) centralOffset);
+		directory.putShort((short) 0);
+		directory.flip();
+		write(directory);
+	}
+	
+	/**
+	 * Writes buffers to the channel one after another, from their
+	 * positions to their limits, without changing their positions.
+	 * 
+	 * @param buffers The buffers to write.
+	 * @throws IOException When writing the channel fails.
+	 */
+	private final void write(final ByteBuffer... buffers)
+			throws IOException {
+		ByteBuffer[] sources = new ByteBuffer[buffers.length];
+		long length = 0;
+		for (int i = 0; i < buffers.length; i++) {
+			sources[i] = buffers[i].duplicate();
+			length += sources[i].remaining();
+		}
+		if (channel instanceof GatheringByteChannel) {
+			GatheringByteChannel gatheringChannel =
+					(GatheringByteChannel) channel;
+			// A gathering write may stop early, like any other write.
+			long remaining = length;
+			while (remaining > 0) {
+				remaining -= gatheringChannel.write(sources);
+			}
+		} else {
+			for (ByteBuffer source : sources) {
+				while (source.hasRemaining()) {
+					channel.write(source);
+				}
+			}
+		}
+		offset += length;
+	}
+	
+	/**
+	 * Gets the bytes of a buffer as an array, from its position to its
+	 * limit, without copying them when the buffer wraps a whole array.
+	 * 
+	 * @param data The buffer.
+	 * @return The array of the bytes.
+	 */
+	private static final byte[] toArray(final ByteBuffer data) {
+		if (data.hasArray() && data.arrayOffset() == 0
+				&& data.position() == 0
+				&& data.remaining() == data.array().length)
+			return data.array();
+		byte[] array = new byte[data.remaining()];
+		data.duplicate().get(array);
+		return array;
+	}
+	
+	/**
+	 * Converts a Java date and time into an MS-DOS date and time.
+	 * 
+	 * @param dateTime The Java date and time.
+	 * @return The MS-DOS date and time.
+	 */
+	private static final int toDosTime(final LocalDateTime dateTime) {
+		// MS-DOS dates can't go before 1980.
+		if (dateTime.getYear() < 1980) return (1 << 21) | (1 << 16);
+		return (dateTime.getYear() - 1980) << 25
+				| dateTime.getMonthValue() << 21
+				| dateTime.getDayOfMonth() << 16
+				| dateTime.getHour() << 11
+				| dateTime.getMinute() << 5
+				| dateTime.getSecond() >> 1;
+	}
+	
+	/**
+	 * An entry that has been handed to the writer, but not written yet.
+	 */
+	private static final class PendingEntry {
+		
+		/**
+		 * The encoded name of the entry.
+		 */
+		private final byte[] name;
+		
+		/**
+		 * The compression method of the entry.
+		 */
+		private final int method;
+		
+		/**
+		 * The alignment of the data of the entry.
+		 */
+		private final int alignment;
+		
+		/**
+		 * The amount of uncompressed bytes.
+		 */
+		private final long size;
+		
+		/**
+		 * The CRC32 checksum of the uncompressed bytes.
+		 */
+		private final CompletableFuture<Long> crc;
+		
+		/**
+		 * The bytes written for the entry, as they are stored.
+		 */
+		private final List<CompletableFuture<ByteBuffer>> chunks;
+		
+		/**
+		 * Checks if the bytes of the entry are ready.
+		 * 
+		 * @return True if the entry can be written without waiting.
+		 */
+		private final boolean isDone() {
+			if (!crc.isDone()) return false;
+			for (CompletableFuture<ByteBuffer> chunk : chunks) {
+				if (!chunk.isDone()) return false;
+			}
+			return true;
+		}
+		
+		/**
+		 * Constructs an instance of the pending entry.
+		 * 
+		 * @param name The name of the entry.
+		 * @param method The compression method of the entry.
+		 * @param alignment The alignment of the data of the entry.
+		 * @param size The amount of uncompressed bytes.
+		 * @param crc The CRC32 checksum of the uncompressed bytes.
+		 * @param chunks The bytes written for the entry.
+		 */
+		private PendingEntry(
+				final String name,
+				final int method,
+				final int alignment,
+				final long size,
+				final CompletableFuture<Long> crc,
+				final List<CompletableFuture<ByteBuffer>> chunks) {
+			this.name = name.getBytes(StandardCharsets.UTF_8);
+			this.method = method;
+			this.alignment = alignment;
+			this.size = size;
+			this.crc = crc;
+			this.chunks = chunks;
+		}
+	}
+	
+	/**
+	 * The fields of an entry that are written again in the central
+	 * directory.
+	 */
+	private static final class CentralHeader {
+		
+		/**
+		 * The encoded name of the entry.
+		 */
+		private final byte[] name;
+		
+		/**
+		 * The version needed to extract the entry.
+		 */
+		private final int version;
+		
+		/**
+		 * The compression method of the entry.
+		 */
+		private final int method;
+		
+		/**
+		 * The CRC32 checksum of the uncompressed bytes.
+		 */
+		private final long crc;
+		
+		/**
+		 * The amount of bytes stored for the entry.
+		 */
+		private final long compressedSize;
+		
+		/**
+		 * The amount of uncompressed bytes.
+		 */
+		private final long size;
+		
+		/**
+		 * The offset of the local header in the ZIP file.
+		 */
+		private final long offset;
+		
+		/**
+		 * Constructs an instance of the central header.
+		 * 
+		 * @param name The encoded name of the entry.
+		 * @param version The version needed to extract the entry.
+		 * @param method The compression method of the entry.
+		 * @param crc The CRC32 checksum of the uncompressed bytes.
+		 * @param compressedSize The amount of bytes stored.
+		 * @param size The amount of uncompressed bytes.
+		 * @param offset The offset of the local header.
+		 */
+		private CentralHeader(
+				final byte[] name,
+				final int version,
+				final int method,
+				final long crc,
+				final long compressedSize,
+				final long size,
+				final long offset) {
+			this.name = name;
+			this.version = version;
+			this.method = method;
+			this.crc = crc;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.offset = offset;
+		}
+	}
+	
+	/**
+	 * Constructs an instance of the ZIP writer.
+	 * 
+	 * @param channel The channel that the ZIP file is written to, which
+	 * is closed along with the writer, unless it's only finished.
+	 * @param executor The executor that compresses the entries in
+	 * parallel, or null to compress them on the calling thread.
+	 */
+	PacZipWriter(
+			final WritableByteChannel channel,
+			final Executor executor) {
+		this.channel = channel;
+		this.executor = executor;
+	}
+	
+	/**
+	 * Constructs an instance of the ZIP writer that compresses the entries
+	 * on the calling thread.
+	 * 
+	 * @param channel The channel that the ZIP file is written to, which
+	 * is closed along with the writer.
+	 */
+	PacZipWriter(final WritableByteChannel channel) {
+		this(channel, null);
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.metrics;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+/**
+ * An interface that receives the timings and byte counts of each phase
+ * of importing, opening, and saving ROM sets.
+ * 
+ * <p>A listener is set with the
+ * {@link io.github.thatgarlicdude.pacio.io.PacROMSetOptions#withListener
+ * withListener} option. Every method does nothing by default, so a
+ * listener only has to override the phases it cares about. Nothing is
+ * timed at all when there's no listener.</p>
+ * 
+ * <p>The methods may be called from several threads at once, such as
+ * from the executor of the options or from the threads that load the
+ * regions of lazy ROM sets, so a listener has to be thread-safe. They
+ * should also return quickly, since they're called in the middle of the
+ * operations they measure.</p>
+ * 
+ * <p>Every source is named by its file path, or by a description of the
+ * channel, buffer, or stream it's read from or written to.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public interface PacIOListener {
+	
+	/**
+	 * Receives the time taken to open an archive.
+	 * 
+	 * @param source The name of the source.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	default void onArchiveOpened(final String source, final long nanos) {
+	}
+	
+	/**
+	 * Receives the catalog that an original ROM set has been matched
+	 * against, and the time taken to match it.
+	 * 
+	 * @param source The name of the source.
+	 * @param pacCatalogMatch The result of the match.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	default void onCatalogDetected(
+			final String source,
+			final PacCatalogMatch pacCatalogMatch,
+			final long nanos) {
+	}
+	
+	/**
+	 * Receives the sizes of a region that has been read, and the time
+	 * taken to read and decompress it.
+	 * 
+	 * <p>The ROMs of a region may be read in parallel, in which case the
+	 * time is the sum of the times taken by each of them.</p>
+	 * 
+	 * @param source The name of the source.
+	 * @param pacRegion The region.
+	 * @param compressedSize The amount of bytes stored in the archive, or
+	 * -1 if it isn't known.
+	 * @param size The amount of bytes in the region.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	default void onRegionRead(
+			final String source,
+			final PacRegion pacRegion,
+			final long compressedSize,
+			final long size,
+			final long nanos) {
+	}
+	
+	/**
+	 * Receives the time taken to read every region and assemble them into
+	 * a ROM set, from the first read to the finished ROM set.
+	 * 
+	 * @param source The name of the source.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	default void onROMSetAssembled(final String source, final long nanos) {
+	}
+	
+	/**
+	 * Receives the catalog of an original ROM set that has been imported,
+	 * and the time taken to import it as a whole.
+	 * 
+	 * @param source The name of the source.
+	 * @param pacCatalogMatch The result of the match.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	default void onROMSetImported(
+			final String source,
+			final PacCatalogMatch pacCatalogMatch,
+			final long nanos) {
+	}
+	
+	/**
+	 * Receives the time taken to open a unified ROM set as a whole.
+	 * 
+	 * <p>The regions of a lazy ROM set are read later, and are received
+	 * by the {@link #onRegionRead onRegionRead} method when they are.</p>
+	 * 
+	 * @param source The name of the source.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	default void onROMSetOpened(final String source, final long nanos) {
+	}
+	
+	/**
+	 * Receives the size of a unified ROM set that has been saved, and the
+	 * time taken to compress and write it.
+	 * 
+	 * @param destination The name of the destination.
+	 * @param size The amount of bytes written.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	default void onROMSetSaved(
+			final String destination,
+			final long size,
+			final long nanos) {
+	}
+	
+	/**
+	 * Receives the error that an import, open, save, or catalog detection
+	 * has failed with.
+	 * 
+	 * <p>The error is usually an IOException, but anything else thrown
+	 * along the way, such as a RuntimeException, is received too.</p>
+	 * 
+	 * @param source The name of the source or destination.
+	 * @param exception The error.
+	 */
+	default void onFailure(
+			final String source,
+			final Throwable exception) {
+	}
+}
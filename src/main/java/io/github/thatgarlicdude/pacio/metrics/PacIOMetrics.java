@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.metrics;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalog;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * A listener that adds up the counters and latencies of every import,
+ * open, and save it receives, and publishes them as a JMX MBean.
+ * 
+ * <p>Every counter is a {@link LongAdder} and every latency goes into a
+ * {@link PacLatencyHistogram}, so a single instance can be shared by
+ * every thread and every set of options in an application.</p>
+ * 
+ * <pre>{@code
+ * PacIOMetrics metrics = new PacIOMetrics();
+ * metrics.register();
+ * PacROMSetOptions options = PacROMSetOptions.DEFAULT.withListener(metrics);
+ * }</pre>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacIOMetrics implements PacIOListener, PacIOMetricsMXBean {
+	
+	/**
+	 * The object name that the metrics are registered under by default.
+	 */
+	public static final String OBJECT_NAME =
+			"io.github.thatgarlicdude.pacio:type=PacIOMetrics";
+	
+	/**
+	 * The amount of imports.
+	 */
+	private final LongAdder importCount = new LongAdder();
+	
+	/**
+	 * The amount of opens.
+	 */
+	private final LongAdder openCount = new LongAdder();
+	
+	/**
+	 * The amount of saves.
+	 */
+	private final LongAdder saveCount = new LongAdder();
+	
+	/**
+	 * The amount of failures.
+	 */
+	private final LongAdder failureCount = new LongAdder();
+	
+	/**
+	 * The amount of bytes of the regions that have been read.
+	 */
+	private final LongAdder bytesRead = new LongAdder();
+	
+	/**
+	 * The amount of compressed bytes that have been read.
+	 */
+	private final LongAdder compressedBytesRead = new LongAdder();
+	
+	/**
+	 * The amount of bytes that have been saved.
+	 */
+	private final LongAdder bytesSaved = new LongAdder();
+	
+	/**
+	 * How many times each catalog has been matched, by name.
+	 */
+	private final Map<String, LongAdder> catalogMatches =
+			new ConcurrentHashMap<>();
+	
+	/**
+	 * The latencies of each phase.
+	 */
+	private final Map<PacIOPhase, PacLatencyHistogram> latencies =
+			new EnumMap<>(PacIOPhase.class);
+	
+	/**
+	 * The object name that the metrics are registered under, or null.
+	 */
+	private volatile ObjectName objectName;
+	
+	@Override
+	public final void onArchiveOpened(final String source, final long nanos) {
+		latencies.get(PacIOPhase.ARCHIVE_OPEN).record(nanos);
+	}
+	
+	@Override
+	public final void onCatalogDetected(
+			final String source,
+			final PacCatalogMatch pacCatalogMatch,
+			final long nanos) {
+		latencies.get(PacIOPhase.CATALOG_DETECTION).record(nanos);
+	}
+	
+	@Override
+	public final void onRegionRead(
+			final String source,
+			final PacRegion pacRegion,
+			final long compressedSize,
+			final long size,
+			final long nanos) {
+		latencies.get(PacIOPhase.REGION_READ).record(nanos);
+		bytesRead.add(size);
+		if (compressedSize > 0) compressedBytesRead.add(compressedSize);
+	}
+	
+	@Override
+	public final void onROMSetAssembled(
+			final String source,
+			final long nanos) {
+		latencies.get(PacIOPhase.ASSEMBLY).record(nanos);
+	}
+	
+	@Override
+	public final void onROMSetImported(
+			final String source,
+			final PacCatalogMatch pacCatalogMatch,
+			final long nanos) {
+		latencies.get(PacIOPhase.IMPORT).record(nanos);
+		importCount.increment();
+		PacCatalog pacCatalog = pacCatalogMatch.getPacCatalog();
+		if (pacCatalog == null) return;
+		catalogMatches.computeIfAbsent(pacCatalog.getClass().getSimpleName(),
+				name -> new LongAdder()).increment();
+	}
+	
+	@Override
+	public final void onROMSetOpened(final String source, final long nanos) {
+		latencies.get(PacIOPhase.OPEN).record(nanos);
+		openCount.increment();
+	}
+	
+	@Override
+	public final void onROMSetSaved(
+			final String destination,
+			final long size,
+			final long nanos) {
+		latencies.get(PacIOPhase.SAVE).record(nanos);
+		saveCount.increment();
+		bytesSaved.add(size);
+	}
+	
+	@Override
+	public final void onFailure(
+			final String source,
+			final Throwable exception) {
+		failureCount.increment();
+	}
+	
+	@Override
+	public final long getImportCount() {
+		return importCount.sum();
+	}
+	
+	@Override
+	public final long getOpenCount() {
+		return openCount.sum();
+	}
+	
+	@Override
+	public final long getSaveCount() {
+		return saveCount.sum();
+	}
+	
+	@Override
+	public final long getFailureCount() {
+		return failureCount.sum();
+	}
+	
+	@Override
+	public final long getBytesRead() {
+		return bytesRead.sum();
+	}
+	
+	@Override
+	public final long getCompressedBytesRead() {
+		return compressedBytesRead.sum();
+	}
+	
+	@Override
+	public final long getBytesSaved() {
+		return bytesSaved.sum();
+	}
+	
+	@Override
+	public final Map<String, Long> getCatalogMatches() {
+		Map<String, Long> matches = new LinkedHashMap<>();
+		for (Map.Entry<String, LongAdder> entry : catalogMatches.entrySet()) {
+			matches.put(entry.getKey(), entry.getValue().sum());
+		}
+		return Collections.unmodifiableMap(matches);
+	}
+	
+	@Override
+	public final Map<String, Long> getMedianLatencies() {
+		Map<String, Long> medians = new LinkedHashMap<>();
+		for (PacIOPhase phase : PacIOPhase.values()) {
+			medians.put(phase.name(), getLatency(phase).getPercentile(50));
+		}
+		return Collections.unmodifiableMap(medians);
+	}
+	
+	@Override
+	public final Map<String, Long> getP99Latencies() {
+		Map<String, Long> percentiles = new LinkedHashMap<>();
+		for (PacIOPhase phase : PacIOPhase.values()) {
+			percentiles.put(phase.name(),
+					getLatency(phase).getPercentile(99));
+		}
+		return Collections.unmodifiableMap(percentiles);
+	}
+	
+	@Override
+	public final Map<String, Long> getMeanLatencies() {
+		Map<String, Long> means = new LinkedHashMap<>();
+		for (PacIOPhase phase : PacIOPhase.values()) {
+			PacLatencyHistogram histogram = getLatency(phase);
+			long count = histogram.getCount();
+			means.put(phase.name(),
+					count == 0 ? 0 : histogram.getTotalNanos() / count);
+		}
+		return Collections.unmodifiableMap(means);
+	}
+	
+	@Override
+	public final Map<String, long[]> getLatencyHistograms() {
+		Map<String, long[]> histograms = new LinkedHashMap<>();
+		for (PacIOPhase phase : PacIOPhase.values()) {
+			histograms.put(phase.name(), getLatency(phase).getCounts());
+		}
+		return Collections.unmodifiableMap(histograms);
+	}
+	
+	@Override
+	public final void reset() {
+		importCount.reset();
+		openCount.reset();
+		saveCount.reset();
+		failureCount.reset();
+		bytesRead.reset();
+		compressedBytesRead.reset();
+		bytesSaved.reset();
+		catalogMatches.clear();
+		for (PacLatencyHistogram histogram : latencies.values()) {
+			histogram.reset();
+		}
+	}
+	
+	/**
+	 * Gets the histogram of the latencies of a phase.
+	 * 
+	 * @param phase The phase.
+	 * @return The histogram, which keeps being updated.
+	 */
+	public final PacLatencyHistogram getLatency(final PacIOPhase phase) {
+		return latencies.get(phase);
+	}
+	
+	/**
+	 * Registers the metrics with the platform MBean server, under the
+	 * {@link #OBJECT_NAME default object name}.
+	 * 
+	 * @return The object name that the metrics are registered under.
+	 * @throws JMException When the metrics can't be registered, such as
+	 * when something else is already registered under the name.
+	 */
+	public final ObjectName register() throws JMException {
+		return register(new ObjectName(OBJECT_NAME));
+	}
+	
+	/**
+	 * Registers the metrics with the platform MBean server under an
+	 * object name, which lets several instances be published at once.
+	 * 
+	 * @param objectName The object name to register the metrics under.
+	 * @return The object name that the metrics are registered under.
+	 * @throws JMException When the metrics can't be registered, such as
+	 * when something else is already registered under the name.
+	 */
+	public final synchronized ObjectName register(
+			final ObjectName objectName) throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		this.objectName =
+				server.registerMBean(this, objectName).getObjectName();
+		return this.objectName;
+	}
+	
+	/**
+	 * Unregisters the metrics from the platform MBean server, if they
+	 * have been registered.
+	 * 
+	 * @throws JMException When the metrics can't be unregistered.
+	 */
+	public final synchronized void unregister() throws JMException {
+		if (objectName == null) return;
+		ManagementFactory.getPlatformMBeanServer()
+				.unregisterMBean(objectName);
+		objectName = null;
+	}
+	
+	/**
+	 * Constructs an instance of the metrics, with every counter at 0.
+	 */
+	public PacIOMetrics() {
+		for (PacIOPhase phase : PacIOPhase.values()) {
+			latencies.put(phase, new PacLatencyHistogram());
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link PacIOMetrics}, which is how its
+ * counters and latencies are published over JMX.
+ * 
+ * <p>The latencies are keyed by the names of the {@link PacIOPhase}
+ * constants, and are in nanoseconds.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public interface PacIOMetricsMXBean {
+	
+	/**
+	 * Gets the amount of original ROM sets that have been imported.
+	 * 
+	 * @return The amount of imports.
+	 */
+	long getImportCount();
+	
+	/**
+	 * Gets the amount of unified ROM sets that have been opened.
+	 * 
+	 * @return The amount of opens.
+	 */
+	long getOpenCount();
+	
+	/**
+	 * Gets the amount of unified ROM sets that have been saved.
+	 * 
+	 * @return The amount of saves.
+	 */
+	long getSaveCount();
+	
+	/**
+	 * Gets the amount of imports, opens, and saves that have failed.
+	 * 
+	 * @return The amount of failures.
+	 */
+	long getFailureCount();
+	
+	/**
+	 * Gets the amount of bytes of the regions that have been read.
+	 * 
+	 * @return The amount of bytes.
+	 */
+	long getBytesRead();
+	
+	/**
+	 * Gets the amount of compressed bytes that have been read for the
+	 * regions, as far as they're known.
+	 * 
+	 * @return The amount of bytes.
+	 */
+	long getCompressedBytesRead();
+	
+	/**
+	 * Gets the amount of bytes that have been written by saves.
+	 * 
+	 * @return The amount of bytes.
+	 */
+	long getBytesSaved();
+	
+	/**
+	 * Gets how many times each catalog has been matched, by the simple
+	 * name of its class.
+	 * 
+	 * @return The amounts of matches.
+	 */
+	Map<String, Long> getCatalogMatches();
+	
+	/**
+	 * Gets the median latency of each phase.
+	 * 
+	 * @return The upper bounds of the medians.
+	 */
+	Map<String, Long> getMedianLatencies();
+	
+	/**
+	 * Gets the 99th percentile latency of each phase.
+	 * 
+	 * @return The upper bounds of the percentiles.
+	 */
+	Map<String, Long> getP99Latencies();
+	
+	/**
+	 * Gets the mean latency of each phase.
+	 * 
+	 * @return The means.
+	 */
+	Map<String, Long> getMeanLatencies();
+	
+	/**
+	 * Gets the histogram of the latencies of each phase, where bucket
+	 * {@code n} counts the latencies from {@code 2^n} to
+	 * {@code 2^(n+1)} nanoseconds.
+	 * 
+	 * @return The counts of each bucket.
+	 */
+	Map<String, long[]> getLatencyHistograms();
+	
+	/**
+	 * Clears every counter and latency.
+	 */
+	void reset();
+}
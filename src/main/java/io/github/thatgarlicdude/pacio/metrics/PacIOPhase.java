@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.metrics;
+
+/**
+ * An enum that represents the phases of importing, opening, and saving
+ * ROM sets that {@link PacIOMetrics} keeps the latencies of.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public enum PacIOPhase {
+	
+	/**
+	 * Opening an archive.
+	 */
+	ARCHIVE_OPEN,
+	
+	/**
+	 * Matching an original ROM set against the catalogs.
+	 */
+	CATALOG_DETECTION,
+	
+	/**
+	 * Reading and decompressing a single region.
+	 */
+	REGION_READ,
+	
+	/**
+	 * Reading every region and assembling them into a ROM set.
+	 */
+	ASSEMBLY,
+	
+	/**
+	 * Importing an original ROM set as a whole.
+	 */
+	IMPORT,
+	
+	/**
+	 * Opening a unified ROM set as a whole.
+	 */
+	OPEN,
+	
+	/**
+	 * Saving a unified ROM set as a whole.
+	 */
+	SAVE;
+}
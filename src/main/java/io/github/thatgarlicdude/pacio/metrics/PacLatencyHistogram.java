@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, in buckets that are powers of 2 nanoseconds
+ * wide.
+ * 
+ * <p>Bucket {@code n} counts the latencies from {@code 2^n} up to, but
+ * not including, {@code 2^(n+1)} nanoseconds, with the latencies under a
+ * nanosecond counted in bucket 0. Recording a latency only adds to two
+ * {@link LongAdder} counters, so it's cheap even when many threads record
+ * at once, and the percentiles are accurate to within a factor of 2.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacLatencyHistogram {
+	
+	/**
+	 * The amount of buckets, which covers every positive long.
+	 */
+	public static final int BUCKET_COUNT = 64;
+	
+	/**
+	 * Error message used when a percentile is out of range.
+	 */
+	private static final String PERCENTILE_MESSAGE =
+			"Invalid percentile: %s";
+	
+	/**
+	 * The amount of latencies in each bucket.
+	 */
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+	
+	/**
+	 * The sum of every latency, in nanoseconds.
+	 */
+	private final LongAdder totalNanos = new LongAdder();
+	
+	/**
+	 * Records a latency.
+	 * 
+	 * @param nanos The latency, in nanoseconds.
+	 */
+	public final void record(final long nanos) {
+		buckets[getBucket(nanos)].increment();
+		totalNanos.add(Math.max(0, nanos));
+	}
+	
+	/**
+	 * Gets the amount of latencies that have been recorded.
+	 * 
+	 * @return The amount of latencies.
+	 */
+	public final long getCount() {
+		long count = 0;
+		for (LongAdder bucket : buckets) {
+			count += bucket.sum();
+		}
+		return count;
+	}
+	
+	/**
+	 * Gets the sum of every latency that has been recorded.
+	 * 
+	 * @return The sum, in nanoseconds.
+	 */
+	public final long getTotalNanos() {
+		return totalNanos.sum();
+	}
+	
+	/**
+	 * Gets the amount of latencies in each bucket.
+	 * 
+	 * @return A new array of the counts, indexed by bucket.
+	 */
+	public final long[] getCounts() {
+		long[] counts = new long[BUCKET_COUNT];
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			counts[bucket] = buckets[bucket].sum();
+		}
+		return counts;
+	}
+	
+	/**
+	 * Gets an upper bound of a percentile of the latencies, which is the
+	 * end of the bucket that the percentile falls in.
+	 * 
+	 * @param percentile The percentile, from 0 to 100.
+	 * @return The upper bound, in nanoseconds, or 0 if nothing has been
+	 * recorded.
+	 * @throws IllegalArgumentException When the percentile is out of
+	 * range.
+	 */
+	public final long getPercentile(final double percentile) {
+		if (!(percentile >= 0 && percentile <= 100))
+			throw new IllegalArgumentException(
+					String.format(PERCENTILE_MESSAGE, percentile));
+		long[] counts = getCounts();
+		long count = 0;
+		for (long bucketCount : counts) {
+			count += bucketCount;
+		}
+		if (count == 0) return 0;
+		// The rank of the latency that the percentile falls on.
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+		long seen = 0;
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			seen += counts[bucket];
+			if (seen >= rank) return getUpperBound(bucket);
+		}
+		return Long.MAX_VALUE;
+	}
+	
+	/**
+	 * Clears every recorded latency.
+	 */
+	public final void reset() {
+		for (LongAdder bucket : buckets) {
+			bucket.reset();
+		}
+		totalNanos.reset();
+	}
+	
+	/**
+	 * Gets the bucket that a latency falls in.
+	 * 
+	 * @param nanos The latency, in nanoseconds.
+	 * @return The index of the bucket.
+	 */
+	static final int getBucket(final long nanos) {
+		if (nanos <= 1) return 0;
+		return 63 - Long.numberOfLeadingZeros(nanos);
+	}
+	
+	/**
+	 * Gets the largest latency that falls in a bucket.
+	 * 
+	 * @param bucket The index of the bucket.
+	 * @return The largest latency, in nanoseconds.
+	 */
+	static final long getUpperBound(final int bucket) {
+		if (bucket >= BUCKET_COUNT - 1) return Long.MAX_VALUE;
+		return (1L << (bucket + 1)) - 1;
+	}
+	
+	/**
+	 * Constructs an empty histogram.
+	 */
+	public PacLatencyHistogram() {
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			buckets[bucket] = new LongAdder();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.patch;
+
+/**
+ * An enum that represents the formats of the patches that can be applied
+ * to a region of a unified ROM set.
+ * 
+ * <p>The {@link PacPatcher} tells the formats apart by the first bytes
+ * of the patch, so a patch can be applied without knowing which format
+ * it's in.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public enum PacPatchFormat {
+	
+	/**
+	 * An IPS patch, which starts with {@code PATCH}, and is a list of
+	 * records that each overwrite the bytes at an offset, or fill them
+	 * with a single byte.
+	 * 
+	 * <p>The region grows when a record goes past its end, and it's cut
+	 * short when the patch has the truncation length after its end
+	 * marker.</p>
+	 */
+	IPS,
+	
+	/**
+	 * A BPS patch, which starts with {@code BPS1}, and builds the patched
+	 * region out of the bytes of the region, the bytes of the patch, and
+	 * the bytes it has already built.
+	 * 
+	 * <p>The CRC32 checksums of the region before and after the patch, and
+	 * of the patch itself, are all checked.</p>
+	 */
+	BPS;
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.patch;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.io.PacROMSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A class used to apply IPS and BPS patches to the regions of unified ROM
+ * sets, producing {@link PacROMSetVariant} objects.
+ * 
+ * <p>A patch only changes one region, such as the program ROMs of a hack
+ * or the graphic ROMs of a translation. The pages of the region that the
+ * patch leaves alone, and every other region, are still shared with the
+ * base ROM set, so that many patched variants of the same ROM set take
+ * up little more memory than the base itself.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacPatcher {
+	
+	/**
+	 * The bytes at the start of every IPS patch.
+	 */
+	private static final byte[] IPS_MAGIC =
+			"PATCH".getBytes(StandardCharsets.US_ASCII);
+	
+	/**
+	 * The offset of an IPS record that marks the end of the patch, which
+	 * reads {@code EOF}.
+	 */
+	private static final int IPS_END = 0x454F46;
+	
+	/**
+	 * The bytes at the start of every BPS patch.
+	 */
+	private static final byte[] BPS_MAGIC =
+			"BPS1".getBytes(StandardCharsets.US_ASCII);
+	
+	/**
+	 * The size of the checksums at the end of a BPS patch.
+	 */
+	private static final int BPS_FOOTER_SIZE = 12;
+	
+	/**
+	 * The BPS action that copies the bytes of the region at the same
+	 * offset.
+	 */
+	private static final int SOURCE_READ = 0;
+	
+	/**
+	 * The BPS action that copies the bytes of the patch.
+	 */
+	private static final int TARGET_READ = 1;
+	
+	/**
+	 * The BPS action that copies the bytes of the region from elsewhere.
+	 */
+	private static final int SOURCE_COPY = 2;
+	
+	/**
+	 * The BPS action that copies the bytes that have already been built.
+	 */
+	private static final int TARGET_COPY = 3;
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacPatcher can't be instantiated";
+	
+	/**
+	 * Error message used when the format of a patch is unknown.
+	 */
+	private static final String FORMAT_MESSAGE = "Unknown patch format";
+	
+	/**
+	 * Error message used when a patch is invalid.
+	 */
+	private static final String INVALID_MESSAGE = "Invalid %s patch";
+	
+	/**
+	 * Error message used when a checksum of a BPS patch doesn't match.
+	 */
+	private static final String CRC_MESSAGE =
+			"CRC mismatch of the %s region in the %s patch";
+	
+	/**
+	 * Detects the format of a patch by its first bytes.
+	 * 
+	 * @param patch The bytes of the patch, from its position to its limit.
+	 * @return The format of the patch, or null if it's unknown.
+	 */
+	public static final PacPatchFormat detectFormat(final ByteBuffer patch) {
+		if (startsWith(patch, IPS_MAGIC)) return PacPatchFormat.IPS;
+		if (startsWith(patch, BPS_MAGIC)) return PacPatchFormat.BPS;
+		return null;
+	}
+	
+	/**
+	 * Applies a patch to a region of a unified ROM set, producing a
+	 * variant of it.
+	 * 
+	 * <p>The ROM set itself isn't changed.</p>
+	 * 
+	 * @param base The unified ROM set.
+	 * @param pacRegion The region that the patch is for.
+	 * @param patch The bytes of the patch, from its position to its limit,
+	 * which isn't changed.
+	 * @return The patched variant of the ROM set.
+	 * @throws IOException When the format of the patch is unknown, when
+	 * the patch is invalid, or when it doesn't match the region.
+	 */
+	public static final PacROMSetVariant applyPatch(
+			final PacROMSet base,
+			final PacRegion pacRegion,
+			final ByteBuffer patch) throws IOException {
+		PacROMSetVariant variant = new PacROMSetVariant(base);
+		applyPatch(variant, pacRegion, patch);
+		return variant;
+	}
+	
+	/**
+	 * Applies a patch to a region of a variant, such as one that another
+	 * patch has already been applied to.
+	 * 
+	 * <p>A BPS patch is checked against the region before anything is
+	 * written. When an IPS patch turns out to be invalid, the records
+	 * before the invalid one have already been applied.</p>
+	 * 
+	 * @param variant The variant of a unified ROM set.
+	 * @param pacRegion The region that the patch is for.
+	 * @param patch The bytes of the patch, from its position to its limit,
+	 * which isn't changed.
+	 * @throws IOException When the format of the patch is unknown, when
+	 * the patch is invalid, or when it doesn't match the region.
+	 */
+	public static final void applyPatch(
+			final PacROMSetVariant variant,
+			final PacRegion pacRegion,
+			final ByteBuffer patch) throws IOException {
+		PacPatchFormat format = detectFormat(patch);
+		if (format == PacPatchFormat.IPS) {
+			applyIPS(variant, pacRegion, patch.slice());
+		} else if (format == PacPatchFormat.BPS) {
+			applyBPS(variant, pacRegion,
+					patch.slice().order(ByteOrder.LITTLE_ENDIAN));
+		} else {
+			throw new IOException(FORMAT_MESSAGE);
+		}
+	}
+	
+	/**
+	 * Applies an IPS patch to a region of a variant.
+	 * 
+	 * @param variant The variant of a unified ROM set.
+	 * @param pacRegion The region that the patch is for.
+	 * @param patch The bytes of the patch, in big-endian byte order.
+	 * @throws IOException When the patch is invalid.
+	 */
+	private static final void applyIPS(
+			final PacROMSetVariant variant,
+			final PacRegion pacRegion,
+			final ByteBuffer patch) throws IOException {
+		patch.position(IPS_MAGIC.length);
+		while (true) {
+			int offset = getUnsignedMedium(patch, PacPatchFormat.IPS);
+			if (offset == IPS_END) break;
+			require(patch, 2, PacPatchFormat.IPS);
+			int size = patch.getShort() & 0xFFFF;
+			// A record without a size fills its bytes with a single byte.
+			if (size == 0) {
+				require(patch, 3, PacPatchFormat.IPS);
+				byte[] run = new byte[patch.getShort() & 0xFFFF];
+				Arrays.fill(run, patch.get());
+				variant.put(pacRegion, offset, run, 0, run.length);
+				continue;
+			}
+			require(patch, size, PacPatchFormat.IPS);
+			ByteBuffer record = patch.slice();
+			record.limit(size);
+			variant.put(pacRegion, offset, record);
+			patch.position(patch.position() + size);
+		}
+		// Cut the region short when the patch has a truncation length.
+		if (patch.remaining() >= 3)
+			variant.setLength(pacRegion,
+					getUnsignedMedium(patch, PacPatchFormat.IPS));
+	}
+	
+	/**
+	 * Applies a BPS patch to a region of a variant.
+	 * 
+	 * <p>The bytes are built at increasing offsets, so the bytes of the
+	 * region at and past the current offset are still the source bytes.
+	 * Copying the source bytes at the same offset then doesn't write
+	 * anything, which keeps those pages shared.</p>
+	 * 
+	 * @param variant The variant of a unified ROM set.
+	 * @param pacRegion The region that the patch is for.
+	 * @param patch The bytes of the patch, in little-endian byte order.
+	 * @throws IOException When the patch is invalid, or when it doesn't
+	 * match the region.
+	 */
+	private static final void applyBPS(
+			final PacROMSetVariant variant,
+			final PacRegion pacRegion,
+			final ByteBuffer patch) throws IOException {
+		PacPatchFormat format = PacPatchFormat.BPS;
+		int footer = patch.limit() - BPS_FOOTER_SIZE;
+		if (footer < BPS_MAGIC.length)
+			throw new IOException(String.format(INVALID_MESSAGE, format));
+		long sourceCRC = patch.getInt(footer) & 0xFFFFFFFFL;
+		long targetCRC = patch.getInt(footer + 4) & 0xFFFFFFFFL;
+		long patchCRC = patch.getInt(footer + 8) & 0xFFFFFFFFL;
+		// Check the patch itself before anything is written.
+		ByteBuffer patchBytes = patch.duplicate();
+		patchBytes.limit(footer + 8);
+		if (crc32(patchBytes) != patchCRC)
+			throw new IOException(String.format(INVALID_MESSAGE, format));
+		patch.position(BPS_MAGIC.length);
+		patch.limit(footer);
+		long sourceSize = getNumber(patch);
+		long targetSize = getNumber(patch);
+		long metadataSize = getNumber(patch);
+		if (targetSize > Integer.MAX_VALUE)
+			throw new IOException(String.format(INVALID_MESSAGE, format));
+		require(patch, metadataSize, format);
+		patch.position(patch.position() + (int) metadataSize);
+		ByteBuffer source = variant.getSnapshot(pacRegion);
+		if (source.remaining() != sourceSize || crc32(source) != sourceCRC)
+			throw new IOException(String.format(
+					CRC_MESSAGE, pacRegion, format));
+		int offset = 0;
+		long sourceOffset = 0;
+		long targetOffset = 0;
+		while (patch.hasRemaining()) {
+			long action = getNumber(patch);
+			long length = (action >> 2) + 1;
+			if (length > targetSize - offset)
+				throw new IOException(String.format(INVALID_MESSAGE, format));
+			switch ((int) (action & 3)) {
+			case SOURCE_READ:
+				// The region still has the source bytes at this offset.
+				if (offset + length > sourceSize)
+					throw new IOException(String.format(
+							INVALID_MESSAGE, format));
+				break;
+			case TARGET_READ:
+				require(patch, length, format);
+				ByteBuffer data = patch.slice();
+				data.limit((int) length);
+				variant.put(pacRegion, offset, data);
+				patch.position(patch.position() + (int) length);
+				break;
+			case SOURCE_COPY:
+				sourceOffset += getOffset(patch);
+				if (sourceOffset < 0 || sourceOffset + length > sourceSize)
+					throw new IOException(String.format(
+							INVALID_MESSAGE, format));
+				ByteBuffer copy = source.duplicate();
+				copy.position((int) sourceOffset);
+				copy.limit((int) (sourceOffset + length));
+				variant.put(pacRegion, offset, copy);
+				sourceOffset += length;
+				break;
+			default:
+				targetOffset += getOffset(patch);
+				if (targetOffset < 0 || targetOffset >= offset)
+					throw new IOException(String.format(
+							INVALID_MESSAGE, format));
+				// Copy one byte at a time, since the bytes can overlap.
+				for (long i = 0; i < length; i++) {
+					variant.put(pacRegion, offset + (int) i,
+							variant.get(pacRegion, (int) targetOffset++));
+				}
+				break;
+			}
+			offset += (int) length;
+		}
+		if (offset != targetSize)
+			throw new IOException(String.format(INVALID_MESSAGE, format));
+		variant.setLength(pacRegion, offset);
+		if (variant.getCRC32(pacRegion) != targetCRC)
+			throw new IOException(String.format(
+					CRC_MESSAGE, pacRegion, format));
+	}
+	
+	/**
+	 * Reads a number of a BPS patch, which is stored in 7-bit groups.
+	 * 
+	 * @param patch The bytes of the patch.
+	 * @return The number.
+	 * @throws IOException When the number is cut short or too large.
+	 */
+	private static final long getNumber(final ByteBuffer patch)
+			throws IOException {
+		long number = 0;
+		long shift = 1;
+		while (shift < 1L << 56) {
+			require(patch, 1, PacPatchFormat.BPS);
+			int data = patch.get() & 0xFF;
+			number += (data & 0x7F) * shift;
+			if ((data & 0x80) != 0) return number;
+			shift <<= 7;
+			number += shift;
+		}
+		throw new IOException(String.format(
+				INVALID_MESSAGE, PacPatchFormat.BPS));
+	}
+	
+	/**
+	 * Reads the relative offset of a BPS copy action, whose lowest bit is
+	 * its sign.
+	 * 
+	 * @param patch The bytes of the patch.
+	 * @return The relative offset.
+	 * @throws IOException When the offset is cut short or too large.
+	 */
+	private static final long getOffset(final ByteBuffer patch)
+			throws IOException {
+		long data = getNumber(patch);
+		return (data & 1) != 0 ? -(data >> 1) : data >> 1;
+	}
+	
+	/**
+	 * Reads an unsigned 3-byte number of an IPS patch.
+	 * 
+	 * @param patch The bytes of the patch.
+	 * @param format The format of the patch, used in the error message.
+	 * @return The number.
+	 * @throws IOException When the number is cut short.
+	 */
+	private static final int getUnsignedMedium(
+			final ByteBuffer patch,
+			final PacPatchFormat format) throws IOException {
+		require(patch, 3, format);
+		return (patch.get() & 0xFF) << 16 | (patch.get() & 0xFF) << 8
+				| patch.get() & 0xFF;
+	}
+	
+	/**
+	 * Makes sure that a patch has enough bytes left.
+	 * 
+	 * @param patch The bytes of the patch.
+	 * @param count The amount of bytes needed.
+	 * @param format The format of the patch, used in the error message.
+	 * @throws IOException When the patch is cut short.
+	 */
+	private static final void require(
+			final ByteBuffer patch,
+			final long count,
+			final PacPatchFormat format) throws IOException {
+		if (patch.remaining() < count)
+			throw new IOException(String.format(INVALID_MESSAGE, format));
+	}
+	
+	/**
+	 * Checks if a buffer starts with the given bytes.
+	 * 
+	 * @param buffer The buffer, from its position to its limit.
+	 * @param prefix The bytes to look for.
+	 * @return True if the buffer starts with the bytes.
+	 */
+	private static final boolean startsWith(
+			final ByteBuffer buffer,
+			final byte[] prefix) {
+		if (buffer.remaining() < prefix.length) return false;
+		ByteBuffer start = buffer.duplicate();
+		start.limit(start.position() + prefix.length);
+		return ByteBuffer.wrap(prefix).equals(start);
+	}
+	
+	/**
+	 * Computes the CRC32 checksum of a buffer, from its position to its
+	 * limit.
+	 * 
+	 * @param data The buffer.
+	 * @return The CRC32 checksum.
+	 */
+	private static final long crc32(final ByteBuffer data) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(data.duplicate());
+		return crc32.getValue();
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacPatcher() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
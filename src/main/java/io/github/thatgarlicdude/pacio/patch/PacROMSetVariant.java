@@ -0,0 +1,527 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.patch;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.io.PacROMSet;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A class that represents a variant of a unified ROM set, such as a hack
+ * or a translation, which only holds the bytes that differ from the ROM
+ * set it's based on.
+ * 
+ * <p>Each region of the variant is split into pages of
+ * {@link #PAGE_SIZE} bytes. A page that hasn't been written to is read
+ * straight from the base ROM set, and is only copied the first time one
+ * of its bytes changes. Writing the bytes that a page already has
+ * doesn't copy it either. The memory used by many variants of the same
+ * ROM set then grows with their differences, rather than with how many
+ * variants there are.</p>
+ * 
+ * <p>A variant is usually made by applying a patch with the
+ * {@link PacPatcher} class. It can be turned into a ROM set of its own
+ * with the {@link #toROMSet} method, such as to save it.</p>
+ * 
+ * <p>The base ROM set must not be modified while it has variants, since
+ * the pages they share with it would change too. A variant should only
+ * be written to by one thread at a time.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacROMSetVariant {
+	
+	/**
+	 * The size of the pages that are shared with the base ROM set, or
+	 * copied when they're written to.
+	 */
+	public static final int PAGE_SIZE = 256;
+	
+	/**
+	 * A page of zeros, read in place of the pages past the end of the base
+	 * region.
+	 */
+	private static final byte[] ZERO_PAGE = new byte[PAGE_SIZE];
+	
+	/**
+	 * Error message used when a range isn't in a region.
+	 */
+	private static final String RANGE_MESSAGE =
+			"Range out of bounds of the %s region: %d, %d";
+	
+	/**
+	 * Error message used when the length of a region is invalid.
+	 */
+	private static final String LENGTH_MESSAGE =
+			"Invalid length of the %s region: %d";
+	
+	/**
+	 * The ROM set that the variant is based on.
+	 */
+	private final PacROMSet base;
+	
+	/**
+	 * A read-only view of each region of the base ROM set, indexed by
+	 * {@link PacRegion}, or null for the regions it doesn't have.
+	 */
+	private final ByteBuffer[] baseBuffers;
+	
+	/**
+	 * The amount of bytes at the start of each region that are still read
+	 * from the base ROM set, when their pages haven't been copied.
+	 */
+	private final int[] sharedLengths;
+	
+	/**
+	 * The length of each region of the variant.
+	 */
+	private final int[] lengths;
+	
+	/**
+	 * The pages of each region, which are null until they're copied.
+	 */
+	private final byte[][][] pages;
+	
+	/**
+	 * The amount of pages that have been copied.
+	 */
+	private int materializedPageCount = 0;
+	
+	/**
+	 * Gets the ROM set that the variant is based on.
+	 * 
+	 * @return The base ROM set.
+	 */
+	public final PacROMSet getBase() {
+		return base;
+	}
+	
+	/**
+	 * Gets the length of a region in bytes.
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @return The length of the region.
+	 */
+	public final int getLength(final PacRegion pacRegion) {
+		return lengths[pacRegion.ordinal()];
+	}
+	
+	/**
+	 * Gets a byte of a region.
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @param offset The offset of the byte.
+	 * @return The byte.
+	 * @throws IndexOutOfBoundsException When the offset isn't in the
+	 * region.
+	 */
+	public final byte get(final PacRegion pacRegion, final int offset) {
+		int index = pacRegion.ordinal();
+		checkRange(pacRegion, offset, 1, lengths[index]);
+		byte[] page = pages[index][offset / PAGE_SIZE];
+		if (page != null) return page[offset % PAGE_SIZE];
+		return offset < sharedLengths[index]
+				? baseBuffers[index].get(offset) : 0;
+	}
+	
+	/**
+	 * Copies bytes of a region into an array.
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @param offset The offset of the first byte in the region.
+	 * @param dst The array that the bytes are copied into.
+	 * @param dstOffset The offset in the array.
+	 * @param length The amount of bytes.
+	 * @throws IndexOutOfBoundsException When the range isn't in the
+	 * region or in the array.
+	 */
+	public final void get(
+			final PacRegion pacRegion,
+			final int offset,
+			final byte[] dst,
+			final int dstOffset,
+			final int length) {
+		int index = pacRegion.ordinal();
+		checkRange(pacRegion, offset, length, lengths[index]);
+		checkRange(pacRegion, dstOffset, length, dst.length);
+		int position = offset;
+		int end = offset + length;
+		while (position < end) {
+			int pageOffset = position % PAGE_SIZE;
+			int count = Math.min(end - position, PAGE_SIZE - pageOffset);
+			readPage(index, position, dst, dstOffset + position - offset,
+					count);
+			position += count;
+		}
+	}
+	
+	/**
+	 * Gets a copy of the bytes of a region.
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @return The bytes of the region, or null if neither the variant nor
+	 * its base ROM set has the region.
+	 */
+	public final byte[] getData(final PacRegion pacRegion) {
+		int index = pacRegion.ordinal();
+		if (baseBuffers[index] == null && lengths[index] == 0) return null;
+		byte[] data = new byte[lengths[index]];
+		get(pacRegion, 0, data, 0, data.length);
+		return data;
+	}
+	
+	/**
+	 * Writes a byte of a region, growing the region if the byte is past
+	 * its end.
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @param offset The offset of the byte.
+	 * @param value The byte.
+	 * @throws IndexOutOfBoundsException When the offset is negative.
+	 */
+	public final void put(
+			final PacRegion pacRegion,
+			final int offset,
+			final byte value) {
+		put(pacRegion, offset, new byte[] {value}, 0, 1);
+	}
+	
+	/**
+	 * Writes bytes of a region out of a buffer, from its position to its
+	 * limit, growing the region if they go past its end.
+	 * 
+	 * <p>The position of the buffer isn't changed.</p>
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @param offset The offset of the first byte in the region.
+	 * @param src The buffer of the bytes.
+	 * @throws IndexOutOfBoundsException When the offset is negative.
+	 */
+	public final void put(
+			final PacRegion pacRegion,
+			final int offset,
+			final ByteBuffer src) {
+		if (src.hasArray()) {
+			put(pacRegion, offset, src.array(),
+					src.arrayOffset() + src.position(), src.remaining());
+			return;
+		}
+		byte[] data = new byte[src.remaining()];
+		src.duplicate().get(data);
+		put(pacRegion, offset, data, 0, data.length);
+	}
+	
+	/**
+	 * Writes bytes of a region out of an array, growing the region if
+	 * they go past its end.
+	 * 
+	 * <p>Only the pages whose bytes change are copied from the base ROM
+	 * set.</p>
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @param offset The offset of the first byte in the region.
+	 * @param src The array of the bytes.
+	 * @param srcOffset The offset in the array.
+	 * @param length The amount of bytes.
+	 * @throws IndexOutOfBoundsException When the offset is negative, or
+	 * when the range isn't in the array.
+	 */
+	public final void put(
+			final PacRegion pacRegion,
+			final int offset,
+			final byte[] src,
+			final int srcOffset,
+			final int length) {
+		int index = pacRegion.ordinal();
+		checkRange(pacRegion, offset, length, Integer.MAX_VALUE);
+		checkRange(pacRegion, srcOffset, length, src.length);
+		// Grow the region when the bytes go past its end.
+		if (offset + length > lengths[index])
+			setLength(pacRegion, offset + length);
+		int position = offset;
+		int end = offset + length;
+		while (position < end) {
+			int pageOffset = position % PAGE_SIZE;
+			int count = Math.min(end - position, PAGE_SIZE - pageOffset);
+			writePage(index, position, src, srcOffset + position - offset,
+					count);
+			position += count;
+		}
+	}
+	
+	/**
+	 * Changes the length of a region.
+	 * 
+	 * <p>The bytes past the end of a shorter region are dropped, and a
+	 * longer region is filled with zeros.</p>
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @param length The new length of the region.
+	 * @throws IllegalArgumentException When the length is negative.
+	 */
+	public final void setLength(final PacRegion pacRegion, final int length) {
+		if (length < 0) throw new IllegalArgumentException(
+				String.format(LENGTH_MESSAGE, pacRegion, length));
+		int index = pacRegion.ordinal();
+		byte[][] regionPages = pages[index];
+		int pageCount = getPageCount(length);
+		if (length < lengths[index]) {
+			// Make sure the dropped bytes read as zeros if the region
+			// grows again.
+			sharedLengths[index] = Math.min(sharedLengths[index], length);
+			for (int page = pageCount; page < regionPages.length; page++) {
+				if (regionPages[page] != null) materializedPageCount--;
+			}
+			byte[] lastPage = pageCount > 0 ? regionPages[pageCount - 1] : null;
+			if (lastPage != null && length % PAGE_SIZE != 0)
+				Arrays.fill(lastPage, length % PAGE_SIZE, PAGE_SIZE, (byte) 0);
+		}
+		pages[index] = Arrays.copyOf(regionPages, pageCount);
+		lengths[index] = length;
+	}
+	
+	/**
+	 * Computes the CRC32 checksum of a region, without copying it.
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @return The CRC32 checksum.
+	 */
+	public final long getCRC32(final PacRegion pacRegion) {
+		int index = pacRegion.ordinal();
+		CRC32 crc32 = new CRC32();
+		for (int position = 0; position < lengths[index];
+				position += PAGE_SIZE) {
+			int count = Math.min(lengths[index] - position, PAGE_SIZE);
+			byte[] page = pages[index][position / PAGE_SIZE];
+			if (page != null) {
+				crc32.update(page, 0, count);
+				continue;
+			}
+			int shared = Math.max(0,
+					Math.min(count, sharedLengths[index] - position));
+			if (shared > 0) crc32.update(slice(index, position, shared));
+			crc32.update(ZERO_PAGE, 0, count - shared);
+		}
+		return crc32.getValue();
+	}
+	
+	/**
+	 * Gets the amount of bytes that have been copied out of the base ROM
+	 * set, or that the variant has beyond it, which is how much more
+	 * memory the variant uses than its base.
+	 * 
+	 * @return The amount of bytes, a multiple of {@link #PAGE_SIZE}.
+	 */
+	public final long getMaterializedByteCount() {
+		return (long) materializedPageCount * PAGE_SIZE;
+	}
+	
+	/**
+	 * Copies the variant into a unified ROM set of its own.
+	 * 
+	 * @return The ROM set, which doesn't share any bytes with the base
+	 * ROM set.
+	 */
+	public final PacROMSet toROMSet() {
+		PacRegion[] pacRegions = PacRegion.values();
+		byte[][] data = new byte[pacRegions.length][];
+		for (PacRegion pacRegion : pacRegions) {
+			data[pacRegion.ordinal()] = getData(pacRegion);
+		}
+		return new PacROMSet(data[0], data[1], data[2], data[3], data[4],
+				data[5]);
+	}
+	
+	/**
+	 * Gets the bytes of a region as they are now, without copying them if
+	 * the region hasn't been written to.
+	 * 
+	 * @param pacRegion The region of the variant.
+	 * @return A read-only buffer of the region.
+	 */
+	final ByteBuffer getSnapshot(final PacRegion pacRegion) {
+		int index = pacRegion.ordinal();
+		boolean shared = sharedLengths[index] == lengths[index];
+		for (byte[] page : pages[index]) {
+			if (page != null) shared = false;
+		}
+		if (shared && baseBuffers[index] != null)
+			return slice(index, 0, lengths[index]);
+		byte[] data = getData(pacRegion);
+		return ByteBuffer.wrap(data != null ? data : new byte[0])
+				.asReadOnlyBuffer();
+	}
+	
+	/**
+	 * Copies bytes of a single page into an array.
+	 * 
+	 * @param index The index of the region.
+	 * @param offset The offset of the first byte in the region.
+	 * @param dst The array that the bytes are copied into.
+	 * @param dstOffset The offset in the array.
+	 * @param count The amount of bytes, which are all in the page.
+	 */
+	private final void readPage(
+			final int index,
+			final int offset,
+			final byte[] dst,
+			final int dstOffset,
+			final int count) {
+		byte[] page = pages[index][offset / PAGE_SIZE];
+		if (page != null) {
+			System.arraycopy(page, offset % PAGE_SIZE, dst, dstOffset, count);
+			return;
+		}
+		int shared = Math.max(0,
+				Math.min(count, sharedLengths[index] - offset));
+		if (shared > 0)
+			slice(index, offset, shared).get(dst, dstOffset, shared);
+		Arrays.fill(dst, dstOffset + shared, dstOffset + count, (byte) 0);
+	}
+	
+	/**
+	 * Writes bytes of a single page out of an array, copying the page
+	 * first if the bytes change.
+	 * 
+	 * @param index The index of the region.
+	 * @param offset The offset of the first byte in the region.
+	 * @param src The array of the bytes.
+	 * @param srcOffset The offset in the array.
+	 * @param count The amount of bytes, which are all in the page.
+	 */
+	private final void writePage(
+			final int index,
+			final int offset,
+			final byte[] src,
+			final int srcOffset,
+			final int count) {
+		int pageIndex = offset / PAGE_SIZE;
+		byte[] page = pages[index][pageIndex];
+		if (page == null) {
+			// Keep sharing the page when none of its bytes change.
+			if (matches(index, offset, src, srcOffset, count)) return;
+			page = new byte[PAGE_SIZE];
+			readPage(index, pageIndex * PAGE_SIZE, page, 0, PAGE_SIZE);
+			pages[index][pageIndex] = page;
+			materializedPageCount++;
+		}
+		System.arraycopy(src, srcOffset, page, offset % PAGE_SIZE, count);
+	}
+	
+	/**
+	 * Checks if bytes of a page that hasn't been copied are the same as
+	 * the bytes of an array.
+	 * 
+	 * @param index The index of the region.
+	 * @param offset The offset of the first byte in the region.
+	 * @param src The array of the bytes.
+	 * @param srcOffset The offset in the array.
+	 * @param count The amount of bytes, which are all in the page.
+	 * @return True if none of the bytes would change.
+	 */
+	private final boolean matches(
+			final int index,
+			final int offset,
+			final byte[] src,
+			final int srcOffset,
+			final int count) {
+		for (int i = 0; i < count; i++) {
+			int position = offset + i;
+			byte value = position < sharedLengths[index]
+					? baseBuffers[index].get(position) : 0;
+			if (value != src[srcOffset + i]) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Slices part of a region of the base ROM set.
+	 * 
+	 * @param index The index of the region.
+	 * @param offset The offset of the slice.
+	 * @param length The length of the slice.
+	 * @return The read-only slice.
+	 */
+	private final ByteBuffer slice(
+			final int index,
+			final int offset,
+			final int length) {
+		ByteBuffer slice = baseBuffers[index].duplicate();
+		slice.position(offset);
+		slice.limit(offset + length);
+		return slice.slice();
+	}
+	
+	/**
+	 * Counts the pages needed to hold a region.
+	 * 
+	 * @param length The length of the region.
+	 * @return The amount of pages.
+	 */
+	private static final int getPageCount(final int length) {
+		return (int) (((long) length + PAGE_SIZE - 1) / PAGE_SIZE);
+	}
+	
+	/**
+	 * Checks that a range is in bounds.
+	 * 
+	 * @param pacRegion The region, used in the error message.
+	 * @param offset The offset of the range.
+	 * @param length The length of the range.
+	 * @param limit The end of the bounds.
+	 * @throws IndexOutOfBoundsException When the range isn't in bounds.
+	 */
+	private static final void checkRange(
+			final PacRegion pacRegion,
+			final int offset,
+			final int length,
+			final int limit) {
+		if (offset < 0 || length < 0 || offset > limit - length)
+			throw new IndexOutOfBoundsException(String.format(
+					RANGE_MESSAGE, pacRegion, offset, length));
+	}
+	
+	/**
+	 * Constructs a variant of a unified ROM set, which starts out with
+	 * the same bytes and doesn't copy any of them.
+	 * 
+	 * <p>Every region of a lazy ROM set is loaded first.</p>
+	 * 
+	 * @param base The ROM set that the variant is based on.
+	 */
+	public PacROMSetVariant(final PacROMSet base) {
+		PacRegion[] pacRegions = PacRegion.values();
+		this.base = base;
+		this.baseBuffers = new ByteBuffer[pacRegions.length];
+		this.sharedLengths = new int[pacRegions.length];
+		this.lengths = new int[pacRegions.length];
+		this.pages = new byte[pacRegions.length][][];
+		for (PacRegion pacRegion : pacRegions) {
+			int index = pacRegion.ordinal();
+			ByteBuffer buffer = base.getBuffer(pacRegion);
+			int length = buffer == null ? 0 : buffer.remaining();
+			baseBuffers[index] = buffer;
+			sharedLengths[index] = length;
+			lengths[index] = length;
+			pages[index] = new byte[getPageCount(length)][];
+		}
+	}
+}
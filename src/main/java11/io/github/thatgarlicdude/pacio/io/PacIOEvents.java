@@ -0,0 +1,397 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A utility class that holds the JDK Flight Recorder events of the
+ * {@code PacIO} category, and fills in their fields.
+ * 
+ * <p>This is the only class that refers to the {@code jdk.jfr} module.
+ * The {@link PacIORecorder} class only hands it the events as objects,
+ * and only loads it once it has found the module, so that a runtime image
+ * without the Flight Recorder never has to link these events.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacIOEvents {
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacIOEvents can't be instantiated";
+	
+	/**
+	 * Begins an event of an operation, if the event is enabled.
+	 * 
+	 * @param phase The operation.
+	 * @param source The name of the source or destination.
+	 * @return The event, or null when it isn't enabled.
+	 */
+	static final Object begin(final PacIOPhase phase, final String source) {
+		PacIOEvent event;
+		switch (phase) {
+		case IMPORT:
+			event = new ImportEvent();
+			break;
+		case OPEN:
+			event = new OpenEvent();
+			break;
+		case SAVE:
+			event = new SaveEvent();
+			break;
+		case CATALOG_DETECTION:
+			event = new DetectionEvent();
+			break;
+		default:
+			return null;
+		}
+		// Don't measure anything when the event isn't being recorded.
+		if (!event.isEnabled()) return null;
+		event.source = source;
+		event.begin();
+		return event;
+	}
+	
+	/**
+	 * Sets the time taken to open the archive.
+	 * 
+	 * @param event The event.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	static final void archiveOpened(final Object event, final long nanos) {
+		if (event instanceof ArchiveEvent)
+			((ArchiveEvent) event).archiveOpenDuration = nanos;
+	}
+	
+	/**
+	 * Sets the catalog that has been matched, and the time taken to match
+	 * it.
+	 * 
+	 * @param event The event.
+	 * @param catalog The simple name of the matched catalog, or null.
+	 * @param complete Whether every ROM of the catalog has been found.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	static final void catalogDetected(
+			final Object event,
+			final String catalog,
+			final boolean complete,
+			final long nanos) {
+		if (event instanceof ImportEvent) {
+			ImportEvent importEvent = (ImportEvent) event;
+			importEvent.catalog = catalog;
+			importEvent.complete = complete;
+			importEvent.detectionDuration = nanos;
+		} else if (event instanceof DetectionEvent) {
+			DetectionEvent detectionEvent = (DetectionEvent) event;
+			detectionEvent.catalog = catalog;
+			detectionEvent.complete = complete;
+			detectionEvent.detectionDuration = nanos;
+		}
+	}
+	
+	/**
+	 * Adds the sizes of a region that has been read.
+	 * 
+	 * @param event The event.
+	 * @param pacRegion The region.
+	 * @param compressedSize The amount of bytes stored in the archive, or
+	 * -1 if it isn't known.
+	 * @param size The amount of bytes in the region.
+	 */
+	static final void regionRead(
+			final Object event,
+			final PacRegion pacRegion,
+			final long compressedSize,
+			final long size) {
+		if (!(event instanceof ReadEvent)) return;
+		ReadEvent readEvent = (ReadEvent) event;
+		readEvent.inflatedBytes += size;
+		if (compressedSize >= 0) readEvent.compressedBytes += compressedSize;
+		switch (pacRegion) {
+		case PROGRAM:
+			readEvent.programSize = size;
+			break;
+		case GRAPHIC:
+			readEvent.graphicSize = size;
+			break;
+		case COLOR:
+			readEvent.colorSize = size;
+			break;
+		case PALETTE:
+			readEvent.paletteSize = size;
+			break;
+		case SOUND:
+			readEvent.soundSize = size;
+			break;
+		case MYSTERY:
+			readEvent.mysterySize = size;
+			break;
+		default:
+			break;
+		}
+	}
+	
+	/**
+	 * Sets the time taken to read and assemble the regions.
+	 * 
+	 * @param event The event.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	static final void assembled(final Object event, final long nanos) {
+		if (event instanceof ReadEvent)
+			((ReadEvent) event).assemblyDuration = nanos;
+	}
+	
+	/**
+	 * Sets the amount of bytes written by a save.
+	 * 
+	 * @param event The event.
+	 * @param size The amount of bytes.
+	 */
+	static final void saved(final Object event, final long size) {
+		if (event instanceof SaveEvent) ((SaveEvent) event).size = size;
+	}
+	
+	/**
+	 * Sets the error that the operation has failed with.
+	 * 
+	 * @param event The event.
+	 * @param failure The description of the error.
+	 */
+	static final void failed(final Object event, final String failure) {
+		((PacIOEvent) event).failure = failure;
+	}
+	
+	/**
+	 * Ends an event and commits it to the recording.
+	 * 
+	 * @param event The event.
+	 */
+	static final void end(final Object event) {
+		PacIOEvent pacIOEvent = (PacIOEvent) event;
+		pacIOEvent.end();
+		pacIOEvent.commit();
+	}
+	
+	/**
+	 * The base of every event, with the source of the operation.
+	 */
+	@Category("PacIO")
+	@StackTrace(false)
+	private abstract static class PacIOEvent extends Event {
+		
+		/**
+		 * The name of the source or destination.
+		 */
+		@Label("Source")
+		@Description("The file path, or <channel>, <buffer>, or <stream> "
+				+ "when there's none")
+		String source;
+		
+		/**
+		 * The error that the operation has failed with, or null.
+		 */
+		@Label("Failure")
+		String failure;
+	}
+	
+	/**
+	 * The base of the events that open an archive.
+	 */
+	private abstract static class ArchiveEvent extends PacIOEvent {
+		
+		/**
+		 * The time taken to open the archive.
+		 */
+		@Label("Archive Open Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long archiveOpenDuration;
+	}
+	
+	/**
+	 * The base of the events that read regions out of an archive.
+	 */
+	private abstract static class ReadEvent extends ArchiveEvent {
+		
+		/**
+		 * The time taken to read and assemble the regions.
+		 */
+		@Label("Assembly Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long assemblyDuration;
+		
+		/**
+		 * The amount of bytes stored in the archive for the regions, as
+		 * far as they're known.
+		 */
+		@Label("Compressed Bytes")
+		@DataAmount
+		long compressedBytes;
+		
+		/**
+		 * The amount of bytes in the regions once they're inflated.
+		 */
+		@Label("Inflated Bytes")
+		@DataAmount
+		long inflatedBytes;
+		
+		/**
+		 * The size of the program region.
+		 */
+		@Label("Program Size")
+		@DataAmount
+		long programSize;
+		
+		/**
+		 * The size of the graphic region.
+		 */
+		@Label("Graphic Size")
+		@DataAmount
+		long graphicSize;
+		
+		/**
+		 * The size of the color region.
+		 */
+		@Label("Color Size")
+		@DataAmount
+		long colorSize;
+		
+		/**
+		 * The size of the palette region.
+		 */
+		@Label("Palette Size")
+		@DataAmount
+		long paletteSize;
+		
+		/**
+		 * The size of the sound region.
+		 */
+		@Label("Sound Size")
+		@DataAmount
+		long soundSize;
+		
+		/**
+		 * The size of the mystery region.
+		 */
+		@Label("Mystery Size")
+		@DataAmount
+		long mysterySize;
+	}
+	
+	/**
+	 * The event of importing an original ROM set.
+	 */
+	@Name("io.github.thatgarlicdude.pacio.Import")
+	@Label("ROM Set Import")
+	private static final class ImportEvent extends ReadEvent {
+		
+		/**
+		 * The simple name of the matched catalog, or null.
+		 */
+		@Label("Catalog")
+		String catalog;
+		
+		/**
+		 * Whether every ROM of the catalog has been found.
+		 */
+		@Label("Complete")
+		boolean complete;
+		
+		/**
+		 * The time taken to match the archive against the catalogs.
+		 */
+		@Label("Detection Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long detectionDuration;
+	}
+	
+	/**
+	 * The event of opening a unified ROM set.
+	 */
+	@Name("io.github.thatgarlicdude.pacio.Open")
+	@Label("ROM Set Open")
+	private static final class OpenEvent extends ReadEvent {
+	}
+	
+	/**
+	 * The event of detecting the catalog of an original ROM set on its
+	 * own.
+	 */
+	@Name("io.github.thatgarlicdude.pacio.CatalogDetection")
+	@Label("Catalog Detection")
+	private static final class DetectionEvent extends ArchiveEvent {
+		
+		/**
+		 * The simple name of the matched catalog, or null.
+		 */
+		@Label("Catalog")
+		String catalog;
+		
+		/**
+		 * Whether every ROM of the catalog has been found.
+		 */
+		@Label("Complete")
+		boolean complete;
+		
+		/**
+		 * The time taken to match the archive against the catalogs.
+		 */
+		@Label("Detection Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long detectionDuration;
+	}
+	
+	/**
+	 * The event of saving a unified ROM set.
+	 */
+	@Name("io.github.thatgarlicdude.pacio.Save")
+	@Label("ROM Set Save")
+	private static final class SaveEvent extends PacIOEvent {
+		
+		/**
+		 * The amount of bytes written.
+		 */
+		@Label("Size")
+		@DataAmount
+		long size;
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacIOEvents() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalog;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
+/**
+ * A helper class that records a single import, open, save, or catalog
+ * detection as a JDK Flight Recorder event.
+ * 
+ * <p>This is the version of the class for Java 11 and above, which the
+ * multi-release JAR uses instead of the one for Java 8. The events are in
+ * the {@code PacIO} category, and are only recorded while a recording
+ * that enables them is running, so nothing is measured otherwise. The
+ * duration of each event covers the whole operation, and its fields have
+ * the source, the matched catalog, the size of each region, and the
+ * duration of each phase.</p>
+ * 
+ * <p>The events themselves are in the {@link PacIOEvents} class, which
+ * this class never links to unless the {@code jdk.jfr} module is in the
+ * runtime. This class only holds them as objects, so it still works in a
+ * runtime image that leaves the module out, where nothing is
+ * recorded.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+final class PacIORecorder {
+	
+	/**
+	 * Whether the Flight Recorder is in the runtime, which it may not be
+	 * in a runtime image that leaves out the {@code jdk.jfr} module.
+	 */
+	private static final boolean AVAILABLE =
+			ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+	
+	/**
+	 * The event being recorded, from the {@link PacIOEvents} class.
+	 */
+	private final Object event;
+	
+	/**
+	 * Begins recording an operation, if its event is enabled.
+	 * 
+	 * @param phase The operation, which is {@link PacIOPhase#IMPORT},
+	 * {@link PacIOPhase#OPEN}, {@link PacIOPhase#SAVE}, or
+	 * {@link PacIOPhase#CATALOG_DETECTION}.
+	 * @param source The name of the source or destination.
+	 * @return The recorder, or null when the event isn't enabled, or when
+	 * the Flight Recorder isn't in the runtime.
+	 */
+	static final PacIORecorder begin(
+			final PacIOPhase phase,
+			final String source) {
+		// Don't load the events when they can't be linked.
+		if (!AVAILABLE) return null;
+		Object event = PacIOEvents.begin(phase, source);
+		return event == null ? null : new PacIORecorder(event);
+	}
+	
+	/**
+	 * Records the time taken to open the archive.
+	 * 
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	final void archiveOpened(final long nanos) {
+		PacIOEvents.archiveOpened(event, nanos);
+	}
+	
+	/**
+	 * Records the catalog that has been matched, and the time taken to
+	 * match it.
+	 * 
+	 * @param pacCatalogMatch The result of the match.
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	final void catalogDetected(
+			final PacCatalogMatch pacCatalogMatch,
+			final long nanos) {
+		PacCatalog pacCatalog = pacCatalogMatch.getPacCatalog();
+		String catalog = pacCatalog == null
+				? null : pacCatalog.getClass().getSimpleName();
+		PacIOEvents.catalogDetected(event, catalog,
+				pacCatalogMatch.isComplete(), nanos);
+	}
+	
+	/**
+	 * Records the sizes of a region that has been read.
+	 * 
+	 * @param pacRegion The region.
+	 * @param compressedSize The amount of bytes stored in the archive, or
+	 * -1 if it isn't known.
+	 * @param size The amount of bytes in the region.
+	 */
+	final void regionRead(
+			final PacRegion pacRegion,
+			final long compressedSize,
+			final long size) {
+		PacIOEvents.regionRead(event, pacRegion, compressedSize, size);
+	}
+	
+	/**
+	 * Records the time taken to read and assemble the regions.
+	 * 
+	 * @param nanos The time taken, in nanoseconds.
+	 */
+	final void assembled(final long nanos) {
+		PacIOEvents.assembled(event, nanos);
+	}
+	
+	/**
+	 * Records the amount of bytes written by a save.
+	 * 
+	 * @param size The amount of bytes.
+	 */
+	final void saved(final long size) {
+		PacIOEvents.saved(event, size);
+	}
+	
+	/**
+	 * Ends the event and commits it to the recording.
+	 */
+	final void end() {
+		PacIOEvents.end(event);
+	}
+	
+	/**
+	 * Ends the event with the error that the operation has failed with,
+	 * and commits it to the recording.
+	 * 
+	 * @param exception The error.
+	 */
+	final void failed(final Throwable exception) {
+		PacIOEvents.failed(event, exception.toString());
+		end();
+	}
+	
+	/**
+	 * Constructs an instance of the recorder.
+	 * 
+	 * @param event The event being recorded.
+	 */
+	private PacIORecorder(final Object event) {
+		this.event = event;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A class used to create the executors that load many ROM sets at once,
+ * one archive per task.
+ * 
+ * <p>This is the Java 21 version of the class, which gives each archive
+ * its own virtual thread. Tens of thousands of archives can then be
+ * loaded at the same time, since a virtual thread that waits on the disk
+ * gives its carrier thread back. The region loading of a lazy ROM set
+ * uses a lock rather than a {@code synchronized} block for the same
+ * reason, so that a read doesn't pin the carrier thread.</p>
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class PacExecutors {
+	
+	/**
+	 * Error message used when the constructor has been called.
+	 */
+	private static final String ERROR_MESSAGE =
+			"PacExecutors can't be instantiated";
+	
+	/**
+	 * Error message used when the parallelism isn't positive.
+	 */
+	private static final String PARALLELISM_MESSAGE =
+			"Parallelism must be positive: %d";
+	
+	/**
+	 * The factory of the virtual threads that load the archives.
+	 */
+	private static final ThreadFactory THREAD_FACTORY =
+			Thread.ofVirtual().name("pacio-archive-", 0).factory();
+	
+	/**
+	 * Checks if the archive executors run each archive on its own virtual
+	 * thread.
+	 * 
+	 * @return True on Java 21 and above.
+	 */
+	public static final boolean isVirtualThreadAvailable() {
+		return true;
+	}
+	
+	/**
+	 * Creates an executor that loads each archive on its own virtual
+	 * thread.
+	 * 
+	 * @return The executor, which has to be shut down once it's done.
+	 */
+	public static final ExecutorService newArchiveExecutor() {
+		return Executors.newThreadPerTaskExecutor(THREAD_FACTORY);
+	}
+	
+	/**
+	 * Creates an executor that loads each archive on its own virtual
+	 * thread.
+	 * 
+	 * <p>The parallelism doesn't limit the amount of archives loaded at
+	 * the same time, which is up to the caller.</p>
+	 * 
+	 * @param parallelism The amount of platform threads on Java 8.
+	 * @return The executor, which has to be shut down once it's done.
+	 * @throws IllegalArgumentException When the parallelism isn't
+	 * positive.
+	 */
+	public static final ExecutorService newArchiveExecutor(
+			final int parallelism) {
+		if (parallelism < 1) throw new IllegalArgumentException(
+				String.format(PARALLELISM_MESSAGE, parallelism));
+		return newArchiveExecutor();
+	}
+	
+	/**
+	 * Private constructor; class cannot be instantiated by any means.
+	 * 
+	 * @throws UnsupportedOperationException When the constructor is
+	 * called.
+	 */
+	private PacExecutors() {
+		throw new UnsupportedOperationException(ERROR_MESSAGE);
+	}
+}
@@ -18,17 +18,24 @@ package io.github.thatgarlicdude.pacio;
 
 import org.junit.Test;
 
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.io.PacArchiveType;
 import io.github.thatgarlicdude.pacio.io.PacROMSet;
+import io.github.thatgarlicdude.pacio.io.PacROMSetOptions;
 
 import static org.junit.Assert.*;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * A test class of the PacIO class.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestPacIO {
@@ -79,6 +86,25 @@ public final class TestPacIO {
 		System.out.println(new String(pacROMSet.getMysteryData()));
 	}
 	
+	/**
+	 * Test method for the importROMSet and openROMSet methods in the PacIO
+	 * class with mapped archives.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testMappedROMSet() throws IOException {
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withArchiveType(PacArchiveType.MAPPED);
+		PacROMSet imported = PacIO.importROMSet(zipFile.getFile(), options);
+		PacROMSet opened = PacIO.openROMSet(
+				unifiedZipFile.getFile(), options);
+		assertArrayEquals(imported.getProgramData(),
+				opened.getProgramData());
+		assertArrayEquals(imported.getMysteryData(),
+				opened.getMysteryData());
+	}
+	
 	/**
 	 * Test method for the saveROMSet method in the PacIO class.
 	 * 
@@ -89,4 +115,47 @@ public final class TestPacIO {
 		PacROMSet pacROMSet = PacIO.importROMSet(zipFile.getFile());
 		PacIO.saveROMSet(unifiedZipFile.getFile(), pacROMSet);
 	}
+	
+	/**
+	 * Test method for the importROMSet and openROMSet methods in the PacIO
+	 * class with a set of regions.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testROMSetRegions() throws IOException {
+		Set<PacRegion> pacRegions = EnumSet.of(
+				PacRegion.GRAPHIC, PacRegion.COLOR, PacRegion.PALETTE);
+		PacROMSet imported = PacIO.importROMSet(zipFile.getFile(),
+				pacRegions);
+		PacROMSet opened = PacIO.openROMSet(unifiedZipFile.getFile(),
+				pacRegions);
+		assertArrayEquals(imported.getGraphicData(),
+				opened.getGraphicData());
+		assertArrayEquals(imported.getPaletteData(),
+				opened.getPaletteData());
+		assertNull(imported.getProgramData());
+		assertNull(opened.getSoundData());
+		assertEquals(0, opened.getLength(PacRegion.MYSTERY));
+	}
+	
+	/**
+	 * Test method for the importROMSet and openROMSet methods in the PacIO
+	 * class with ROM sets held in memory.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testROMSetBytes() throws IOException {
+		PacROMSet imported = PacIO.importROMSet(
+				Files.readAllBytes(Paths.get(zipFile.getFile())),
+				PacROMSetOptions.DEFAULT);
+		PacROMSet opened = PacIO.openROMSet(
+				Files.readAllBytes(Paths.get(unifiedZipFile.getFile())),
+				PacROMSetOptions.DEFAULT);
+		assertArrayEquals(imported.getProgramData(),
+				opened.getProgramData());
+		assertArrayEquals(imported.getMysteryData(),
+				opened.getMysteryData());
+	}
 }
@@ -19,10 +19,13 @@ package io.github.thatgarlicdude.pacio.catalog;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * A test class of the PacCatalog class.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public abstract class TestPacCatalog {
@@ -109,6 +112,44 @@ public abstract class TestPacCatalog {
 		assertList(mysteryROMNames);
 	}
 	
+	/**
+	 * Tests the getROMChips method in the PacCatalog class.
+	 */
+	@Test
+	public final void testGetROMChips() {
+		for (PacRegion pacRegion : PacRegion.values()) {
+			PacROMChip[] romChips = pacCatalog.getROMChips(pacRegion);
+			String[] romNames = pacCatalog.getROMNames(pacRegion);
+			assertEquals(romNames.length, romChips.length);
+			for (int index = 0; index < romChips.length; index++) {
+				assertEquals(romNames[index], romChips[index].getName());
+			}
+		}
+	}
+	
+	/**
+	 * Tests the getROMNameList method in the PacCatalog class.
+	 */
+	@Test
+	public final void testGetROMNameList() {
+		for (PacRegion pacRegion : PacRegion.values()) {
+			List<String> romNames = pacCatalog.getROMNameList(pacRegion);
+			assertEquals(Arrays.asList(pacCatalog.getROMNames(pacRegion)),
+					romNames);
+			// The list should be shared rather than copied.
+			assertSame(romNames, pacCatalog.getROMNameList(pacRegion));
+		}
+	}
+	
+	/**
+	 * Tests the getROMNameList method in the PacCatalog class when the
+	 * list is modified.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public final void testModifyROMNameList() {
+		pacCatalog.getROMNameList(PacRegion.PROGRAM).set(0, "modified");
+	}
+	
 	/**
 	 * Constructs an instance of this test class.
 	 * 
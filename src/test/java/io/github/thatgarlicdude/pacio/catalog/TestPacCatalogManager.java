@@ -19,10 +19,15 @@ package io.github.thatgarlicdude.pacio.catalog;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
 /**
  * A test class of the PacCatalogManager class.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestPacCatalogManager {
@@ -47,4 +52,147 @@ public final class TestPacCatalogManager {
 		// First object in the array should not be null.
 		assertNotNull(pacCatalog);
 	}
+	
+	/**
+	 * Tests the matchROMNames method in PacCatalogManager.
+	 */
+	@Test
+	public final void testMatchROMNames() {
+		List<String> romNames = Arrays.asList(
+				new TestCatalog().getROMNames());
+		PacCatalogMatch pacCatalogMatch =
+				PacCatalogManager.matchROMNames(romNames);
+		// Every ROM in the test catalog should be found.
+		assertTrue(pacCatalogMatch.isComplete());
+		assertTrue(pacCatalogMatch.getPacCatalog() instanceof TestCatalog);
+		assertEquals(0, pacCatalogMatch.getMissingROMNames().length);
+	}
+	
+	/**
+	 * Tests the matchROMNames method in PacCatalogManager with some ROMs
+	 * missing.
+	 */
+	@Test
+	public final void testMatchROMNamesPartial() {
+		List<String> romNames = Arrays.asList(
+				"readme.txt", "pm1_prg1.6e", "pm1_prg2.6k", "pacman.6e");
+		PacCatalogMatch pacCatalogMatch =
+				PacCatalogManager.matchROMNames(romNames);
+		// The Puck-Man catalog has the most ROMs found.
+		assertTrue(pacCatalogMatch.isPartial());
+		assertTrue(pacCatalogMatch.getPacCatalog()
+				instanceof PuckManCatalog);
+		assertEquals(2, pacCatalogMatch.getMatchedCount());
+		assertEquals(pacCatalogMatch.getROMCount() - 2,
+				pacCatalogMatch.getMissingROMNames().length);
+	}
+	
+	/**
+	 * Tests the matchROMNames method in PacCatalogManager with no ROMs
+	 * found at all.
+	 */
+	@Test
+	public final void testMatchROMNamesNone() {
+		PacCatalogMatch pacCatalogMatch = PacCatalogManager.matchROMNames(
+				Arrays.asList("readme.txt"));
+		assertNull(pacCatalogMatch.getPacCatalog());
+		assertFalse(pacCatalogMatch.isComplete());
+		assertFalse(pacCatalogMatch.isPartial());
+	}
+	
+	/**
+	 * Tests the matchROMCRCs method in PacCatalogManager with renamed
+	 * ROMs.
+	 */
+	@Test
+	public final void testMatchROMCRCs() {
+		List<ZipEntry> zipEntries = new ArrayList<>();
+		for (PacRegion pacRegion : PacRegion.values()) {
+			for (PacROMChip romChip :
+					new TestCatalog().getROMChips(pacRegion)) {
+				ZipEntry zipEntry =
+						new ZipEntry("renamed_" + romChip.getName());
+				zipEntry.setSize(romChip.getSize());
+				zipEntry.setCrc(romChip.getCRC());
+				zipEntries.add(zipEntry);
+			}
+		}
+		PacCatalogMatch pacCatalogMatch =
+				PacCatalogManager.matchROMCRCs(zipEntries);
+		assertTrue(pacCatalogMatch.isComplete());
+		assertTrue(pacCatalogMatch.getPacCatalog() instanceof TestCatalog);
+		// The entries should be in the slots of the ROMs they match.
+		assertArrayEquals(
+				new String[] {"renamed_test_prog1", "renamed_test_prog2"},
+				pacCatalogMatch.getEntryNames(PacRegion.PROGRAM));
+	}
+	
+	/**
+	 * Tests the matchROMCRCs method in PacCatalogManager with a ROM that
+	 * has the right checksum, but the wrong size.
+	 */
+	@Test
+	public final void testMatchROMCRCsWrongSize() {
+		ZipEntry zipEntry = new ZipEntry("pacman.6e");
+		zipEntry.setSize(0x800);
+		zipEntry.setCrc(0xc1e6ab10L);
+		PacCatalogMatch pacCatalogMatch = PacCatalogManager.matchROMCRCs(
+				Arrays.asList(zipEntry));
+		assertNull(pacCatalogMatch.getPacCatalog());
+	}
+	
+	/**
+	 * Tests the containsROM method in PacCatalogManager.
+	 */
+	@Test
+	public final void testContainsROM() {
+		assertTrue(PacCatalogManager.containsROM(
+				"pacman.6e", PacROMChip.UNKNOWN, PacROMChip.UNKNOWN));
+		// A renamed ROM should only be found by its checksum and size.
+		assertFalse(PacCatalogManager.containsROM(
+				"renamed.6e", PacROMChip.UNKNOWN, PacROMChip.UNKNOWN));
+		assertTrue(PacCatalogManager.containsROM(
+				"renamed.6e", 0x1000, 0xc1e6ab10L));
+		assertFalse(PacCatalogManager.containsROM(
+				"renamed.6e", 0x800, 0xc1e6ab10L));
+	}
+	
+	/**
+	 * Tests the register and unregister methods in PacCatalogManager.
+	 */
+	@Test
+	public final void testRegister() {
+		PacCatalog pacCatalog = new VariantCatalog("register");
+		List<String> romNames = Arrays.asList(pacCatalog.getROMNames());
+		PacCatalogManager.register(pacCatalog);
+		try {
+			assertSame(pacCatalog,
+					PacCatalogManager.matchROMNames(romNames).getPacCatalog());
+			assertTrue(PacCatalogManager.containsROM("register_gfx",
+					PacROMChip.UNKNOWN, PacROMChip.UNKNOWN));
+		} finally {
+			PacCatalogManager.unregister(pacCatalog);
+		}
+		assertNull(PacCatalogManager.matchROMNames(romNames).getPacCatalog());
+	}
+	
+	/**
+	 * Tests the getRegistry method in PacCatalogManager, which should
+	 * have the catalogs of the ServiceLoader.
+	 */
+	@Test
+	public final void testGetRegistry() {
+		PacCatalogMatch pacCatalogMatch =
+				PacCatalogManager.getRegistry().matchROMNames(Arrays.asList(
+						new VariantCatalog().getROMNames()));
+		assertTrue(pacCatalogMatch.getPacCatalog() instanceof VariantCatalog);
+	}
+	
+	/**
+	 * Tests the getMaxROMSize method in PacCatalogManager.
+	 */
+	@Test
+	public final void testGetMaxROMSize() {
+		assertEquals(0x1000, PacCatalogManager.getMaxROMSize());
+	}
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.catalog;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A test class of the PacCatalogRegistry class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacCatalogRegistry {
+	
+	/**
+	 * Tests the load method in the PacCatalogRegistry class.
+	 */
+	@Test
+	public final void testLoad() {
+		List<PacCatalog> pacCatalogs = PacCatalogRegistry.load(
+				getClass().getClassLoader()).getPacCatalogs();
+		// The built-in catalogs should come before the providers.
+		assertTrue(pacCatalogs.get(0) instanceof PacManCatalog);
+		assertTrue(pacCatalogs.get(pacCatalogs.size() - 1)
+				instanceof VariantCatalog);
+	}
+	
+	/**
+	 * Tests the withProviders method in the PacCatalogRegistry class when
+	 * a provider has already been loaded.
+	 */
+	@Test
+	public final void testWithProviders() {
+		PacCatalogRegistry registry =
+				PacCatalogRegistry.load(getClass().getClassLoader());
+		assertSame(registry,
+				registry.withProviders(getClass().getClassLoader()));
+	}
+	
+	/**
+	 * Tests the with and without methods in the PacCatalogRegistry class.
+	 */
+	@Test
+	public final void testWith() {
+		PacCatalog pacCatalog = new VariantCatalog("with");
+		PacCatalogRegistry registry = PacCatalogRegistry.of();
+		PacCatalogRegistry added = registry.with(pacCatalog);
+		// The snapshot that has been added to shouldn't change.
+		assertTrue(registry.getPacCatalogs().isEmpty());
+		assertSame(added, added.with(pacCatalog));
+		assertTrue(added.matchROMNames(getROMNames(pacCatalog))
+				.isComplete());
+		PacCatalogRegistry removed = added.without(pacCatalog);
+		assertNull(removed.matchROMNames(getROMNames(pacCatalog))
+				.getPacCatalog());
+		assertSame(removed, removed.without(pacCatalog));
+	}
+	
+	/**
+	 * Tests the matchROMNames method in the PacCatalogRegistry class with
+	 * hundreds of catalogs.
+	 */
+	@Test
+	public final void testMatchROMNamesManyCatalogs() {
+		PacCatalog[] pacCatalogs = new PacCatalog[500];
+		for (int index = 0; index < pacCatalogs.length; index++) {
+			pacCatalogs[index] = new VariantCatalog("board" + index);
+		}
+		PacCatalogRegistry registry = PacCatalogRegistry.of(pacCatalogs);
+		PacCatalogMatch pacCatalogMatch =
+				registry.matchROMNames(getROMNames(pacCatalogs[321]));
+		assertTrue(pacCatalogMatch.isComplete());
+		assertSame(pacCatalogs[321], pacCatalogMatch.getPacCatalog());
+		// The catalog with the most ROMs found should be picked.
+		List<String> romNames = new ArrayList<>(Arrays.asList(
+				"board7_prog1", "board9_prog1", "board9_gfx"));
+		assertSame(pacCatalogs[9],
+				registry.matchROMNames(romNames).getPacCatalog());
+		// The first catalog should be picked when they're tied.
+		romNames.add("board7_gfx");
+		assertSame(pacCatalogs[7],
+				registry.matchROMNames(romNames).getPacCatalog());
+	}
+	
+	/**
+	 * Tests the matchROMNames method in the PacCatalogRegistry class with
+	 * two complete catalogs.
+	 */
+	@Test
+	public final void testMatchROMNamesComplete() {
+		PacCatalog first = new VariantCatalog("same");
+		PacCatalog second = new VariantCatalog("same");
+		PacCatalogRegistry registry = PacCatalogRegistry.of(first, second);
+		assertSame(first,
+				registry.matchROMNames(getROMNames(first)).getPacCatalog());
+	}
+	
+	/**
+	 * Tests the getMaxROMSize method in the PacCatalogRegistry class with
+	 * a ROM filename.
+	 */
+	@Test
+	public final void testGetMaxROMSizeByName() {
+		PacCatalogRegistry registry = PacCatalogRegistry.of(
+				new PacManCatalog(), new VariantCatalog());
+		assertEquals(0x1000, registry.getMaxROMSize("pacman.6e"));
+		assertEquals(PacROMChip.UNKNOWN,
+				registry.getMaxROMSize("variant_prog1"));
+		assertEquals(PacROMChip.UNKNOWN, registry.getMaxROMSize("missing"));
+	}
+	
+	/**
+	 * Gets every ROM filename of a catalog.
+	 * 
+	 * @param pacCatalog The catalog.
+	 * @return The list of ROM filenames.
+	 */
+	private static final List<String> getROMNames(
+			final PacCatalog pacCatalog) {
+		return Arrays.asList(pacCatalog.getROMNames());
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.catalog;
+
+/**
+ * A class that represents a catalog of a made-up board variant, which is
+ * provided through the ServiceLoader in the tests.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class VariantCatalog extends PacCatalog {
+	
+	/**
+	 * Constructs an instance of the variant catalog.
+	 */
+	public VariantCatalog() {
+		this("variant");
+	}
+	
+	/**
+	 * Constructs an instance of the variant catalog, with ROM filenames
+	 * that start with a prefix.
+	 * 
+	 * @param prefix The prefix of the ROM filenames.
+	 */
+	public VariantCatalog(final String prefix) {
+		super(
+				new String[] {prefix + "_prog1", prefix + "_prog2"},
+				new String[] {prefix + "_gfx"},
+				new String[] {prefix + "_clr"},
+				new String[] {prefix + "_pal"},
+				new String[] {prefix + "_sfx"},
+				new String[] {prefix + "_mys"});
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A test class of the PacExecutors class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacExecutors {
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final String zipFile = TestPacExecutors.class
+			.getClassLoader().getResource("testROMSet.zip").getFile();
+	
+	/**
+	 * Tests the newArchiveExecutor method in the PacExecutors class, by
+	 * importing many ROM sets at once.
+	 * 
+	 * @throws Exception When importing a ROM set fails.
+	 */
+	@Test
+	public final void testNewArchiveExecutor() throws Exception {
+		Path path = Paths.get(zipFile);
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withArchiveType(PacArchiveType.MAPPED);
+		ExecutorService executor = PacExecutors.newArchiveExecutor();
+		try {
+			List<CompletableFuture<PacROMSet>> futures = new ArrayList<>();
+			for (int index = 0; index < 64; index++) {
+				futures.add(new PacROMSetImporter(path, options)
+						.importROMSetAsync(executor));
+			}
+			for (CompletableFuture<PacROMSet> future : futures) {
+				assertEquals("TestSound1TestSound2",
+						new String(future.get().getSoundData()));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests the newArchiveExecutor method in the PacExecutors class when
+	 * the parallelism isn't positive.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testNewArchiveExecutorParallelism() {
+		PacExecutors.newArchiveExecutor(0);
+	}
+}
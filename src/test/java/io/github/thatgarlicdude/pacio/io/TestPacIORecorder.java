@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.PacIO;
+import io.github.thatgarlicdude.pacio.metrics.PacIOPhase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A test class of the PacIORecorder class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacIORecorder {
+	
+	/**
+	 * The property that has the classes of the Java 11 layer, which the
+	 * build passes to the tests.
+	 */
+	private static final String CLASSES_PROPERTY = "pacio.java11.classes";
+	
+	/**
+	 * The property that has the Java 11 launcher, which the build passes
+	 * to the tests.
+	 */
+	private static final String LAUNCHER_PROPERTY = "pacio.java11.launcher";
+	
+	/**
+	 * The property that has the runtime classpath of the tests, which the
+	 * build passes to the tests.
+	 */
+	private static final String CLASSPATH_PROPERTY = "pacio.test.classpath";
+	
+	/**
+	 * Tests the begin method in the PacIORecorder class, which never
+	 * records anything on Java 8.
+	 */
+	@Test
+	public final void testBegin() {
+		assertNull(PacIORecorder.begin(PacIOPhase.IMPORT, "test"));
+	}
+	
+	/**
+	 * Tests that the Java 11 version of the PacIORecorder class still
+	 * lets ROM sets be imported in a runtime without the Flight Recorder.
+	 * 
+	 * @throws Exception When the runtime can't be started.
+	 */
+	@Test
+	public final void testWithoutFlightRecorder() throws Exception {
+		String classes = System.getProperty(CLASSES_PROPERTY);
+		String launcher = System.getProperty(LAUNCHER_PROPERTY);
+		String classpath = System.getProperty(CLASSPATH_PROPERTY);
+		// Only run when the build has passed the Java 11 layer.
+		assumeTrue(classes != null && launcher != null
+				&& classpath != null);
+		File missingFile = File.createTempFile("missingROMSet", ".zip");
+		assertTrue(missingFile.delete());
+		Process process = new ProcessBuilder(launcher,
+				"--limit-modules", "java.base,java.management",
+				"-cp", classes + File.pathSeparator + classpath,
+				WithoutFlightRecorder.class.getName(),
+				missingFile.getPath()).redirectErrorStream(true).start();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (InputStream inputStream = process.getInputStream()) {
+			byte[] buffer = new byte[8192];
+			int bytesRead = 0;
+			while ((bytesRead = inputStream.read(buffer)) != -1)
+				output.write(buffer, 0, bytesRead);
+		}
+		// The import should only fail because the file is missing.
+		assertEquals(output.toString(), 0, process.waitFor());
+	}
+	
+	/**
+	 * The program that imports a missing ROM set in the runtime without
+	 * the Flight Recorder.
+	 */
+	public static final class WithoutFlightRecorder {
+		
+		/**
+		 * Imports the missing ROM set, which fails with a linkage error
+		 * if the Flight Recorder is needed.
+		 * 
+		 * @param args The file path to the missing ROM set.
+		 */
+		public static final void main(final String[] args) {
+			try {
+				PacIO.importROMSet(args[0]);
+			} catch (IOException e) {
+				return;
+			}
+			throw new AssertionError(args[0]);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+/**
+ * A test class of the PacMappedArchive class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacMappedArchive {
+	
+	/**
+	 * The file path to the test ROM set ZIP file, which has stored
+	 * entries.
+	 */
+	private static final URL zipFile = TestPacMappedArchive.class
+			.getClassLoader().getResource("testROMSet.zip");
+	
+	/**
+	 * The file path to the test unified ROM set ZIP file, which has
+	 * deflated entries.
+	 */
+	private static final URL unifiedZipFile = TestPacMappedArchive.class
+			.getClassLoader().getResource("testUnifiedROMSet.zip");
+	
+	/**
+	 * Tests the getEntries method in the PacMappedArchive class against
+	 * the entries listed by ZipFile.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testGetEntries() throws IOException {
+		try (PacArchive mapped = new PacMappedArchive(zipFile.getFile());
+				PacArchive zip = new PacZipFileArchive(zipFile.getFile())) {
+			List<ZipEntry> mappedEntries = mapped.getEntries();
+			List<ZipEntry> zipEntries = zip.getEntries();
+			assertEquals(zipEntries.size(), mappedEntries.size());
+			for (int index = 0; index < zipEntries.size(); index++) {
+				ZipEntry expected = zipEntries.get(index);
+				ZipEntry actual = mappedEntries.get(index);
+				assertEquals(expected.getName(), actual.getName());
+				assertEquals(expected.getSize(), actual.getSize());
+				assertEquals(expected.getCrc(), actual.getCrc());
+				assertEquals(expected.getMethod(), actual.getMethod());
+			}
+		}
+	}
+	
+	/**
+	 * Tests the readEntry method in the PacMappedArchive class with a
+	 * deflated entry.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testReadDeflatedEntry() throws IOException {
+		try (PacArchive pacArchive =
+				new PacMappedArchive(unifiedZipFile.getFile())) {
+			ZipEntry zipEntry = pacArchive.getEntry("program.bin");
+			assertEquals(ZipEntry.DEFLATED, zipEntry.getMethod());
+			byte[] data = new byte[(int) zipEntry.getSize() + 1];
+			pacArchive.readEntry(zipEntry, data, 1);
+			assertEquals("TestProgram1TestProgram2",
+					new String(data, 1, data.length - 1));
+		}
+	}
+	
+	/**
+	 * Tests the getBuffer method in the PacMappedArchive class with a
+	 * stored entry, which should be a view of the mapped file.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testGetStoredBuffer() throws IOException {
+		try (PacArchive pacArchive =
+				new PacMappedArchive(zipFile.getFile())) {
+			ZipEntry zipEntry = pacArchive.getEntry("test_prog1");
+			ByteBuffer buffer = pacArchive.getBuffer(zipEntry);
+			assertTrue(buffer.isReadOnly());
+			assertTrue(buffer.isDirect());
+			byte[] data = new byte[buffer.remaining()];
+			buffer.get(data);
+			assertEquals("TestProgram1", new String(data));
+		}
+	}
+	
+	/**
+	 * Tests the close method in the PacMappedArchive class.
+	 * 
+	 * @throws IOException When reading a closed archive.
+	 */
+	@Test(expected = IOException.class)
+	public final void testClose() throws IOException {
+		PacArchive pacArchive = new PacMappedArchive(zipFile.getFile());
+		ZipEntry zipEntry = pacArchive.getEntry("test_prog1");
+		pacArchive.close();
+		pacArchive.readEntry(zipEntry, new byte[12], 0);
+	}
+}
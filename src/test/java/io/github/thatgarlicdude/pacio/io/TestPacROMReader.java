@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * A test class of the PacROMReader class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacROMReader {
+	
+	/**
+	 * The byte data used for testing purposes.
+	 */
+	private static final byte[] data = "TestProgram1".getBytes();
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final String zipFile = TestPacROMReader.class
+			.getClassLoader().getResource("testROMSet.zip").getFile();
+	
+	/**
+	 * Tests the getTotalSize method in the PacROMReader class.
+	 */
+	@Test
+	public final void testGetTotalSize() {
+		ZipEntry first = new ZipEntry("first");
+		ZipEntry second = new ZipEntry("second");
+		first.setMethod(ZipEntry.STORED);
+		first.setSize(12);
+		first.setCompressedSize(12);
+		second.setMethod(ZipEntry.DEFLATED);
+		// The total size should be unknown when a size is unknown.
+		assertEquals(-1, PacROMReader.getTotalSize(first, second));
+		second.setSize(10);
+		second.setCompressedSize(8);
+		assertEquals(22, PacROMReader.getTotalSize(first, second));
+		// A size that can't be inflated from its compressed size shouldn't
+		// be trusted.
+		second.setSize(8 * 1032 + 1);
+		assertEquals(-1, PacROMReader.getTotalSize(first, second));
+		first.setCompressedSize(10);
+		second.setSize(10);
+		assertEquals(-1, PacROMReader.getTotalSize(first, second));
+	}
+	
+	/**
+	 * Tests the readFully method in the PacROMReader class.
+	 * 
+	 * @throws IOException When reading the stream fails.
+	 */
+	@Test
+	public final void testReadFully() throws IOException {
+		byte[] destination = new byte[data.length + 2];
+		PacROMReader.readFully(new ByteArrayInputStream(data), "test",
+				destination, 2, data.length);
+		assertEquals("TestProgram1",
+				new String(destination, 2, data.length));
+	}
+	
+	/**
+	 * Tests the readFully method in the PacROMReader class with a stream
+	 * that is shorter than expected.
+	 * 
+	 * @throws IOException When reading the stream fails.
+	 */
+	@Test(expected = EOFException.class)
+	public final void testReadFullyTooShort() throws IOException {
+		PacROMReader.readFully(new ByteArrayInputStream(data), "test",
+				new byte[data.length + 1], 0, data.length + 1);
+	}
+	
+	/**
+	 * Tests the readFully method in the PacROMReader class with a stream
+	 * that is longer than expected.
+	 * 
+	 * @throws IOException When reading the stream fails.
+	 */
+	@Test(expected = ZipException.class)
+	public final void testReadFullyTooLong() throws IOException {
+		PacROMReader.readFully(new ByteArrayInputStream(data), "test",
+				new byte[data.length], 0, data.length - 1);
+	}
+	
+	/**
+	 * Tests the readROMSet method in the PacROMReader class with an
+	 * executor.
+	 * 
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	@Test
+	public final void testReadROMSet() throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (PacArchive pacArchive = new PacZipFileArchive(zipFile)) {
+			ZipEntry[] programEntries = PacROMReader.getEntries(
+					pacArchive, "test_prog1", "test_prog2");
+			ZipEntry[] colorEntries =
+					PacROMReader.getEntries(pacArchive, "test_clr1");
+			PacROMSet pacROMSet = PacROMReader.readROMSet(pacArchive,
+					executor, PacIOTrace.DISABLED, programEntries,
+					new ZipEntry[0], colorEntries, new ZipEntry[0],
+					new ZipEntry[0], new ZipEntry[0]);
+			// The ROMs should stay in order.
+			assertEquals("TestProgram1TestProgram2",
+					new String(pacROMSet.getProgramData()));
+			assertEquals("TestColor1", new String(pacROMSet.getColorData()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests the readROMSet method in the PacROMReader class when one of the
+	 * tasks fails.
+	 * 
+	 * @throws IOException When reading the ZIP file fails.
+	 */
+	@Test(expected = EOFException.class)
+	public final void testReadROMSetFailure() throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (PacArchive pacArchive = new PacZipFileArchive(zipFile)) {
+			ZipEntry zipEntry =
+					new ZipEntry(pacArchive.getEntry("test_prog1"));
+			// The entry should end before its recorded size.
+			zipEntry.setSize(20);
+			zipEntry.setCompressedSize(20);
+			ZipEntry[] empty = new ZipEntry[0];
+			PacROMReader.readROMSet(pacArchive, executor,
+					PacIOTrace.DISABLED, new ZipEntry[] {zipEntry}, empty,
+					empty, empty, empty, empty);
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests the readROMSet method in the PacROMReader class when the
+	 * calling thread is interrupted while a task is running.
+	 * 
+	 * @throws Exception When reading the ZIP file fails.
+	 */
+	@Test
+	public final void testReadROMSetInterrupted() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean finished = new AtomicBoolean();
+		Thread caller = Thread.currentThread();
+		try (PacArchive zipArchive = new PacZipFileArchive(zipFile)) {
+			// The archive should take a while to read each entry.
+			PacArchive pacArchive = new PacArchive() {
+				@Override
+				public List<ZipEntry> getEntries() {
+					return zipArchive.getEntries();
+				}
+				@Override
+				public ZipEntry getEntry(final String name) {
+					return zipArchive.getEntry(name);
+				}
+				@Override
+				public InputStream getInputStream(final ZipEntry zipEntry)
+						throws IOException {
+					started.countDown();
+					try {
+						Thread.sleep(200);
+					} catch (InterruptedException e) {
+						throw new InterruptedIOException();
+					}
+					finished.set(true);
+					return zipArchive.getInputStream(zipEntry);
+				}
+				@Override
+				public void close() {}
+			};
+			ZipEntry[] programEntries = PacROMReader.getEntries(
+					pacArchive, "test_prog1", "test_prog2");
+			ZipEntry[] empty = new ZipEntry[0];
+			new Thread(() -> {
+				try {
+					started.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				caller.interrupt();
+			}).start();
+			try {
+				PacROMReader.readROMSet(pacArchive, executor,
+						PacIOTrace.DISABLED, programEntries, empty, empty,
+						empty, empty, empty);
+				fail("The interrupt should be rethrown.");
+			} catch (InterruptedIOException e) {
+				// The running task should finish before the interrupt is
+				// rethrown.
+				assertTrue(finished.get());
+				assertTrue(Thread.interrupted());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
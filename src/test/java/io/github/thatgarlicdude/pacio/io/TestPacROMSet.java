@@ -16,12 +16,136 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 /**
- * A test class for the PacROM class.
+ * A test class for the PacROMSet class.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestPacROMSet {
-
+	
+	/**
+	 * Creates a small ROM set with a different byte in each region.
+	 * 
+	 * @return The ROM set.
+	 */
+	private static final PacROMSet createROMSet() {
+		return new PacROMSet(new byte[] {1, 1}, new byte[] {2},
+				new byte[] {3}, new byte[] {4}, new byte[] {5},
+				new byte[] {6, 6, 6});
+	}
+	
+	/**
+	 * Tests the getData method in the PacROMSet class.
+	 */
+	@Test
+	public final void testGetData() {
+		byte[] programData = {1, 2, 3};
+		PacROMSet pacROMSet = new PacROMSet(programData, null, null, null,
+				null, null);
+		// The array shouldn't be copied.
+		assertSame(programData, pacROMSet.getProgramData());
+		assertSame(programData, pacROMSet.getData(PacRegion.PROGRAM));
+		assertNull(pacROMSet.getGraphicData());
+		assertEquals(0, pacROMSet.getLength(PacRegion.GRAPHIC));
+	}
+	
+	/**
+	 * Tests the getBuffer method in the PacROMSet class.
+	 */
+	@Test(expected = ReadOnlyBufferException.class)
+	public final void testGetBuffer() {
+		PacROMSet pacROMSet = createROMSet();
+		ByteBuffer buffer = pacROMSet.getMysteryBuffer();
+		assertEquals(3, buffer.remaining());
+		assertEquals(6, buffer.get(0));
+		// Changes to the array should be visible through the view.
+		pacROMSet.getMysteryData()[0] = 7;
+		assertEquals(7, buffer.get(0));
+		buffer.put(0, (byte) 8);
+	}
+	
+	/**
+	 * Tests the toDirect method in the PacROMSet class.
+	 */
+	@Test
+	public final void testToDirect() {
+		PacROMSet pacROMSet = createROMSet();
+		assertFalse(pacROMSet.isDirect());
+		PacROMSet directROMSet = pacROMSet.toDirect();
+		assertTrue(directROMSet.isDirect());
+		assertTrue(directROMSet.getProgramBuffer().isDirect());
+		for (PacRegion pacRegion : PacRegion.values()) {
+			assertEquals(pacROMSet.getBuffer(pacRegion),
+					directROMSet.getBuffer(pacRegion));
+		}
+		// The direct region should be copied into an array only once.
+		byte[] programData = directROMSet.getProgramData();
+		assertArrayEquals(new byte[] {1, 1}, programData);
+		assertSame(programData, directROMSet.getProgramData());
+	}
+	
+	/**
+	 * Tests the buffer constructor in the PacROMSet class.
+	 */
+	@Test
+	public final void testBufferConstructor() {
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 1, 2, 3});
+		buffer.position(1);
+		PacROMSet pacROMSet = new PacROMSet(buffer, null, null, null, null,
+				null);
+		// Only the remaining bytes should be in the region.
+		assertEquals(3, pacROMSet.getLength(PacRegion.PROGRAM));
+		assertArrayEquals(new byte[] {1, 2, 3}, pacROMSet.getProgramData());
+		assertEquals(0, pacROMSet.getProgramBuffer().position());
+	}
+	
+	/**
+	 * Tests the fromSlab method in the PacROMSet class.
+	 */
+	@Test
+	public final void testFromSlab() {
+		ByteBuffer slab = ByteBuffer.wrap(new byte[] {1, 1, 2, 3, 4, 5, 6});
+		PacROMSet pacROMSet = PacROMSet.fromSlab(slab, 2, 1, 1, 1, 1, 1);
+		assertTrue(pacROMSet.isSlab());
+		assertEquals(6, pacROMSet.getOffset(PacRegion.MYSTERY));
+		assertEquals(6, pacROMSet.getMysteryBuffer().get(0));
+		assertArrayEquals(new byte[] {1, 1}, pacROMSet.getProgramData());
+		assertEquals(7, pacROMSet.getSlab().remaining());
+	}
+	
+	/**
+	 * Tests the fromSlab method in the PacROMSet class with regions that
+	 * don't fit in the slab.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testFromSlabTooSmall() {
+		PacROMSet.fromSlab(ByteBuffer.allocate(4), 2, 1, 1, 1, 1, 1);
+	}
+	
+	/**
+	 * Tests the toSlab method in the PacROMSet class.
+	 */
+	@Test
+	public final void testToSlab() {
+		PacROMSet pacROMSet = createROMSet();
+		assertFalse(pacROMSet.isSlab());
+		assertEquals(-1, pacROMSet.getOffset(PacRegion.GRAPHIC));
+		PacROMSet slabROMSet = pacROMSet.toSlab();
+		assertEquals(ByteBuffer.wrap(new byte[] {1, 1, 2, 3, 4, 5, 6, 6, 6}),
+				slabROMSet.getSlab());
+		// A direct copy should keep the slab layout.
+		PacROMSet directROMSet = slabROMSet.toDirect();
+		assertTrue(directROMSet.isSlab());
+		assertTrue(directROMSet.isDirect());
+		assertEquals(slabROMSet.getSlab(), directROMSet.getSlab());
+	}
 }
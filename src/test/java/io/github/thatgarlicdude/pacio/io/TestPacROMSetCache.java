@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A test class of the PacROMSetCache class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacROMSetCache {
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final String zipFile = TestPacROMSetCache.class
+			.getClassLoader().getResource("testROMSet.zip").getFile();
+	
+	/**
+	 * The file path to the test unified ROM set ZIP file.
+	 */
+	private static final String unifiedZipFile = TestPacROMSetCache.class
+			.getClassLoader().getResource("testUnifiedROMSet.zip").getFile();
+	
+	/**
+	 * The amount of bytes in the regions of the test ROM sets.
+	 */
+	private static final long ROM_SET_SIZE = 136;
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetCache class.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportROMSet() throws IOException {
+		PacROMSetCache cache = new PacROMSetCache(ROM_SET_SIZE);
+		PacROMSet pacROMSet = cache.importROMSet(zipFile);
+		assertSame(pacROMSet, cache.importROMSet(zipFile));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getLoadCount());
+		assertEquals(ROM_SET_SIZE, cache.getByteCount());
+	}
+	
+	/**
+	 * Tests the eviction of the least recently used ROM set in the
+	 * PacROMSetCache class.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testEviction() throws IOException {
+		PacROMSetCache cache = new PacROMSetCache(ROM_SET_SIZE);
+		cache.importROMSet(zipFile);
+		cache.openROMSet(unifiedZipFile);
+		// Only the most recently used ROM set should fit in the budget.
+		assertEquals(1, cache.getSize());
+		cache.openROMSet(unifiedZipFile);
+		assertEquals(1, cache.getHitCount());
+		cache.importROMSet(zipFile);
+		assertEquals(3, cache.getLoadCount());
+		// A ROM set that doesn't fit at all shouldn't be cached.
+		PacROMSetCache smallCache = new PacROMSetCache(ROM_SET_SIZE - 1);
+		smallCache.importROMSet(zipFile);
+		assertEquals(0, smallCache.getSize());
+	}
+	
+	/**
+	 * Tests that the PacROMSetCache class reads a ZIP file only once when
+	 * many threads ask for it at the same time.
+	 * 
+	 * @throws Exception When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testSingleFlight() throws Exception {
+		PacROMSetCache cache = new PacROMSetCache(ROM_SET_SIZE);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<PacROMSet>> futures = new ArrayList<>();
+			for (int index = 0; index < 8; index++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return cache.importROMSet(zipFile);
+				}));
+			}
+			start.countDown();
+			PacROMSet pacROMSet = futures.get(0).get();
+			for (Future<PacROMSet> future : futures) {
+				assertSame(pacROMSet, future.get());
+			}
+			assertEquals(1, cache.getLoadCount());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that the PacROMSetCache class doesn't cache a failed read.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testFailure() throws IOException {
+		PacROMSetCache cache = new PacROMSetCache(ROM_SET_SIZE);
+		// The unified ROM set has none of the ROMs to import.
+		for (int index = 0; index < 2; index++) {
+			try {
+				cache.importROMSet(unifiedZipFile);
+				fail();
+			} catch (FileNotFoundException e) {
+				assertEquals(0, cache.getSize());
+			}
+		}
+		assertEquals(2, cache.getLoadCount());
+	}
+	
+	/**
+	 * Tests that the PacROMSetCache class doesn't share a ROM set between
+	 * different options.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testOptions() throws IOException {
+		PacROMSetCache cache = new PacROMSetCache(3 * ROM_SET_SIZE);
+		PacROMSet slab = cache.importROMSet(zipFile,
+				PacROMSetOptions.DEFAULT.withSlabLayout(true));
+		assertTrue(slab.isSlab());
+		// The ROM set should be read again without a slab.
+		PacROMSet pacROMSet = cache.importROMSet(zipFile);
+		assertNotSame(slab, pacROMSet);
+		assertFalse(pacROMSet.isSlab());
+		// Only the graphic region should be read for a subset.
+		PacROMSet graphics = cache.importROMSet(zipFile, PacROMSetOptions
+				.DEFAULT.withRegions(EnumSet.of(PacRegion.GRAPHIC)));
+		assertNotSame(pacROMSet, graphics);
+		assertNull(graphics.getProgramData());
+		assertEquals(3, cache.getLoadCount());
+	}
+	
+	/**
+	 * Tests that the PacROMSetCache class doesn't cache a lazy ROM set.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testLazyLoading() throws IOException {
+		new PacROMSetCache(ROM_SET_SIZE).importROMSet(zipFile,
+				PacROMSetOptions.DEFAULT.withLazyLoading(true));
+	}
+}
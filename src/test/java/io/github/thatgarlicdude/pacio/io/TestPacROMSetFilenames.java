@@ -19,10 +19,12 @@ package io.github.thatgarlicdude.pacio.io;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
 /**
  * A test class of the PacROMSetFilenames interface.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestPacROMSetFilenames implements PacROMSetFilenames {
@@ -86,4 +88,14 @@ public final class TestPacROMSetFilenames implements PacROMSetFilenames {
 		assertSame(mysteryName, PacROMSetFilenames.mysteryName);
 		System.out.println(mysteryName);
 	}
+	
+	/**
+	 * Tests the getName method in the PacROMSetFilenames interface.
+	 */
+	@Test
+	public final void testGetName() {
+		assertSame(getProgramName(), getName(PacRegion.PROGRAM));
+		assertSame(getSoundName(), getName(PacRegion.SOUND));
+		assertSame(getMysteryName(), getName(PacRegion.MYSTERY));
+	}
 }
@@ -16,12 +16,423 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogManager;
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.catalog.TestCatalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
 /**
  * A test class of the PacROMSetImporter class.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestPacROMSetImporter {
-
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final URL zipFile = TestPacROMSetImporter.class
+			.getClassLoader().getResource("testROMSet.zip");
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportROMSet() throws IOException {
+		PacROMSet pacROMSet =
+				new PacROMSetImporter(zipFile.getFile()).importROMSet();
+		assertEquals("TestProgram1TestProgram2",
+				new String(pacROMSet.getProgramData()));
+		assertEquals("TestGraphic1TestGraphic2",
+				new String(pacROMSet.getGraphicData()));
+		assertEquals("TestColor1TestColor2",
+				new String(pacROMSet.getColorData()));
+		assertEquals("TestPalette1TestPalette2",
+				new String(pacROMSet.getPaletteData()));
+		assertEquals("TestSound1TestSound2",
+				new String(pacROMSet.getSoundData()));
+		assertEquals("TestMystery1TestMystery2",
+				new String(pacROMSet.getMysteryData()));
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with
+	 * the slab layout.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportSlabROMSet() throws IOException {
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withSlabLayout(true);
+		PacROMSet pacROMSet = new PacROMSetImporter(
+				zipFile.getFile(), options).importROMSet();
+		assertTrue(pacROMSet.isSlab());
+		assertEquals(24, pacROMSet.getOffset(PacRegion.GRAPHIC));
+		assertEquals("TestGraphic1TestGraphic2",
+				new String(pacROMSet.getGraphicData()));
+		assertEquals("TestMystery1TestMystery2",
+				new String(pacROMSet.getMysteryData()));
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with an
+	 * executor.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportParallelROMSet() throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PacROMSetOptions options =
+					PacROMSetOptions.DEFAULT.withExecutor(pool);
+			PacROMSet pacROMSet = new PacROMSetImporter(
+					zipFile.getFile(), options).importROMSet();
+			assertEquals("TestProgram1TestProgram2",
+					new String(pacROMSet.getProgramData()));
+			assertEquals("TestPalette1TestPalette2",
+					new String(pacROMSet.getPaletteData()));
+			// The slab layout should be read in parallel too.
+			pacROMSet = new PacROMSetImporter(zipFile.getFile(),
+					options.withSlabLayout(true)).importROMSet();
+			assertEquals("TestSound1TestSound2",
+					new String(pacROMSet.getSoundData()));
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests the detectPacCatalog method in the PacROMSetImporter class.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testDetectPacCatalog() throws IOException {
+		PacCatalogMatch pacCatalogMatch =
+				new PacROMSetImporter(zipFile.getFile()).detectPacCatalog();
+		assertTrue(pacCatalogMatch.isComplete());
+		assertTrue(pacCatalogMatch.getPacCatalog() instanceof TestCatalog);
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with a
+	 * ROM set whose ROMs have been renamed.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportRenamedROMSet() throws IOException {
+		File renamedZipFile = File.createTempFile("renamedROMSet", ".zip");
+		renamedZipFile.deleteOnExit();
+		// Copy every ROM into a new ZIP file under a different name.
+		try (PacArchive source = new PacZipFileArchive(zipFile.getFile());
+				ZipOutputStream zos = new ZipOutputStream(
+						new FileOutputStream(renamedZipFile))) {
+			for (ZipEntry zipEntry : source.getEntries()) {
+				zos.putNextEntry(new ZipEntry("x" + zipEntry.getName()));
+				byte[] data = new byte[(int) zipEntry.getSize()];
+				source.readEntry(zipEntry, data, 0);
+				zos.write(data);
+				zos.closeEntry();
+			}
+		}
+		PacROMSetImporter importer =
+				new PacROMSetImporter(renamedZipFile.getPath());
+		assertFalse(importer.detectPacCatalog().isComplete());
+		assertTrue(importer.identifyPacCatalog().isComplete());
+		PacROMSet pacROMSet = importer.importROMSet();
+		assertEquals("TestProgram1TestProgram2",
+				new String(pacROMSet.getProgramData()));
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with
+	 * only some of the regions, from a ROM set that is missing the ROMs of
+	 * the other regions.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportROMSetRegions() throws IOException {
+		File partialZipFile = File.createTempFile("partialROMSet", ".zip");
+		partialZipFile.deleteOnExit();
+		// Copy every ROM but the sound ROMs into a new ZIP file.
+		try (PacArchive source = new PacZipFileArchive(zipFile.getFile());
+				ZipOutputStream zos = new ZipOutputStream(
+						new FileOutputStream(partialZipFile))) {
+			for (ZipEntry zipEntry : source.getEntries()) {
+				if (zipEntry.getName().startsWith("test_sfx")) continue;
+				zos.putNextEntry(new ZipEntry(zipEntry.getName()));
+				byte[] data = new byte[(int) zipEntry.getSize()];
+				source.readEntry(zipEntry, data, 0);
+				zos.write(data);
+				zos.closeEntry();
+			}
+		}
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT.withRegions(
+				EnumSet.of(PacRegion.GRAPHIC, PacRegion.PALETTE));
+		PacROMSet pacROMSet = new PacROMSetImporter(
+				partialZipFile.getPath(), options).importROMSet();
+		assertEquals("TestGraphic1TestGraphic2",
+				new String(pacROMSet.getGraphicData()));
+		assertNull(pacROMSet.getSoundData());
+		// The regions that aren't imported should be left out of the slab.
+		pacROMSet = new PacROMSetImporter(partialZipFile.getPath(),
+				options.withSlabLayout(true)).importROMSet();
+		assertEquals(48, pacROMSet.getSlab().remaining());
+		assertEquals("TestPalette1TestPalette2",
+				new String(pacROMSet.getPaletteData()));
+		assertNull(pacROMSet.getProgramData());
+		// The sound ROMs should still be needed when they're requested.
+		try {
+			new PacROMSetImporter(partialZipFile.getPath()).importROMSet();
+			fail();
+		} catch (FileNotFoundException exception) {
+			assertTrue(exception.getMessage().contains("test_sfx"));
+		}
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with a
+	 * ROM whose recorded size isn't the size of its ROM chip.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test(expected = ZipException.class)
+	public final void testImportROMSetSizeMismatch() throws IOException {
+		File largeZipFile = File.createTempFile("largeROMSet", ".zip");
+		largeZipFile.deleteOnExit();
+		// Copy every ROM into a new ZIP file, with the first program ROM
+		// larger than its ROM chip.
+		try (PacArchive source = new PacZipFileArchive(zipFile.getFile());
+				ZipOutputStream zos = new ZipOutputStream(
+						new FileOutputStream(largeZipFile))) {
+			for (ZipEntry zipEntry : source.getEntries()) {
+				zos.putNextEntry(new ZipEntry(zipEntry.getName()));
+				byte[] data = new byte[(int) zipEntry.getSize()];
+				source.readEntry(zipEntry, data, 0);
+				if (zipEntry.getName().equals("test_prog1"))
+					data = new byte[0x1000];
+				zos.write(data);
+				zos.closeEntry();
+			}
+		}
+		new PacROMSetImporter(largeZipFile.getPath()).importROMSet();
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with a
+	 * ROM set read from a stream.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportStreamedROMSet() throws IOException {
+		try (FileInputStream inputStream =
+				new FileInputStream(zipFile.getFile())) {
+			PacROMSet pacROMSet =
+					new PacROMSetImporter(inputStream).importROMSet();
+			assertEquals("TestProgram1TestProgram2",
+					new String(pacROMSet.getProgramData()));
+			assertEquals("TestMystery1TestMystery2",
+					new String(pacROMSet.getMysteryData()));
+		}
+		// Copy every ROM under a different name, next to other entries.
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (PacArchive source = new PacZipFileArchive(zipFile.getFile());
+				ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+			zos.putNextEntry(new ZipEntry("readme.txt"));
+			zos.write(new byte[0x2000]);
+			zos.closeEntry();
+			for (ZipEntry zipEntry : source.getEntries()) {
+				zos.putNextEntry(new ZipEntry("x" + zipEntry.getName()));
+				byte[] data = new byte[(int) zipEntry.getSize()];
+				source.readEntry(zipEntry, data, 0);
+				zos.write(data);
+				zos.closeEntry();
+			}
+		}
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withSlabLayout(true);
+		PacROMSet pacROMSet = new PacROMSetImporter(new ByteArrayInputStream(
+				outputStream.toByteArray()), options).importROMSet();
+		assertTrue(pacROMSet.isSlab());
+		assertEquals("TestColor1TestColor2",
+				new String(pacROMSet.getColorData()));
+		// The entries that aren't ROMs shouldn't be kept.
+		try (PacArchive pacArchive = new PacStreamArchive(
+				new ByteArrayInputStream(outputStream.toByteArray()))) {
+			assertNull(pacArchive.getEntry("readme.txt"));
+			assertEquals(12, pacArchive.getEntries().size());
+		}
+	}
+	
+	/**
+	 * Tests that the PacStreamArchive class doesn't keep an entry that is
+	 * named like a ROM, but is larger than any ROM.
+	 * 
+	 * @throws IOException When reading the stream fails.
+	 */
+	@Test
+	public final void testStreamedEntryTooLarge() throws IOException {
+		long maxROMSize = PacCatalogManager.getRegistry().getMaxROMSize();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+			zos.putNextEntry(new ZipEntry("test_prog1"));
+			zos.write(new byte[(int) maxROMSize + 1]);
+			zos.closeEntry();
+		}
+		try (PacArchive pacArchive = new PacStreamArchive(
+				new ByteArrayInputStream(outputStream.toByteArray()))) {
+			assertNull(pacArchive.getEntry("test_prog1"));
+		}
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with a
+	 * stream of ROMs that are larger than any ROM with a known size, but
+	 * are named like ROMs whose sizes aren't known.
+	 * 
+	 * @throws IOException When reading the stream fails.
+	 */
+	@Test
+	public final void testImportStreamedUnknownSizes() throws IOException {
+		long romSize = PacCatalogManager.getRegistry().getMaxROMSize() * 2;
+		String[] romNames = {
+				"variant_prog1", "variant_prog2", "variant_gfx",
+				"variant_clr", "variant_pal", "variant_sfx", "variant_mys"};
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+			for (String romName : romNames) {
+				zos.putNextEntry(new ZipEntry(romName));
+				zos.write(new byte[(int) romSize]);
+				zos.closeEntry();
+			}
+		}
+		PacROMSet pacROMSet = new PacROMSetImporter(new ByteArrayInputStream(
+				outputStream.toByteArray())).importROMSet();
+		assertEquals(romSize * 2, pacROMSet.getProgramData().length);
+		assertEquals(romSize, pacROMSet.getMysteryData().length);
+	}
+	
+	/**
+	 * Tests the importROMSet method in the PacROMSetImporter class with a
+	 * path, a channel and a buffer as the source of the ROM set.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportROMSetSources() throws IOException {
+		Path path = Paths.get(zipFile.getFile());
+		PacROMSet pacROMSet = new PacROMSetImporter(path).importROMSet();
+		assertEquals("TestProgram1TestProgram2",
+				new String(pacROMSet.getProgramData()));
+		try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+			pacROMSet = new PacROMSetImporter(channel,
+					PacROMSetOptions.DEFAULT.withArchiveType(
+							PacArchiveType.MAPPED)).importROMSet();
+			assertEquals("TestGraphic1TestGraphic2",
+					new String(pacROMSet.getGraphicData()));
+		}
+		// A buffer that doesn't start at the beginning of its array.
+		byte[] data = Files.readAllBytes(path);
+		ByteBuffer buffer = ByteBuffer.allocate(data.length + 16);
+		buffer.position(16);
+		buffer.put(data).position(16);
+		pacROMSet = new PacROMSetImporter(buffer,
+				PacROMSetOptions.DEFAULT.withSlabLayout(true)).importROMSet();
+		assertEquals("TestSound1TestSound2",
+				new String(pacROMSet.getSoundData()));
+	}
+	
+	/**
+	 * Tests the importROMSetAsync method in the PacROMSetImporter class.
+	 * 
+	 * @throws Exception When importing the ROM set fails.
+	 */
+	@Test
+	public final void testImportROMSetAsync() throws Exception {
+		ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+		try {
+			PacROMSet pacROMSet = new PacROMSetImporter(zipFile.getFile())
+					.importROMSetAsync(ioExecutor).get();
+			assertEquals("TestProgram1TestProgram2",
+					new String(pacROMSet.getProgramData()));
+			try (FileInputStream inputStream =
+					new FileInputStream(zipFile.getFile())) {
+				pacROMSet = new PacROMSetImporter(inputStream,
+						PacROMSetOptions.DEFAULT.withSlabLayout(true))
+						.importROMSetAsync(ioExecutor).get();
+				assertTrue(pacROMSet.isSlab());
+				assertEquals("TestMystery1TestMystery2",
+						new String(pacROMSet.getMysteryData()));
+			}
+			// The future should fail with the error of the import.
+			try {
+				new PacROMSetImporter("missing.zip")
+						.importROMSetAsync(ioExecutor).get();
+				fail();
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof IOException);
+			}
+		} finally {
+			ioExecutor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests the importROMSetAsync method in the PacROMSetImporter class
+	 * when the import is cancelled before it starts.
+	 */
+	@Test
+	public final void testCancelImportROMSetAsync() {
+		List<Runnable> ioTasks = new ArrayList<>();
+		AtomicInteger cpuTasks = new AtomicInteger();
+		CompletableFuture<PacROMSet> future =
+				new PacROMSetImporter(zipFile.getFile()).importROMSetAsync(
+						ioTasks::add, task -> {
+							cpuTasks.incrementAndGet();
+							task.run();
+						});
+		// Nothing should run on the calling thread.
+		assertEquals(1, ioTasks.size());
+		assertFalse(future.isDone());
+		future.cancel(false);
+		ioTasks.get(0).run();
+		assertEquals(0, cpuTasks.get());
+	}
 }
@@ -16,12 +16,251 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * A test class of the PacROMSetOpener class.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestPacROMSetOpener {
-
+	
+	/**
+	 * The file path to the test unified ROM set ZIP file.
+	 */
+	private static final URL unifiedZipFile = TestPacROMSetOpener.class
+			.getClassLoader().getResource("testUnifiedROMSet.zip");
+	
+	/**
+	 * Tests the openROMSet method in the PacROMSetOpener class.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test
+	public final void testOpenROMSet() throws IOException {
+		PacROMSet pacROMSet =
+				new PacROMSetOpener(unifiedZipFile.getFile()).openROMSet();
+		assertEquals("TestProgram1TestProgram2",
+				new String(pacROMSet.getProgramData()));
+		assertEquals("TestGraphic1TestGraphic2",
+				new String(pacROMSet.getGraphicData()));
+		assertEquals("TestColor1TestColor2",
+				new String(pacROMSet.getColorData()));
+		assertEquals("TestPalette1TestPalette2",
+				new String(pacROMSet.getPaletteData()));
+		assertEquals("TestSound1TestSound2",
+				new String(pacROMSet.getSoundData()));
+		assertEquals("TestMystery1TestMystery2",
+				new String(pacROMSet.getMysteryData()));
+	}
+	
+	/**
+	 * Tests the openROMSet method in the PacROMSetOpener class with a ZIP
+	 * file whose central directory records an impossible size.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test
+	public final void testOpenForgedROMSet() throws IOException {
+		File forgedFile = File.createTempFile("forgedROMSet", ".zip");
+		forgedFile.deleteOnExit();
+		ByteBuffer zip = ByteBuffer.wrap(Files.readAllBytes(
+				Paths.get(unifiedZipFile.getFile())))
+				.order(ByteOrder.LITTLE_ENDIAN);
+		// Record a huge size for the first entry in the central directory.
+		int position = 0;
+		while (zip.getInt(position) != 0x02014b50) position++;
+		zip.putInt(position + 24, 0x70000000);
+		Files.write(forgedFile.toPath(), zip.array());
+		for (PacArchiveType archiveType : PacArchiveType.values()) {
+			PacROMSetOptions options =
+					PacROMSetOptions.DEFAULT.withArchiveType(archiveType);
+			// The region should be read without trusting its size.
+			PacROMSet pacROMSet = new PacROMSetOpener(
+					forgedFile.getPath(), options).openROMSet();
+			assertEquals("TestProgram1TestProgram2",
+					new String(pacROMSet.getProgramData()));
+			pacROMSet = new PacROMSetOpener(forgedFile.getPath(),
+					options.withSlabLayout(true)).openROMSet();
+			assertEquals("TestSound1TestSound2",
+					new String(pacROMSet.getSoundData()));
+		}
+	}
+	
+	/**
+	 * Tests the openROMSet method in the PacROMSetOpener class with the
+	 * slab layout.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test
+	public final void testOpenSlabROMSet() throws IOException {
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withSlabLayout(true);
+		PacROMSet pacROMSet = new PacROMSetOpener(
+				unifiedZipFile.getFile(), options).openROMSet();
+		assertTrue(pacROMSet.isSlab());
+		assertEquals("TestSound1TestSound2",
+				new String(pacROMSet.getSoundData()));
+	}
+	
+	/**
+	 * Tests the detectFormat method in the PacROMSetOpener class.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test
+	public final void testDetectFormat() throws IOException {
+		assertEquals(PacROMSetFormat.ZIP,
+				new PacROMSetOpener(unifiedZipFile.getFile()).detectFormat());
+	}
+	
+	/**
+	 * Tests the openROMSet method in the PacROMSetOpener class with a
+	 * .pacrom file whose region doesn't match its checksum.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test(expected = IOException.class)
+	public final void testOpenCorruptPacROMSet() throws IOException {
+		File savedFile = File.createTempFile("corruptROMSet", ".pacrom");
+		savedFile.deleteOnExit();
+		PacROMSet pacROMSet =
+				new PacROMSetOpener(unifiedZipFile.getFile()).openROMSet();
+		new PacROMSetSaver(pacROMSet, savedFile.getPath(),
+				PacROMSetOptions.DEFAULT.withFormat(PacROMSetFormat.PACROM))
+				.saveROMSet();
+		// Flip the last byte of the mystery region.
+		try (RandomAccessFile file = new RandomAccessFile(savedFile, "rw")) {
+			file.seek(file.length() - 1);
+			int value = file.read();
+			file.seek(file.length() - 1);
+			file.write(value ^ 0xFF);
+		}
+		new PacROMSetOpener(savedFile.getPath()).openROMSet();
+	}
+	
+	/**
+	 * Tests the openROMSet method in the PacROMSetOpener class with lazy
+	 * loading.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test
+	public final void testOpenLazyROMSet() throws IOException {
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withLazyLoading(true);
+		try (PacROMSet pacROMSet = new PacROMSetOpener(
+				unifiedZipFile.getFile(), options).openROMSet()) {
+			assertFalse(pacROMSet.isLoaded(PacRegion.GRAPHIC));
+			// The length should be known without loading the region.
+			assertEquals(24, pacROMSet.getLength(PacRegion.GRAPHIC));
+			assertFalse(pacROMSet.isLoaded(PacRegion.GRAPHIC));
+			assertEquals("TestGraphic1TestGraphic2",
+					new String(pacROMSet.getGraphicData()));
+			assertTrue(pacROMSet.isLoaded(PacRegion.GRAPHIC));
+			assertFalse(pacROMSet.isLoaded(PacRegion.SOUND));
+			// Every region should be loaded for a copy.
+			assertEquals("TestSound1TestSound2", new String(
+					pacROMSet.toSlab().getSoundData()));
+			assertTrue(pacROMSet.isLoaded(PacRegion.SOUND));
+		}
+	}
+	
+	/**
+	 * Tests the close method in the PacROMSet class with a lazy ROM set
+	 * whose regions haven't all been loaded.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test
+	public final void testCloseLazyROMSet() throws IOException {
+		PacROMSet pacROMSet = new PacROMSetOpener(unifiedZipFile.getFile(),
+				PacROMSetOptions.DEFAULT.withLazyLoading(true)
+						.withArchiveType(PacArchiveType.MAPPED))
+				.openROMSet();
+		assertEquals("TestColor1TestColor2",
+				new String(pacROMSet.getColorData()));
+		pacROMSet.close();
+		// The loaded regions should still be there.
+		assertEquals("TestColor1TestColor2",
+				new String(pacROMSet.getColorData()));
+		try {
+			pacROMSet.getPaletteData();
+			fail();
+		} catch (IllegalStateException exception) {
+			assertFalse(pacROMSet.isLoaded(PacRegion.PALETTE));
+		}
+	}
+	
+	/**
+	 * Tests the openROMSet method in the PacROMSetOpener class with a
+	 * path, a channel and a buffer as the source of the ROM set.
+	 * 
+	 * @throws IOException When the opening process fails.
+	 */
+	@Test
+	public final void testOpenROMSetSources() throws IOException {
+		Path path = Paths.get(unifiedZipFile.getFile());
+		PacROMSet pacROMSet = new PacROMSetOpener(path).openROMSet();
+		assertEquals("TestProgram1TestProgram2",
+				new String(pacROMSet.getProgramData()));
+		try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+			pacROMSet = new PacROMSetOpener(
+					channel, PacROMSetOptions.DEFAULT).openROMSet();
+			assertEquals("TestColor1TestColor2",
+					new String(pacROMSet.getColorData()));
+			// The channel should be left open.
+			assertTrue(channel.isOpen());
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+		pacROMSet = new PacROMSetOpener(buffer,
+				PacROMSetOptions.DEFAULT.withLazyLoading(true)).openROMSet();
+		assertEquals("TestMystery1TestMystery2",
+				new String(pacROMSet.getMysteryData()));
+		assertEquals(0, buffer.position());
+	}
+	
+	/**
+	 * Tests the openROMSetAsync method in the PacROMSetOpener class.
+	 * 
+	 * @throws Exception When the opening process fails.
+	 */
+	@Test
+	public final void testOpenROMSetAsync() throws Exception {
+		ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+		try {
+			PacROMSetOptions options = PacROMSetOptions.DEFAULT
+					.withArchiveType(PacArchiveType.MAPPED);
+			PacROMSet pacROMSet = new PacROMSetOpener(
+					unifiedZipFile.getFile(), options)
+					.openROMSetAsync(ioExecutor, Runnable::run).get();
+			assertEquals("TestGraphic1TestGraphic2",
+					new String(pacROMSet.getGraphicData()));
+			pacROMSet = new PacROMSetOpener(unifiedZipFile.getFile(),
+					options.withLazyLoading(true))
+					.openROMSetAsync(ioExecutor).get();
+			assertEquals("TestSound1TestSound2",
+					new String(pacROMSet.getSoundData()));
+		} finally {
+			ioExecutor.shutdown();
+		}
+	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.metrics.PacIOMetrics;
+
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+
+/**
+ * A test class of the PacROMSetOptions class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacROMSetOptions {
+	
+	/**
+	 * Tests the withArchiveType method in the PacROMSetOptions class.
+	 */
+	@Test
+	public final void testWithArchiveType() {
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withArchiveType(PacArchiveType.MAPPED);
+		assertEquals(PacArchiveType.MAPPED, options.getArchiveType());
+		// The default options should stay the same.
+		assertEquals(PacArchiveType.ZIP_FILE,
+				PacROMSetOptions.DEFAULT.getArchiveType());
+	}
+	
+	/**
+	 * Tests the withSlabLayout method in the PacROMSetOptions class.
+	 */
+	@Test
+	public final void testWithSlabLayout() {
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withArchiveType(PacArchiveType.MAPPED).withSlabLayout(true);
+		assertTrue(options.isSlabLayout());
+		// The other options should be copied.
+		assertEquals(PacArchiveType.MAPPED, options.getArchiveType());
+		assertFalse(PacROMSetOptions.DEFAULT.isSlabLayout());
+	}
+	
+	/**
+	 * Tests the withExecutor method in the PacROMSetOptions class.
+	 */
+	@Test
+	public final void testWithExecutor() {
+		Executor executor = Runnable::run;
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withExecutor(executor);
+		assertSame(executor, options.getExecutor());
+		assertNull(options.withExecutor(null).getExecutor());
+		assertNull(PacROMSetOptions.DEFAULT.getExecutor());
+	}
+	
+	/**
+	 * Tests the withListener method in the PacROMSetOptions class.
+	 */
+	@Test
+	public final void testWithListener() {
+		PacIOMetrics metrics = new PacIOMetrics();
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withListener(metrics);
+		assertSame(metrics, options.getListener());
+		// The listener should be kept by the other options.
+		assertSame(metrics, options.withSlabLayout(true).getListener());
+		assertNull(PacROMSetOptions.DEFAULT.getListener());
+	}
+	
+	/**
+	 * Tests the withCompressionLevel method in the PacROMSetOptions class.
+	 */
+	@Test
+	public final void testWithCompressionLevel() {
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withCompressionLevel(Deflater.BEST_SPEED)
+				.withCompressionStrategy(Deflater.FILTERED);
+		assertEquals(Deflater.BEST_SPEED, options.getCompressionLevel());
+		assertEquals(Deflater.FILTERED, options.getCompressionStrategy());
+		assertEquals(Deflater.DEFAULT_COMPRESSION,
+				PacROMSetOptions.DEFAULT.getCompressionLevel());
+	}
+	
+	/**
+	 * Tests the withCompressionLevel method in the PacROMSetOptions class
+	 * with a level that is out of range.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidCompressionLevel() {
+		PacROMSetOptions.DEFAULT.withCompressionLevel(10);
+	}
+}
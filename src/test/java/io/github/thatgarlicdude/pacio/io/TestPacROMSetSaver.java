@@ -16,12 +16,201 @@
 
 package io.github.thatgarlicdude.pacio.io;
 
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.EnumSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
 /**
  * A test class of the PacROMSetSaver class.
  * 
- * @version 1.0.0-alpha
+ * @version 1.1.0-alpha
  * @author GarlicDude
  */
 public final class TestPacROMSetSaver {
-
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final String zipFile = TestPacROMSetSaver.class
+			.getClassLoader().getResource("testROMSet.zip").getFile();
+	
+	/**
+	 * Tests the saveROMSet method in the PacROMSetSaver class.
+	 * 
+	 * @throws IOException When saving the ZIP file fails.
+	 */
+	@Test
+	public final void testSaveROMSet() throws IOException {
+		File savedZipFile = File.createTempFile("savedROMSet", ".zip");
+		savedZipFile.deleteOnExit();
+		PacROMSet pacROMSet = new PacROMSetImporter(zipFile).importROMSet();
+		new PacROMSetSaver(pacROMSet, savedZipFile.getPath()).saveROMSet();
+		try (ZipFile savedZip = new ZipFile(savedZipFile)) {
+			ZipEntry zipEntry = savedZip.getEntry("program.bin");
+			assertEquals(ZipEntry.DEFLATED, zipEntry.getMethod());
+			assertEquals(24, zipEntry.getSize());
+		}
+		PacROMSet openedROMSet =
+				new PacROMSetOpener(savedZipFile.getPath()).openROMSet();
+		assertEquals("TestMystery1TestMystery2",
+				new String(openedROMSet.getMysteryData()));
+	}
+	
+	/**
+	 * Tests the saveROMSet method in the PacROMSetSaver class with STORED
+	 * entries, and opening them from a mapped file.
+	 * 
+	 * @throws IOException When saving the ZIP file fails.
+	 */
+	@Test
+	public final void testSaveStoredROMSet() throws IOException {
+		File savedZipFile = File.createTempFile("storedROMSet", ".zip");
+		savedZipFile.deleteOnExit();
+		PacROMSet pacROMSet = new PacROMSetImporter(zipFile).importROMSet();
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withStored(true).withArchiveType(PacArchiveType.MAPPED);
+		new PacROMSetSaver(pacROMSet, savedZipFile.getPath(), options)
+				.saveROMSet();
+		try (ZipFile savedZip = new ZipFile(savedZipFile)) {
+			ZipEntry zipEntry = savedZip.getEntry("graphic.bin");
+			assertEquals(ZipEntry.STORED, zipEntry.getMethod());
+		}
+		PacROMSet openedROMSet = new PacROMSetOpener(
+				savedZipFile.getPath(), options).openROMSet();
+		// The regions should be slices of the mapped file.
+		assertTrue(openedROMSet.isDirect());
+		assertEquals("TestGraphic1TestGraphic2",
+				new String(openedROMSet.getGraphicData()));
+		assertEquals(pacROMSet.getSoundBuffer(),
+				openedROMSet.getSoundBuffer());
+	}
+	
+	/**
+	 * Tests the saveROMSet method in the PacROMSetSaver class with the
+	 * .pacrom format, and opening it with every archive type.
+	 * 
+	 * @throws IOException When saving the .pacrom file fails.
+	 */
+	@Test
+	public final void testSavePacROMSet() throws IOException {
+		File savedFile = File.createTempFile("savedROMSet", ".pacrom");
+		savedFile.deleteOnExit();
+		PacROMSet pacROMSet = new PacROMSetImporter(zipFile).importROMSet();
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withFormat(PacROMSetFormat.PACROM);
+		new PacROMSetSaver(pacROMSet, savedFile.getPath(), options)
+				.saveROMSet();
+		PacROMSetOpener opener = new PacROMSetOpener(savedFile.getPath());
+		assertEquals(PacROMSetFormat.PACROM, opener.detectFormat());
+		PacROMSet openedROMSet = opener.openROMSet();
+		assertEquals("TestProgram1TestProgram2",
+				new String(openedROMSet.getProgramData()));
+		assertEquals("TestMystery1TestMystery2",
+				new String(openedROMSet.getMysteryData()));
+		// The regions should be slices of the mapped file.
+		openedROMSet = new PacROMSetOpener(savedFile.getPath(),
+				options.withArchiveType(PacArchiveType.MAPPED)).openROMSet();
+		assertTrue(openedROMSet.isDirect());
+		assertEquals(pacROMSet.getGraphicBuffer(),
+				openedROMSet.getGraphicBuffer());
+		// The regions of the file should already be a slab.
+		openedROMSet = new PacROMSetOpener(savedFile.getPath(),
+				options.withSlabLayout(true)).openROMSet();
+		assertTrue(openedROMSet.isSlab());
+		assertEquals(24, openedROMSet.getOffset(PacRegion.GRAPHIC));
+		assertEquals("TestSound1TestSound2",
+				new String(openedROMSet.getSoundData()));
+	}
+	
+	/**
+	 * Tests the saveROMSet method in the PacROMSetSaver class with a ROM
+	 * set that only has some of its regions, in both formats.
+	 * 
+	 * @throws IOException When saving the files fails.
+	 */
+	@Test
+	public final void testSavePartialROMSet() throws IOException {
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withRegions(EnumSet.of(PacRegion.COLOR, PacRegion.SOUND));
+		PacROMSet pacROMSet =
+				new PacROMSetImporter(zipFile, options).importROMSet();
+		for (PacROMSetFormat format : PacROMSetFormat.values()) {
+			File savedFile = File.createTempFile("partialROMSet", ".bin");
+			savedFile.deleteOnExit();
+			new PacROMSetSaver(pacROMSet, savedFile.getPath(),
+					options.withFormat(format)).saveROMSet();
+			PacROMSet openedROMSet = new PacROMSetOpener(
+					savedFile.getPath(), options).openROMSet();
+			assertEquals("TestColor1TestColor2",
+					new String(openedROMSet.getColorData()));
+			assertEquals("TestSound1TestSound2",
+					new String(openedROMSet.getSoundData()));
+			assertNull(openedROMSet.getGraphicData());
+		}
+	}
+	
+	/**
+	 * Tests the saveROMSet method in the PacROMSetSaver class with a
+	 * channel, in both formats.
+	 * 
+	 * @throws IOException When saving the ROM set fails.
+	 */
+	@Test
+	public final void testSaveROMSetChannel() throws IOException {
+		PacROMSet pacROMSet = new PacROMSetImporter(zipFile).importROMSet();
+		for (PacROMSetFormat format : PacROMSetFormat.values()) {
+			PacROMSetOptions options =
+					PacROMSetOptions.DEFAULT.withFormat(format);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			WritableByteChannel channel = Channels.newChannel(outputStream);
+			new PacROMSetSaver(pacROMSet, channel, options).saveROMSet();
+			// The channel should be left open.
+			assertTrue(channel.isOpen());
+			PacROMSet openedROMSet = new PacROMSetOpener(ByteBuffer.wrap(
+					outputStream.toByteArray()), options).openROMSet();
+			assertEquals("TestPalette1TestPalette2",
+					new String(openedROMSet.getPaletteData()));
+		}
+	}
+	
+	/**
+	 * Tests the saveROMSetAsync method in the PacROMSetSaver class.
+	 * 
+	 * @throws Exception When saving the ZIP file fails.
+	 */
+	@Test
+	public final void testSaveROMSetAsync() throws Exception {
+		File savedZipFile = File.createTempFile("savedROMSet", ".zip");
+		savedZipFile.deleteOnExit();
+		PacROMSet pacROMSet = new PacROMSetImporter(zipFile).importROMSet();
+		ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+		try {
+			new PacROMSetSaver(pacROMSet, savedZipFile.toPath(),
+					PacROMSetOptions.DEFAULT.withStored(true))
+					.saveROMSetAsync(ioExecutor).get();
+		} finally {
+			ioExecutor.shutdown();
+		}
+		try (ZipFile savedZip = new ZipFile(savedZipFile)) {
+			assertEquals(ZipEntry.STORED,
+					savedZip.getEntry("graphic.bin").getMethod());
+		}
+		PacROMSet openedROMSet =
+				new PacROMSetOpener(savedZipFile.getPath()).openROMSet();
+		assertEquals("TestProgram1TestProgram2",
+				new String(openedROMSet.getProgramData()));
+	}
 }
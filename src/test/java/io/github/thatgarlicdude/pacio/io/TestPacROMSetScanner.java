@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.TestCatalog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A test class of the PacROMSetScanner class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacROMSetScanner {
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final String zipFile = TestPacROMSetScanner.class
+			.getClassLoader().getResource("testROMSet.zip").getFile();
+	
+	/**
+	 * Tests the scan method in the PacROMSetScanner class.
+	 * 
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	@Test
+	public final void testScan() throws IOException {
+		Path root = Files.createTempDirectory("scanROMSets");
+		Path nested = Files.createDirectory(root.resolve("nested"));
+		// Three ROM sets, a broken ZIP file, and a file that isn't one.
+		Files.copy(Paths.get(zipFile), root.resolve("first.zip"));
+		Files.copy(Paths.get(zipFile), root.resolve("second.ZIP"));
+		Files.copy(Paths.get(zipFile), nested.resolve("third.zip"));
+		Files.write(nested.resolve("broken.zip"), new byte[] {1, 2, 3});
+		Files.write(root.resolve("readme.txt"), new byte[] {1, 2, 3});
+		List<PacROMSetScanResult> results = new ArrayList<>();
+		PacROMSetScanStats stats = new PacROMSetScanner(root.toString(), 2,
+				PacROMSetOptions.DEFAULT).scan(results::add);
+		assertEquals(4, results.size());
+		assertEquals(4, stats.getArchiveCount());
+		assertEquals(3, stats.getImportedCount());
+		assertEquals(1, stats.getFailedCount());
+		for (PacROMSetScanResult result : results) {
+			if (result.getPath().endsWith("broken.zip")) {
+				assertFalse(result.isSuccess());
+				assertNotNull(result.getFailure());
+				continue;
+			}
+			assertTrue(result.getPacCatalog() instanceof TestCatalog);
+			assertEquals("TestProgram1TestProgram2",
+					new String(result.getPacROMSet().getProgramData()));
+		}
+	}
+	
+	/**
+	 * Tests the scanUnified method in the PacROMSetScanner class.
+	 * 
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	@Test
+	public final void testScanUnified() throws IOException {
+		Path root = Files.createTempDirectory("scanUnifiedROMSets");
+		PacROMSet pacROMSet = new PacROMSetImporter(zipFile).importROMSet();
+		// Two unified ROM sets, and an original one that can't be opened.
+		new PacROMSetSaver(pacROMSet, root.resolve("first.zip").toString())
+				.saveROMSet();
+		new PacROMSetSaver(pacROMSet, root.resolve("second.zip").toString())
+				.saveROMSet();
+		Files.copy(Paths.get(zipFile), root.resolve("original.zip"));
+		List<PacROMSetScanResult> results = new ArrayList<>();
+		PacROMSetScanStats stats = new PacROMSetScanner(root.toString())
+				.scanUnified(results::add);
+		assertEquals(3, results.size());
+		assertEquals(2, stats.getImportedCount());
+		assertEquals(1, stats.getFailedCount());
+		for (PacROMSetScanResult result : results) {
+			assertNull(result.getPacCatalog());
+			if (result.getPath().endsWith("original.zip")) {
+				assertFalse(result.isSuccess());
+				continue;
+			}
+			assertEquals(result.getPath(), result.toString());
+			assertEquals("TestProgram1TestProgram2",
+					new String(result.getPacROMSet().getProgramData()));
+		}
+	}
+	
+	/**
+	 * Tests the scan method in the PacROMSetScanner class when the
+	 * listener throws an error.
+	 * 
+	 * @throws IOException When walking the directory tree fails.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public final void testScanListenerError() throws IOException {
+		Path root = Files.createTempDirectory("scanROMSets");
+		Files.copy(Paths.get(zipFile), root.resolve("first.zip"));
+		new PacROMSetScanner(root.toString()).scan((result) -> {
+			throw new IllegalStateException();
+		});
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A test class of the PacRegionPool class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacRegionPool {
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final String zipFile = TestPacRegionPool.class
+			.getClassLoader().getResource("testROMSet.zip").getFile();
+	
+	/**
+	 * Tests the intern method in the PacRegionPool class.
+	 */
+	@Test
+	public final void testIntern() {
+		PacRegionPool regionPool = new PacRegionPool();
+		byte[] colorData = {1, 2, 3};
+		PacROMSet first = regionPool.intern(new PacROMSet(new byte[] {1},
+				null, colorData, null, null, null));
+		PacROMSet second = regionPool.intern(new PacROMSet(new byte[] {2},
+				null, colorData.clone(), null, null, null));
+		// Only the color region should be shared.
+		assertEquals(1, regionPool.getHitCount());
+		assertEquals(3, regionPool.getSize());
+		assertEquals(first.getColorBuffer(), second.getColorBuffer());
+		// Changing a pooled region shouldn't change the others.
+		first.getColorData()[0] = 9;
+		colorData[0] = 9;
+		assertEquals(1, second.getColorData()[0]);
+		assertEquals(1, second.getColorBuffer().get(0));
+	}
+	
+	/**
+	 * Tests the intern method in the PacRegionPool class with a buffer.
+	 */
+	@Test
+	public final void testInternBuffer() {
+		PacRegionPool regionPool = new PacRegionPool();
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 1, 2, 3});
+		buffer.position(1);
+		ByteBuffer pooled = regionPool.intern(buffer);
+		assertTrue(pooled.isReadOnly());
+		assertEquals(3, pooled.remaining());
+		assertEquals(pooled, regionPool.intern(
+				ByteBuffer.wrap(new byte[] {1, 2, 3})));
+		assertEquals(1, regionPool.getHitCount());
+	}
+	
+	/**
+	 * Tests the withRegionPool option when importing the same ROM set
+	 * twice.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testImportROMSet() throws IOException {
+		PacRegionPool regionPool = new PacRegionPool();
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withRegionPool(regionPool);
+		PacROMSet first =
+				new PacROMSetImporter(zipFile, options).importROMSet();
+		PacROMSet second =
+				new PacROMSetImporter(zipFile, options).importROMSet();
+		// Every region of the second ROM set should be shared.
+		assertEquals(PacRegion.values().length, regionPool.getHitCount());
+		assertEquals("TestProgram1TestProgram2",
+				new String(second.getProgramData()));
+		assertEquals(first.getSoundBuffer(), second.getSoundBuffer());
+	}
+}
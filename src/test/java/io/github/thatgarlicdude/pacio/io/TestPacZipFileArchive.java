@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.zip.ZipEntry;
+
+/**
+ * A test class of the PacZipFileArchive class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacZipFileArchive {
+	
+	/**
+	 * The file path to the test unified ROM set ZIP file.
+	 */
+	private static final URL unifiedZipFile = TestPacZipFileArchive.class
+			.getClassLoader().getResource("testUnifiedROMSet.zip");
+	
+	/**
+	 * Tests the getBuffer method in the PacZipFileArchive class.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testGetBuffer() throws IOException {
+		try (PacArchive pacArchive =
+				new PacZipFileArchive(unifiedZipFile.getFile())) {
+			assertEquals(6, pacArchive.getEntries().size());
+			ZipEntry zipEntry = pacArchive.getEntry("sound.bin");
+			ByteBuffer buffer = pacArchive.getBuffer(zipEntry);
+			assertEquals("TestSound1TestSound2", new String(buffer.array()));
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.io;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * A test class of the PacZipWriter class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacZipWriter {
+	
+	/**
+	 * Writes a ZIP file with an aligned STORED entry and a DEFLATED entry
+	 * into memory.
+	 * 
+	 * @param alignment The alignment of the STORED entry.
+	 * @return The bytes of the ZIP file.
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	private static final byte[] writeZipFile(final int alignment)
+			throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (PacZipWriter writer = new PacZipWriter(
+				Channels.newChannel(outputStream))) {
+			writer.writeDeflated("deflated.bin", ByteBuffer.wrap(
+					"TestDeflated".getBytes(StandardCharsets.US_ASCII)),
+					Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+			writer.writeStored("stored.bin", ByteBuffer.wrap(
+					"TestStored".getBytes(StandardCharsets.US_ASCII)),
+					alignment);
+		}
+		return outputStream.toByteArray();
+	}
+	
+	/**
+	 * Tests the writeStored method in the PacZipWriter class.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Test
+	public final void testWriteStored() throws IOException {
+		byte[] zipData = writeZipFile(64);
+		String zipString = new String(zipData, StandardCharsets.US_ASCII);
+		// The data of the STORED entry should start on the alignment.
+		assertEquals(0, zipString.indexOf("TestStored") % 64);
+		try (PacArchive pacArchive =
+				new PacMappedArchive(ByteBuffer.wrap(zipData))) {
+			ZipEntry zipEntry = pacArchive.getEntry("stored.bin");
+			assertEquals(ZipEntry.STORED, zipEntry.getMethod());
+			assertEquals(ByteBuffer.wrap("TestStored".getBytes(
+					StandardCharsets.US_ASCII)),
+					pacArchive.getBuffer(zipEntry));
+		}
+	}
+	
+	/**
+	 * Tests the writeDeflated method in the PacZipWriter class.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Test
+	public final void testWriteDeflated() throws IOException {
+		try (PacArchive pacArchive =
+				new PacMappedArchive(ByteBuffer.wrap(writeZipFile(1)))) {
+			ZipEntry zipEntry = pacArchive.getEntry("deflated.bin");
+			assertEquals(ZipEntry.DEFLATED, zipEntry.getMethod());
+			byte[] data = new byte[(int) zipEntry.getSize()];
+			pacArchive.readEntry(zipEntry, data, 0);
+			assertEquals("TestDeflated",
+					new String(data, StandardCharsets.US_ASCII));
+		}
+	}
+	
+	/**
+	 * Tests the writeDeflated method in the PacZipWriter class with an
+	 * executor, which compresses large entries in chunks.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Test
+	public final void testWriteDeflatedParallel() throws IOException {
+		byte[] data = new byte[300000];
+		for (int index = 0; index < data.length; index++) {
+			data[index] = (byte) (index % 251);
+		}
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (PacZipWriter writer =
+				new PacZipWriter(
+						Channels.newChannel(outputStream), executor)) {
+			writer.writeDeflated("large.bin", ByteBuffer.wrap(data),
+					Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+			writer.writeDeflated("empty.bin", ByteBuffer.allocate(0),
+					Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+		} finally {
+			executor.shutdown();
+		}
+		try (PacArchive pacArchive = new PacMappedArchive(
+				ByteBuffer.wrap(outputStream.toByteArray()))) {
+			ZipEntry zipEntry = pacArchive.getEntry("large.bin");
+			byte[] inflated = new byte[(int) zipEntry.getSize()];
+			pacArchive.readEntry(zipEntry, inflated, 0);
+			assertArrayEquals(data, inflated);
+			assertEquals(0, pacArchive.getEntry("empty.bin").getSize());
+		}
+	}
+	
+	/**
+	 * Tests the writeDeflated method in the PacZipWriter class with
+	 * different compression levels and strategies, which reuse the same
+	 * pooled deflaters.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Test
+	public final void testWriteDeflatedLevels() throws IOException {
+		byte[] data = new byte[200000];
+		for (int index = 0; index < data.length; index++) {
+			data[index] = (byte) (index % 13 * index % 7);
+		}
+		int[][] parameters = {
+				{ Deflater.BEST_SPEED, Deflater.FILTERED },
+				{ Deflater.BEST_COMPRESSION, Deflater.HUFFMAN_ONLY },
+				{ Deflater.NO_COMPRESSION, Deflater.DEFAULT_STRATEGY },
+				{ Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY } };
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (PacZipWriter writer = new PacZipWriter(
+				Channels.newChannel(outputStream))) {
+			for (int index = 0; index < parameters.length; index++) {
+				writer.writeDeflated("level" + index + ".bin",
+						ByteBuffer.wrap(data), parameters[index][0],
+						parameters[index][1]);
+			}
+		}
+		try (PacArchive pacArchive = new PacMappedArchive(
+				ByteBuffer.wrap(outputStream.toByteArray()))) {
+			for (int index = 0; index < parameters.length; index++) {
+				ZipEntry zipEntry =
+						pacArchive.getEntry("level" + index + ".bin");
+				byte[] inflated = new byte[(int) zipEntry.getSize()];
+				pacArchive.readEntry(zipEntry, inflated, 0);
+				assertArrayEquals(data, inflated);
+			}
+		}
+	}
+	
+	/**
+	 * Tests the writeStored method in the PacZipWriter class with an
+	 * alignment that isn't a power of two.
+	 * 
+	 * @throws IOException When writing the ZIP file fails.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidAlignment() throws IOException {
+		writeZipFile(48);
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.metrics;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacCatalogMatch;
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.io.PacROMSet;
+import io.github.thatgarlicdude.pacio.io.PacROMSetImporter;
+import io.github.thatgarlicdude.pacio.io.PacROMSetOpener;
+import io.github.thatgarlicdude.pacio.io.PacROMSetOptions;
+import io.github.thatgarlicdude.pacio.io.PacROMSetSaver;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * A test class of the PacIOMetrics class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacIOMetrics {
+	
+	/**
+	 * The file path to the test ROM set ZIP file.
+	 */
+	private static final String zipFile = TestPacIOMetrics.class
+			.getClassLoader().getResource("testROMSet.zip").getFile();
+	
+	/**
+	 * Tests the metrics of importing, saving, and opening a ROM set.
+	 * 
+	 * @throws IOException When accessing the ZIP files fails.
+	 */
+	@Test
+	public final void testMetrics() throws IOException {
+		PacIOMetrics metrics = new PacIOMetrics();
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withListener(metrics);
+		PacROMSet pacROMSet =
+				new PacROMSetImporter(zipFile, options).importROMSet();
+		assertEquals(1, metrics.getImportCount());
+		assertEquals(1, (long) metrics.getCatalogMatches().get("TestCatalog"));
+		// Every byte of the ROM set should have been read.
+		long size = 0;
+		for (PacRegion pacRegion : PacRegion.values()) {
+			size += pacROMSet.getLength(pacRegion);
+		}
+		assertEquals(size, metrics.getBytesRead());
+		assertTrue(metrics.getCompressedBytesRead() > 0);
+		assertEquals(PacRegion.values().length,
+				metrics.getLatency(PacIOPhase.REGION_READ).getCount());
+		assertEquals(1, metrics.getLatency(PacIOPhase.ASSEMBLY).getCount());
+		File savedZipFile = File.createTempFile("metricsROMSet", ".zip");
+		savedZipFile.deleteOnExit();
+		new PacROMSetSaver(pacROMSet, savedZipFile.getPath(), options)
+				.saveROMSet();
+		assertEquals(1, metrics.getSaveCount());
+		assertEquals(savedZipFile.length(), metrics.getBytesSaved());
+		new PacROMSetOpener(savedZipFile.getPath(), options).openROMSet();
+		assertEquals(1, metrics.getOpenCount());
+		assertEquals(2,
+				metrics.getLatency(PacIOPhase.ARCHIVE_OPEN).getCount());
+		assertEquals(0, metrics.getFailureCount());
+		metrics.reset();
+		assertEquals(0, metrics.getImportCount());
+		assertTrue(metrics.getCatalogMatches().isEmpty());
+	}
+	
+	/**
+	 * Tests the metrics of an import that fails.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testFailure() throws IOException {
+		PacIOMetrics metrics = new PacIOMetrics();
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withListener(metrics);
+		try {
+			new PacROMSetOpener(zipFile, options).openROMSet();
+			fail();
+		} catch (FileNotFoundException e) {
+			// The original ROM set doesn't have the unified entries.
+		}
+		assertEquals(1, metrics.getFailureCount());
+		assertEquals(0, metrics.getOpenCount());
+	}
+	
+	/**
+	 * Tests the metrics of imports that fail with something other than
+	 * an IOException.
+	 * 
+	 * @throws Exception When importing the ROM set fails unexpectedly.
+	 */
+	@Test
+	public final void testUnexpectedFailure() throws Exception {
+		PacIOMetrics metrics = new PacIOMetrics();
+		Executor rejecting = command -> {
+			throw new RejectedExecutionException();
+		};
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withListener(metrics).withExecutor(rejecting);
+		try {
+			new PacROMSetImporter(zipFile, options).importROMSet();
+			fail();
+		} catch (RejectedExecutionException e) {
+			// The regions can't be read in parallel.
+		}
+		assertEquals(1, metrics.getFailureCount());
+		options = PacROMSetOptions.DEFAULT.withListener(metrics);
+		try {
+			new PacROMSetImporter(zipFile, options)
+					.importROMSetAsync(rejecting, rejecting).get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+		assertEquals(2, metrics.getFailureCount());
+		assertEquals(0, metrics.getImportCount());
+	}
+	
+	/**
+	 * Tests the metrics of the regions of a lazy ROM set, which are only
+	 * received once they're read.
+	 * 
+	 * @throws IOException When accessing the ZIP files fails.
+	 */
+	@Test
+	public final void testLazyMetrics() throws IOException {
+		File savedZipFile = File.createTempFile("lazyROMSet", ".zip");
+		savedZipFile.deleteOnExit();
+		new PacROMSetSaver(new PacROMSetImporter(zipFile).importROMSet(),
+				savedZipFile.getPath()).saveROMSet();
+		PacIOMetrics metrics = new PacIOMetrics();
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withListener(metrics).withLazyLoading(true);
+		try (PacROMSet pacROMSet = new PacROMSetOpener(
+				savedZipFile.getPath(), options).openROMSet()) {
+			assertEquals(0,
+					metrics.getLatency(PacIOPhase.REGION_READ).getCount());
+			pacROMSet.getColorData();
+			assertEquals(1,
+					metrics.getLatency(PacIOPhase.REGION_READ).getCount());
+		}
+	}
+	
+	/**
+	 * Tests the listener of the options with a listener that only
+	 * overrides one of its methods.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testListener() throws IOException {
+		Set<PacCatalogMatch> matches =
+				Collections.synchronizedSet(new HashSet<>());
+		PacIOListener listener = new PacIOListener() {
+			
+			@Override
+			public final void onCatalogDetected(
+					final String source,
+					final PacCatalogMatch pacCatalogMatch,
+					final long nanos) {
+				matches.add(pacCatalogMatch);
+			}
+		};
+		PacROMSetOptions options = PacROMSetOptions.DEFAULT
+				.withListener(listener)
+				.withRegions(EnumSet.of(PacRegion.PROGRAM));
+		new PacROMSetImporter(zipFile, options).importROMSet();
+		assertEquals(1, matches.size());
+		assertTrue(matches.iterator().next().isComplete());
+	}
+	
+	/**
+	 * Tests the names of the sources that a listener receives when the
+	 * ROM set isn't read from a file path.
+	 * 
+	 * @throws IOException When accessing the ZIP file fails.
+	 */
+	@Test
+	public final void testListenerSources() throws IOException {
+		List<String> sources = new ArrayList<>();
+		PacIOListener listener = new PacIOListener() {
+			
+			@Override
+			public final void onROMSetImported(
+					final String source,
+					final PacCatalogMatch pacCatalogMatch,
+					final long nanos) {
+				sources.add(source);
+			}
+		};
+		PacROMSetOptions options =
+				PacROMSetOptions.DEFAULT.withListener(listener);
+		Path path = Paths.get(zipFile);
+		try (InputStream inputStream = Files.newInputStream(path)) {
+			new PacROMSetImporter(inputStream, options).importROMSet();
+		}
+		new PacROMSetImporter(ByteBuffer.wrap(Files.readAllBytes(path)),
+				options).importROMSet();
+		try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+			new PacROMSetImporter(channel, options).importROMSet();
+		}
+		assertEquals(Arrays.asList("<stream>", "<buffer>", "<channel>"),
+				sources);
+	}
+	
+	/**
+	 * Tests the register method in the PacIOMetrics class.
+	 * 
+	 * @throws JMException When registering the metrics fails.
+	 */
+	@Test
+	public final void testRegister() throws JMException {
+		PacIOMetrics metrics = new PacIOMetrics();
+		ObjectName objectName = new ObjectName(
+				"io.github.thatgarlicdude.pacio:type=PacIOMetrics,name=test");
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		metrics.register(objectName);
+		try {
+			metrics.onROMSetSaved("test", 100, 1000);
+			assertEquals(1L, server.getAttribute(objectName, "SaveCount"));
+			assertEquals(100L, server.getAttribute(objectName, "BytesSaved"));
+			server.invoke(objectName, "reset", null, null);
+			assertEquals(0, metrics.getSaveCount());
+		} finally {
+			metrics.unregister();
+		}
+		assertFalse(server.isRegistered(objectName));
+	}
+}
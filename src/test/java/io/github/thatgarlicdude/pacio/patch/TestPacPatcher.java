@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.patch;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.io.PacROMSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * A test class of the PacPatcher class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacPatcher {
+	
+	/**
+	 * Tests the detectFormat method in the PacPatcher class.
+	 */
+	@Test
+	public final void testDetectFormat() {
+		assertEquals(PacPatchFormat.IPS, PacPatcher.detectFormat(
+				ByteBuffer.wrap(ascii("PATCHEOF"))));
+		assertEquals(PacPatchFormat.BPS, PacPatcher.detectFormat(
+				ByteBuffer.wrap(ascii("BPS1"))));
+		assertNull(PacPatcher.detectFormat(ByteBuffer.wrap(ascii("PK"))));
+	}
+	
+	/**
+	 * Tests the applyPatch method in the PacPatcher class with an IPS
+	 * patch.
+	 * 
+	 * @throws IOException When applying the patch fails.
+	 */
+	@Test
+	public final void testApplyIPS() throws IOException {
+		PacROMSet base = TestPacROMSetVariant.createROMSet();
+		int length = base.getLength(PacRegion.PROGRAM);
+		ByteArrayOutputStream patch = new ByteArrayOutputStream();
+		patch.write(ascii("PATCH"));
+		patch.write(new byte[] {0, 0, 2, 0, 2, 7, 8});
+		// A record that fills its bytes with a single byte.
+		patch.write(new byte[] {0, 2, 0, 0, 0, 0, 3, 5});
+		// A record that goes past the end of the region.
+		patch.write(new byte[] {0, (byte) (length >> 8), (byte) length,
+				0, 2, 1, 1});
+		patch.write(ascii("EOF"));
+		PacROMSetVariant variant = PacPatcher.applyPatch(base,
+				PacRegion.PROGRAM, ByteBuffer.wrap(patch.toByteArray()));
+		byte[] expected = new byte[length + 2];
+		System.arraycopy(base.getProgramData(), 0, expected, 0, length);
+		expected[2] = 7;
+		expected[3] = 8;
+		expected[512] = expected[513] = expected[514] = 5;
+		expected[length] = expected[length + 1] = 1;
+		assertArrayEquals(expected, variant.getData(PacRegion.PROGRAM));
+		assertEquals(PacROMSetVariant.PAGE_SIZE * 3,
+				variant.getMaterializedByteCount());
+		// A patch with a truncation length should cut the region short.
+		PacPatcher.applyPatch(variant, PacRegion.PROGRAM, ByteBuffer.wrap(
+				ascii("PATCHEOF\u0000\u0000\u0010")));
+		assertEquals(16, variant.getLength(PacRegion.PROGRAM));
+		assertEquals(7, variant.get(PacRegion.PROGRAM, 2));
+	}
+	
+	/**
+	 * Tests the applyPatch method in the PacPatcher class with an IPS
+	 * patch that is cut short.
+	 * 
+	 * @throws IOException When applying the patch fails.
+	 */
+	@Test(expected = IOException.class)
+	public final void testApplyInvalidIPS() throws IOException {
+		PacPatcher.applyPatch(TestPacROMSetVariant.createROMSet(),
+				PacRegion.PROGRAM, ByteBuffer.wrap(
+						ascii("PATCH\u0000\u0000\u0002\u0000\u0004\u0001")));
+	}
+	
+	/**
+	 * Tests the applyPatch method in the PacPatcher class with a BPS
+	 * patch that uses every action.
+	 * 
+	 * @throws IOException When applying the patch fails.
+	 */
+	@Test
+	public final void testApplyBPS() throws IOException {
+		PacROMSet base = TestPacROMSetVariant.createROMSet();
+		byte[] source = base.getProgramData();
+		byte[] expected = source.clone();
+		expected[300] = expected[301] = expected[302] = expected[303] = 9;
+		System.arraycopy(source, 0, expected, 304, 4);
+		// The target copy overlaps with the bytes it writes.
+		for (int index = 0; index < 8; index++) {
+			expected[308 + index] = expected[304 + index];
+		}
+		ByteArrayOutputStream actions = new ByteArrayOutputStream();
+		writeNumber(actions, 299 << 2);
+		writeNumber(actions, 3 << 2 | 1);
+		actions.write(new byte[] {9, 9, 9, 9});
+		writeNumber(actions, 3 << 2 | 2);
+		writeNumber(actions, 0);
+		writeNumber(actions, 7 << 2 | 3);
+		writeNumber(actions, 304 << 1);
+		writeNumber(actions, (source.length - 316 - 1) << 2);
+		byte[] patch = createBPS(source, expected, actions.toByteArray());
+		PacROMSetVariant variant = PacPatcher.applyPatch(base,
+				PacRegion.PROGRAM, ByteBuffer.wrap(patch));
+		assertArrayEquals(expected, variant.getData(PacRegion.PROGRAM));
+		// Only the page with the changed bytes should be copied.
+		assertEquals(PacROMSetVariant.PAGE_SIZE,
+				variant.getMaterializedByteCount());
+		// The patch doesn't match a region that has already been patched.
+		try {
+			PacPatcher.applyPatch(variant, PacRegion.PROGRAM,
+					ByteBuffer.wrap(patch));
+			fail();
+		} catch (IOException e) {
+			assertArrayEquals(expected, variant.getData(PacRegion.PROGRAM));
+		}
+	}
+	
+	/**
+	 * Tests the applyPatch method in the PacPatcher class with a BPS
+	 * patch whose own checksum doesn't match.
+	 * 
+	 * @throws IOException When applying the patch fails.
+	 */
+	@Test(expected = IOException.class)
+	public final void testApplyCorruptBPS() throws IOException {
+		byte[] source = {1, 2, 3};
+		ByteArrayOutputStream actions = new ByteArrayOutputStream();
+		writeNumber(actions, 2 << 2);
+		byte[] patch = createBPS(source, source, actions.toByteArray());
+		patch[patch.length - 1]++;
+		PacPatcher.applyPatch(new PacROMSet(null, source, null, null, null,
+				null), PacRegion.GRAPHIC, ByteBuffer.wrap(patch));
+	}
+	
+	/**
+	 * Tests the applyPatch method in the PacPatcher class with a patch of
+	 * an unknown format.
+	 * 
+	 * @throws IOException When applying the patch fails.
+	 */
+	@Test(expected = IOException.class)
+	public final void testApplyUnknownPatch() throws IOException {
+		PacPatcher.applyPatch(TestPacROMSetVariant.createROMSet(),
+				PacRegion.PROGRAM, ByteBuffer.wrap(ascii("UPS1")));
+	}
+	
+	/**
+	 * Creates a BPS patch out of its actions.
+	 * 
+	 * @param source The bytes before the patch.
+	 * @param target The bytes after the patch.
+	 * @param actions The encoded actions of the patch.
+	 * @return The bytes of the patch.
+	 * @throws IOException When writing the patch fails.
+	 */
+	private static final byte[] createBPS(
+			final byte[] source,
+			final byte[] target,
+			final byte[] actions) throws IOException {
+		ByteArrayOutputStream patch = new ByteArrayOutputStream();
+		patch.write(ascii("BPS1"));
+		writeNumber(patch, source.length);
+		writeNumber(patch, target.length);
+		writeNumber(patch, 0);
+		patch.write(actions);
+		ByteBuffer footer = ByteBuffer.allocate(12)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		footer.putInt((int) crc32(source)).putInt((int) crc32(target));
+		patch.write(footer.array(), 0, 8);
+		byte[] body = patch.toByteArray();
+		footer.putInt((int) crc32(body));
+		patch.write(footer.array(), 8, 4);
+		return patch.toByteArray();
+	}
+	
+	/**
+	 * Writes a number of a BPS patch in 7-bit groups.
+	 * 
+	 * @param output The stream of the patch.
+	 * @param number The number.
+	 */
+	private static final void writeNumber(
+			final ByteArrayOutputStream output,
+			final long number) {
+		long data = number;
+		while (true) {
+			int bits = (int) (data & 0x7F);
+			data >>= 7;
+			if (data == 0) {
+				output.write(0x80 | bits);
+				return;
+			}
+			output.write(bits);
+			data--;
+		}
+	}
+	
+	/**
+	 * Computes the CRC32 checksum of an array.
+	 * 
+	 * @param data The array.
+	 * @return The CRC32 checksum.
+	 */
+	private static final long crc32(final byte[] data) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(data);
+		return crc32.getValue();
+	}
+	
+	/**
+	 * Encodes a string as ASCII bytes.
+	 * 
+	 * @param text The string.
+	 * @return The bytes.
+	 */
+	private static final byte[] ascii(final String text) {
+		return text.getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 GarlicDude
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.thatgarlicdude.pacio.patch;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import io.github.thatgarlicdude.pacio.catalog.PacRegion;
+import io.github.thatgarlicdude.pacio.io.PacROMSet;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A test class of the PacROMSetVariant class.
+ * 
+ * @version 1.1.0-alpha
+ * @author GarlicDude
+ */
+public final class TestPacROMSetVariant {
+	
+	/**
+	 * Creates a ROM set with a program region of a few pages, whose bytes
+	 * count up.
+	 * 
+	 * @return The ROM set.
+	 */
+	static final PacROMSet createROMSet() {
+		byte[] programData = new byte[PacROMSetVariant.PAGE_SIZE * 4 + 10];
+		for (int index = 0; index < programData.length; index++) {
+			programData[index] = (byte) index;
+		}
+		return new PacROMSet(programData, new byte[] {1, 2, 3}, null, null,
+				null, null);
+	}
+	
+	/**
+	 * Tests the put method in the PacROMSetVariant class.
+	 */
+	@Test
+	public final void testPut() {
+		PacROMSet base = createROMSet();
+		PacROMSetVariant variant = new PacROMSetVariant(base);
+		assertEquals(0, variant.getMaterializedByteCount());
+		// Writing the same bytes shouldn't copy the page.
+		variant.put(PacRegion.PROGRAM, 5, (byte) 5);
+		assertEquals(0, variant.getMaterializedByteCount());
+		variant.put(PacRegion.PROGRAM, 5, (byte) 42);
+		variant.put(PacRegion.PROGRAM, 6, ByteBuffer.wrap(new byte[] {43}));
+		assertEquals(PacROMSetVariant.PAGE_SIZE,
+				variant.getMaterializedByteCount());
+		assertEquals(42, variant.get(PacRegion.PROGRAM, 5));
+		assertEquals(43, variant.get(PacRegion.PROGRAM, 6));
+		assertEquals(7, variant.get(PacRegion.PROGRAM, 7));
+		// A write across two pages should copy both of them.
+		int boundary = PacROMSetVariant.PAGE_SIZE * 2;
+		variant.put(PacRegion.PROGRAM, boundary - 1, new byte[] {-3, -3},
+				0, 2);
+		assertEquals(PacROMSetVariant.PAGE_SIZE * 3,
+				variant.getMaterializedByteCount());
+		// The base ROM set shouldn't change.
+		assertEquals(5, base.getProgramData()[5]);
+		byte[] expected = base.getProgramData().clone();
+		expected[5] = 42;
+		expected[6] = 43;
+		expected[boundary - 1] = -3;
+		expected[boundary] = -3;
+		assertArrayEquals(expected, variant.getData(PacRegion.PROGRAM));
+		assertArrayEquals(new byte[] {1, 2, 3},
+				variant.getData(PacRegion.GRAPHIC));
+		assertNull(variant.getData(PacRegion.COLOR));
+	}
+	
+	/**
+	 * Tests the setLength method in the PacROMSetVariant class.
+	 */
+	@Test
+	public final void testSetLength() {
+		PacROMSetVariant variant = new PacROMSetVariant(createROMSet());
+		variant.put(PacRegion.PROGRAM, 3, (byte) 99);
+		variant.setLength(PacRegion.PROGRAM, 4);
+		assertArrayEquals(new byte[] {0, 1, 2, 99},
+				variant.getData(PacRegion.PROGRAM));
+		// The dropped bytes should read as zeros when the region grows.
+		variant.setLength(PacRegion.PROGRAM, 6);
+		assertArrayEquals(new byte[] {0, 1, 2, 99, 0, 0},
+				variant.getData(PacRegion.PROGRAM));
+		// Writing past the end of a region should grow it.
+		variant.put(PacRegion.COLOR, 2, (byte) 7);
+		assertArrayEquals(new byte[] {0, 0, 7},
+				variant.getData(PacRegion.COLOR));
+	}
+	
+	/**
+	 * Tests the getCRC32 method in the PacROMSetVariant class.
+	 */
+	@Test
+	public final void testGetCRC32() {
+		PacROMSetVariant variant = new PacROMSetVariant(createROMSet());
+		variant.put(PacRegion.PROGRAM, PacROMSetVariant.PAGE_SIZE, (byte) 1);
+		variant.setLength(PacRegion.PROGRAM, 100);
+		variant.setLength(PacRegion.PROGRAM, 1000);
+		CRC32 crc32 = new CRC32();
+		crc32.update(variant.getData(PacRegion.PROGRAM));
+		assertEquals(crc32.getValue(), variant.getCRC32(PacRegion.PROGRAM));
+	}
+	
+	/**
+	 * Tests the toROMSet method in the PacROMSetVariant class.
+	 */
+	@Test
+	public final void testToROMSet() {
+		PacROMSetVariant variant = new PacROMSetVariant(createROMSet());
+		variant.put(PacRegion.GRAPHIC, 0, (byte) 9);
+		PacROMSet pacROMSet = variant.toROMSet();
+		assertArrayEquals(new byte[] {9, 2, 3}, pacROMSet.getGraphicData());
+		assertArrayEquals(variant.getData(PacRegion.PROGRAM),
+				pacROMSet.getProgramData());
+		assertNull(pacROMSet.getSoundData());
+	}
+	
+	/**
+	 * Tests the getMaterializedByteCount method in the PacROMSetVariant
+	 * class with many variants of the same ROM set.
+	 */
+	@Test
+	public final void testManyVariants() {
+		PacROMSet base = createROMSet();
+		PacROMSetVariant[] variants = new PacROMSetVariant[1000];
+		long byteCount = 0;
+		for (int index = 0; index < variants.length; index++) {
+			variants[index] = new PacROMSetVariant(base);
+			variants[index].put(PacRegion.PROGRAM, index,
+					(byte) (index + 1));
+			byteCount += variants[index].getMaterializedByteCount();
+		}
+		// Each variant should only hold the page it changed.
+		assertEquals(variants.length * (long) PacROMSetVariant.PAGE_SIZE,
+				byteCount);
+		assertEquals(66, variants[321].get(PacRegion.PROGRAM, 321));
+		assertEquals(65, variants[321].get(PacRegion.PROGRAM, 321 - 256));
+		assertFalse(Arrays.equals(variants[1].getData(PacRegion.PROGRAM),
+				variants[2].getData(PacRegion.PROGRAM)));
+	}
+	
+	/**
+	 * Tests the get method in the PacROMSetVariant class when the offset
+	 * isn't in the region.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public final void testGetOutOfBounds() {
+		new PacROMSetVariant(createROMSet()).get(PacRegion.GRAPHIC, 3);
+	}
+}